@@ -25,6 +25,17 @@ namespace calculator {
 static const char* CalculatorService_method_names[] = {
   "/calculator.CalculatorService/Add",
   "/calculator.CalculatorService/Subtract",
+  "/calculator.CalculatorService/AddStream",
+  "/calculator.CalculatorService/SubtractStream",
+  "/calculator.CalculatorService/AddBatch",
+  "/calculator.CalculatorService/SubtractBatch",
+  "/calculator.CalculatorService/ComputePipeline",
+  "/calculator.CalculatorService/Evaluate",
+  "/calculator.CalculatorService/Prepare",
+  "/calculator.CalculatorService/ExecutePrepared",
+  "/calculator.CalculatorService/Sum",
+  "/calculator.CalculatorService/PrefixSum",
+  "/calculator.CalculatorService/Stats",
 };
 
 std::unique_ptr< CalculatorService::Stub> CalculatorService::NewStub(const std::shared_ptr< ::grpc::ChannelInterface>& channel, const ::grpc::StubOptions& options) {
@@ -36,6 +47,17 @@ std::unique_ptr< CalculatorService::Stub> CalculatorService::NewStub(const std::
 CalculatorService::Stub::Stub(const std::shared_ptr< ::grpc::ChannelInterface>& channel, const ::grpc::StubOptions& options)
   : channel_(channel), rpcmethod_Add_(CalculatorService_method_names[0], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
   , rpcmethod_Subtract_(CalculatorService_method_names[1], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
+  , rpcmethod_AddStream_(CalculatorService_method_names[2], options.suffix_for_stats(),::grpc::internal::RpcMethod::CLIENT_STREAMING, channel)
+  , rpcmethod_SubtractStream_(CalculatorService_method_names[3], options.suffix_for_stats(),::grpc::internal::RpcMethod::CLIENT_STREAMING, channel)
+  , rpcmethod_AddBatch_(CalculatorService_method_names[4], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
+  , rpcmethod_SubtractBatch_(CalculatorService_method_names[5], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
+  , rpcmethod_ComputePipeline_(CalculatorService_method_names[6], options.suffix_for_stats(),::grpc::internal::RpcMethod::BIDI_STREAMING, channel)
+  , rpcmethod_Evaluate_(CalculatorService_method_names[7], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
+  , rpcmethod_Prepare_(CalculatorService_method_names[8], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
+  , rpcmethod_ExecutePrepared_(CalculatorService_method_names[9], options.suffix_for_stats(),::grpc::internal::RpcMethod::NORMAL_RPC, channel)
+  , rpcmethod_Sum_(CalculatorService_method_names[10], options.suffix_for_stats(),::grpc::internal::RpcMethod::CLIENT_STREAMING, channel)
+  , rpcmethod_PrefixSum_(CalculatorService_method_names[11], options.suffix_for_stats(),::grpc::internal::RpcMethod::BIDI_STREAMING, channel)
+  , rpcmethod_Stats_(CalculatorService_method_names[12], options.suffix_for_stats(),::grpc::internal::RpcMethod::CLIENT_STREAMING, channel)
   {}
 
 ::grpc::Status CalculatorService::Stub::Add(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::calculator::OperationResponse* response) {
@@ -84,6 +106,217 @@ void CalculatorService::Stub::async::Subtract(::grpc::ClientContext* context, co
   return result;
 }
 
+::grpc::ClientWriter< ::calculator::OperationRequest>* CalculatorService::Stub::AddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) {
+  return ::grpc::internal::ClientWriterFactory< ::calculator::OperationRequest>::Create(channel_.get(), rpcmethod_AddStream_, context, response);
+}
+
+void CalculatorService::Stub::async::AddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::OperationRequest>* reactor) {
+  ::grpc::internal::ClientCallbackWriterFactory< ::calculator::OperationRequest>::Create(stub_->channel_.get(), stub_->rpcmethod_AddStream_, context, response, reactor);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* CalculatorService::Stub::AsyncAddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::OperationRequest>::Create(channel_.get(), cq, rpcmethod_AddStream_, context, response, true, tag);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* CalculatorService::Stub::PrepareAsyncAddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::OperationRequest>::Create(channel_.get(), cq, rpcmethod_AddStream_, context, response, false, nullptr);
+}
+
+::grpc::ClientWriter< ::calculator::OperationRequest>* CalculatorService::Stub::SubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) {
+  return ::grpc::internal::ClientWriterFactory< ::calculator::OperationRequest>::Create(channel_.get(), rpcmethod_SubtractStream_, context, response);
+}
+
+void CalculatorService::Stub::async::SubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::OperationRequest>* reactor) {
+  ::grpc::internal::ClientCallbackWriterFactory< ::calculator::OperationRequest>::Create(stub_->channel_.get(), stub_->rpcmethod_SubtractStream_, context, response, reactor);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* CalculatorService::Stub::AsyncSubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::OperationRequest>::Create(channel_.get(), cq, rpcmethod_SubtractStream_, context, response, true, tag);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* CalculatorService::Stub::PrepareAsyncSubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::OperationRequest>::Create(channel_.get(), cq, rpcmethod_SubtractStream_, context, response, false, nullptr);
+}
+
+::grpc::Status CalculatorService::Stub::AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::calculator::BatchOperationResponse* response) {
+  return ::grpc::internal::BlockingUnaryCall< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), rpcmethod_AddBatch_, context, request, response);
+}
+
+void CalculatorService::Stub::async::AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)> f) {
+  ::grpc::internal::CallbackUnaryCall< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_AddBatch_, context, request, response, std::move(f));
+}
+
+void CalculatorService::Stub::async::AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) {
+  ::grpc::internal::ClientCallbackUnaryFactory::Create< ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_AddBatch_, context, request, response, reactor);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* CalculatorService::Stub::PrepareAsyncAddBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncResponseReaderHelper::Create< ::calculator::BatchOperationResponse, ::calculator::BatchOperationRequest, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), cq, rpcmethod_AddBatch_, context, request);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* CalculatorService::Stub::AsyncAddBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+  auto* result =
+    this->PrepareAsyncAddBatchRaw(context, request, cq);
+  result->StartCall();
+  return result;
+}
+
+::grpc::Status CalculatorService::Stub::SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::calculator::BatchOperationResponse* response) {
+  return ::grpc::internal::BlockingUnaryCall< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), rpcmethod_SubtractBatch_, context, request, response);
+}
+
+void CalculatorService::Stub::async::SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)> f) {
+  ::grpc::internal::CallbackUnaryCall< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_SubtractBatch_, context, request, response, std::move(f));
+}
+
+void CalculatorService::Stub::async::SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) {
+  ::grpc::internal::ClientCallbackUnaryFactory::Create< ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_SubtractBatch_, context, request, response, reactor);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* CalculatorService::Stub::PrepareAsyncSubtractBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncResponseReaderHelper::Create< ::calculator::BatchOperationResponse, ::calculator::BatchOperationRequest, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), cq, rpcmethod_SubtractBatch_, context, request);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* CalculatorService::Stub::AsyncSubtractBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+  auto* result =
+    this->PrepareAsyncSubtractBatchRaw(context, request, cq);
+  result->StartCall();
+  return result;
+}
+
+::grpc::ClientReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* CalculatorService::Stub::ComputePipelineRaw(::grpc::ClientContext* context) {
+  return ::grpc::internal::ClientReaderWriterFactory< ::calculator::PipelineRequest, ::calculator::PipelineResponse>::Create(channel_.get(), rpcmethod_ComputePipeline_, context);
+}
+
+void CalculatorService::Stub::async::ComputePipeline(::grpc::ClientContext* context, ::grpc::ClientBidiReactor< ::calculator::PipelineRequest,::calculator::PipelineResponse>* reactor) {
+  ::grpc::internal::ClientCallbackReaderWriterFactory< ::calculator::PipelineRequest,::calculator::PipelineResponse>::Create(stub_->channel_.get(), stub_->rpcmethod_ComputePipeline_, context, reactor);
+}
+
+::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* CalculatorService::Stub::AsyncComputePipelineRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) {
+  return ::grpc::internal::ClientAsyncReaderWriterFactory< ::calculator::PipelineRequest, ::calculator::PipelineResponse>::Create(channel_.get(), cq, rpcmethod_ComputePipeline_, context, true, tag);
+}
+
+::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* CalculatorService::Stub::PrepareAsyncComputePipelineRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncReaderWriterFactory< ::calculator::PipelineRequest, ::calculator::PipelineResponse>::Create(channel_.get(), cq, rpcmethod_ComputePipeline_, context, false, nullptr);
+}
+
+::grpc::Status CalculatorService::Stub::Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::calculator::OperationResponse* response) {
+  return ::grpc::internal::BlockingUnaryCall< ::calculator::EvaluateRequest, ::calculator::OperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), rpcmethod_Evaluate_, context, request, response);
+}
+
+void CalculatorService::Stub::async::Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response, std::function<void(::grpc::Status)> f) {
+  ::grpc::internal::CallbackUnaryCall< ::calculator::EvaluateRequest, ::calculator::OperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_Evaluate_, context, request, response, std::move(f));
+}
+
+void CalculatorService::Stub::async::Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) {
+  ::grpc::internal::ClientCallbackUnaryFactory::Create< ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_Evaluate_, context, request, response, reactor);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* CalculatorService::Stub::PrepareAsyncEvaluateRaw(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncResponseReaderHelper::Create< ::calculator::OperationResponse, ::calculator::EvaluateRequest, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), cq, rpcmethod_Evaluate_, context, request);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* CalculatorService::Stub::AsyncEvaluateRaw(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) {
+  auto* result =
+    this->PrepareAsyncEvaluateRaw(context, request, cq);
+  result->StartCall();
+  return result;
+}
+
+::grpc::Status CalculatorService::Stub::Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::calculator::PrepareResponse* response) {
+  return ::grpc::internal::BlockingUnaryCall< ::calculator::PrepareRequest, ::calculator::PrepareResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), rpcmethod_Prepare_, context, request, response);
+}
+
+void CalculatorService::Stub::async::Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response, std::function<void(::grpc::Status)> f) {
+  ::grpc::internal::CallbackUnaryCall< ::calculator::PrepareRequest, ::calculator::PrepareResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_Prepare_, context, request, response, std::move(f));
+}
+
+void CalculatorService::Stub::async::Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response, ::grpc::ClientUnaryReactor* reactor) {
+  ::grpc::internal::ClientCallbackUnaryFactory::Create< ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_Prepare_, context, request, response, reactor);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>* CalculatorService::Stub::PrepareAsyncPrepareRaw(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncResponseReaderHelper::Create< ::calculator::PrepareResponse, ::calculator::PrepareRequest, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), cq, rpcmethod_Prepare_, context, request);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>* CalculatorService::Stub::AsyncPrepareRaw(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) {
+  auto* result =
+    this->PrepareAsyncPrepareRaw(context, request, cq);
+  result->StartCall();
+  return result;
+}
+
+::grpc::Status CalculatorService::Stub::ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::calculator::BatchOperationResponse* response) {
+  return ::grpc::internal::BlockingUnaryCall< ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), rpcmethod_ExecutePrepared_, context, request, response);
+}
+
+void CalculatorService::Stub::async::ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)> f) {
+  ::grpc::internal::CallbackUnaryCall< ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_ExecutePrepared_, context, request, response, std::move(f));
+}
+
+void CalculatorService::Stub::async::ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) {
+  ::grpc::internal::ClientCallbackUnaryFactory::Create< ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(stub_->channel_.get(), stub_->rpcmethod_ExecutePrepared_, context, request, response, reactor);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* CalculatorService::Stub::PrepareAsyncExecutePreparedRaw(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncResponseReaderHelper::Create< ::calculator::BatchOperationResponse, ::calculator::ExecutePreparedRequest, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(channel_.get(), cq, rpcmethod_ExecutePrepared_, context, request);
+}
+
+::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* CalculatorService::Stub::AsyncExecutePreparedRaw(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) {
+  auto* result =
+    this->PrepareAsyncExecutePreparedRaw(context, request, cq);
+  result->StartCall();
+  return result;
+}
+
+::grpc::ClientWriter< ::calculator::DoubleChunk>* CalculatorService::Stub::SumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response) {
+  return ::grpc::internal::ClientWriterFactory< ::calculator::DoubleChunk>::Create(channel_.get(), rpcmethod_Sum_, context, response);
+}
+
+void CalculatorService::Stub::async::Sum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::DoubleChunk>* reactor) {
+  ::grpc::internal::ClientCallbackWriterFactory< ::calculator::DoubleChunk>::Create(stub_->channel_.get(), stub_->rpcmethod_Sum_, context, response, reactor);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* CalculatorService::Stub::AsyncSumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::DoubleChunk>::Create(channel_.get(), cq, rpcmethod_Sum_, context, response, true, tag);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* CalculatorService::Stub::PrepareAsyncSumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::DoubleChunk>::Create(channel_.get(), cq, rpcmethod_Sum_, context, response, false, nullptr);
+}
+
+::grpc::ClientReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* CalculatorService::Stub::PrefixSumRaw(::grpc::ClientContext* context) {
+  return ::grpc::internal::ClientReaderWriterFactory< ::calculator::DoubleChunk, ::calculator::DoubleChunk>::Create(channel_.get(), rpcmethod_PrefixSum_, context);
+}
+
+void CalculatorService::Stub::async::PrefixSum(::grpc::ClientContext* context, ::grpc::ClientBidiReactor< ::calculator::DoubleChunk,::calculator::DoubleChunk>* reactor) {
+  ::grpc::internal::ClientCallbackReaderWriterFactory< ::calculator::DoubleChunk,::calculator::DoubleChunk>::Create(stub_->channel_.get(), stub_->rpcmethod_PrefixSum_, context, reactor);
+}
+
+::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* CalculatorService::Stub::AsyncPrefixSumRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) {
+  return ::grpc::internal::ClientAsyncReaderWriterFactory< ::calculator::DoubleChunk, ::calculator::DoubleChunk>::Create(channel_.get(), cq, rpcmethod_PrefixSum_, context, true, tag);
+}
+
+::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* CalculatorService::Stub::PrepareAsyncPrefixSumRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncReaderWriterFactory< ::calculator::DoubleChunk, ::calculator::DoubleChunk>::Create(channel_.get(), cq, rpcmethod_PrefixSum_, context, false, nullptr);
+}
+
+::grpc::ClientWriter< ::calculator::DoubleChunk>* CalculatorService::Stub::StatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response) {
+  return ::grpc::internal::ClientWriterFactory< ::calculator::DoubleChunk>::Create(channel_.get(), rpcmethod_Stats_, context, response);
+}
+
+void CalculatorService::Stub::async::Stats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::ClientWriteReactor< ::calculator::DoubleChunk>* reactor) {
+  ::grpc::internal::ClientCallbackWriterFactory< ::calculator::DoubleChunk>::Create(stub_->channel_.get(), stub_->rpcmethod_Stats_, context, response, reactor);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* CalculatorService::Stub::AsyncStatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::DoubleChunk>::Create(channel_.get(), cq, rpcmethod_Stats_, context, response, true, tag);
+}
+
+::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* CalculatorService::Stub::PrepareAsyncStatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq) {
+  return ::grpc::internal::ClientAsyncWriterFactory< ::calculator::DoubleChunk>::Create(channel_.get(), cq, rpcmethod_Stats_, context, response, false, nullptr);
+}
+
 CalculatorService::Service::Service() {
   AddMethod(new ::grpc::internal::RpcServiceMethod(
       CalculatorService_method_names[0],
@@ -105,6 +338,116 @@ CalculatorService::Service::Service() {
              ::calculator::OperationResponse* resp) {
                return service->Subtract(ctx, req, resp);
              }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[2],
+      ::grpc::internal::RpcMethod::CLIENT_STREAMING,
+      new ::grpc::internal::ClientStreamingHandler< CalculatorService::Service, ::calculator::OperationRequest, ::calculator::BatchOperationResponse>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             ::grpc::ServerReader<::calculator::OperationRequest>* reader,
+             ::calculator::BatchOperationResponse* resp) {
+               return service->AddStream(ctx, reader, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[3],
+      ::grpc::internal::RpcMethod::CLIENT_STREAMING,
+      new ::grpc::internal::ClientStreamingHandler< CalculatorService::Service, ::calculator::OperationRequest, ::calculator::BatchOperationResponse>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             ::grpc::ServerReader<::calculator::OperationRequest>* reader,
+             ::calculator::BatchOperationResponse* resp) {
+               return service->SubtractStream(ctx, reader, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[4],
+      ::grpc::internal::RpcMethod::NORMAL_RPC,
+      new ::grpc::internal::RpcMethodHandler< CalculatorService::Service, ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             const ::calculator::BatchOperationRequest* req,
+             ::calculator::BatchOperationResponse* resp) {
+               return service->AddBatch(ctx, req, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[5],
+      ::grpc::internal::RpcMethod::NORMAL_RPC,
+      new ::grpc::internal::RpcMethodHandler< CalculatorService::Service, ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             const ::calculator::BatchOperationRequest* req,
+             ::calculator::BatchOperationResponse* resp) {
+               return service->SubtractBatch(ctx, req, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[6],
+      ::grpc::internal::RpcMethod::BIDI_STREAMING,
+      new ::grpc::internal::BidiStreamingHandler< CalculatorService::Service, ::calculator::PipelineRequest, ::calculator::PipelineResponse>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             ::grpc::ServerReaderWriter<::calculator::PipelineResponse,
+             ::calculator::PipelineRequest>* stream) {
+               return service->ComputePipeline(ctx, stream);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[7],
+      ::grpc::internal::RpcMethod::NORMAL_RPC,
+      new ::grpc::internal::RpcMethodHandler< CalculatorService::Service, ::calculator::EvaluateRequest, ::calculator::OperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             const ::calculator::EvaluateRequest* req,
+             ::calculator::OperationResponse* resp) {
+               return service->Evaluate(ctx, req, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[8],
+      ::grpc::internal::RpcMethod::NORMAL_RPC,
+      new ::grpc::internal::RpcMethodHandler< CalculatorService::Service, ::calculator::PrepareRequest, ::calculator::PrepareResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             const ::calculator::PrepareRequest* req,
+             ::calculator::PrepareResponse* resp) {
+               return service->Prepare(ctx, req, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[9],
+      ::grpc::internal::RpcMethod::NORMAL_RPC,
+      new ::grpc::internal::RpcMethodHandler< CalculatorService::Service, ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse, ::grpc::protobuf::MessageLite, ::grpc::protobuf::MessageLite>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             const ::calculator::ExecutePreparedRequest* req,
+             ::calculator::BatchOperationResponse* resp) {
+               return service->ExecutePrepared(ctx, req, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[10],
+      ::grpc::internal::RpcMethod::CLIENT_STREAMING,
+      new ::grpc::internal::ClientStreamingHandler< CalculatorService::Service, ::calculator::DoubleChunk, ::calculator::OperationResponse>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             ::grpc::ServerReader<::calculator::DoubleChunk>* reader,
+             ::calculator::OperationResponse* resp) {
+               return service->Sum(ctx, reader, resp);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[11],
+      ::grpc::internal::RpcMethod::BIDI_STREAMING,
+      new ::grpc::internal::BidiStreamingHandler< CalculatorService::Service, ::calculator::DoubleChunk, ::calculator::DoubleChunk>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             ::grpc::ServerReaderWriter<::calculator::DoubleChunk,
+             ::calculator::DoubleChunk>* stream) {
+               return service->PrefixSum(ctx, stream);
+             }, this)));
+  AddMethod(new ::grpc::internal::RpcServiceMethod(
+      CalculatorService_method_names[12],
+      ::grpc::internal::RpcMethod::CLIENT_STREAMING,
+      new ::grpc::internal::ClientStreamingHandler< CalculatorService::Service, ::calculator::DoubleChunk, ::calculator::StatsResponse>(
+          [](CalculatorService::Service* service,
+             ::grpc::ServerContext* ctx,
+             ::grpc::ServerReader<::calculator::DoubleChunk>* reader,
+             ::calculator::StatsResponse* resp) {
+               return service->Stats(ctx, reader, resp);
+             }, this)));
 }
 
 CalculatorService::Service::~Service() {
@@ -124,6 +467,81 @@ CalculatorService::Service::~Service() {
   return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
 }
 
+::grpc::Status CalculatorService::Service::AddStream(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::OperationRequest>* reader, ::calculator::BatchOperationResponse* response) {
+  (void) context;
+  (void) reader;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::SubtractStream(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::OperationRequest>* reader, ::calculator::BatchOperationResponse* response) {
+  (void) context;
+  (void) reader;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::AddBatch(::grpc::ServerContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response) {
+  (void) context;
+  (void) request;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::SubtractBatch(::grpc::ServerContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response) {
+  (void) context;
+  (void) request;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::ComputePipeline(::grpc::ServerContext* context, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* stream) {
+  (void) context;
+  (void) stream;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::Evaluate(::grpc::ServerContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response) {
+  (void) context;
+  (void) request;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::Prepare(::grpc::ServerContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response) {
+  (void) context;
+  (void) request;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::ExecutePrepared(::grpc::ServerContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response) {
+  (void) context;
+  (void) request;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::Sum(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::DoubleChunk>* reader, ::calculator::OperationResponse* response) {
+  (void) context;
+  (void) reader;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::PrefixSum(::grpc::ServerContext* context, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* stream) {
+  (void) context;
+  (void) stream;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
+::grpc::Status CalculatorService::Service::Stats(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::DoubleChunk>* reader, ::calculator::StatsResponse* response) {
+  (void) context;
+  (void) reader;
+  (void) response;
+  return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+}
+
 
 }  // namespace calculator
 #include <grpcpp/ports_undef.inc>
@@ -50,6 +50,103 @@ class CalculatorService final {
     std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>> PrepareAsyncSubtract(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) {
       return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>>(PrepareAsyncSubtractRaw(context, request, cq));
     }
+    // Client-streaming bulk variants: one result per request, in order
+    std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::OperationRequest>> AddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::OperationRequest>>(AddStreamRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>> AsyncAddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>>(AsyncAddStreamRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>> PrepareAsyncAddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>>(PrepareAsyncAddStreamRaw(context, response, cq));
+    }
+    std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::OperationRequest>> SubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::OperationRequest>>(SubtractStreamRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>> AsyncSubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>>(AsyncSubtractStreamRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>> PrepareAsyncSubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>>(PrepareAsyncSubtractStreamRaw(context, response, cq));
+    }
+    // Packed batch variants: number1 and number2 must have the same length
+    virtual ::grpc::Status AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::calculator::BatchOperationResponse* response) = 0;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>> AsyncAddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>>(AsyncAddBatchRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>> PrepareAsyncAddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>>(PrepareAsyncAddBatchRaw(context, request, cq));
+    }
+    virtual ::grpc::Status SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::calculator::BatchOperationResponse* response) = 0;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>> AsyncSubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>>(AsyncSubtractBatchRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>> PrepareAsyncSubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>>(PrepareAsyncSubtractBatchRaw(context, request, cq));
+    }
+    // Long-lived bidirectional stream of id-tagged operations
+    std::unique_ptr< ::grpc::ClientReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>> ComputePipeline(::grpc::ClientContext* context) {
+      return std::unique_ptr< ::grpc::ClientReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>>(ComputePipelineRaw(context));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>> AsyncComputePipeline(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>>(AsyncComputePipelineRaw(context, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>> PrepareAsyncComputePipeline(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>>(PrepareAsyncComputePipelineRaw(context, cq));
+    }
+    // Run a compiled expression; see EvaluateRequest
+    virtual ::grpc::Status Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::calculator::OperationResponse* response) = 0;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>> AsyncEvaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>>(AsyncEvaluateRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>> PrepareAsyncEvaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>>(PrepareAsyncEvaluateRaw(context, request, cq));
+    }
+    // Prepared programs: one result per row of variables
+    virtual ::grpc::Status Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::calculator::PrepareResponse* response) = 0;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::PrepareResponse>> AsyncPrepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::PrepareResponse>>(AsyncPrepareRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::PrepareResponse>> PrepareAsyncPrepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::PrepareResponse>>(PrepareAsyncPrepareRaw(context, request, cq));
+    }
+    virtual ::grpc::Status ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::calculator::BatchOperationResponse* response) = 0;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>> AsyncExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>>(AsyncExecutePreparedRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>> PrepareAsyncExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>>(PrepareAsyncExecutePreparedRaw(context, request, cq));
+    }
+    // Reductions over a streamed column. Sums use Neumaier's compensated
+    // summation, so the error does not grow with the length of the column.
+    std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::DoubleChunk>> Sum(::grpc::ClientContext* context, ::calculator::OperationResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::DoubleChunk>>(SumRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>> AsyncSum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>>(AsyncSumRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>> PrepareAsyncSum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>>(PrepareAsyncSumRaw(context, response, cq));
+    }
+    // One response chunk per request chunk, holding the running sums
+    std::unique_ptr< ::grpc::ClientReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>> PrefixSum(::grpc::ClientContext* context) {
+      return std::unique_ptr< ::grpc::ClientReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>>(PrefixSumRaw(context));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>> AsyncPrefixSum(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>>(AsyncPrefixSumRaw(context, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>> PrepareAsyncPrefixSum(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>>(PrepareAsyncPrefixSumRaw(context, cq));
+    }
+    std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::DoubleChunk>> Stats(::grpc::ClientContext* context, ::calculator::StatsResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriterInterface< ::calculator::DoubleChunk>>(StatsRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>> AsyncStats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>>(AsyncStatsRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>> PrepareAsyncStats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>>(PrepareAsyncStatsRaw(context, response, cq));
+    }
     class async_interface {
      public:
       virtual ~async_interface() {}
@@ -57,6 +154,30 @@ class CalculatorService final {
       virtual void Add(::grpc::ClientContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
       virtual void Subtract(::grpc::ClientContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response, std::function<void(::grpc::Status)>) = 0;
       virtual void Subtract(::grpc::ClientContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
+      // Client-streaming bulk variants: one result per request, in order
+      virtual void AddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::OperationRequest>* reactor) = 0;
+      virtual void SubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::OperationRequest>* reactor) = 0;
+      // Packed batch variants: number1 and number2 must have the same length
+      virtual void AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)>) = 0;
+      virtual void AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
+      virtual void SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)>) = 0;
+      virtual void SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
+      // Long-lived bidirectional stream of id-tagged operations
+      virtual void ComputePipeline(::grpc::ClientContext* context, ::grpc::ClientBidiReactor< ::calculator::PipelineRequest,::calculator::PipelineResponse>* reactor) = 0;
+      // Run a compiled expression; see EvaluateRequest
+      virtual void Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response, std::function<void(::grpc::Status)>) = 0;
+      virtual void Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
+      // Prepared programs: one result per row of variables
+      virtual void Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response, std::function<void(::grpc::Status)>) = 0;
+      virtual void Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
+      virtual void ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)>) = 0;
+      virtual void ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) = 0;
+      // Reductions over a streamed column. Sums use Neumaier's compensated
+      // summation, so the error does not grow with the length of the column.
+      virtual void Sum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::DoubleChunk>* reactor) = 0;
+      // One response chunk per request chunk, holding the running sums
+      virtual void PrefixSum(::grpc::ClientContext* context, ::grpc::ClientBidiReactor< ::calculator::DoubleChunk,::calculator::DoubleChunk>* reactor) = 0;
+      virtual void Stats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::ClientWriteReactor< ::calculator::DoubleChunk>* reactor) = 0;
     };
     typedef class async_interface experimental_async_interface;
     virtual class async_interface* async() { return nullptr; }
@@ -66,6 +187,34 @@ class CalculatorService final {
     virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>* PrepareAsyncAddRaw(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
     virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>* AsyncSubtractRaw(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
     virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>* PrepareAsyncSubtractRaw(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientWriterInterface< ::calculator::OperationRequest>* AddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>* AsyncAddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>* PrepareAsyncAddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientWriterInterface< ::calculator::OperationRequest>* SubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>* AsyncSubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::OperationRequest>* PrepareAsyncSubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>* AsyncAddBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>* PrepareAsyncAddBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>* AsyncSubtractBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>* PrepareAsyncSubtractBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* ComputePipelineRaw(::grpc::ClientContext* context) = 0;
+    virtual ::grpc::ClientAsyncReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* AsyncComputePipelineRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) = 0;
+    virtual ::grpc::ClientAsyncReaderWriterInterface< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* PrepareAsyncComputePipelineRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>* AsyncEvaluateRaw(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::OperationResponse>* PrepareAsyncEvaluateRaw(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::PrepareResponse>* AsyncPrepareRaw(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::PrepareResponse>* PrepareAsyncPrepareRaw(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>* AsyncExecutePreparedRaw(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientAsyncResponseReaderInterface< ::calculator::BatchOperationResponse>* PrepareAsyncExecutePreparedRaw(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientWriterInterface< ::calculator::DoubleChunk>* SumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>* AsyncSumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>* PrepareAsyncSumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* PrefixSumRaw(::grpc::ClientContext* context) = 0;
+    virtual ::grpc::ClientAsyncReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* AsyncPrefixSumRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) = 0;
+    virtual ::grpc::ClientAsyncReaderWriterInterface< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* PrepareAsyncPrefixSumRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) = 0;
+    virtual ::grpc::ClientWriterInterface< ::calculator::DoubleChunk>* StatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>* AsyncStatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq, void* tag) = 0;
+    virtual ::grpc::ClientAsyncWriterInterface< ::calculator::DoubleChunk>* PrepareAsyncStatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq) = 0;
   };
   class Stub final : public StubInterface {
    public:
@@ -84,6 +233,95 @@ class CalculatorService final {
     std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>> PrepareAsyncSubtract(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) {
       return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>>(PrepareAsyncSubtractRaw(context, request, cq));
     }
+    std::unique_ptr< ::grpc::ClientWriter< ::calculator::OperationRequest>> AddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriter< ::calculator::OperationRequest>>(AddStreamRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>> AsyncAddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>>(AsyncAddStreamRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>> PrepareAsyncAddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>>(PrepareAsyncAddStreamRaw(context, response, cq));
+    }
+    std::unique_ptr< ::grpc::ClientWriter< ::calculator::OperationRequest>> SubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriter< ::calculator::OperationRequest>>(SubtractStreamRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>> AsyncSubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>>(AsyncSubtractStreamRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>> PrepareAsyncSubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>>(PrepareAsyncSubtractStreamRaw(context, response, cq));
+    }
+    ::grpc::Status AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::calculator::BatchOperationResponse* response) override;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>> AsyncAddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>>(AsyncAddBatchRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>> PrepareAsyncAddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>>(PrepareAsyncAddBatchRaw(context, request, cq));
+    }
+    ::grpc::Status SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::calculator::BatchOperationResponse* response) override;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>> AsyncSubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>>(AsyncSubtractBatchRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>> PrepareAsyncSubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>>(PrepareAsyncSubtractBatchRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>> ComputePipeline(::grpc::ClientContext* context) {
+      return std::unique_ptr< ::grpc::ClientReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>>(ComputePipelineRaw(context));
+    }
+    std::unique_ptr<  ::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>> AsyncComputePipeline(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>>(AsyncComputePipelineRaw(context, cq, tag));
+    }
+    std::unique_ptr<  ::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>> PrepareAsyncComputePipeline(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>>(PrepareAsyncComputePipelineRaw(context, cq));
+    }
+    ::grpc::Status Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::calculator::OperationResponse* response) override;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>> AsyncEvaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>>(AsyncEvaluateRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>> PrepareAsyncEvaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>>(PrepareAsyncEvaluateRaw(context, request, cq));
+    }
+    ::grpc::Status Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::calculator::PrepareResponse* response) override;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>> AsyncPrepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>>(AsyncPrepareRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>> PrepareAsyncPrepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>>(PrepareAsyncPrepareRaw(context, request, cq));
+    }
+    ::grpc::Status ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::calculator::BatchOperationResponse* response) override;
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>> AsyncExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>>(AsyncExecutePreparedRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>> PrepareAsyncExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>>(PrepareAsyncExecutePreparedRaw(context, request, cq));
+    }
+    std::unique_ptr< ::grpc::ClientWriter< ::calculator::DoubleChunk>> Sum(::grpc::ClientContext* context, ::calculator::OperationResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriter< ::calculator::DoubleChunk>>(SumRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>> AsyncSum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>>(AsyncSumRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>> PrepareAsyncSum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>>(PrepareAsyncSumRaw(context, response, cq));
+    }
+    std::unique_ptr< ::grpc::ClientReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>> PrefixSum(::grpc::ClientContext* context) {
+      return std::unique_ptr< ::grpc::ClientReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>>(PrefixSumRaw(context));
+    }
+    std::unique_ptr<  ::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>> AsyncPrefixSum(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>>(AsyncPrefixSumRaw(context, cq, tag));
+    }
+    std::unique_ptr<  ::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>> PrepareAsyncPrefixSum(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>>(PrepareAsyncPrefixSumRaw(context, cq));
+    }
+    std::unique_ptr< ::grpc::ClientWriter< ::calculator::DoubleChunk>> Stats(::grpc::ClientContext* context, ::calculator::StatsResponse* response) {
+      return std::unique_ptr< ::grpc::ClientWriter< ::calculator::DoubleChunk>>(StatsRaw(context, response));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>> AsyncStats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq, void* tag) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>>(AsyncStatsRaw(context, response, cq, tag));
+    }
+    std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>> PrepareAsyncStats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq) {
+      return std::unique_ptr< ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>>(PrepareAsyncStatsRaw(context, response, cq));
+    }
     class async final :
       public StubInterface::async_interface {
      public:
@@ -91,6 +329,22 @@ class CalculatorService final {
       void Add(::grpc::ClientContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
       void Subtract(::grpc::ClientContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response, std::function<void(::grpc::Status)>) override;
       void Subtract(::grpc::ClientContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
+      void AddStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::OperationRequest>* reactor) override;
+      void SubtractStream(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::OperationRequest>* reactor) override;
+      void AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)>) override;
+      void AddBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
+      void SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)>) override;
+      void SubtractBatch(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
+      void ComputePipeline(::grpc::ClientContext* context, ::grpc::ClientBidiReactor< ::calculator::PipelineRequest,::calculator::PipelineResponse>* reactor) override;
+      void Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response, std::function<void(::grpc::Status)>) override;
+      void Evaluate(::grpc::ClientContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
+      void Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response, std::function<void(::grpc::Status)>) override;
+      void Prepare(::grpc::ClientContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
+      void ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response, std::function<void(::grpc::Status)>) override;
+      void ExecutePrepared(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response, ::grpc::ClientUnaryReactor* reactor) override;
+      void Sum(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::ClientWriteReactor< ::calculator::DoubleChunk>* reactor) override;
+      void PrefixSum(::grpc::ClientContext* context, ::grpc::ClientBidiReactor< ::calculator::DoubleChunk,::calculator::DoubleChunk>* reactor) override;
+      void Stats(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::ClientWriteReactor< ::calculator::DoubleChunk>* reactor) override;
      private:
       friend class Stub;
       explicit async(Stub* stub): stub_(stub) { }
@@ -106,8 +360,47 @@ class CalculatorService final {
     ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* PrepareAsyncAddRaw(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) override;
     ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* AsyncSubtractRaw(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) override;
     ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* PrepareAsyncSubtractRaw(::grpc::ClientContext* context, const ::calculator::OperationRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientWriter< ::calculator::OperationRequest>* AddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) override;
+    ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* AsyncAddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) override;
+    ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* PrepareAsyncAddStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientWriter< ::calculator::OperationRequest>* SubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response) override;
+    ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* AsyncSubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) override;
+    ::grpc::ClientAsyncWriter< ::calculator::OperationRequest>* PrepareAsyncSubtractStreamRaw(::grpc::ClientContext* context, ::calculator::BatchOperationResponse* response, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* AsyncAddBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* PrepareAsyncAddBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* AsyncSubtractBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* PrepareAsyncSubtractBatchRaw(::grpc::ClientContext* context, const ::calculator::BatchOperationRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* ComputePipelineRaw(::grpc::ClientContext* context) override;
+    ::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* AsyncComputePipelineRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) override;
+    ::grpc::ClientAsyncReaderWriter< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* PrepareAsyncComputePipelineRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* AsyncEvaluateRaw(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::OperationResponse>* PrepareAsyncEvaluateRaw(::grpc::ClientContext* context, const ::calculator::EvaluateRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>* AsyncPrepareRaw(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::PrepareResponse>* PrepareAsyncPrepareRaw(::grpc::ClientContext* context, const ::calculator::PrepareRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* AsyncExecutePreparedRaw(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientAsyncResponseReader< ::calculator::BatchOperationResponse>* PrepareAsyncExecutePreparedRaw(::grpc::ClientContext* context, const ::calculator::ExecutePreparedRequest& request, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientWriter< ::calculator::DoubleChunk>* SumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response) override;
+    ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* AsyncSumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq, void* tag) override;
+    ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* PrepareAsyncSumRaw(::grpc::ClientContext* context, ::calculator::OperationResponse* response, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* PrefixSumRaw(::grpc::ClientContext* context) override;
+    ::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* AsyncPrefixSumRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq, void* tag) override;
+    ::grpc::ClientAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* PrepareAsyncPrefixSumRaw(::grpc::ClientContext* context, ::grpc::CompletionQueue* cq) override;
+    ::grpc::ClientWriter< ::calculator::DoubleChunk>* StatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response) override;
+    ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* AsyncStatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq, void* tag) override;
+    ::grpc::ClientAsyncWriter< ::calculator::DoubleChunk>* PrepareAsyncStatsRaw(::grpc::ClientContext* context, ::calculator::StatsResponse* response, ::grpc::CompletionQueue* cq) override;
     const ::grpc::internal::RpcMethod rpcmethod_Add_;
     const ::grpc::internal::RpcMethod rpcmethod_Subtract_;
+    const ::grpc::internal::RpcMethod rpcmethod_AddStream_;
+    const ::grpc::internal::RpcMethod rpcmethod_SubtractStream_;
+    const ::grpc::internal::RpcMethod rpcmethod_AddBatch_;
+    const ::grpc::internal::RpcMethod rpcmethod_SubtractBatch_;
+    const ::grpc::internal::RpcMethod rpcmethod_ComputePipeline_;
+    const ::grpc::internal::RpcMethod rpcmethod_Evaluate_;
+    const ::grpc::internal::RpcMethod rpcmethod_Prepare_;
+    const ::grpc::internal::RpcMethod rpcmethod_ExecutePrepared_;
+    const ::grpc::internal::RpcMethod rpcmethod_Sum_;
+    const ::grpc::internal::RpcMethod rpcmethod_PrefixSum_;
+    const ::grpc::internal::RpcMethod rpcmethod_Stats_;
   };
   static std::unique_ptr<Stub> NewStub(const std::shared_ptr< ::grpc::ChannelInterface>& channel, const ::grpc::StubOptions& options = ::grpc::StubOptions());
 
@@ -117,6 +410,25 @@ class CalculatorService final {
     virtual ~Service();
     virtual ::grpc::Status Add(::grpc::ServerContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response);
     virtual ::grpc::Status Subtract(::grpc::ServerContext* context, const ::calculator::OperationRequest* request, ::calculator::OperationResponse* response);
+    // Client-streaming bulk variants: one result per request, in order
+    virtual ::grpc::Status AddStream(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::OperationRequest>* reader, ::calculator::BatchOperationResponse* response);
+    virtual ::grpc::Status SubtractStream(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::OperationRequest>* reader, ::calculator::BatchOperationResponse* response);
+    // Packed batch variants: number1 and number2 must have the same length
+    virtual ::grpc::Status AddBatch(::grpc::ServerContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response);
+    virtual ::grpc::Status SubtractBatch(::grpc::ServerContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response);
+    // Long-lived bidirectional stream of id-tagged operations
+    virtual ::grpc::Status ComputePipeline(::grpc::ServerContext* context, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* stream);
+    // Run a compiled expression; see EvaluateRequest
+    virtual ::grpc::Status Evaluate(::grpc::ServerContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response);
+    // Prepared programs: one result per row of variables
+    virtual ::grpc::Status Prepare(::grpc::ServerContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response);
+    virtual ::grpc::Status ExecutePrepared(::grpc::ServerContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response);
+    // Reductions over a streamed column. Sums use Neumaier's compensated
+    // summation, so the error does not grow with the length of the column.
+    virtual ::grpc::Status Sum(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::DoubleChunk>* reader, ::calculator::OperationResponse* response);
+    // One response chunk per request chunk, holding the running sums
+    virtual ::grpc::Status PrefixSum(::grpc::ServerContext* context, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* stream);
+    virtual ::grpc::Status Stats(::grpc::ServerContext* context, ::grpc::ServerReader< ::calculator::DoubleChunk>* reader, ::calculator::StatsResponse* response);
   };
   template <class BaseClass>
   class WithAsyncMethod_Add : public BaseClass {
@@ -158,7 +470,227 @@ class CalculatorService final {
       ::grpc::Service::RequestAsyncUnary(1, context, request, response, new_call_cq, notification_cq, tag);
     }
   };
-  typedef WithAsyncMethod_Add<WithAsyncMethod_Subtract<Service > > AsyncService;
+  template <class BaseClass>
+  class WithAsyncMethod_AddStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_AddStream() {
+      ::grpc::Service::MarkMethodAsync(2);
+    }
+    ~WithAsyncMethod_AddStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestAddStream(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::calculator::BatchOperationResponse, ::calculator::OperationRequest>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(2, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_SubtractStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_SubtractStream() {
+      ::grpc::Service::MarkMethodAsync(3);
+    }
+    ~WithAsyncMethod_SubtractStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSubtractStream(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::calculator::BatchOperationResponse, ::calculator::OperationRequest>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(3, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_AddBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_AddBatch() {
+      ::grpc::Service::MarkMethodAsync(4);
+    }
+    ~WithAsyncMethod_AddBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestAddBatch(::grpc::ServerContext* context, ::calculator::BatchOperationRequest* request, ::grpc::ServerAsyncResponseWriter< ::calculator::BatchOperationResponse>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(4, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_SubtractBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_SubtractBatch() {
+      ::grpc::Service::MarkMethodAsync(5);
+    }
+    ~WithAsyncMethod_SubtractBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSubtractBatch(::grpc::ServerContext* context, ::calculator::BatchOperationRequest* request, ::grpc::ServerAsyncResponseWriter< ::calculator::BatchOperationResponse>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(5, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_ComputePipeline : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_ComputePipeline() {
+      ::grpc::Service::MarkMethodAsync(6);
+    }
+    ~WithAsyncMethod_ComputePipeline() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ComputePipeline(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestComputePipeline(::grpc::ServerContext* context, ::grpc::ServerAsyncReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* stream, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncBidiStreaming(6, context, stream, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_Evaluate : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_Evaluate() {
+      ::grpc::Service::MarkMethodAsync(7);
+    }
+    ~WithAsyncMethod_Evaluate() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Evaluate(::grpc::ServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestEvaluate(::grpc::ServerContext* context, ::calculator::EvaluateRequest* request, ::grpc::ServerAsyncResponseWriter< ::calculator::OperationResponse>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(7, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_Prepare : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_Prepare() {
+      ::grpc::Service::MarkMethodAsync(8);
+    }
+    ~WithAsyncMethod_Prepare() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Prepare(::grpc::ServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestPrepare(::grpc::ServerContext* context, ::calculator::PrepareRequest* request, ::grpc::ServerAsyncResponseWriter< ::calculator::PrepareResponse>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(8, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_ExecutePrepared : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_ExecutePrepared() {
+      ::grpc::Service::MarkMethodAsync(9);
+    }
+    ~WithAsyncMethod_ExecutePrepared() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ExecutePrepared(::grpc::ServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestExecutePrepared(::grpc::ServerContext* context, ::calculator::ExecutePreparedRequest* request, ::grpc::ServerAsyncResponseWriter< ::calculator::BatchOperationResponse>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(9, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_Sum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_Sum() {
+      ::grpc::Service::MarkMethodAsync(10);
+    }
+    ~WithAsyncMethod_Sum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Sum(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSum(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::calculator::OperationResponse, ::calculator::DoubleChunk>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(10, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_PrefixSum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_PrefixSum() {
+      ::grpc::Service::MarkMethodAsync(11);
+    }
+    ~WithAsyncMethod_PrefixSum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status PrefixSum(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestPrefixSum(::grpc::ServerContext* context, ::grpc::ServerAsyncReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* stream, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncBidiStreaming(11, context, stream, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithAsyncMethod_Stats : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithAsyncMethod_Stats() {
+      ::grpc::Service::MarkMethodAsync(12);
+    }
+    ~WithAsyncMethod_Stats() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Stats(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::StatsResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestStats(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::calculator::StatsResponse, ::calculator::DoubleChunk>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(12, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  typedef WithAsyncMethod_Add<WithAsyncMethod_Subtract<WithAsyncMethod_AddStream<WithAsyncMethod_SubtractStream<WithAsyncMethod_AddBatch<WithAsyncMethod_SubtractBatch<WithAsyncMethod_ComputePipeline<WithAsyncMethod_Evaluate<WithAsyncMethod_Prepare<WithAsyncMethod_ExecutePrepared<WithAsyncMethod_Sum<WithAsyncMethod_PrefixSum<WithAsyncMethod_Stats<Service > > > > > > > > > > > > > AsyncService;
   template <class BaseClass>
   class WithCallbackMethod_Add : public BaseClass {
    private:
@@ -213,135 +745,1055 @@ class CalculatorService final {
     virtual ::grpc::ServerUnaryReactor* Subtract(
       ::grpc::CallbackServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/)  { return nullptr; }
   };
-  typedef WithCallbackMethod_Add<WithCallbackMethod_Subtract<Service > > CallbackService;
-  typedef CallbackService ExperimentalCallbackService;
   template <class BaseClass>
-  class WithGenericMethod_Add : public BaseClass {
+  class WithCallbackMethod_AddStream : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithGenericMethod_Add() {
-      ::grpc::Service::MarkMethodGeneric(0);
+    WithCallbackMethod_AddStream() {
+      ::grpc::Service::MarkMethodCallback(2,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::calculator::OperationRequest, ::calculator::BatchOperationResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::calculator::BatchOperationResponse* response) { return this->AddStream(context, response); }));
     }
-    ~WithGenericMethod_Add() override {
+    ~WithCallbackMethod_AddStream() override {
       BaseClassMustBeDerivedFromService(this);
     }
     // disable synchronous version of this method
-    ::grpc::Status Add(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+    ::grpc::Status AddStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
       abort();
       return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
     }
+    virtual ::grpc::ServerReadReactor< ::calculator::OperationRequest>* AddStream(
+      ::grpc::CallbackServerContext* /*context*/, ::calculator::BatchOperationResponse* /*response*/)  { return nullptr; }
   };
   template <class BaseClass>
-  class WithGenericMethod_Subtract : public BaseClass {
+  class WithCallbackMethod_SubtractStream : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithGenericMethod_Subtract() {
-      ::grpc::Service::MarkMethodGeneric(1);
+    WithCallbackMethod_SubtractStream() {
+      ::grpc::Service::MarkMethodCallback(3,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::calculator::OperationRequest, ::calculator::BatchOperationResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::calculator::BatchOperationResponse* response) { return this->SubtractStream(context, response); }));
     }
-    ~WithGenericMethod_Subtract() override {
+    ~WithCallbackMethod_SubtractStream() override {
       BaseClassMustBeDerivedFromService(this);
     }
     // disable synchronous version of this method
-    ::grpc::Status Subtract(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+    ::grpc::Status SubtractStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
       abort();
       return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
     }
+    virtual ::grpc::ServerReadReactor< ::calculator::OperationRequest>* SubtractStream(
+      ::grpc::CallbackServerContext* /*context*/, ::calculator::BatchOperationResponse* /*response*/)  { return nullptr; }
   };
   template <class BaseClass>
-  class WithRawMethod_Add : public BaseClass {
+  class WithCallbackMethod_AddBatch : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithRawMethod_Add() {
-      ::grpc::Service::MarkMethodRaw(0);
+    WithCallbackMethod_AddBatch() {
+      ::grpc::Service::MarkMethodCallback(4,
+          new ::grpc::internal::CallbackUnaryHandler< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response) { return this->AddBatch(context, request, response); }));}
+    void SetMessageAllocatorFor_AddBatch(
+        ::grpc::MessageAllocator< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>* allocator) {
+      ::grpc::internal::MethodHandler* const handler = ::grpc::Service::GetHandler(4);
+      static_cast<::grpc::internal::CallbackUnaryHandler< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>*>(handler)
+              ->SetMessageAllocator(allocator);
     }
-    ~WithRawMethod_Add() override {
+    ~WithCallbackMethod_AddBatch() override {
       BaseClassMustBeDerivedFromService(this);
     }
     // disable synchronous version of this method
-    ::grpc::Status Add(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+    ::grpc::Status AddBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
       abort();
       return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
     }
-    void RequestAdd(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
-      ::grpc::Service::RequestAsyncUnary(0, context, request, response, new_call_cq, notification_cq, tag);
-    }
+    virtual ::grpc::ServerUnaryReactor* AddBatch(
+      ::grpc::CallbackServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/)  { return nullptr; }
   };
   template <class BaseClass>
-  class WithRawMethod_Subtract : public BaseClass {
+  class WithCallbackMethod_SubtractBatch : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithRawMethod_Subtract() {
-      ::grpc::Service::MarkMethodRaw(1);
+    WithCallbackMethod_SubtractBatch() {
+      ::grpc::Service::MarkMethodCallback(5,
+          new ::grpc::internal::CallbackUnaryHandler< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::calculator::BatchOperationRequest* request, ::calculator::BatchOperationResponse* response) { return this->SubtractBatch(context, request, response); }));}
+    void SetMessageAllocatorFor_SubtractBatch(
+        ::grpc::MessageAllocator< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>* allocator) {
+      ::grpc::internal::MethodHandler* const handler = ::grpc::Service::GetHandler(5);
+      static_cast<::grpc::internal::CallbackUnaryHandler< ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>*>(handler)
+              ->SetMessageAllocator(allocator);
     }
-    ~WithRawMethod_Subtract() override {
+    ~WithCallbackMethod_SubtractBatch() override {
       BaseClassMustBeDerivedFromService(this);
     }
     // disable synchronous version of this method
-    ::grpc::Status Subtract(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+    ::grpc::Status SubtractBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
       abort();
       return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
     }
-    void RequestSubtract(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
-      ::grpc::Service::RequestAsyncUnary(1, context, request, response, new_call_cq, notification_cq, tag);
-    }
+    virtual ::grpc::ServerUnaryReactor* SubtractBatch(
+      ::grpc::CallbackServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/)  { return nullptr; }
   };
   template <class BaseClass>
-  class WithRawCallbackMethod_Add : public BaseClass {
+  class WithCallbackMethod_ComputePipeline : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithRawCallbackMethod_Add() {
-      ::grpc::Service::MarkMethodRawCallback(0,
-          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+    WithCallbackMethod_ComputePipeline() {
+      ::grpc::Service::MarkMethodCallback(6,
+          new ::grpc::internal::CallbackBidiHandler< ::calculator::PipelineRequest, ::calculator::PipelineResponse>(
             [this](
-                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->Add(context, request, response); }));
+                   ::grpc::CallbackServerContext* context) { return this->ComputePipeline(context); }));
     }
-    ~WithRawCallbackMethod_Add() override {
+    ~WithCallbackMethod_ComputePipeline() override {
       BaseClassMustBeDerivedFromService(this);
     }
     // disable synchronous version of this method
-    ::grpc::Status Add(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+    ::grpc::Status ComputePipeline(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* /*stream*/)  override {
       abort();
       return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
     }
-    virtual ::grpc::ServerUnaryReactor* Add(
-      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+    virtual ::grpc::ServerBidiReactor< ::calculator::PipelineRequest, ::calculator::PipelineResponse>* ComputePipeline(
+      ::grpc::CallbackServerContext* /*context*/)
+      { return nullptr; }
   };
   template <class BaseClass>
-  class WithRawCallbackMethod_Subtract : public BaseClass {
+  class WithCallbackMethod_Evaluate : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithRawCallbackMethod_Subtract() {
-      ::grpc::Service::MarkMethodRawCallback(1,
-          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+    WithCallbackMethod_Evaluate() {
+      ::grpc::Service::MarkMethodCallback(7,
+          new ::grpc::internal::CallbackUnaryHandler< ::calculator::EvaluateRequest, ::calculator::OperationResponse>(
             [this](
-                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->Subtract(context, request, response); }));
+                   ::grpc::CallbackServerContext* context, const ::calculator::EvaluateRequest* request, ::calculator::OperationResponse* response) { return this->Evaluate(context, request, response); }));}
+    void SetMessageAllocatorFor_Evaluate(
+        ::grpc::MessageAllocator< ::calculator::EvaluateRequest, ::calculator::OperationResponse>* allocator) {
+      ::grpc::internal::MethodHandler* const handler = ::grpc::Service::GetHandler(7);
+      static_cast<::grpc::internal::CallbackUnaryHandler< ::calculator::EvaluateRequest, ::calculator::OperationResponse>*>(handler)
+              ->SetMessageAllocator(allocator);
     }
-    ~WithRawCallbackMethod_Subtract() override {
+    ~WithCallbackMethod_Evaluate() override {
       BaseClassMustBeDerivedFromService(this);
     }
     // disable synchronous version of this method
-    ::grpc::Status Subtract(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+    ::grpc::Status Evaluate(::grpc::ServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
       abort();
       return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
     }
-    virtual ::grpc::ServerUnaryReactor* Subtract(
-      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+    virtual ::grpc::ServerUnaryReactor* Evaluate(
+      ::grpc::CallbackServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/)  { return nullptr; }
   };
   template <class BaseClass>
-  class WithStreamedUnaryMethod_Add : public BaseClass {
+  class WithCallbackMethod_Prepare : public BaseClass {
    private:
     void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
    public:
-    WithStreamedUnaryMethod_Add() {
-      ::grpc::Service::MarkMethodStreamed(0,
-        new ::grpc::internal::StreamedUnaryHandler<
-          ::calculator::OperationRequest, ::calculator::OperationResponse>(
+    WithCallbackMethod_Prepare() {
+      ::grpc::Service::MarkMethodCallback(8,
+          new ::grpc::internal::CallbackUnaryHandler< ::calculator::PrepareRequest, ::calculator::PrepareResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::calculator::PrepareRequest* request, ::calculator::PrepareResponse* response) { return this->Prepare(context, request, response); }));}
+    void SetMessageAllocatorFor_Prepare(
+        ::grpc::MessageAllocator< ::calculator::PrepareRequest, ::calculator::PrepareResponse>* allocator) {
+      ::grpc::internal::MethodHandler* const handler = ::grpc::Service::GetHandler(8);
+      static_cast<::grpc::internal::CallbackUnaryHandler< ::calculator::PrepareRequest, ::calculator::PrepareResponse>*>(handler)
+              ->SetMessageAllocator(allocator);
+    }
+    ~WithCallbackMethod_Prepare() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Prepare(::grpc::ServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* Prepare(
+      ::grpc::CallbackServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithCallbackMethod_ExecutePrepared : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithCallbackMethod_ExecutePrepared() {
+      ::grpc::Service::MarkMethodCallback(9,
+          new ::grpc::internal::CallbackUnaryHandler< ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::calculator::ExecutePreparedRequest* request, ::calculator::BatchOperationResponse* response) { return this->ExecutePrepared(context, request, response); }));}
+    void SetMessageAllocatorFor_ExecutePrepared(
+        ::grpc::MessageAllocator< ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse>* allocator) {
+      ::grpc::internal::MethodHandler* const handler = ::grpc::Service::GetHandler(9);
+      static_cast<::grpc::internal::CallbackUnaryHandler< ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse>*>(handler)
+              ->SetMessageAllocator(allocator);
+    }
+    ~WithCallbackMethod_ExecutePrepared() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ExecutePrepared(::grpc::ServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* ExecutePrepared(
+      ::grpc::CallbackServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithCallbackMethod_Sum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithCallbackMethod_Sum() {
+      ::grpc::Service::MarkMethodCallback(10,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::calculator::DoubleChunk, ::calculator::OperationResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::calculator::OperationResponse* response) { return this->Sum(context, response); }));
+    }
+    ~WithCallbackMethod_Sum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Sum(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerReadReactor< ::calculator::DoubleChunk>* Sum(
+      ::grpc::CallbackServerContext* /*context*/, ::calculator::OperationResponse* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithCallbackMethod_PrefixSum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithCallbackMethod_PrefixSum() {
+      ::grpc::Service::MarkMethodCallback(11,
+          new ::grpc::internal::CallbackBidiHandler< ::calculator::DoubleChunk, ::calculator::DoubleChunk>(
+            [this](
+                   ::grpc::CallbackServerContext* context) { return this->PrefixSum(context); }));
+    }
+    ~WithCallbackMethod_PrefixSum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status PrefixSum(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerBidiReactor< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* PrefixSum(
+      ::grpc::CallbackServerContext* /*context*/)
+      { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithCallbackMethod_Stats : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithCallbackMethod_Stats() {
+      ::grpc::Service::MarkMethodCallback(12,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::calculator::DoubleChunk, ::calculator::StatsResponse>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::calculator::StatsResponse* response) { return this->Stats(context, response); }));
+    }
+    ~WithCallbackMethod_Stats() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Stats(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::StatsResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerReadReactor< ::calculator::DoubleChunk>* Stats(
+      ::grpc::CallbackServerContext* /*context*/, ::calculator::StatsResponse* /*response*/)  { return nullptr; }
+  };
+  typedef WithCallbackMethod_Add<WithCallbackMethod_Subtract<WithCallbackMethod_AddStream<WithCallbackMethod_SubtractStream<WithCallbackMethod_AddBatch<WithCallbackMethod_SubtractBatch<WithCallbackMethod_ComputePipeline<WithCallbackMethod_Evaluate<WithCallbackMethod_Prepare<WithCallbackMethod_ExecutePrepared<WithCallbackMethod_Sum<WithCallbackMethod_PrefixSum<WithCallbackMethod_Stats<Service > > > > > > > > > > > > > CallbackService;
+  typedef CallbackService ExperimentalCallbackService;
+  template <class BaseClass>
+  class WithGenericMethod_Add : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_Add() {
+      ::grpc::Service::MarkMethodGeneric(0);
+    }
+    ~WithGenericMethod_Add() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Add(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_Subtract : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_Subtract() {
+      ::grpc::Service::MarkMethodGeneric(1);
+    }
+    ~WithGenericMethod_Subtract() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Subtract(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_AddStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_AddStream() {
+      ::grpc::Service::MarkMethodGeneric(2);
+    }
+    ~WithGenericMethod_AddStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_SubtractStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_SubtractStream() {
+      ::grpc::Service::MarkMethodGeneric(3);
+    }
+    ~WithGenericMethod_SubtractStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_AddBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_AddBatch() {
+      ::grpc::Service::MarkMethodGeneric(4);
+    }
+    ~WithGenericMethod_AddBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_SubtractBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_SubtractBatch() {
+      ::grpc::Service::MarkMethodGeneric(5);
+    }
+    ~WithGenericMethod_SubtractBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_ComputePipeline : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_ComputePipeline() {
+      ::grpc::Service::MarkMethodGeneric(6);
+    }
+    ~WithGenericMethod_ComputePipeline() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ComputePipeline(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_Evaluate : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_Evaluate() {
+      ::grpc::Service::MarkMethodGeneric(7);
+    }
+    ~WithGenericMethod_Evaluate() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Evaluate(::grpc::ServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_Prepare : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_Prepare() {
+      ::grpc::Service::MarkMethodGeneric(8);
+    }
+    ~WithGenericMethod_Prepare() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Prepare(::grpc::ServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_ExecutePrepared : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_ExecutePrepared() {
+      ::grpc::Service::MarkMethodGeneric(9);
+    }
+    ~WithGenericMethod_ExecutePrepared() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ExecutePrepared(::grpc::ServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_Sum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_Sum() {
+      ::grpc::Service::MarkMethodGeneric(10);
+    }
+    ~WithGenericMethod_Sum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Sum(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_PrefixSum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_PrefixSum() {
+      ::grpc::Service::MarkMethodGeneric(11);
+    }
+    ~WithGenericMethod_PrefixSum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status PrefixSum(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithGenericMethod_Stats : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithGenericMethod_Stats() {
+      ::grpc::Service::MarkMethodGeneric(12);
+    }
+    ~WithGenericMethod_Stats() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Stats(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::StatsResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_Add : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_Add() {
+      ::grpc::Service::MarkMethodRaw(0);
+    }
+    ~WithRawMethod_Add() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Add(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestAdd(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(0, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_Subtract : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_Subtract() {
+      ::grpc::Service::MarkMethodRaw(1);
+    }
+    ~WithRawMethod_Subtract() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Subtract(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSubtract(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(1, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_AddStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_AddStream() {
+      ::grpc::Service::MarkMethodRaw(2);
+    }
+    ~WithRawMethod_AddStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestAddStream(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(2, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_SubtractStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_SubtractStream() {
+      ::grpc::Service::MarkMethodRaw(3);
+    }
+    ~WithRawMethod_SubtractStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSubtractStream(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(3, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_AddBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_AddBatch() {
+      ::grpc::Service::MarkMethodRaw(4);
+    }
+    ~WithRawMethod_AddBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestAddBatch(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(4, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_SubtractBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_SubtractBatch() {
+      ::grpc::Service::MarkMethodRaw(5);
+    }
+    ~WithRawMethod_SubtractBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSubtractBatch(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(5, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_ComputePipeline : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_ComputePipeline() {
+      ::grpc::Service::MarkMethodRaw(6);
+    }
+    ~WithRawMethod_ComputePipeline() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ComputePipeline(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestComputePipeline(::grpc::ServerContext* context, ::grpc::ServerAsyncReaderWriter< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* stream, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncBidiStreaming(6, context, stream, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_Evaluate : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_Evaluate() {
+      ::grpc::Service::MarkMethodRaw(7);
+    }
+    ~WithRawMethod_Evaluate() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Evaluate(::grpc::ServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestEvaluate(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(7, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_Prepare : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_Prepare() {
+      ::grpc::Service::MarkMethodRaw(8);
+    }
+    ~WithRawMethod_Prepare() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Prepare(::grpc::ServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestPrepare(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(8, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_ExecutePrepared : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_ExecutePrepared() {
+      ::grpc::Service::MarkMethodRaw(9);
+    }
+    ~WithRawMethod_ExecutePrepared() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ExecutePrepared(::grpc::ServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestExecutePrepared(::grpc::ServerContext* context, ::grpc::ByteBuffer* request, ::grpc::ServerAsyncResponseWriter< ::grpc::ByteBuffer>* response, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncUnary(9, context, request, response, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_Sum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_Sum() {
+      ::grpc::Service::MarkMethodRaw(10);
+    }
+    ~WithRawMethod_Sum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Sum(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestSum(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(10, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_PrefixSum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_PrefixSum() {
+      ::grpc::Service::MarkMethodRaw(11);
+    }
+    ~WithRawMethod_PrefixSum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status PrefixSum(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestPrefixSum(::grpc::ServerContext* context, ::grpc::ServerAsyncReaderWriter< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* stream, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncBidiStreaming(11, context, stream, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawMethod_Stats : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawMethod_Stats() {
+      ::grpc::Service::MarkMethodRaw(12);
+    }
+    ~WithRawMethod_Stats() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Stats(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::StatsResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    void RequestStats(::grpc::ServerContext* context, ::grpc::ServerAsyncReader< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* reader, ::grpc::CompletionQueue* new_call_cq, ::grpc::ServerCompletionQueue* notification_cq, void *tag) {
+      ::grpc::Service::RequestAsyncClientStreaming(12, context, reader, new_call_cq, notification_cq, tag);
+    }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_Add : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_Add() {
+      ::grpc::Service::MarkMethodRawCallback(0,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->Add(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_Add() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Add(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* Add(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_Subtract : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_Subtract() {
+      ::grpc::Service::MarkMethodRawCallback(1,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->Subtract(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_Subtract() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Subtract(::grpc::ServerContext* /*context*/, const ::calculator::OperationRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* Subtract(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_AddStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_AddStream() {
+      ::grpc::Service::MarkMethodRawCallback(2,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::grpc::ByteBuffer* response) { return this->AddStream(context, response); }));
+    }
+    ~WithRawCallbackMethod_AddStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerReadReactor< ::grpc::ByteBuffer>* AddStream(
+      ::grpc::CallbackServerContext* /*context*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_SubtractStream : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_SubtractStream() {
+      ::grpc::Service::MarkMethodRawCallback(3,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::grpc::ByteBuffer* response) { return this->SubtractStream(context, response); }));
+    }
+    ~WithRawCallbackMethod_SubtractStream() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractStream(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::OperationRequest>* /*reader*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerReadReactor< ::grpc::ByteBuffer>* SubtractStream(
+      ::grpc::CallbackServerContext* /*context*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_AddBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_AddBatch() {
+      ::grpc::Service::MarkMethodRawCallback(4,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->AddBatch(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_AddBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status AddBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* AddBatch(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_SubtractBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_SubtractBatch() {
+      ::grpc::Service::MarkMethodRawCallback(5,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->SubtractBatch(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_SubtractBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status SubtractBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* SubtractBatch(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_ComputePipeline : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_ComputePipeline() {
+      ::grpc::Service::MarkMethodRawCallback(6,
+          new ::grpc::internal::CallbackBidiHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context) { return this->ComputePipeline(context); }));
+    }
+    ~WithRawCallbackMethod_ComputePipeline() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ComputePipeline(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::PipelineResponse, ::calculator::PipelineRequest>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerBidiReactor< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* ComputePipeline(
+      ::grpc::CallbackServerContext* /*context*/)
+      { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_Evaluate : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_Evaluate() {
+      ::grpc::Service::MarkMethodRawCallback(7,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->Evaluate(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_Evaluate() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Evaluate(::grpc::ServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* Evaluate(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_Prepare : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_Prepare() {
+      ::grpc::Service::MarkMethodRawCallback(8,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->Prepare(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_Prepare() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Prepare(::grpc::ServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* Prepare(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_ExecutePrepared : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_ExecutePrepared() {
+      ::grpc::Service::MarkMethodRawCallback(9,
+          new ::grpc::internal::CallbackUnaryHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, const ::grpc::ByteBuffer* request, ::grpc::ByteBuffer* response) { return this->ExecutePrepared(context, request, response); }));
+    }
+    ~WithRawCallbackMethod_ExecutePrepared() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status ExecutePrepared(::grpc::ServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerUnaryReactor* ExecutePrepared(
+      ::grpc::CallbackServerContext* /*context*/, const ::grpc::ByteBuffer* /*request*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_Sum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_Sum() {
+      ::grpc::Service::MarkMethodRawCallback(10,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::grpc::ByteBuffer* response) { return this->Sum(context, response); }));
+    }
+    ~WithRawCallbackMethod_Sum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Sum(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerReadReactor< ::grpc::ByteBuffer>* Sum(
+      ::grpc::CallbackServerContext* /*context*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_PrefixSum : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_PrefixSum() {
+      ::grpc::Service::MarkMethodRawCallback(11,
+          new ::grpc::internal::CallbackBidiHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context) { return this->PrefixSum(context); }));
+    }
+    ~WithRawCallbackMethod_PrefixSum() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status PrefixSum(::grpc::ServerContext* /*context*/, ::grpc::ServerReaderWriter< ::calculator::DoubleChunk, ::calculator::DoubleChunk>* /*stream*/)  override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerBidiReactor< ::grpc::ByteBuffer, ::grpc::ByteBuffer>* PrefixSum(
+      ::grpc::CallbackServerContext* /*context*/)
+      { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithRawCallbackMethod_Stats : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithRawCallbackMethod_Stats() {
+      ::grpc::Service::MarkMethodRawCallback(12,
+          new ::grpc::internal::CallbackClientStreamingHandler< ::grpc::ByteBuffer, ::grpc::ByteBuffer>(
+            [this](
+                   ::grpc::CallbackServerContext* context, ::grpc::ByteBuffer* response) { return this->Stats(context, response); }));
+    }
+    ~WithRawCallbackMethod_Stats() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable synchronous version of this method
+    ::grpc::Status Stats(::grpc::ServerContext* /*context*/, ::grpc::ServerReader< ::calculator::DoubleChunk>* /*reader*/, ::calculator::StatsResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    virtual ::grpc::ServerReadReactor< ::grpc::ByteBuffer>* Stats(
+      ::grpc::CallbackServerContext* /*context*/, ::grpc::ByteBuffer* /*response*/)  { return nullptr; }
+  };
+  template <class BaseClass>
+  class WithStreamedUnaryMethod_Add : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithStreamedUnaryMethod_Add() {
+      ::grpc::Service::MarkMethodStreamed(0,
+        new ::grpc::internal::StreamedUnaryHandler<
+          ::calculator::OperationRequest, ::calculator::OperationResponse>(
             [this](::grpc::ServerContext* context,
                    ::grpc::ServerUnaryStreamer<
                      ::calculator::OperationRequest, ::calculator::OperationResponse>* streamer) {
@@ -387,9 +1839,144 @@ class CalculatorService final {
     // replace default version of method with streamed unary
     virtual ::grpc::Status StreamedSubtract(::grpc::ServerContext* context, ::grpc::ServerUnaryStreamer< ::calculator::OperationRequest,::calculator::OperationResponse>* server_unary_streamer) = 0;
   };
-  typedef WithStreamedUnaryMethod_Add<WithStreamedUnaryMethod_Subtract<Service > > StreamedUnaryService;
+  template <class BaseClass>
+  class WithStreamedUnaryMethod_AddBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithStreamedUnaryMethod_AddBatch() {
+      ::grpc::Service::MarkMethodStreamed(4,
+        new ::grpc::internal::StreamedUnaryHandler<
+          ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>(
+            [this](::grpc::ServerContext* context,
+                   ::grpc::ServerUnaryStreamer<
+                     ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>* streamer) {
+                       return this->StreamedAddBatch(context,
+                         streamer);
+                  }));
+    }
+    ~WithStreamedUnaryMethod_AddBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable regular version of this method
+    ::grpc::Status AddBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    // replace default version of method with streamed unary
+    virtual ::grpc::Status StreamedAddBatch(::grpc::ServerContext* context, ::grpc::ServerUnaryStreamer< ::calculator::BatchOperationRequest,::calculator::BatchOperationResponse>* server_unary_streamer) = 0;
+  };
+  template <class BaseClass>
+  class WithStreamedUnaryMethod_SubtractBatch : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithStreamedUnaryMethod_SubtractBatch() {
+      ::grpc::Service::MarkMethodStreamed(5,
+        new ::grpc::internal::StreamedUnaryHandler<
+          ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>(
+            [this](::grpc::ServerContext* context,
+                   ::grpc::ServerUnaryStreamer<
+                     ::calculator::BatchOperationRequest, ::calculator::BatchOperationResponse>* streamer) {
+                       return this->StreamedSubtractBatch(context,
+                         streamer);
+                  }));
+    }
+    ~WithStreamedUnaryMethod_SubtractBatch() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable regular version of this method
+    ::grpc::Status SubtractBatch(::grpc::ServerContext* /*context*/, const ::calculator::BatchOperationRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    // replace default version of method with streamed unary
+    virtual ::grpc::Status StreamedSubtractBatch(::grpc::ServerContext* context, ::grpc::ServerUnaryStreamer< ::calculator::BatchOperationRequest,::calculator::BatchOperationResponse>* server_unary_streamer) = 0;
+  };
+  template <class BaseClass>
+  class WithStreamedUnaryMethod_Evaluate : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithStreamedUnaryMethod_Evaluate() {
+      ::grpc::Service::MarkMethodStreamed(7,
+        new ::grpc::internal::StreamedUnaryHandler<
+          ::calculator::EvaluateRequest, ::calculator::OperationResponse>(
+            [this](::grpc::ServerContext* context,
+                   ::grpc::ServerUnaryStreamer<
+                     ::calculator::EvaluateRequest, ::calculator::OperationResponse>* streamer) {
+                       return this->StreamedEvaluate(context,
+                         streamer);
+                  }));
+    }
+    ~WithStreamedUnaryMethod_Evaluate() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable regular version of this method
+    ::grpc::Status Evaluate(::grpc::ServerContext* /*context*/, const ::calculator::EvaluateRequest* /*request*/, ::calculator::OperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    // replace default version of method with streamed unary
+    virtual ::grpc::Status StreamedEvaluate(::grpc::ServerContext* context, ::grpc::ServerUnaryStreamer< ::calculator::EvaluateRequest,::calculator::OperationResponse>* server_unary_streamer) = 0;
+  };
+  template <class BaseClass>
+  class WithStreamedUnaryMethod_Prepare : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithStreamedUnaryMethod_Prepare() {
+      ::grpc::Service::MarkMethodStreamed(8,
+        new ::grpc::internal::StreamedUnaryHandler<
+          ::calculator::PrepareRequest, ::calculator::PrepareResponse>(
+            [this](::grpc::ServerContext* context,
+                   ::grpc::ServerUnaryStreamer<
+                     ::calculator::PrepareRequest, ::calculator::PrepareResponse>* streamer) {
+                       return this->StreamedPrepare(context,
+                         streamer);
+                  }));
+    }
+    ~WithStreamedUnaryMethod_Prepare() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable regular version of this method
+    ::grpc::Status Prepare(::grpc::ServerContext* /*context*/, const ::calculator::PrepareRequest* /*request*/, ::calculator::PrepareResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    // replace default version of method with streamed unary
+    virtual ::grpc::Status StreamedPrepare(::grpc::ServerContext* context, ::grpc::ServerUnaryStreamer< ::calculator::PrepareRequest,::calculator::PrepareResponse>* server_unary_streamer) = 0;
+  };
+  template <class BaseClass>
+  class WithStreamedUnaryMethod_ExecutePrepared : public BaseClass {
+   private:
+    void BaseClassMustBeDerivedFromService(const Service* /*service*/) {}
+   public:
+    WithStreamedUnaryMethod_ExecutePrepared() {
+      ::grpc::Service::MarkMethodStreamed(9,
+        new ::grpc::internal::StreamedUnaryHandler<
+          ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse>(
+            [this](::grpc::ServerContext* context,
+                   ::grpc::ServerUnaryStreamer<
+                     ::calculator::ExecutePreparedRequest, ::calculator::BatchOperationResponse>* streamer) {
+                       return this->StreamedExecutePrepared(context,
+                         streamer);
+                  }));
+    }
+    ~WithStreamedUnaryMethod_ExecutePrepared() override {
+      BaseClassMustBeDerivedFromService(this);
+    }
+    // disable regular version of this method
+    ::grpc::Status ExecutePrepared(::grpc::ServerContext* /*context*/, const ::calculator::ExecutePreparedRequest* /*request*/, ::calculator::BatchOperationResponse* /*response*/) override {
+      abort();
+      return ::grpc::Status(::grpc::StatusCode::UNIMPLEMENTED, "");
+    }
+    // replace default version of method with streamed unary
+    virtual ::grpc::Status StreamedExecutePrepared(::grpc::ServerContext* context, ::grpc::ServerUnaryStreamer< ::calculator::ExecutePreparedRequest,::calculator::BatchOperationResponse>* server_unary_streamer) = 0;
+  };
+  typedef WithStreamedUnaryMethod_Add<WithStreamedUnaryMethod_Subtract<WithStreamedUnaryMethod_AddBatch<WithStreamedUnaryMethod_SubtractBatch<WithStreamedUnaryMethod_Evaluate<WithStreamedUnaryMethod_Prepare<WithStreamedUnaryMethod_ExecutePrepared<Service > > > > > > > StreamedUnaryService;
   typedef Service SplitStreamedService;
-  typedef WithStreamedUnaryMethod_Add<WithStreamedUnaryMethod_Subtract<Service > > StreamedService;
+  typedef WithStreamedUnaryMethod_Add<WithStreamedUnaryMethod_Subtract<WithStreamedUnaryMethod_AddBatch<WithStreamedUnaryMethod_SubtractBatch<WithStreamedUnaryMethod_Evaluate<WithStreamedUnaryMethod_Prepare<WithStreamedUnaryMethod_ExecutePrepared<Service > > > > > > > StreamedService;
 };
 
 }  // namespace calculator
@@ -26,6 +26,143 @@ namespace _pbi = ::google::protobuf::internal;
 namespace _fl = ::google::protobuf::internal::field_layout;
 namespace calculator {
 
+inline constexpr StatsResponse::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        count_{::uint64_t{0u}},
+        sum_{0},
+        min_{0},
+        max_{0},
+        mean_{0} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR StatsResponse::StatsResponse(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(StatsResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct StatsResponseDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR StatsResponseDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~StatsResponseDefaultTypeInternal() {}
+  union {
+    StatsResponse _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 StatsResponseDefaultTypeInternal _StatsResponse_default_instance_;
+
+inline constexpr PrepareResponse::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        handle_{::uint64_t{0u}} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR PrepareResponse::PrepareResponse(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(PrepareResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct PrepareResponseDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR PrepareResponseDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~PrepareResponseDefaultTypeInternal() {}
+  union {
+    PrepareResponse _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 PrepareResponseDefaultTypeInternal _PrepareResponse_default_instance_;
+
+inline constexpr PrepareRequest::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        constants_{},
+        code_(
+            &::google::protobuf::internal::fixed_address_empty_string,
+            ::_pbi::ConstantInitialized()),
+        variable_count_{0u} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR PrepareRequest::PrepareRequest(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(PrepareRequest_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct PrepareRequestDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR PrepareRequestDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~PrepareRequestDefaultTypeInternal() {}
+  union {
+    PrepareRequest _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 PrepareRequestDefaultTypeInternal _PrepareRequest_default_instance_;
+
+inline constexpr PipelineResponse::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        id_{::uint64_t{0u}},
+        result_{0} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR PipelineResponse::PipelineResponse(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(PipelineResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct PipelineResponseDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR PipelineResponseDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~PipelineResponseDefaultTypeInternal() {}
+  union {
+    PipelineResponse _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 PipelineResponseDefaultTypeInternal _PipelineResponse_default_instance_;
+
+inline constexpr PipelineRequest::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        id_{::uint64_t{0u}},
+        number1_{0},
+        number2_{0},
+        operation_{static_cast< ::calculator::Operation >(0)} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR PipelineRequest::PipelineRequest(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(PipelineRequest_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct PipelineRequestDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR PipelineRequestDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~PipelineRequestDefaultTypeInternal() {}
+  union {
+    PipelineRequest _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 PipelineRequestDefaultTypeInternal _PipelineRequest_default_instance_;
+
 inline constexpr OperationResponse::Impl_::Impl_(
     ::_pbi::ConstantInitialized) noexcept
       : _cached_size_{0},
@@ -76,9 +213,140 @@ struct OperationRequestDefaultTypeInternal {
 
 PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
     PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 OperationRequestDefaultTypeInternal _OperationRequest_default_instance_;
+
+inline constexpr ExecutePreparedRequest::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        variables_{},
+        handle_{::uint64_t{0u}} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR ExecutePreparedRequest::ExecutePreparedRequest(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(ExecutePreparedRequest_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct ExecutePreparedRequestDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR ExecutePreparedRequestDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~ExecutePreparedRequestDefaultTypeInternal() {}
+  union {
+    ExecutePreparedRequest _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 ExecutePreparedRequestDefaultTypeInternal _ExecutePreparedRequest_default_instance_;
+
+inline constexpr EvaluateRequest::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        constants_{},
+        variables_{},
+        code_(
+            &::google::protobuf::internal::fixed_address_empty_string,
+            ::_pbi::ConstantInitialized()) {}
+
+template <typename>
+PROTOBUF_CONSTEXPR EvaluateRequest::EvaluateRequest(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(EvaluateRequest_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct EvaluateRequestDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR EvaluateRequestDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~EvaluateRequestDefaultTypeInternal() {}
+  union {
+    EvaluateRequest _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 EvaluateRequestDefaultTypeInternal _EvaluateRequest_default_instance_;
+
+inline constexpr DoubleChunk::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        values_{} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR DoubleChunk::DoubleChunk(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(DoubleChunk_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct DoubleChunkDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR DoubleChunkDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~DoubleChunkDefaultTypeInternal() {}
+  union {
+    DoubleChunk _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 DoubleChunkDefaultTypeInternal _DoubleChunk_default_instance_;
+
+inline constexpr BatchOperationResponse::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        result_{} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR BatchOperationResponse::BatchOperationResponse(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(BatchOperationResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct BatchOperationResponseDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR BatchOperationResponseDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~BatchOperationResponseDefaultTypeInternal() {}
+  union {
+    BatchOperationResponse _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 BatchOperationResponseDefaultTypeInternal _BatchOperationResponse_default_instance_;
+
+inline constexpr BatchOperationRequest::Impl_::Impl_(
+    ::_pbi::ConstantInitialized) noexcept
+      : _cached_size_{0},
+        number1_{},
+        number2_{} {}
+
+template <typename>
+PROTOBUF_CONSTEXPR BatchOperationRequest::BatchOperationRequest(::_pbi::ConstantInitialized)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(BatchOperationRequest_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(::_pbi::ConstantInitialized()) {
+}
+struct BatchOperationRequestDefaultTypeInternal {
+  PROTOBUF_CONSTEXPR BatchOperationRequestDefaultTypeInternal() : _instance(::_pbi::ConstantInitialized{}) {}
+  ~BatchOperationRequestDefaultTypeInternal() {}
+  union {
+    BatchOperationRequest _instance;
+  };
+};
+
+PROTOBUF_ATTRIBUTE_NO_DESTROY PROTOBUF_CONSTINIT
+    PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 BatchOperationRequestDefaultTypeInternal _BatchOperationRequest_default_instance_;
 }  // namespace calculator
-static constexpr const ::_pb::EnumDescriptor* PROTOBUF_NONNULL* PROTOBUF_NULLABLE
-    file_level_enum_descriptors_calculator_2eproto = nullptr;
+static const ::_pb::EnumDescriptor* PROTOBUF_NONNULL
+    file_level_enum_descriptors_calculator_2eproto[1];
 static constexpr const ::_pb::ServiceDescriptor* PROTOBUF_NONNULL* PROTOBUF_NULLABLE
     file_level_service_descriptors_calculator_2eproto = nullptr;
 const ::uint32_t
@@ -96,39 +364,175 @@ const ::uint32_t
         4, // hasbit index offset
         PROTOBUF_FIELD_OFFSET(::calculator::OperationResponse, _impl_.result_),
         0,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineRequest, _impl_._has_bits_),
+        7, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineRequest, _impl_.id_),
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineRequest, _impl_.operation_),
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineRequest, _impl_.number1_),
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineRequest, _impl_.number2_),
+        0,
+        3,
+        1,
+        2,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineResponse, _impl_._has_bits_),
+        5, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineResponse, _impl_.id_),
+        PROTOBUF_FIELD_OFFSET(::calculator::PipelineResponse, _impl_.result_),
+        0,
+        1,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::BatchOperationRequest, _impl_._has_bits_),
+        5, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::BatchOperationRequest, _impl_.number1_),
+        PROTOBUF_FIELD_OFFSET(::calculator::BatchOperationRequest, _impl_.number2_),
+        0,
+        1,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::BatchOperationResponse, _impl_._has_bits_),
+        4, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::BatchOperationResponse, _impl_.result_),
+        0,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::EvaluateRequest, _impl_._has_bits_),
+        6, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::EvaluateRequest, _impl_.code_),
+        PROTOBUF_FIELD_OFFSET(::calculator::EvaluateRequest, _impl_.constants_),
+        PROTOBUF_FIELD_OFFSET(::calculator::EvaluateRequest, _impl_.variables_),
+        2,
+        0,
+        1,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::PrepareRequest, _impl_._has_bits_),
+        6, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::PrepareRequest, _impl_.code_),
+        PROTOBUF_FIELD_OFFSET(::calculator::PrepareRequest, _impl_.constants_),
+        PROTOBUF_FIELD_OFFSET(::calculator::PrepareRequest, _impl_.variable_count_),
+        1,
+        0,
+        2,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::PrepareResponse, _impl_._has_bits_),
+        4, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::PrepareResponse, _impl_.handle_),
+        0,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::ExecutePreparedRequest, _impl_._has_bits_),
+        5, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::ExecutePreparedRequest, _impl_.handle_),
+        PROTOBUF_FIELD_OFFSET(::calculator::ExecutePreparedRequest, _impl_.variables_),
+        1,
+        0,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::DoubleChunk, _impl_._has_bits_),
+        4, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::DoubleChunk, _impl_.values_),
+        0,
+        0x081, // bitmap
+        PROTOBUF_FIELD_OFFSET(::calculator::StatsResponse, _impl_._has_bits_),
+        8, // hasbit index offset
+        PROTOBUF_FIELD_OFFSET(::calculator::StatsResponse, _impl_.count_),
+        PROTOBUF_FIELD_OFFSET(::calculator::StatsResponse, _impl_.sum_),
+        PROTOBUF_FIELD_OFFSET(::calculator::StatsResponse, _impl_.min_),
+        PROTOBUF_FIELD_OFFSET(::calculator::StatsResponse, _impl_.max_),
+        PROTOBUF_FIELD_OFFSET(::calculator::StatsResponse, _impl_.mean_),
+        0,
+        1,
+        2,
+        3,
+        4,
 };
 
 static const ::_pbi::MigrationSchema
     schemas[] ABSL_ATTRIBUTE_SECTION_VARIABLE(protodesc_cold) = {
         {0, sizeof(::calculator::OperationRequest)},
         {7, sizeof(::calculator::OperationResponse)},
+        {12, sizeof(::calculator::PipelineRequest)},
+        {23, sizeof(::calculator::PipelineResponse)},
+        {30, sizeof(::calculator::BatchOperationRequest)},
+        {37, sizeof(::calculator::BatchOperationResponse)},
+        {42, sizeof(::calculator::EvaluateRequest)},
+        {51, sizeof(::calculator::PrepareRequest)},
+        {60, sizeof(::calculator::PrepareResponse)},
+        {65, sizeof(::calculator::ExecutePreparedRequest)},
+        {72, sizeof(::calculator::DoubleChunk)},
+        {77, sizeof(::calculator::StatsResponse)},
 };
 static const ::_pb::Message* PROTOBUF_NONNULL const file_default_instances[] = {
     &::calculator::_OperationRequest_default_instance_._instance,
     &::calculator::_OperationResponse_default_instance_._instance,
+    &::calculator::_PipelineRequest_default_instance_._instance,
+    &::calculator::_PipelineResponse_default_instance_._instance,
+    &::calculator::_BatchOperationRequest_default_instance_._instance,
+    &::calculator::_BatchOperationResponse_default_instance_._instance,
+    &::calculator::_EvaluateRequest_default_instance_._instance,
+    &::calculator::_PrepareRequest_default_instance_._instance,
+    &::calculator::_PrepareResponse_default_instance_._instance,
+    &::calculator::_ExecutePreparedRequest_default_instance_._instance,
+    &::calculator::_DoubleChunk_default_instance_._instance,
+    &::calculator::_StatsResponse_default_instance_._instance,
 };
 const char descriptor_table_protodef_calculator_2eproto[] ABSL_ATTRIBUTE_SECTION_VARIABLE(
     protodesc_cold) = {
     "\n\020calculator.proto\022\ncalculator\"4\n\020Operat"
     "ionRequest\022\017\n\007number1\030\001 \001(\001\022\017\n\007number2\030\002"
     " \001(\001\"#\n\021OperationResponse\022\016\n\006result\030\001 \001("
-    "\0012\244\001\n\021CalculatorService\022D\n\003Add\022\034.calcula"
-    "tor.OperationRequest\032\035.calculator.Operat"
-    "ionResponse\"\000\022I\n\010Subtract\022\034.calculator.O"
-    "perationRequest\032\035.calculator.OperationRe"
-    "sponse\"\000b\006proto3"
+    "\001\"i\n\017PipelineRequest\022\n\n\002id\030\001 \001(\004\022(\n\toper"
+    "ation\030\002 \001(\0162\025.calculator.Operation\022\017\n\007nu"
+    "mber1\030\003 \001(\001\022\017\n\007number2\030\004 \001(\001\".\n\020Pipeline"
+    "Response\022\n\n\002id\030\001 \001(\004\022\016\n\006result\030\002 \001(\001\"9\n\025"
+    "BatchOperationRequest\022\017\n\007number1\030\001 \003(\001\022\017"
+    "\n\007number2\030\002 \003(\001\"(\n\026BatchOperationRespons"
+    "e\022\016\n\006result\030\001 \003(\001\"E\n\017EvaluateRequest\022\014\n\004"
+    "code\030\001 \001(\014\022\021\n\tconstants\030\002 \003(\001\022\021\n\tvariabl"
+    "es\030\003 \003(\001\"I\n\016PrepareRequest\022\014\n\004code\030\001 \001(\014"
+    "\022\021\n\tconstants\030\002 \003(\001\022\026\n\016variable_count\030\003 "
+    "\001(\r\"!\n\017PrepareResponse\022\016\n\006handle\030\001 \001(\006\";"
+    "\n\026ExecutePreparedRequest\022\016\n\006handle\030\001 \001(\006"
+    "\022\021\n\tvariables\030\002 \003(\001\"\035\n\013DoubleChunk\022\016\n\006va"
+    "lues\030\001 \003(\001\"S\n\rStatsResponse\022\r\n\005count\030\001 \001"
+    "(\004\022\013\n\003sum\030\002 \001(\001\022\013\n\003min\030\003 \001(\001\022\013\n\003max\030\004 \001("
+    "\001\022\014\n\004mean\030\005 \001(\001*\"\n\tOperation\022\007\n\003ADD\020\000\022\014\n"
+    "\010SUBTRACT\020\0012\210\010\n\021CalculatorService\022D\n\003Add"
+    "\022\034.calculator.OperationRequest\032\035.calcula"
+    "tor.OperationResponse\"\000\022I\n\010Subtract\022\034.ca"
+    "lculator.OperationRequest\032\035.calculator.O"
+    "perationResponse\"\000\022Q\n\tAddStream\022\034.calcul"
+    "ator.OperationRequest\032\".calculator.Batch"
+    "OperationResponse\"\000(\001\022V\n\016SubtractStream\022"
+    "\034.calculator.OperationRequest\032\".calculat"
+    "or.BatchOperationResponse\"\000(\001\022S\n\010AddBatc"
+    "h\022!.calculator.BatchOperationRequest\032\".c"
+    "alculator.BatchOperationResponse\"\000\022X\n\rSu"
+    "btractBatch\022!.calculator.BatchOperationR"
+    "equest\032\".calculator.BatchOperationRespon"
+    "se\"\000\022R\n\017ComputePipeline\022\033.calculator.Pip"
+    "elineRequest\032\034.calculator.PipelineRespon"
+    "se\"\000(\0010\001\022H\n\010Evaluate\022\033.calculator.Evalua"
+    "teRequest\032\035.calculator.OperationResponse"
+    "\"\000\022D\n\007Prepare\022\032.calculator.PrepareReques"
+    "t\032\033.calculator.PrepareResponse\"\000\022[\n\017Exec"
+    "utePrepared\022\".calculator.ExecutePrepared"
+    "Request\032\".calculator.BatchOperationRespo"
+    "nse\"\000\022A\n\003Sum\022\027.calculator.DoubleChunk\032\035."
+    "calculator.OperationResponse\"\000(\001\022C\n\tPref"
+    "ixSum\022\027.calculator.DoubleChunk\032\027.calcula"
+    "tor.DoubleChunk\"\000(\0010\001\022\?\n\005Stats\022\027.calcula"
+    "tor.DoubleChunk\032\031.calculator.StatsRespon"
+    "se\"\000(\001b\006proto3"
 };
 static ::absl::once_flag descriptor_table_calculator_2eproto_once;
 PROTOBUF_CONSTINIT const ::_pbi::DescriptorTable descriptor_table_calculator_2eproto = {
     false,
     false,
-    296,
+    1814,
     descriptor_table_protodef_calculator_2eproto,
     "calculator.proto",
     &descriptor_table_calculator_2eproto_once,
     nullptr,
     0,
-    2,
+    12,
     schemas,
     file_default_instances,
     TableStruct_calculator_2eproto::offsets,
@@ -136,6 +540,12 @@ PROTOBUF_CONSTINIT const ::_pbi::DescriptorTable descriptor_table_calculator_2ep
     file_level_service_descriptors_calculator_2eproto,
 };
 namespace calculator {
+const ::google::protobuf::EnumDescriptor* PROTOBUF_NONNULL Operation_descriptor() {
+  ::google::protobuf::internal::AssignDescriptors(&descriptor_table_calculator_2eproto);
+  return file_level_enum_descriptors_calculator_2eproto[0];
+}
+PROTOBUF_CONSTINIT const uint32_t Operation_internal_data_[] = {
+    131072u, 0u, };
 // ===================================================================
 
 class OperationRequest::_Internal {
@@ -674,6 +1084,3146 @@ void OperationResponse::InternalSwap(OperationResponse* PROTOBUF_RESTRICT PROTOB
 ::google::protobuf::Metadata OperationResponse::GetMetadata() const {
   return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
 }
+// ===================================================================
+
+class PipelineRequest::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<PipelineRequest>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_._has_bits_);
+};
+
+PipelineRequest::PipelineRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PipelineRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.PipelineRequest)
+}
+PipelineRequest::PipelineRequest(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PipelineRequest& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PipelineRequest_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(from._impl_) {
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+PROTOBUF_NDEBUG_INLINE PipelineRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0} {}
+
+inline void PipelineRequest::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+  ::memset(reinterpret_cast<char*>(&_impl_) +
+               offsetof(Impl_, id_),
+           0,
+           offsetof(Impl_, operation_) -
+               offsetof(Impl_, id_) +
+               sizeof(Impl_::operation_));
+}
+PipelineRequest::~PipelineRequest() {
+  // @@protoc_insertion_point(destructor:calculator.PipelineRequest)
+  SharedDtor(*this);
+}
+inline void PipelineRequest::SharedDtor(MessageLite& self) {
+  PipelineRequest& this_ = static_cast<PipelineRequest&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL PipelineRequest::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) PipelineRequest(arena);
+}
+constexpr auto PipelineRequest::InternalNewImpl_() {
+  return ::google::protobuf::internal::MessageCreator::ZeroInit(sizeof(PipelineRequest),
+                                            alignof(PipelineRequest));
+}
+constexpr auto PipelineRequest::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_PipelineRequest_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &PipelineRequest::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<PipelineRequest>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &PipelineRequest::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<PipelineRequest>(), &PipelineRequest::ByteSizeLong,
+              &PipelineRequest::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_._cached_size_),
+          false,
+      },
+      &PipelineRequest::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull PipelineRequest_class_data_ =
+        PipelineRequest::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+PipelineRequest::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&PipelineRequest_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(PipelineRequest_class_data_.tc_table);
+  return PipelineRequest_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<2, 4, 0, 0, 2>
+PipelineRequest::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_._has_bits_),
+    0, // no _extensions_
+    4, 24,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967280,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    4,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    PipelineRequest_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::PipelineRequest>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // double number2 = 4;
+    {::_pbi::TcParser::FastF64S1,
+     {33, 2, 0,
+      PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.number2_)}},
+    // uint64 id = 1;
+    {::_pbi::TcParser::SingularVarintNoZag1<::uint64_t, offsetof(PipelineRequest, _impl_.id_), 0>(),
+     {8, 0, 0,
+      PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.id_)}},
+    // .calculator.Operation operation = 2;
+    {::_pbi::TcParser::SingularVarintNoZag1<::uint32_t, offsetof(PipelineRequest, _impl_.operation_), 3>(),
+     {16, 3, 0,
+      PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.operation_)}},
+    // double number1 = 3;
+    {::_pbi::TcParser::FastF64S1,
+     {25, 1, 0,
+      PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.number1_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // uint64 id = 1;
+    {PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.id_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcOptional | ::_fl::kUInt64)},
+    // .calculator.Operation operation = 2;
+    {PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.operation_), _Internal::kHasBitsOffset + 3, 0, (0 | ::_fl::kFcOptional | ::_fl::kOpenEnum)},
+    // double number1 = 3;
+    {PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.number1_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+    // double number2 = 4;
+    {PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.number2_), _Internal::kHasBitsOffset + 2, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void PipelineRequest::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.PipelineRequest)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x0000000fU)) {
+    ::memset(&_impl_.id_, 0, static_cast<::size_t>(
+        reinterpret_cast<char*>(&_impl_.operation_) -
+        reinterpret_cast<char*>(&_impl_.id_)) + sizeof(_impl_.operation_));
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL PipelineRequest::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const PipelineRequest& this_ = static_cast<const PipelineRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL PipelineRequest::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const PipelineRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.PipelineRequest)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // uint64 id = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_id() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteUInt64ToArray(
+          1, this_._internal_id(), target);
+    }
+  }
+
+  // .calculator.Operation operation = 2;
+  if (CheckHasBit(cached_has_bits, 0x00000008U)) {
+    if (this_._internal_operation() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteEnumToArray(
+          2, this_._internal_operation(), target);
+    }
+  }
+
+  // double number1 = 3;
+  if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_number1()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          3, this_._internal_number1(), target);
+    }
+  }
+
+  // double number2 = 4;
+  if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_number2()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          4, this_._internal_number2(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.PipelineRequest)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t PipelineRequest::ByteSizeLong(const MessageLite& base) {
+  const PipelineRequest& this_ = static_cast<const PipelineRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t PipelineRequest::ByteSizeLong() const {
+  const PipelineRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.PipelineRequest)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x0000000fU)) {
+    // uint64 id = 1;
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (this_._internal_id() != 0) {
+        total_size += ::_pbi::WireFormatLite::UInt64SizePlusOne(
+            this_._internal_id());
+      }
+    }
+    // double number1 = 3;
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_number1()) != 0) {
+        total_size += 9;
+      }
+    }
+    // double number2 = 4;
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_number2()) != 0) {
+        total_size += 9;
+      }
+    }
+    // .calculator.Operation operation = 2;
+    if (CheckHasBit(cached_has_bits, 0x00000008U)) {
+      if (this_._internal_operation() != 0) {
+        total_size += 1 +
+                      ::_pbi::WireFormatLite::EnumSize(this_._internal_operation());
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void PipelineRequest::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<PipelineRequest*>(&to_msg);
+  auto& from = static_cast<const PipelineRequest&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.PipelineRequest)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x0000000fU)) {
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (from._internal_id() != 0) {
+        _this->_impl_.id_ = from._impl_.id_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_number1()) != 0) {
+        _this->_impl_.number1_ = from._impl_.number1_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_number2()) != 0) {
+        _this->_impl_.number2_ = from._impl_.number2_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000008U)) {
+      if (from._internal_operation() != 0) {
+        _this->_impl_.operation_ = from._impl_.operation_;
+      }
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void PipelineRequest::CopyFrom(const PipelineRequest& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.PipelineRequest)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void PipelineRequest::InternalSwap(PipelineRequest* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  ::google::protobuf::internal::memswap<
+      PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.operation_)
+      + sizeof(PipelineRequest::_impl_.operation_)
+      - PROTOBUF_FIELD_OFFSET(PipelineRequest, _impl_.id_)>(
+          reinterpret_cast<char*>(&_impl_.id_),
+          reinterpret_cast<char*>(&other->_impl_.id_));
+}
+
+::google::protobuf::Metadata PipelineRequest::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class PipelineResponse::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<PipelineResponse>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_._has_bits_);
+};
+
+PipelineResponse::PipelineResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PipelineResponse_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.PipelineResponse)
+}
+PipelineResponse::PipelineResponse(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PipelineResponse& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PipelineResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(from._impl_) {
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+PROTOBUF_NDEBUG_INLINE PipelineResponse::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0} {}
+
+inline void PipelineResponse::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+  ::memset(reinterpret_cast<char*>(&_impl_) +
+               offsetof(Impl_, id_),
+           0,
+           offsetof(Impl_, result_) -
+               offsetof(Impl_, id_) +
+               sizeof(Impl_::result_));
+}
+PipelineResponse::~PipelineResponse() {
+  // @@protoc_insertion_point(destructor:calculator.PipelineResponse)
+  SharedDtor(*this);
+}
+inline void PipelineResponse::SharedDtor(MessageLite& self) {
+  PipelineResponse& this_ = static_cast<PipelineResponse&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL PipelineResponse::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) PipelineResponse(arena);
+}
+constexpr auto PipelineResponse::InternalNewImpl_() {
+  return ::google::protobuf::internal::MessageCreator::ZeroInit(sizeof(PipelineResponse),
+                                            alignof(PipelineResponse));
+}
+constexpr auto PipelineResponse::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_PipelineResponse_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &PipelineResponse::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<PipelineResponse>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &PipelineResponse::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<PipelineResponse>(), &PipelineResponse::ByteSizeLong,
+              &PipelineResponse::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_._cached_size_),
+          false,
+      },
+      &PipelineResponse::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull PipelineResponse_class_data_ =
+        PipelineResponse::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+PipelineResponse::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&PipelineResponse_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(PipelineResponse_class_data_.tc_table);
+  return PipelineResponse_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<1, 2, 0, 0, 2>
+PipelineResponse::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_._has_bits_),
+    0, // no _extensions_
+    2, 8,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967292,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    2,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    PipelineResponse_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::PipelineResponse>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // double result = 2;
+    {::_pbi::TcParser::FastF64S1,
+     {17, 1, 0,
+      PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_.result_)}},
+    // uint64 id = 1;
+    {::_pbi::TcParser::SingularVarintNoZag1<::uint64_t, offsetof(PipelineResponse, _impl_.id_), 0>(),
+     {8, 0, 0,
+      PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_.id_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // uint64 id = 1;
+    {PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_.id_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcOptional | ::_fl::kUInt64)},
+    // double result = 2;
+    {PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_.result_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void PipelineResponse::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.PipelineResponse)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    ::memset(&_impl_.id_, 0, static_cast<::size_t>(
+        reinterpret_cast<char*>(&_impl_.result_) -
+        reinterpret_cast<char*>(&_impl_.id_)) + sizeof(_impl_.result_));
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL PipelineResponse::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const PipelineResponse& this_ = static_cast<const PipelineResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL PipelineResponse::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const PipelineResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.PipelineResponse)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // uint64 id = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_id() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteUInt64ToArray(
+          1, this_._internal_id(), target);
+    }
+  }
+
+  // double result = 2;
+  if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_result()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          2, this_._internal_result(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.PipelineResponse)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t PipelineResponse::ByteSizeLong(const MessageLite& base) {
+  const PipelineResponse& this_ = static_cast<const PipelineResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t PipelineResponse::ByteSizeLong() const {
+  const PipelineResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.PipelineResponse)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    // uint64 id = 1;
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (this_._internal_id() != 0) {
+        total_size += ::_pbi::WireFormatLite::UInt64SizePlusOne(
+            this_._internal_id());
+      }
+    }
+    // double result = 2;
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_result()) != 0) {
+        total_size += 9;
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void PipelineResponse::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<PipelineResponse*>(&to_msg);
+  auto& from = static_cast<const PipelineResponse&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.PipelineResponse)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (from._internal_id() != 0) {
+        _this->_impl_.id_ = from._impl_.id_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_result()) != 0) {
+        _this->_impl_.result_ = from._impl_.result_;
+      }
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void PipelineResponse::CopyFrom(const PipelineResponse& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.PipelineResponse)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void PipelineResponse::InternalSwap(PipelineResponse* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  ::google::protobuf::internal::memswap<
+      PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_.result_)
+      + sizeof(PipelineResponse::_impl_.result_)
+      - PROTOBUF_FIELD_OFFSET(PipelineResponse, _impl_.id_)>(
+          reinterpret_cast<char*>(&_impl_.id_),
+          reinterpret_cast<char*>(&other->_impl_.id_));
+}
+
+::google::protobuf::Metadata PipelineResponse::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class BatchOperationRequest::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<BatchOperationRequest>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_._has_bits_);
+};
+
+BatchOperationRequest::BatchOperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, BatchOperationRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.BatchOperationRequest)
+}
+PROTOBUF_NDEBUG_INLINE BatchOperationRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+    [[maybe_unused]] const ::calculator::BatchOperationRequest& from_msg)
+      : _has_bits_{from._has_bits_},
+        _cached_size_{0},
+        number1_{visibility, arena, from.number1_},
+        number2_{visibility, arena, from.number2_} {}
+
+BatchOperationRequest::BatchOperationRequest(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena,
+    const BatchOperationRequest& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, BatchOperationRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  BatchOperationRequest* const _this = this;
+  (void)_this;
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+  new (&_impl_) Impl_(internal_visibility(), arena, from._impl_, from);
+
+  // @@protoc_insertion_point(copy_constructor:calculator.BatchOperationRequest)
+}
+PROTOBUF_NDEBUG_INLINE BatchOperationRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0},
+        number1_{visibility, arena},
+        number2_{visibility, arena} {}
+
+inline void BatchOperationRequest::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+}
+BatchOperationRequest::~BatchOperationRequest() {
+  // @@protoc_insertion_point(destructor:calculator.BatchOperationRequest)
+  SharedDtor(*this);
+}
+inline void BatchOperationRequest::SharedDtor(MessageLite& self) {
+  BatchOperationRequest& this_ = static_cast<BatchOperationRequest&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL BatchOperationRequest::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) BatchOperationRequest(arena);
+}
+constexpr auto BatchOperationRequest::InternalNewImpl_() {
+  constexpr auto arena_bits = ::google::protobuf::internal::EncodePlacementArenaOffsets({
+      PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_.number1_) +
+          decltype(BatchOperationRequest::_impl_.number1_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+      PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_.number2_) +
+          decltype(BatchOperationRequest::_impl_.number2_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+  });
+  if (arena_bits.has_value()) {
+    return ::google::protobuf::internal::MessageCreator::ZeroInit(
+        sizeof(BatchOperationRequest), alignof(BatchOperationRequest), *arena_bits);
+  } else {
+    return ::google::protobuf::internal::MessageCreator(&BatchOperationRequest::PlacementNew_,
+                                 sizeof(BatchOperationRequest),
+                                 alignof(BatchOperationRequest));
+  }
+}
+constexpr auto BatchOperationRequest::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_BatchOperationRequest_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &BatchOperationRequest::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<BatchOperationRequest>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &BatchOperationRequest::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<BatchOperationRequest>(), &BatchOperationRequest::ByteSizeLong,
+              &BatchOperationRequest::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_._cached_size_),
+          false,
+      },
+      &BatchOperationRequest::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull BatchOperationRequest_class_data_ =
+        BatchOperationRequest::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+BatchOperationRequest::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&BatchOperationRequest_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(BatchOperationRequest_class_data_.tc_table);
+  return BatchOperationRequest_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<1, 2, 0, 0, 2>
+BatchOperationRequest::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_._has_bits_),
+    0, // no _extensions_
+    2, 8,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967292,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    2,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    BatchOperationRequest_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::BatchOperationRequest>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // repeated double number2 = 2;
+    {::_pbi::TcParser::FastF64P1,
+     {18, 1, 0,
+      PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_.number2_)}},
+    // repeated double number1 = 1;
+    {::_pbi::TcParser::FastF64P1,
+     {10, 0, 0,
+      PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_.number1_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // repeated double number1 = 1;
+    {PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_.number1_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+    // repeated double number2 = 2;
+    {PROTOBUF_FIELD_OFFSET(BatchOperationRequest, _impl_.number2_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void BatchOperationRequest::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.BatchOperationRequest)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _impl_.number1_.Clear();
+    }
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+      _impl_.number2_.Clear();
+    }
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL BatchOperationRequest::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const BatchOperationRequest& this_ = static_cast<const BatchOperationRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL BatchOperationRequest::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const BatchOperationRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.BatchOperationRequest)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // repeated double number1 = 1;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_number1_size() > 0) {
+      target = stream->WriteFixedPacked(1, this_._internal_number1(), target);
+    }
+  }
+
+  // repeated double number2 = 2;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+    if (this_._internal_number2_size() > 0) {
+      target = stream->WriteFixedPacked(2, this_._internal_number2(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.BatchOperationRequest)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t BatchOperationRequest::ByteSizeLong(const MessageLite& base) {
+  const BatchOperationRequest& this_ = static_cast<const BatchOperationRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t BatchOperationRequest::ByteSizeLong() const {
+  const BatchOperationRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.BatchOperationRequest)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    // repeated double number1 = 1;
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_number1_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+    // repeated double number2 = 2;
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_number2_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void BatchOperationRequest::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<BatchOperationRequest*>(&to_msg);
+  auto& from = static_cast<const BatchOperationRequest&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.BatchOperationRequest)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _this->_internal_mutable_number1()->MergeFrom(from._internal_number1());
+    }
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+      _this->_internal_mutable_number2()->MergeFrom(from._internal_number2());
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void BatchOperationRequest::CopyFrom(const BatchOperationRequest& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.BatchOperationRequest)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void BatchOperationRequest::InternalSwap(BatchOperationRequest* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  _impl_.number1_.InternalSwap(&other->_impl_.number1_);
+  _impl_.number2_.InternalSwap(&other->_impl_.number2_);
+}
+
+::google::protobuf::Metadata BatchOperationRequest::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class BatchOperationResponse::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<BatchOperationResponse>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(BatchOperationResponse, _impl_._has_bits_);
+};
+
+BatchOperationResponse::BatchOperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, BatchOperationResponse_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.BatchOperationResponse)
+}
+PROTOBUF_NDEBUG_INLINE BatchOperationResponse::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+    [[maybe_unused]] const ::calculator::BatchOperationResponse& from_msg)
+      : _has_bits_{from._has_bits_},
+        _cached_size_{0},
+        result_{visibility, arena, from.result_} {}
+
+BatchOperationResponse::BatchOperationResponse(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena,
+    const BatchOperationResponse& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, BatchOperationResponse_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  BatchOperationResponse* const _this = this;
+  (void)_this;
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+  new (&_impl_) Impl_(internal_visibility(), arena, from._impl_, from);
+
+  // @@protoc_insertion_point(copy_constructor:calculator.BatchOperationResponse)
+}
+PROTOBUF_NDEBUG_INLINE BatchOperationResponse::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0},
+        result_{visibility, arena} {}
+
+inline void BatchOperationResponse::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+}
+BatchOperationResponse::~BatchOperationResponse() {
+  // @@protoc_insertion_point(destructor:calculator.BatchOperationResponse)
+  SharedDtor(*this);
+}
+inline void BatchOperationResponse::SharedDtor(MessageLite& self) {
+  BatchOperationResponse& this_ = static_cast<BatchOperationResponse&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL BatchOperationResponse::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) BatchOperationResponse(arena);
+}
+constexpr auto BatchOperationResponse::InternalNewImpl_() {
+  constexpr auto arena_bits = ::google::protobuf::internal::EncodePlacementArenaOffsets({
+      PROTOBUF_FIELD_OFFSET(BatchOperationResponse, _impl_.result_) +
+          decltype(BatchOperationResponse::_impl_.result_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+  });
+  if (arena_bits.has_value()) {
+    return ::google::protobuf::internal::MessageCreator::ZeroInit(
+        sizeof(BatchOperationResponse), alignof(BatchOperationResponse), *arena_bits);
+  } else {
+    return ::google::protobuf::internal::MessageCreator(&BatchOperationResponse::PlacementNew_,
+                                 sizeof(BatchOperationResponse),
+                                 alignof(BatchOperationResponse));
+  }
+}
+constexpr auto BatchOperationResponse::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_BatchOperationResponse_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &BatchOperationResponse::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<BatchOperationResponse>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &BatchOperationResponse::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<BatchOperationResponse>(), &BatchOperationResponse::ByteSizeLong,
+              &BatchOperationResponse::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(BatchOperationResponse, _impl_._cached_size_),
+          false,
+      },
+      &BatchOperationResponse::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull BatchOperationResponse_class_data_ =
+        BatchOperationResponse::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+BatchOperationResponse::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&BatchOperationResponse_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(BatchOperationResponse_class_data_.tc_table);
+  return BatchOperationResponse_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<0, 1, 0, 0, 2>
+BatchOperationResponse::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(BatchOperationResponse, _impl_._has_bits_),
+    0, // no _extensions_
+    1, 0,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967294,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    1,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    BatchOperationResponse_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::BatchOperationResponse>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // repeated double result = 1;
+    {::_pbi::TcParser::FastF64P1,
+     {10, 0, 0,
+      PROTOBUF_FIELD_OFFSET(BatchOperationResponse, _impl_.result_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // repeated double result = 1;
+    {PROTOBUF_FIELD_OFFSET(BatchOperationResponse, _impl_.result_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void BatchOperationResponse::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.BatchOperationResponse)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    _impl_.result_.Clear();
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL BatchOperationResponse::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const BatchOperationResponse& this_ = static_cast<const BatchOperationResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL BatchOperationResponse::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const BatchOperationResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.BatchOperationResponse)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // repeated double result = 1;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_result_size() > 0) {
+      target = stream->WriteFixedPacked(1, this_._internal_result(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.BatchOperationResponse)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t BatchOperationResponse::ByteSizeLong(const MessageLite& base) {
+  const BatchOperationResponse& this_ = static_cast<const BatchOperationResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t BatchOperationResponse::ByteSizeLong() const {
+  const BatchOperationResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.BatchOperationResponse)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+   {
+    // repeated double result = 1;
+    cached_has_bits = this_._impl_._has_bits_[0];
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_result_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void BatchOperationResponse::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<BatchOperationResponse*>(&to_msg);
+  auto& from = static_cast<const BatchOperationResponse&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.BatchOperationResponse)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    _this->_internal_mutable_result()->MergeFrom(from._internal_result());
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void BatchOperationResponse::CopyFrom(const BatchOperationResponse& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.BatchOperationResponse)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void BatchOperationResponse::InternalSwap(BatchOperationResponse* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  _impl_.result_.InternalSwap(&other->_impl_.result_);
+}
+
+::google::protobuf::Metadata BatchOperationResponse::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class EvaluateRequest::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<EvaluateRequest>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_._has_bits_);
+};
+
+EvaluateRequest::EvaluateRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, EvaluateRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.EvaluateRequest)
+}
+PROTOBUF_NDEBUG_INLINE EvaluateRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+    [[maybe_unused]] const ::calculator::EvaluateRequest& from_msg)
+      : _has_bits_{from._has_bits_},
+        _cached_size_{0},
+        constants_{visibility, arena, from.constants_},
+        variables_{visibility, arena, from.variables_},
+        code_(arena, from.code_) {}
+
+EvaluateRequest::EvaluateRequest(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena,
+    const EvaluateRequest& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, EvaluateRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  EvaluateRequest* const _this = this;
+  (void)_this;
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+  new (&_impl_) Impl_(internal_visibility(), arena, from._impl_, from);
+
+  // @@protoc_insertion_point(copy_constructor:calculator.EvaluateRequest)
+}
+PROTOBUF_NDEBUG_INLINE EvaluateRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0},
+        constants_{visibility, arena},
+        variables_{visibility, arena},
+        code_(arena) {}
+
+inline void EvaluateRequest::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+}
+EvaluateRequest::~EvaluateRequest() {
+  // @@protoc_insertion_point(destructor:calculator.EvaluateRequest)
+  SharedDtor(*this);
+}
+inline void EvaluateRequest::SharedDtor(MessageLite& self) {
+  EvaluateRequest& this_ = static_cast<EvaluateRequest&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.code_.Destroy();
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL EvaluateRequest::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) EvaluateRequest(arena);
+}
+constexpr auto EvaluateRequest::InternalNewImpl_() {
+  constexpr auto arena_bits = ::google::protobuf::internal::EncodePlacementArenaOffsets({
+      PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.constants_) +
+          decltype(EvaluateRequest::_impl_.constants_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+      PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.variables_) +
+          decltype(EvaluateRequest::_impl_.variables_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+  });
+  if (arena_bits.has_value()) {
+    return ::google::protobuf::internal::MessageCreator::CopyInit(
+        sizeof(EvaluateRequest), alignof(EvaluateRequest), *arena_bits);
+  } else {
+    return ::google::protobuf::internal::MessageCreator(&EvaluateRequest::PlacementNew_,
+                                 sizeof(EvaluateRequest),
+                                 alignof(EvaluateRequest));
+  }
+}
+constexpr auto EvaluateRequest::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_EvaluateRequest_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &EvaluateRequest::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<EvaluateRequest>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &EvaluateRequest::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<EvaluateRequest>(), &EvaluateRequest::ByteSizeLong,
+              &EvaluateRequest::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_._cached_size_),
+          false,
+      },
+      &EvaluateRequest::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull EvaluateRequest_class_data_ =
+        EvaluateRequest::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+EvaluateRequest::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&EvaluateRequest_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(EvaluateRequest_class_data_.tc_table);
+  return EvaluateRequest_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<2, 3, 0, 0, 2>
+EvaluateRequest::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_._has_bits_),
+    0, // no _extensions_
+    3, 24,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967288,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    3,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    EvaluateRequest_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::EvaluateRequest>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    {::_pbi::TcParser::MiniParse, {}},
+    // bytes code = 1;
+    {::_pbi::TcParser::FastBS1,
+     {10, 2, 0,
+      PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.code_)}},
+    // repeated double constants = 2;
+    {::_pbi::TcParser::FastF64P1,
+     {18, 0, 0,
+      PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.constants_)}},
+    // repeated double variables = 3;
+    {::_pbi::TcParser::FastF64P1,
+     {26, 1, 0,
+      PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.variables_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // bytes code = 1;
+    {PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.code_), _Internal::kHasBitsOffset + 2, 0, (0 | ::_fl::kFcOptional | ::_fl::kBytes | ::_fl::kRepAString)},
+    // repeated double constants = 2;
+    {PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.constants_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+    // repeated double variables = 3;
+    {PROTOBUF_FIELD_OFFSET(EvaluateRequest, _impl_.variables_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void EvaluateRequest::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.EvaluateRequest)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000007U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _impl_.constants_.Clear();
+    }
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+      _impl_.variables_.Clear();
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      _impl_.code_.ClearNonDefaultToEmpty();
+    }
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL EvaluateRequest::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const EvaluateRequest& this_ = static_cast<const EvaluateRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL EvaluateRequest::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const EvaluateRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.EvaluateRequest)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // bytes code = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+    if (!this_._internal_code().empty()) {
+      const ::std::string& _s = this_._internal_code();
+      target = stream->WriteBytesMaybeAliased(1, _s, target);
+    }
+  }
+
+  // repeated double constants = 2;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_constants_size() > 0) {
+      target = stream->WriteFixedPacked(2, this_._internal_constants(), target);
+    }
+  }
+
+  // repeated double variables = 3;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+    if (this_._internal_variables_size() > 0) {
+      target = stream->WriteFixedPacked(3, this_._internal_variables(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.EvaluateRequest)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t EvaluateRequest::ByteSizeLong(const MessageLite& base) {
+  const EvaluateRequest& this_ = static_cast<const EvaluateRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t EvaluateRequest::ByteSizeLong() const {
+  const EvaluateRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.EvaluateRequest)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000007U)) {
+    // repeated double constants = 2;
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_constants_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+    // repeated double variables = 3;
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_variables_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+    // bytes code = 1;
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (!this_._internal_code().empty()) {
+        total_size += 1 + ::google::protobuf::internal::WireFormatLite::BytesSize(
+                                        this_._internal_code());
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void EvaluateRequest::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<EvaluateRequest*>(&to_msg);
+  auto& from = static_cast<const EvaluateRequest&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.EvaluateRequest)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000007U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _this->_internal_mutable_constants()->MergeFrom(from._internal_constants());
+    }
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000002U)) {
+      _this->_internal_mutable_variables()->MergeFrom(from._internal_variables());
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (!from._internal_code().empty()) {
+        _this->_internal_set_code(from._internal_code());
+      } else {
+        if (_this->_impl_.code_.IsDefault()) {
+          _this->_internal_set_code("");
+        }
+      }
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void EvaluateRequest::CopyFrom(const EvaluateRequest& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.EvaluateRequest)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void EvaluateRequest::InternalSwap(EvaluateRequest* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  auto* arena = GetArena();
+  ABSL_DCHECK_EQ(arena, other->GetArena());
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  _impl_.constants_.InternalSwap(&other->_impl_.constants_);
+  _impl_.variables_.InternalSwap(&other->_impl_.variables_);
+  ::_pbi::ArenaStringPtr::InternalSwap(&_impl_.code_, &other->_impl_.code_, arena);
+}
+
+::google::protobuf::Metadata EvaluateRequest::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class PrepareRequest::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<PrepareRequest>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_._has_bits_);
+};
+
+PrepareRequest::PrepareRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PrepareRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.PrepareRequest)
+}
+PROTOBUF_NDEBUG_INLINE PrepareRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+    [[maybe_unused]] const ::calculator::PrepareRequest& from_msg)
+      : _has_bits_{from._has_bits_},
+        _cached_size_{0},
+        constants_{visibility, arena, from.constants_},
+        code_(arena, from.code_) {}
+
+PrepareRequest::PrepareRequest(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena,
+    const PrepareRequest& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PrepareRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  PrepareRequest* const _this = this;
+  (void)_this;
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+  new (&_impl_) Impl_(internal_visibility(), arena, from._impl_, from);
+  _impl_.variable_count_ = from._impl_.variable_count_;
+
+  // @@protoc_insertion_point(copy_constructor:calculator.PrepareRequest)
+}
+PROTOBUF_NDEBUG_INLINE PrepareRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0},
+        constants_{visibility, arena},
+        code_(arena) {}
+
+inline void PrepareRequest::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+  _impl_.variable_count_ = {};
+}
+PrepareRequest::~PrepareRequest() {
+  // @@protoc_insertion_point(destructor:calculator.PrepareRequest)
+  SharedDtor(*this);
+}
+inline void PrepareRequest::SharedDtor(MessageLite& self) {
+  PrepareRequest& this_ = static_cast<PrepareRequest&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.code_.Destroy();
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL PrepareRequest::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) PrepareRequest(arena);
+}
+constexpr auto PrepareRequest::InternalNewImpl_() {
+  constexpr auto arena_bits = ::google::protobuf::internal::EncodePlacementArenaOffsets({
+      PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.constants_) +
+          decltype(PrepareRequest::_impl_.constants_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+  });
+  if (arena_bits.has_value()) {
+    return ::google::protobuf::internal::MessageCreator::CopyInit(
+        sizeof(PrepareRequest), alignof(PrepareRequest), *arena_bits);
+  } else {
+    return ::google::protobuf::internal::MessageCreator(&PrepareRequest::PlacementNew_,
+                                 sizeof(PrepareRequest),
+                                 alignof(PrepareRequest));
+  }
+}
+constexpr auto PrepareRequest::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_PrepareRequest_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &PrepareRequest::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<PrepareRequest>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &PrepareRequest::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<PrepareRequest>(), &PrepareRequest::ByteSizeLong,
+              &PrepareRequest::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_._cached_size_),
+          false,
+      },
+      &PrepareRequest::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull PrepareRequest_class_data_ =
+        PrepareRequest::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+PrepareRequest::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&PrepareRequest_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(PrepareRequest_class_data_.tc_table);
+  return PrepareRequest_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<2, 3, 0, 0, 2>
+PrepareRequest::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_._has_bits_),
+    0, // no _extensions_
+    3, 24,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967288,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    3,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    PrepareRequest_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::PrepareRequest>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    {::_pbi::TcParser::MiniParse, {}},
+    // bytes code = 1;
+    {::_pbi::TcParser::FastBS1,
+     {10, 1, 0,
+      PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.code_)}},
+    // repeated double constants = 2;
+    {::_pbi::TcParser::FastF64P1,
+     {18, 0, 0,
+      PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.constants_)}},
+    // uint32 variable_count = 3;
+    {::_pbi::TcParser::SingularVarintNoZag1<::uint32_t, offsetof(PrepareRequest, _impl_.variable_count_), 2>(),
+     {24, 2, 0,
+      PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.variable_count_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // bytes code = 1;
+    {PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.code_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcOptional | ::_fl::kBytes | ::_fl::kRepAString)},
+    // repeated double constants = 2;
+    {PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.constants_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+    // uint32 variable_count = 3;
+    {PROTOBUF_FIELD_OFFSET(PrepareRequest, _impl_.variable_count_), _Internal::kHasBitsOffset + 2, 0, (0 | ::_fl::kFcOptional | ::_fl::kUInt32)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void PrepareRequest::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.PrepareRequest)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _impl_.constants_.Clear();
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      _impl_.code_.ClearNonDefaultToEmpty();
+    }
+  }
+  _impl_.variable_count_ = 0u;
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL PrepareRequest::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const PrepareRequest& this_ = static_cast<const PrepareRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL PrepareRequest::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const PrepareRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.PrepareRequest)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // bytes code = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+    if (!this_._internal_code().empty()) {
+      const ::std::string& _s = this_._internal_code();
+      target = stream->WriteBytesMaybeAliased(1, _s, target);
+    }
+  }
+
+  // repeated double constants = 2;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_constants_size() > 0) {
+      target = stream->WriteFixedPacked(2, this_._internal_constants(), target);
+    }
+  }
+
+  // uint32 variable_count = 3;
+  if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+    if (this_._internal_variable_count() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteUInt32ToArray(
+          3, this_._internal_variable_count(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.PrepareRequest)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t PrepareRequest::ByteSizeLong(const MessageLite& base) {
+  const PrepareRequest& this_ = static_cast<const PrepareRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t PrepareRequest::ByteSizeLong() const {
+  const PrepareRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.PrepareRequest)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000007U)) {
+    // repeated double constants = 2;
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_constants_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+    // bytes code = 1;
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (!this_._internal_code().empty()) {
+        total_size += 1 + ::google::protobuf::internal::WireFormatLite::BytesSize(
+                                        this_._internal_code());
+      }
+    }
+    // uint32 variable_count = 3;
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (this_._internal_variable_count() != 0) {
+        total_size += ::_pbi::WireFormatLite::UInt32SizePlusOne(
+            this_._internal_variable_count());
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void PrepareRequest::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<PrepareRequest*>(&to_msg);
+  auto& from = static_cast<const PrepareRequest&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.PrepareRequest)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000007U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _this->_internal_mutable_constants()->MergeFrom(from._internal_constants());
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (!from._internal_code().empty()) {
+        _this->_internal_set_code(from._internal_code());
+      } else {
+        if (_this->_impl_.code_.IsDefault()) {
+          _this->_internal_set_code("");
+        }
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (from._internal_variable_count() != 0) {
+        _this->_impl_.variable_count_ = from._impl_.variable_count_;
+      }
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void PrepareRequest::CopyFrom(const PrepareRequest& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.PrepareRequest)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void PrepareRequest::InternalSwap(PrepareRequest* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  auto* arena = GetArena();
+  ABSL_DCHECK_EQ(arena, other->GetArena());
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  _impl_.constants_.InternalSwap(&other->_impl_.constants_);
+  ::_pbi::ArenaStringPtr::InternalSwap(&_impl_.code_, &other->_impl_.code_, arena);
+  swap(_impl_.variable_count_, other->_impl_.variable_count_);
+}
+
+::google::protobuf::Metadata PrepareRequest::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class PrepareResponse::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<PrepareResponse>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(PrepareResponse, _impl_._has_bits_);
+};
+
+PrepareResponse::PrepareResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PrepareResponse_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.PrepareResponse)
+}
+PrepareResponse::PrepareResponse(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PrepareResponse& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, PrepareResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(from._impl_) {
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+PROTOBUF_NDEBUG_INLINE PrepareResponse::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0} {}
+
+inline void PrepareResponse::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+  _impl_.handle_ = {};
+}
+PrepareResponse::~PrepareResponse() {
+  // @@protoc_insertion_point(destructor:calculator.PrepareResponse)
+  SharedDtor(*this);
+}
+inline void PrepareResponse::SharedDtor(MessageLite& self) {
+  PrepareResponse& this_ = static_cast<PrepareResponse&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL PrepareResponse::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) PrepareResponse(arena);
+}
+constexpr auto PrepareResponse::InternalNewImpl_() {
+  return ::google::protobuf::internal::MessageCreator::ZeroInit(sizeof(PrepareResponse),
+                                            alignof(PrepareResponse));
+}
+constexpr auto PrepareResponse::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_PrepareResponse_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &PrepareResponse::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<PrepareResponse>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &PrepareResponse::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<PrepareResponse>(), &PrepareResponse::ByteSizeLong,
+              &PrepareResponse::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(PrepareResponse, _impl_._cached_size_),
+          false,
+      },
+      &PrepareResponse::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull PrepareResponse_class_data_ =
+        PrepareResponse::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+PrepareResponse::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&PrepareResponse_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(PrepareResponse_class_data_.tc_table);
+  return PrepareResponse_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<0, 1, 0, 0, 2>
+PrepareResponse::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(PrepareResponse, _impl_._has_bits_),
+    0, // no _extensions_
+    1, 0,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967294,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    1,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    PrepareResponse_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::PrepareResponse>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // fixed64 handle = 1;
+    {::_pbi::TcParser::FastF64S1,
+     {9, 0, 0,
+      PROTOBUF_FIELD_OFFSET(PrepareResponse, _impl_.handle_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // fixed64 handle = 1;
+    {PROTOBUF_FIELD_OFFSET(PrepareResponse, _impl_.handle_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcOptional | ::_fl::kFixed64)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void PrepareResponse::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.PrepareResponse)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  _impl_.handle_ = ::uint64_t{0u};
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL PrepareResponse::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const PrepareResponse& this_ = static_cast<const PrepareResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL PrepareResponse::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const PrepareResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.PrepareResponse)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // fixed64 handle = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_handle() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteFixed64ToArray(
+          1, this_._internal_handle(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.PrepareResponse)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t PrepareResponse::ByteSizeLong(const MessageLite& base) {
+  const PrepareResponse& this_ = static_cast<const PrepareResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t PrepareResponse::ByteSizeLong() const {
+  const PrepareResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.PrepareResponse)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+   {
+    // fixed64 handle = 1;
+    cached_has_bits = this_._impl_._has_bits_[0];
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (this_._internal_handle() != 0) {
+        total_size += 9;
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void PrepareResponse::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<PrepareResponse*>(&to_msg);
+  auto& from = static_cast<const PrepareResponse&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.PrepareResponse)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+    if (from._internal_handle() != 0) {
+      _this->_impl_.handle_ = from._impl_.handle_;
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void PrepareResponse::CopyFrom(const PrepareResponse& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.PrepareResponse)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void PrepareResponse::InternalSwap(PrepareResponse* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  swap(_impl_.handle_, other->_impl_.handle_);
+}
+
+::google::protobuf::Metadata PrepareResponse::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class ExecutePreparedRequest::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<ExecutePreparedRequest>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_._has_bits_);
+};
+
+ExecutePreparedRequest::ExecutePreparedRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, ExecutePreparedRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.ExecutePreparedRequest)
+}
+PROTOBUF_NDEBUG_INLINE ExecutePreparedRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+    [[maybe_unused]] const ::calculator::ExecutePreparedRequest& from_msg)
+      : _has_bits_{from._has_bits_},
+        _cached_size_{0},
+        variables_{visibility, arena, from.variables_} {}
+
+ExecutePreparedRequest::ExecutePreparedRequest(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena,
+    const ExecutePreparedRequest& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, ExecutePreparedRequest_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  ExecutePreparedRequest* const _this = this;
+  (void)_this;
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+  new (&_impl_) Impl_(internal_visibility(), arena, from._impl_, from);
+  _impl_.handle_ = from._impl_.handle_;
+
+  // @@protoc_insertion_point(copy_constructor:calculator.ExecutePreparedRequest)
+}
+PROTOBUF_NDEBUG_INLINE ExecutePreparedRequest::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0},
+        variables_{visibility, arena} {}
+
+inline void ExecutePreparedRequest::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+  _impl_.handle_ = {};
+}
+ExecutePreparedRequest::~ExecutePreparedRequest() {
+  // @@protoc_insertion_point(destructor:calculator.ExecutePreparedRequest)
+  SharedDtor(*this);
+}
+inline void ExecutePreparedRequest::SharedDtor(MessageLite& self) {
+  ExecutePreparedRequest& this_ = static_cast<ExecutePreparedRequest&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL ExecutePreparedRequest::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) ExecutePreparedRequest(arena);
+}
+constexpr auto ExecutePreparedRequest::InternalNewImpl_() {
+  constexpr auto arena_bits = ::google::protobuf::internal::EncodePlacementArenaOffsets({
+      PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_.variables_) +
+          decltype(ExecutePreparedRequest::_impl_.variables_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+  });
+  if (arena_bits.has_value()) {
+    return ::google::protobuf::internal::MessageCreator::ZeroInit(
+        sizeof(ExecutePreparedRequest), alignof(ExecutePreparedRequest), *arena_bits);
+  } else {
+    return ::google::protobuf::internal::MessageCreator(&ExecutePreparedRequest::PlacementNew_,
+                                 sizeof(ExecutePreparedRequest),
+                                 alignof(ExecutePreparedRequest));
+  }
+}
+constexpr auto ExecutePreparedRequest::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_ExecutePreparedRequest_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &ExecutePreparedRequest::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<ExecutePreparedRequest>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &ExecutePreparedRequest::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<ExecutePreparedRequest>(), &ExecutePreparedRequest::ByteSizeLong,
+              &ExecutePreparedRequest::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_._cached_size_),
+          false,
+      },
+      &ExecutePreparedRequest::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull ExecutePreparedRequest_class_data_ =
+        ExecutePreparedRequest::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+ExecutePreparedRequest::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&ExecutePreparedRequest_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(ExecutePreparedRequest_class_data_.tc_table);
+  return ExecutePreparedRequest_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<1, 2, 0, 0, 2>
+ExecutePreparedRequest::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_._has_bits_),
+    0, // no _extensions_
+    2, 8,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967292,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    2,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    ExecutePreparedRequest_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::ExecutePreparedRequest>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // repeated double variables = 2;
+    {::_pbi::TcParser::FastF64P1,
+     {18, 0, 0,
+      PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_.variables_)}},
+    // fixed64 handle = 1;
+    {::_pbi::TcParser::FastF64S1,
+     {9, 1, 0,
+      PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_.handle_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // fixed64 handle = 1;
+    {PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_.handle_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcOptional | ::_fl::kFixed64)},
+    // repeated double variables = 2;
+    {PROTOBUF_FIELD_OFFSET(ExecutePreparedRequest, _impl_.variables_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void ExecutePreparedRequest::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.ExecutePreparedRequest)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    _impl_.variables_.Clear();
+  }
+  _impl_.handle_ = ::uint64_t{0u};
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL ExecutePreparedRequest::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const ExecutePreparedRequest& this_ = static_cast<const ExecutePreparedRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL ExecutePreparedRequest::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const ExecutePreparedRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.ExecutePreparedRequest)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // fixed64 handle = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+    if (this_._internal_handle() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteFixed64ToArray(
+          1, this_._internal_handle(), target);
+    }
+  }
+
+  // repeated double variables = 2;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_variables_size() > 0) {
+      target = stream->WriteFixedPacked(2, this_._internal_variables(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.ExecutePreparedRequest)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t ExecutePreparedRequest::ByteSizeLong(const MessageLite& base) {
+  const ExecutePreparedRequest& this_ = static_cast<const ExecutePreparedRequest&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t ExecutePreparedRequest::ByteSizeLong() const {
+  const ExecutePreparedRequest& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.ExecutePreparedRequest)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    // repeated double variables = 2;
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_variables_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+    // fixed64 handle = 1;
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (this_._internal_handle() != 0) {
+        total_size += 9;
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void ExecutePreparedRequest::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<ExecutePreparedRequest*>(&to_msg);
+  auto& from = static_cast<const ExecutePreparedRequest&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.ExecutePreparedRequest)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x00000003U)) {
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      _this->_internal_mutable_variables()->MergeFrom(from._internal_variables());
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (from._internal_handle() != 0) {
+        _this->_impl_.handle_ = from._impl_.handle_;
+      }
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void ExecutePreparedRequest::CopyFrom(const ExecutePreparedRequest& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.ExecutePreparedRequest)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void ExecutePreparedRequest::InternalSwap(ExecutePreparedRequest* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  _impl_.variables_.InternalSwap(&other->_impl_.variables_);
+  swap(_impl_.handle_, other->_impl_.handle_);
+}
+
+::google::protobuf::Metadata ExecutePreparedRequest::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class DoubleChunk::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<DoubleChunk>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(DoubleChunk, _impl_._has_bits_);
+};
+
+DoubleChunk::DoubleChunk(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, DoubleChunk_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.DoubleChunk)
+}
+PROTOBUF_NDEBUG_INLINE DoubleChunk::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+    [[maybe_unused]] const ::calculator::DoubleChunk& from_msg)
+      : _has_bits_{from._has_bits_},
+        _cached_size_{0},
+        values_{visibility, arena, from.values_} {}
+
+DoubleChunk::DoubleChunk(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena,
+    const DoubleChunk& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, DoubleChunk_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  DoubleChunk* const _this = this;
+  (void)_this;
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+  new (&_impl_) Impl_(internal_visibility(), arena, from._impl_, from);
+
+  // @@protoc_insertion_point(copy_constructor:calculator.DoubleChunk)
+}
+PROTOBUF_NDEBUG_INLINE DoubleChunk::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0},
+        values_{visibility, arena} {}
+
+inline void DoubleChunk::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+}
+DoubleChunk::~DoubleChunk() {
+  // @@protoc_insertion_point(destructor:calculator.DoubleChunk)
+  SharedDtor(*this);
+}
+inline void DoubleChunk::SharedDtor(MessageLite& self) {
+  DoubleChunk& this_ = static_cast<DoubleChunk&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL DoubleChunk::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) DoubleChunk(arena);
+}
+constexpr auto DoubleChunk::InternalNewImpl_() {
+  constexpr auto arena_bits = ::google::protobuf::internal::EncodePlacementArenaOffsets({
+      PROTOBUF_FIELD_OFFSET(DoubleChunk, _impl_.values_) +
+          decltype(DoubleChunk::_impl_.values_)::
+              InternalGetArenaOffset(
+                  ::google::protobuf::Message::internal_visibility()),
+  });
+  if (arena_bits.has_value()) {
+    return ::google::protobuf::internal::MessageCreator::ZeroInit(
+        sizeof(DoubleChunk), alignof(DoubleChunk), *arena_bits);
+  } else {
+    return ::google::protobuf::internal::MessageCreator(&DoubleChunk::PlacementNew_,
+                                 sizeof(DoubleChunk),
+                                 alignof(DoubleChunk));
+  }
+}
+constexpr auto DoubleChunk::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_DoubleChunk_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &DoubleChunk::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<DoubleChunk>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &DoubleChunk::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<DoubleChunk>(), &DoubleChunk::ByteSizeLong,
+              &DoubleChunk::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(DoubleChunk, _impl_._cached_size_),
+          false,
+      },
+      &DoubleChunk::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull DoubleChunk_class_data_ =
+        DoubleChunk::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+DoubleChunk::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&DoubleChunk_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(DoubleChunk_class_data_.tc_table);
+  return DoubleChunk_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<0, 1, 0, 0, 2>
+DoubleChunk::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(DoubleChunk, _impl_._has_bits_),
+    0, // no _extensions_
+    1, 0,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967294,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    1,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    DoubleChunk_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::DoubleChunk>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    // repeated double values = 1;
+    {::_pbi::TcParser::FastF64P1,
+     {10, 0, 0,
+      PROTOBUF_FIELD_OFFSET(DoubleChunk, _impl_.values_)}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // repeated double values = 1;
+    {PROTOBUF_FIELD_OFFSET(DoubleChunk, _impl_.values_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcRepeated | ::_fl::kPackedDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void DoubleChunk::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.DoubleChunk)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    _impl_.values_.Clear();
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL DoubleChunk::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const DoubleChunk& this_ = static_cast<const DoubleChunk&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL DoubleChunk::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const DoubleChunk& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.DoubleChunk)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // repeated double values = 1;
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_values_size() > 0) {
+      target = stream->WriteFixedPacked(1, this_._internal_values(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.DoubleChunk)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t DoubleChunk::ByteSizeLong(const MessageLite& base) {
+  const DoubleChunk& this_ = static_cast<const DoubleChunk&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t DoubleChunk::ByteSizeLong() const {
+  const DoubleChunk& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.DoubleChunk)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+   {
+    // repeated double values = 1;
+    cached_has_bits = this_._impl_._has_bits_[0];
+    if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+      ::size_t data_size = ::size_t{8} *
+          ::_pbi::FromIntSize(this_._internal_values_size());
+      ::size_t tag_size = data_size == 0
+          ? 0
+          : 1 + ::_pbi::WireFormatLite::Int32Size(
+                              static_cast<::int32_t>(data_size));
+      total_size += tag_size + data_size;
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void DoubleChunk::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<DoubleChunk*>(&to_msg);
+  auto& from = static_cast<const DoubleChunk&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.DoubleChunk)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (CheckHasBitForRepeated(cached_has_bits, 0x00000001U)) {
+    _this->_internal_mutable_values()->MergeFrom(from._internal_values());
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void DoubleChunk::CopyFrom(const DoubleChunk& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.DoubleChunk)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void DoubleChunk::InternalSwap(DoubleChunk* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  _impl_.values_.InternalSwap(&other->_impl_.values_);
+}
+
+::google::protobuf::Metadata DoubleChunk::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
+// ===================================================================
+
+class StatsResponse::_Internal {
+ public:
+  using HasBits =
+      decltype(::std::declval<StatsResponse>()._impl_._has_bits_);
+  static constexpr ::int32_t kHasBitsOffset =
+      8 * PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_._has_bits_);
+};
+
+StatsResponse::StatsResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, StatsResponse_class_data_.base()) {
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena) {
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  SharedCtor(arena);
+  // @@protoc_insertion_point(arena_constructor:calculator.StatsResponse)
+}
+StatsResponse::StatsResponse(
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const StatsResponse& from)
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+    : ::google::protobuf::Message(arena, StatsResponse_class_data_.base()),
+#else   // PROTOBUF_CUSTOM_VTABLE
+    : ::google::protobuf::Message(arena),
+#endif  // PROTOBUF_CUSTOM_VTABLE
+      _impl_(from._impl_) {
+  _internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+PROTOBUF_NDEBUG_INLINE StatsResponse::Impl_::Impl_(
+    [[maybe_unused]] ::google::protobuf::internal::InternalVisibility visibility,
+    [[maybe_unused]] ::google::protobuf::Arena* PROTOBUF_NULLABLE arena)
+      : _cached_size_{0} {}
+
+inline void StatsResponse::SharedCtor(::_pb::Arena* PROTOBUF_NULLABLE arena) {
+  new (&_impl_) Impl_(internal_visibility(), arena);
+  ::memset(reinterpret_cast<char*>(&_impl_) +
+               offsetof(Impl_, count_),
+           0,
+           offsetof(Impl_, mean_) -
+               offsetof(Impl_, count_) +
+               sizeof(Impl_::mean_));
+}
+StatsResponse::~StatsResponse() {
+  // @@protoc_insertion_point(destructor:calculator.StatsResponse)
+  SharedDtor(*this);
+}
+inline void StatsResponse::SharedDtor(MessageLite& self) {
+  StatsResponse& this_ = static_cast<StatsResponse&>(self);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  this_._internal_metadata_.Delete<::google::protobuf::UnknownFieldSet>();
+  ABSL_DCHECK(this_.GetArena() == nullptr);
+  this_._impl_.~Impl_();
+}
+
+inline void* PROTOBUF_NONNULL StatsResponse::PlacementNew_(
+    const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+    ::google::protobuf::Arena* PROTOBUF_NULLABLE arena) {
+  return ::new (mem) StatsResponse(arena);
+}
+constexpr auto StatsResponse::InternalNewImpl_() {
+  return ::google::protobuf::internal::MessageCreator::ZeroInit(sizeof(StatsResponse),
+                                            alignof(StatsResponse));
+}
+constexpr auto StatsResponse::InternalGenerateClassData_() {
+  return ::google::protobuf::internal::ClassDataFull{
+      ::google::protobuf::internal::ClassData{
+          &_StatsResponse_default_instance_._instance,
+          &_table_.header,
+          nullptr,  // OnDemandRegisterArenaDtor
+          nullptr,  // IsInitialized
+          &StatsResponse::MergeImpl,
+          ::google::protobuf::Message::GetNewImpl<StatsResponse>(),
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+          &StatsResponse::SharedDtor,
+          ::google::protobuf::Message::GetClearImpl<StatsResponse>(), &StatsResponse::ByteSizeLong,
+              &StatsResponse::_InternalSerialize,
+#endif  // PROTOBUF_CUSTOM_VTABLE
+          PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_._cached_size_),
+          false,
+      },
+      &StatsResponse::kDescriptorMethods,
+      &descriptor_table_calculator_2eproto,
+      nullptr,  // tracker
+  };
+}
+
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1 const
+    ::google::protobuf::internal::ClassDataFull StatsResponse_class_data_ =
+        StatsResponse::InternalGenerateClassData_();
+
+PROTOBUF_ATTRIBUTE_WEAK const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL
+StatsResponse::GetClassData() const {
+  ::google::protobuf::internal::PrefetchToLocalCache(&StatsResponse_class_data_);
+  ::google::protobuf::internal::PrefetchToLocalCache(StatsResponse_class_data_.tc_table);
+  return StatsResponse_class_data_.base();
+}
+PROTOBUF_CONSTINIT PROTOBUF_ATTRIBUTE_INIT_PRIORITY1
+const ::_pbi::TcParseTable<3, 5, 0, 0, 2>
+StatsResponse::_table_ = {
+  {
+    PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_._has_bits_),
+    0, // no _extensions_
+    5, 56,  // max_field_number, fast_idx_mask
+    offsetof(decltype(_table_), field_lookup_table),
+    4294967264,  // skipmap
+    offsetof(decltype(_table_), field_entries),
+    5,  // num_field_entries
+    0,  // num_aux_entries
+    offsetof(decltype(_table_), field_names),  // no aux_entries
+    StatsResponse_class_data_.base(),
+    nullptr,  // post_loop_handler
+    ::_pbi::TcParser::GenericFallback,  // fallback
+    #ifdef PROTOBUF_PREFETCH_PARSE_TABLE
+    ::_pbi::TcParser::GetTable<::calculator::StatsResponse>(),  // to_prefetch
+    #endif  // PROTOBUF_PREFETCH_PARSE_TABLE
+  }, {{
+    {::_pbi::TcParser::MiniParse, {}},
+    // uint64 count = 1;
+    {::_pbi::TcParser::SingularVarintNoZag1<::uint64_t, offsetof(StatsResponse, _impl_.count_), 0>(),
+     {8, 0, 0,
+      PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.count_)}},
+    // double sum = 2;
+    {::_pbi::TcParser::FastF64S1,
+     {17, 1, 0,
+      PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.sum_)}},
+    // double min = 3;
+    {::_pbi::TcParser::FastF64S1,
+     {25, 2, 0,
+      PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.min_)}},
+    // double max = 4;
+    {::_pbi::TcParser::FastF64S1,
+     {33, 3, 0,
+      PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.max_)}},
+    // double mean = 5;
+    {::_pbi::TcParser::FastF64S1,
+     {41, 4, 0,
+      PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.mean_)}},
+    {::_pbi::TcParser::MiniParse, {}},
+    {::_pbi::TcParser::MiniParse, {}},
+  }}, {{
+    65535, 65535
+  }}, {{
+    // uint64 count = 1;
+    {PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.count_), _Internal::kHasBitsOffset + 0, 0, (0 | ::_fl::kFcOptional | ::_fl::kUInt64)},
+    // double sum = 2;
+    {PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.sum_), _Internal::kHasBitsOffset + 1, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+    // double min = 3;
+    {PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.min_), _Internal::kHasBitsOffset + 2, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+    // double max = 4;
+    {PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.max_), _Internal::kHasBitsOffset + 3, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+    // double mean = 5;
+    {PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.mean_), _Internal::kHasBitsOffset + 4, 0, (0 | ::_fl::kFcOptional | ::_fl::kDouble)},
+  }},
+  // no aux_entries
+  {{
+  }},
+};
+PROTOBUF_NOINLINE void StatsResponse::Clear() {
+// @@protoc_insertion_point(message_clear_start:calculator.StatsResponse)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void) cached_has_bits;
+
+  cached_has_bits = _impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x0000001fU)) {
+    ::memset(&_impl_.count_, 0, static_cast<::size_t>(
+        reinterpret_cast<char*>(&_impl_.mean_) -
+        reinterpret_cast<char*>(&_impl_.count_)) + sizeof(_impl_.mean_));
+  }
+  _impl_._has_bits_.Clear();
+  _internal_metadata_.Clear<::google::protobuf::UnknownFieldSet>();
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::uint8_t* PROTOBUF_NONNULL StatsResponse::_InternalSerialize(
+    const ::google::protobuf::MessageLite& base, ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) {
+  const StatsResponse& this_ = static_cast<const StatsResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::uint8_t* PROTOBUF_NONNULL StatsResponse::_InternalSerialize(
+    ::uint8_t* PROTOBUF_NONNULL target,
+    ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+  const StatsResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    this_.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(serialize_to_array_start:calculator.StatsResponse)
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = this_._impl_._has_bits_[0];
+  // uint64 count = 1;
+  if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+    if (this_._internal_count() != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteUInt64ToArray(
+          1, this_._internal_count(), target);
+    }
+  }
+
+  // double sum = 2;
+  if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_sum()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          2, this_._internal_sum(), target);
+    }
+  }
+
+  // double min = 3;
+  if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_min()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          3, this_._internal_min(), target);
+    }
+  }
+
+  // double max = 4;
+  if (CheckHasBit(cached_has_bits, 0x00000008U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_max()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          4, this_._internal_max(), target);
+    }
+  }
+
+  // double mean = 5;
+  if (CheckHasBit(cached_has_bits, 0x00000010U)) {
+    if (::absl::bit_cast<::uint64_t>(this_._internal_mean()) != 0) {
+      target = stream->EnsureSpace(target);
+      target = ::_pbi::WireFormatLite::WriteDoubleToArray(
+          5, this_._internal_mean(), target);
+    }
+  }
+
+  if (ABSL_PREDICT_FALSE(this_._internal_metadata_.have_unknown_fields())) {
+    target =
+        ::_pbi::WireFormat::InternalSerializeUnknownFieldsToArray(
+            this_._internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance), target, stream);
+  }
+  // @@protoc_insertion_point(serialize_to_array_end:calculator.StatsResponse)
+  return target;
+}
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+::size_t StatsResponse::ByteSizeLong(const MessageLite& base) {
+  const StatsResponse& this_ = static_cast<const StatsResponse&>(base);
+#else   // PROTOBUF_CUSTOM_VTABLE
+::size_t StatsResponse::ByteSizeLong() const {
+  const StatsResponse& this_ = *this;
+#endif  // PROTOBUF_CUSTOM_VTABLE
+  // @@protoc_insertion_point(message_byte_size_start:calculator.StatsResponse)
+  ::size_t total_size = 0;
+
+  ::uint32_t cached_has_bits = 0;
+  // Prevent compiler warnings about cached_has_bits being unused
+  (void)cached_has_bits;
+
+  ::_pbi::Prefetch5LinesFrom7Lines(&this_);
+  cached_has_bits = this_._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x0000001fU)) {
+    // uint64 count = 1;
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (this_._internal_count() != 0) {
+        total_size += ::_pbi::WireFormatLite::UInt64SizePlusOne(
+            this_._internal_count());
+      }
+    }
+    // double sum = 2;
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_sum()) != 0) {
+        total_size += 9;
+      }
+    }
+    // double min = 3;
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_min()) != 0) {
+        total_size += 9;
+      }
+    }
+    // double max = 4;
+    if (CheckHasBit(cached_has_bits, 0x00000008U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_max()) != 0) {
+        total_size += 9;
+      }
+    }
+    // double mean = 5;
+    if (CheckHasBit(cached_has_bits, 0x00000010U)) {
+      if (::absl::bit_cast<::uint64_t>(this_._internal_mean()) != 0) {
+        total_size += 9;
+      }
+    }
+  }
+  return this_.MaybeComputeUnknownFieldsSize(total_size,
+                                             &this_._impl_._cached_size_);
+}
+
+void StatsResponse::MergeImpl(::google::protobuf::MessageLite& to_msg,
+                            const ::google::protobuf::MessageLite& from_msg) {
+   auto* const _this =
+      static_cast<StatsResponse*>(&to_msg);
+  auto& from = static_cast<const StatsResponse&>(from_msg);
+  if constexpr (::_pbi::DebugHardenCheckHasBitConsistency()) {
+    from.CheckHasBitConsistency();
+  }
+  // @@protoc_insertion_point(class_specific_merge_from_start:calculator.StatsResponse)
+  ABSL_DCHECK_NE(&from, _this);
+  ::uint32_t cached_has_bits = 0;
+  (void)cached_has_bits;
+
+  cached_has_bits = from._impl_._has_bits_[0];
+  if (BatchCheckHasBit(cached_has_bits, 0x0000001fU)) {
+    if (CheckHasBit(cached_has_bits, 0x00000001U)) {
+      if (from._internal_count() != 0) {
+        _this->_impl_.count_ = from._impl_.count_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000002U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_sum()) != 0) {
+        _this->_impl_.sum_ = from._impl_.sum_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000004U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_min()) != 0) {
+        _this->_impl_.min_ = from._impl_.min_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000008U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_max()) != 0) {
+        _this->_impl_.max_ = from._impl_.max_;
+      }
+    }
+    if (CheckHasBit(cached_has_bits, 0x00000010U)) {
+      if (::absl::bit_cast<::uint64_t>(from._internal_mean()) != 0) {
+        _this->_impl_.mean_ = from._impl_.mean_;
+      }
+    }
+  }
+  _this->_impl_._has_bits_[0] |= cached_has_bits;
+  _this->_internal_metadata_.MergeFrom<::google::protobuf::UnknownFieldSet>(
+      from._internal_metadata_);
+}
+
+void StatsResponse::CopyFrom(const StatsResponse& from) {
+  // @@protoc_insertion_point(class_specific_copy_from_start:calculator.StatsResponse)
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+
+void StatsResponse::InternalSwap(StatsResponse* PROTOBUF_RESTRICT PROTOBUF_NONNULL other) {
+  using ::std::swap;
+  _internal_metadata_.InternalSwap(&other->_internal_metadata_);
+  swap(_impl_._has_bits_[0], other->_impl_._has_bits_[0]);
+  ::google::protobuf::internal::memswap<
+      PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.mean_)
+      + sizeof(StatsResponse::_impl_.mean_)
+      - PROTOBUF_FIELD_OFFSET(StatsResponse, _impl_.count_)>(
+          reinterpret_cast<char*>(&_impl_.count_),
+          reinterpret_cast<char*>(&other->_impl_.count_));
+}
+
+::google::protobuf::Metadata StatsResponse::GetMetadata() const {
+  return ::google::protobuf::Message::GetMetadataImpl(GetClassData()->full());
+}
 // @@protoc_insertion_point(namespace_scope)
 }  // namespace calculator
 namespace google {
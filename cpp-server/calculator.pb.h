@@ -28,6 +28,7 @@
 #include "google/protobuf/message_lite.h"
 #include "google/protobuf/repeated_field.h"  // IWYU pragma: export
 #include "google/protobuf/extension_set.h"  // IWYU pragma: export
+#include "google/protobuf/generated_enum_reflection.h"
 #include "google/protobuf/unknown_field_set.h"
 // @@protoc_insertion_point(includes)
 
@@ -53,6 +54,28 @@ extern "C" {
 extern const ::google::protobuf::internal::DescriptorTable descriptor_table_calculator_2eproto;
 }  // extern "C"
 namespace calculator {
+enum Operation : int;
+extern const uint32_t Operation_internal_data_[];
+class BatchOperationRequest;
+struct BatchOperationRequestDefaultTypeInternal;
+extern BatchOperationRequestDefaultTypeInternal _BatchOperationRequest_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull BatchOperationRequest_class_data_;
+class BatchOperationResponse;
+struct BatchOperationResponseDefaultTypeInternal;
+extern BatchOperationResponseDefaultTypeInternal _BatchOperationResponse_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull BatchOperationResponse_class_data_;
+class DoubleChunk;
+struct DoubleChunkDefaultTypeInternal;
+extern DoubleChunkDefaultTypeInternal _DoubleChunk_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull DoubleChunk_class_data_;
+class EvaluateRequest;
+struct EvaluateRequestDefaultTypeInternal;
+extern EvaluateRequestDefaultTypeInternal _EvaluateRequest_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull EvaluateRequest_class_data_;
+class ExecutePreparedRequest;
+struct ExecutePreparedRequestDefaultTypeInternal;
+extern ExecutePreparedRequestDefaultTypeInternal _ExecutePreparedRequest_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull ExecutePreparedRequest_class_data_;
 class OperationRequest;
 struct OperationRequestDefaultTypeInternal;
 extern OperationRequestDefaultTypeInternal _OperationRequest_default_instance_;
@@ -61,43 +84,102 @@ class OperationResponse;
 struct OperationResponseDefaultTypeInternal;
 extern OperationResponseDefaultTypeInternal _OperationResponse_default_instance_;
 extern const ::google::protobuf::internal::ClassDataFull OperationResponse_class_data_;
+class PipelineRequest;
+struct PipelineRequestDefaultTypeInternal;
+extern PipelineRequestDefaultTypeInternal _PipelineRequest_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull PipelineRequest_class_data_;
+class PipelineResponse;
+struct PipelineResponseDefaultTypeInternal;
+extern PipelineResponseDefaultTypeInternal _PipelineResponse_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull PipelineResponse_class_data_;
+class PrepareRequest;
+struct PrepareRequestDefaultTypeInternal;
+extern PrepareRequestDefaultTypeInternal _PrepareRequest_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull PrepareRequest_class_data_;
+class PrepareResponse;
+struct PrepareResponseDefaultTypeInternal;
+extern PrepareResponseDefaultTypeInternal _PrepareResponse_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull PrepareResponse_class_data_;
+class StatsResponse;
+struct StatsResponseDefaultTypeInternal;
+extern StatsResponseDefaultTypeInternal _StatsResponse_default_instance_;
+extern const ::google::protobuf::internal::ClassDataFull StatsResponse_class_data_;
 }  // namespace calculator
 namespace google {
 namespace protobuf {
+template <>
+internal::EnumTraitsT<::calculator::Operation_internal_data_>
+    internal::EnumTraitsImpl::value<::calculator::Operation>;
 }  // namespace protobuf
 }  // namespace google
 
 namespace calculator {
+enum Operation : int {
+  ADD = 0,
+  SUBTRACT = 1,
+  Operation_INT_MIN_SENTINEL_DO_NOT_USE_ =
+      ::std::numeric_limits<::int32_t>::min(),
+  Operation_INT_MAX_SENTINEL_DO_NOT_USE_ =
+      ::std::numeric_limits<::int32_t>::max(),
+};
+
+extern const uint32_t Operation_internal_data_[];
+inline constexpr Operation Operation_MIN =
+    static_cast<Operation>(0);
+inline constexpr Operation Operation_MAX =
+    static_cast<Operation>(1);
+inline bool Operation_IsValid(int value) {
+  return 0 <= value && value <= 1;
+}
+inline constexpr int Operation_ARRAYSIZE = 1 + 1;
+const ::google::protobuf::EnumDescriptor* PROTOBUF_NONNULL Operation_descriptor();
+template <typename T>
+const ::std::string& Operation_Name(T value) {
+  static_assert(::std::is_same<T, Operation>::value ||
+                    ::std::is_integral<T>::value,
+                "Incorrect type passed to Operation_Name().");
+  return Operation_Name(static_cast<Operation>(value));
+}
+template <>
+inline const ::std::string& Operation_Name(Operation value) {
+  return ::google::protobuf::internal::NameOfDenseEnum<Operation_descriptor, 0, 1>(
+      static_cast<int>(value));
+}
+inline bool Operation_Parse(
+    ::absl::string_view name, Operation* PROTOBUF_NONNULL value) {
+  return ::google::protobuf::internal::ParseNamedEnum<Operation>(Operation_descriptor(), name,
+                                           value);
+}
 
 // ===================================================================
 
 
 // -------------------------------------------------------------------
 
-class OperationResponse final : public ::google::protobuf::Message
-/* @@protoc_insertion_point(class_definition:calculator.OperationResponse) */ {
+class StatsResponse final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.StatsResponse) */ {
  public:
-  inline OperationResponse() : OperationResponse(nullptr) {}
-  ~OperationResponse() PROTOBUF_FINAL;
+  inline StatsResponse() : StatsResponse(nullptr) {}
+  ~StatsResponse() PROTOBUF_FINAL;
 
 #if defined(PROTOBUF_CUSTOM_VTABLE)
-  void operator delete(OperationResponse* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+  void operator delete(StatsResponse* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
     SharedDtor(*msg);
-    ::google::protobuf::internal::SizedDelete(msg, sizeof(OperationResponse));
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(StatsResponse));
   }
 #endif
 
   template <typename = void>
-  explicit PROTOBUF_CONSTEXPR OperationResponse(::google::protobuf::internal::ConstantInitialized);
+  explicit PROTOBUF_CONSTEXPR StatsResponse(::google::protobuf::internal::ConstantInitialized);
 
-  inline OperationResponse(const OperationResponse& from) : OperationResponse(nullptr, from) {}
-  inline OperationResponse(OperationResponse&& from) noexcept
-      : OperationResponse(nullptr, ::std::move(from)) {}
-  inline OperationResponse& operator=(const OperationResponse& from) {
+  inline StatsResponse(const StatsResponse& from) : StatsResponse(nullptr, from) {}
+  inline StatsResponse(StatsResponse&& from) noexcept
+      : StatsResponse(nullptr, ::std::move(from)) {}
+  inline StatsResponse& operator=(const StatsResponse& from) {
     CopyFrom(from);
     return *this;
   }
-  inline OperationResponse& operator=(OperationResponse&& from) noexcept {
+  inline StatsResponse& operator=(StatsResponse&& from) noexcept {
     if (this == &from) return *this;
     if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
       InternalSwap(&from);
@@ -125,13 +207,13 @@ class OperationResponse final : public ::google::protobuf::Message
   static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
     return default_instance().GetMetadata().reflection;
   }
-  static const OperationResponse& default_instance() {
-    return *reinterpret_cast<const OperationResponse*>(
-        &_OperationResponse_default_instance_);
+  static const StatsResponse& default_instance() {
+    return *reinterpret_cast<const StatsResponse*>(
+        &_StatsResponse_default_instance_);
   }
-  static constexpr int kIndexInFileMessages = 1;
-  friend void swap(OperationResponse& a, OperationResponse& b) { a.Swap(&b); }
-  inline void Swap(OperationResponse* PROTOBUF_NONNULL other) {
+  static constexpr int kIndexInFileMessages = 11;
+  friend void swap(StatsResponse& a, StatsResponse& b) { a.Swap(&b); }
+  inline void Swap(StatsResponse* PROTOBUF_NONNULL other) {
     if (other == this) return;
     if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
       InternalSwap(other);
@@ -139,7 +221,7 @@ class OperationResponse final : public ::google::protobuf::Message
       ::google::protobuf::internal::GenericSwap(this, other);
     }
   }
-  void UnsafeArenaSwap(OperationResponse* PROTOBUF_NONNULL other) {
+  void UnsafeArenaSwap(StatsResponse* PROTOBUF_NONNULL other) {
     if (other == this) return;
     ABSL_DCHECK(GetArena() == other->GetArena());
     InternalSwap(other);
@@ -147,13 +229,13 @@ class OperationResponse final : public ::google::protobuf::Message
 
   // implements Message ----------------------------------------------
 
-  OperationResponse* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
-    return ::google::protobuf::Message::DefaultConstruct<OperationResponse>(arena);
+  StatsResponse* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<StatsResponse>(arena);
   }
   using ::google::protobuf::Message::CopyFrom;
-  void CopyFrom(const OperationResponse& from);
+  void CopyFrom(const StatsResponse& from);
   using ::google::protobuf::Message::MergeFrom;
-  void MergeFrom(const OperationResponse& from) { OperationResponse::MergeImpl(*this, from); }
+  void MergeFrom(const StatsResponse& from) { StatsResponse::MergeImpl(*this, from); }
 
   private:
   static void MergeImpl(::google::protobuf::MessageLite& to_msg,
@@ -189,17 +271,17 @@ class OperationResponse final : public ::google::protobuf::Message
   private:
   void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
   static void SharedDtor(MessageLite& self);
-  void InternalSwap(OperationResponse* PROTOBUF_NONNULL other);
+  void InternalSwap(StatsResponse* PROTOBUF_NONNULL other);
  private:
   template <typename T>
   friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
-  static ::absl::string_view FullMessageName() { return "calculator.OperationResponse"; }
+  static ::absl::string_view FullMessageName() { return "calculator.StatsResponse"; }
 
-  explicit OperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
-  OperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const OperationResponse& from);
-  OperationResponse(
-      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, OperationResponse&& from) noexcept
-      : OperationResponse(arena) {
+  explicit StatsResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  StatsResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const StatsResponse& from);
+  StatsResponse(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, StatsResponse&& from) noexcept
+      : StatsResponse(arena) {
     *this = ::std::move(from);
   }
   const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
@@ -216,23 +298,67 @@ class OperationResponse final : public ::google::protobuf::Message
 
   // accessors -------------------------------------------------------
   enum : int {
-    kResultFieldNumber = 1,
+    kCountFieldNumber = 1,
+    kSumFieldNumber = 2,
+    kMinFieldNumber = 3,
+    kMaxFieldNumber = 4,
+    kMeanFieldNumber = 5,
   };
-  // double result = 1;
-  void clear_result() ;
-  double result() const;
-  void set_result(double value);
+  // uint64 count = 1;
+  void clear_count() ;
+  ::uint64_t count() const;
+  void set_count(::uint64_t value);
 
   private:
-  double _internal_result() const;
-  void _internal_set_result(double value);
+  ::uint64_t _internal_count() const;
+  void _internal_set_count(::uint64_t value);
 
   public:
-  // @@protoc_insertion_point(class_scope:calculator.OperationResponse)
+  // double sum = 2;
+  void clear_sum() ;
+  double sum() const;
+  void set_sum(double value);
+
+  private:
+  double _internal_sum() const;
+  void _internal_set_sum(double value);
+
+  public:
+  // double min = 3;
+  void clear_min() ;
+  double min() const;
+  void set_min(double value);
+
+  private:
+  double _internal_min() const;
+  void _internal_set_min(double value);
+
+  public:
+  // double max = 4;
+  void clear_max() ;
+  double max() const;
+  void set_max(double value);
+
+  private:
+  double _internal_max() const;
+  void _internal_set_max(double value);
+
+  public:
+  // double mean = 5;
+  void clear_mean() ;
+  double mean() const;
+  void set_mean(double value);
+
+  private:
+  double _internal_mean() const;
+  void _internal_set_mean(double value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.StatsResponse)
  private:
   class _Internal;
   friend class ::google::protobuf::internal::TcParser;
-  static const ::google::protobuf::internal::TcParseTable<0, 1,
+  static const ::google::protobuf::internal::TcParseTable<3, 5,
                                    0, 0,
                                    2>
       _table_;
@@ -251,43 +377,47 @@ class OperationResponse final : public ::google::protobuf::Message
     inline explicit Impl_(
         ::google::protobuf::internal::InternalVisibility visibility,
         ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
-        const OperationResponse& from_msg);
+        const StatsResponse& from_msg);
     ::google::protobuf::internal::HasBits<1> _has_bits_;
     ::google::protobuf::internal::CachedSize _cached_size_;
-    double result_;
+    ::uint64_t count_;
+    double sum_;
+    double min_;
+    double max_;
+    double mean_;
     PROTOBUF_TSAN_DECLARE_MEMBER
   };
   union { Impl_ _impl_; };
   friend struct ::TableStruct_calculator_2eproto;
 };
 
-extern const ::google::protobuf::internal::ClassDataFull OperationResponse_class_data_;
+extern const ::google::protobuf::internal::ClassDataFull StatsResponse_class_data_;
 // -------------------------------------------------------------------
 
-class OperationRequest final : public ::google::protobuf::Message
-/* @@protoc_insertion_point(class_definition:calculator.OperationRequest) */ {
+class PrepareResponse final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.PrepareResponse) */ {
  public:
-  inline OperationRequest() : OperationRequest(nullptr) {}
-  ~OperationRequest() PROTOBUF_FINAL;
+  inline PrepareResponse() : PrepareResponse(nullptr) {}
+  ~PrepareResponse() PROTOBUF_FINAL;
 
 #if defined(PROTOBUF_CUSTOM_VTABLE)
-  void operator delete(OperationRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+  void operator delete(PrepareResponse* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
     SharedDtor(*msg);
-    ::google::protobuf::internal::SizedDelete(msg, sizeof(OperationRequest));
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(PrepareResponse));
   }
 #endif
 
   template <typename = void>
-  explicit PROTOBUF_CONSTEXPR OperationRequest(::google::protobuf::internal::ConstantInitialized);
+  explicit PROTOBUF_CONSTEXPR PrepareResponse(::google::protobuf::internal::ConstantInitialized);
 
-  inline OperationRequest(const OperationRequest& from) : OperationRequest(nullptr, from) {}
-  inline OperationRequest(OperationRequest&& from) noexcept
-      : OperationRequest(nullptr, ::std::move(from)) {}
-  inline OperationRequest& operator=(const OperationRequest& from) {
+  inline PrepareResponse(const PrepareResponse& from) : PrepareResponse(nullptr, from) {}
+  inline PrepareResponse(PrepareResponse&& from) noexcept
+      : PrepareResponse(nullptr, ::std::move(from)) {}
+  inline PrepareResponse& operator=(const PrepareResponse& from) {
     CopyFrom(from);
     return *this;
   }
-  inline OperationRequest& operator=(OperationRequest&& from) noexcept {
+  inline PrepareResponse& operator=(PrepareResponse&& from) noexcept {
     if (this == &from) return *this;
     if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
       InternalSwap(&from);
@@ -315,13 +445,13 @@ class OperationRequest final : public ::google::protobuf::Message
   static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
     return default_instance().GetMetadata().reflection;
   }
-  static const OperationRequest& default_instance() {
-    return *reinterpret_cast<const OperationRequest*>(
-        &_OperationRequest_default_instance_);
+  static const PrepareResponse& default_instance() {
+    return *reinterpret_cast<const PrepareResponse*>(
+        &_PrepareResponse_default_instance_);
   }
-  static constexpr int kIndexInFileMessages = 0;
-  friend void swap(OperationRequest& a, OperationRequest& b) { a.Swap(&b); }
-  inline void Swap(OperationRequest* PROTOBUF_NONNULL other) {
+  static constexpr int kIndexInFileMessages = 8;
+  friend void swap(PrepareResponse& a, PrepareResponse& b) { a.Swap(&b); }
+  inline void Swap(PrepareResponse* PROTOBUF_NONNULL other) {
     if (other == this) return;
     if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
       InternalSwap(other);
@@ -329,7 +459,7 @@ class OperationRequest final : public ::google::protobuf::Message
       ::google::protobuf::internal::GenericSwap(this, other);
     }
   }
-  void UnsafeArenaSwap(OperationRequest* PROTOBUF_NONNULL other) {
+  void UnsafeArenaSwap(PrepareResponse* PROTOBUF_NONNULL other) {
     if (other == this) return;
     ABSL_DCHECK(GetArena() == other->GetArena());
     InternalSwap(other);
@@ -337,13 +467,13 @@ class OperationRequest final : public ::google::protobuf::Message
 
   // implements Message ----------------------------------------------
 
-  OperationRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
-    return ::google::protobuf::Message::DefaultConstruct<OperationRequest>(arena);
+  PrepareResponse* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<PrepareResponse>(arena);
   }
   using ::google::protobuf::Message::CopyFrom;
-  void CopyFrom(const OperationRequest& from);
+  void CopyFrom(const PrepareResponse& from);
   using ::google::protobuf::Message::MergeFrom;
-  void MergeFrom(const OperationRequest& from) { OperationRequest::MergeImpl(*this, from); }
+  void MergeFrom(const PrepareResponse& from) { PrepareResponse::MergeImpl(*this, from); }
 
   private:
   static void MergeImpl(::google::protobuf::MessageLite& to_msg,
@@ -379,17 +509,17 @@ class OperationRequest final : public ::google::protobuf::Message
   private:
   void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
   static void SharedDtor(MessageLite& self);
-  void InternalSwap(OperationRequest* PROTOBUF_NONNULL other);
+  void InternalSwap(PrepareResponse* PROTOBUF_NONNULL other);
  private:
   template <typename T>
   friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
-  static ::absl::string_view FullMessageName() { return "calculator.OperationRequest"; }
+  static ::absl::string_view FullMessageName() { return "calculator.PrepareResponse"; }
 
-  explicit OperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
-  OperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const OperationRequest& from);
-  OperationRequest(
-      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, OperationRequest&& from) noexcept
-      : OperationRequest(arena) {
+  explicit PrepareResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  PrepareResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PrepareResponse& from);
+  PrepareResponse(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, PrepareResponse&& from) noexcept
+      : PrepareResponse(arena) {
     *this = ::std::move(from);
   }
   const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
@@ -406,34 +536,23 @@ class OperationRequest final : public ::google::protobuf::Message
 
   // accessors -------------------------------------------------------
   enum : int {
-    kNumber1FieldNumber = 1,
-    kNumber2FieldNumber = 2,
+    kHandleFieldNumber = 1,
   };
-  // double number1 = 1;
-  void clear_number1() ;
-  double number1() const;
-  void set_number1(double value);
-
-  private:
-  double _internal_number1() const;
-  void _internal_set_number1(double value);
-
-  public:
-  // double number2 = 2;
-  void clear_number2() ;
-  double number2() const;
-  void set_number2(double value);
+  // fixed64 handle = 1;
+  void clear_handle() ;
+  ::uint64_t handle() const;
+  void set_handle(::uint64_t value);
 
   private:
-  double _internal_number2() const;
-  void _internal_set_number2(double value);
+  ::uint64_t _internal_handle() const;
+  void _internal_set_handle(::uint64_t value);
 
   public:
-  // @@protoc_insertion_point(class_scope:calculator.OperationRequest)
+  // @@protoc_insertion_point(class_scope:calculator.PrepareResponse)
  private:
   class _Internal;
   friend class ::google::protobuf::internal::TcParser;
-  static const ::google::protobuf::internal::TcParseTable<1, 2,
+  static const ::google::protobuf::internal::TcParseTable<0, 1,
                                    0, 0,
                                    2>
       _table_;
@@ -452,112 +571,3137 @@ class OperationRequest final : public ::google::protobuf::Message
     inline explicit Impl_(
         ::google::protobuf::internal::InternalVisibility visibility,
         ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
-        const OperationRequest& from_msg);
+        const PrepareResponse& from_msg);
     ::google::protobuf::internal::HasBits<1> _has_bits_;
     ::google::protobuf::internal::CachedSize _cached_size_;
-    double number1_;
-    double number2_;
+    ::uint64_t handle_;
     PROTOBUF_TSAN_DECLARE_MEMBER
   };
   union { Impl_ _impl_; };
   friend struct ::TableStruct_calculator_2eproto;
 };
 
-extern const ::google::protobuf::internal::ClassDataFull OperationRequest_class_data_;
+extern const ::google::protobuf::internal::ClassDataFull PrepareResponse_class_data_;
+// -------------------------------------------------------------------
 
-// ===================================================================
+class PrepareRequest final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.PrepareRequest) */ {
+ public:
+  inline PrepareRequest() : PrepareRequest(nullptr) {}
+  ~PrepareRequest() PROTOBUF_FINAL;
 
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(PrepareRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(PrepareRequest));
+  }
+#endif
 
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR PrepareRequest(::google::protobuf::internal::ConstantInitialized);
 
+  inline PrepareRequest(const PrepareRequest& from) : PrepareRequest(nullptr, from) {}
+  inline PrepareRequest(PrepareRequest&& from) noexcept
+      : PrepareRequest(nullptr, ::std::move(from)) {}
+  inline PrepareRequest& operator=(const PrepareRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline PrepareRequest& operator=(PrepareRequest&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
 
-// ===================================================================
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
 
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const PrepareRequest& default_instance() {
+    return *reinterpret_cast<const PrepareRequest*>(
+        &_PrepareRequest_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 7;
+  friend void swap(PrepareRequest& a, PrepareRequest& b) { a.Swap(&b); }
+  inline void Swap(PrepareRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(PrepareRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
 
-#ifdef __GNUC__
-#pragma GCC diagnostic push
-#pragma GCC diagnostic ignored "-Wstrict-aliasing"
-#endif  // __GNUC__
-// -------------------------------------------------------------------
+  // implements Message ----------------------------------------------
 
-// OperationRequest
+  PrepareRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<PrepareRequest>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const PrepareRequest& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const PrepareRequest& from) { PrepareRequest::MergeImpl(*this, from); }
 
-// double number1 = 1;
-inline void OperationRequest::clear_number1() {
-  ::google::protobuf::internal::TSanWrite(&_impl_);
-  _impl_.number1_ = 0;
-  ClearHasBit(_impl_._has_bits_[0],
-                  0x00000001U);
-}
-inline double OperationRequest::number1() const {
-  // @@protoc_insertion_point(field_get:calculator.OperationRequest.number1)
-  return _internal_number1();
-}
-inline void OperationRequest::set_number1(double value) {
-  _internal_set_number1(value);
-  SetHasBit(_impl_._has_bits_[0], 0x00000001U);
-  // @@protoc_insertion_point(field_set:calculator.OperationRequest.number1)
-}
-inline double OperationRequest::_internal_number1() const {
-  ::google::protobuf::internal::TSanRead(&_impl_);
-  return _impl_.number1_;
-}
-inline void OperationRequest::_internal_set_number1(double value) {
-  ::google::protobuf::internal::TSanWrite(&_impl_);
-  _impl_.number1_ = value;
-}
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
 
-// double number2 = 2;
-inline void OperationRequest::clear_number2() {
-  ::google::protobuf::internal::TSanWrite(&_impl_);
-  _impl_.number2_ = 0;
-  ClearHasBit(_impl_._has_bits_[0],
-                  0x00000002U);
-}
-inline double OperationRequest::number2() const {
-  // @@protoc_insertion_point(field_get:calculator.OperationRequest.number2)
-  return _internal_number2();
-}
-inline void OperationRequest::set_number2(double value) {
-  _internal_set_number2(value);
-  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
-  // @@protoc_insertion_point(field_set:calculator.OperationRequest.number2)
-}
-inline double OperationRequest::_internal_number2() const {
-  ::google::protobuf::internal::TSanRead(&_impl_);
-  return _impl_.number2_;
-}
-inline void OperationRequest::_internal_set_number2(double value) {
-  ::google::protobuf::internal::TSanWrite(&_impl_);
-  _impl_.number2_ = value;
-}
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
 
-// -------------------------------------------------------------------
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(PrepareRequest* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.PrepareRequest"; }
+
+  explicit PrepareRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  PrepareRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PrepareRequest& from);
+  PrepareRequest(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, PrepareRequest&& from) noexcept
+      : PrepareRequest(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kConstantsFieldNumber = 2,
+    kCodeFieldNumber = 1,
+    kVariableCountFieldNumber = 3,
+  };
+  // repeated double constants = 2;
+  int constants_size() const;
+  private:
+  int _internal_constants_size() const;
+
+  public:
+  void clear_constants() ;
+  double constants(int index) const;
+  void set_constants(int index, double value);
+  void add_constants(double value);
+  const ::google::protobuf::RepeatedField<double>& constants() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_constants();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_constants() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_constants();
+
+  public:
+  // bytes code = 1;
+  void clear_code() ;
+  const ::std::string& code() const;
+  template <typename Arg_ = const ::std::string&, typename... Args_>
+  void set_code(Arg_&& arg, Args_... args);
+  ::std::string* PROTOBUF_NONNULL mutable_code();
+  [[nodiscard]] ::std::string* PROTOBUF_NULLABLE release_code();
+  void set_allocated_code(::std::string* PROTOBUF_NULLABLE value);
+
+  private:
+  const ::std::string& _internal_code() const;
+  PROTOBUF_ALWAYS_INLINE void _internal_set_code(const ::std::string& value);
+  ::std::string* PROTOBUF_NONNULL _internal_mutable_code();
+
+  public:
+  // uint32 variable_count = 3;
+  void clear_variable_count() ;
+  ::uint32_t variable_count() const;
+  void set_variable_count(::uint32_t value);
+
+  private:
+  ::uint32_t _internal_variable_count() const;
+  void _internal_set_variable_count(::uint32_t value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.PrepareRequest)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<2, 3,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const PrepareRequest& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::google::protobuf::RepeatedField<double> constants_;
+    ::google::protobuf::internal::ArenaStringPtr code_;
+    ::uint32_t variable_count_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull PrepareRequest_class_data_;
+// -------------------------------------------------------------------
+
+class PipelineResponse final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.PipelineResponse) */ {
+ public:
+  inline PipelineResponse() : PipelineResponse(nullptr) {}
+  ~PipelineResponse() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(PipelineResponse* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(PipelineResponse));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR PipelineResponse(::google::protobuf::internal::ConstantInitialized);
+
+  inline PipelineResponse(const PipelineResponse& from) : PipelineResponse(nullptr, from) {}
+  inline PipelineResponse(PipelineResponse&& from) noexcept
+      : PipelineResponse(nullptr, ::std::move(from)) {}
+  inline PipelineResponse& operator=(const PipelineResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline PipelineResponse& operator=(PipelineResponse&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const PipelineResponse& default_instance() {
+    return *reinterpret_cast<const PipelineResponse*>(
+        &_PipelineResponse_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 3;
+  friend void swap(PipelineResponse& a, PipelineResponse& b) { a.Swap(&b); }
+  inline void Swap(PipelineResponse* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(PipelineResponse* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  PipelineResponse* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<PipelineResponse>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const PipelineResponse& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const PipelineResponse& from) { PipelineResponse::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(PipelineResponse* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.PipelineResponse"; }
+
+  explicit PipelineResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  PipelineResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PipelineResponse& from);
+  PipelineResponse(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, PipelineResponse&& from) noexcept
+      : PipelineResponse(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kIdFieldNumber = 1,
+    kResultFieldNumber = 2,
+  };
+  // uint64 id = 1;
+  void clear_id() ;
+  ::uint64_t id() const;
+  void set_id(::uint64_t value);
+
+  private:
+  ::uint64_t _internal_id() const;
+  void _internal_set_id(::uint64_t value);
+
+  public:
+  // double result = 2;
+  void clear_result() ;
+  double result() const;
+  void set_result(double value);
+
+  private:
+  double _internal_result() const;
+  void _internal_set_result(double value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.PipelineResponse)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<1, 2,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const PipelineResponse& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::uint64_t id_;
+    double result_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull PipelineResponse_class_data_;
+// -------------------------------------------------------------------
+
+class PipelineRequest final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.PipelineRequest) */ {
+ public:
+  inline PipelineRequest() : PipelineRequest(nullptr) {}
+  ~PipelineRequest() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(PipelineRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(PipelineRequest));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR PipelineRequest(::google::protobuf::internal::ConstantInitialized);
+
+  inline PipelineRequest(const PipelineRequest& from) : PipelineRequest(nullptr, from) {}
+  inline PipelineRequest(PipelineRequest&& from) noexcept
+      : PipelineRequest(nullptr, ::std::move(from)) {}
+  inline PipelineRequest& operator=(const PipelineRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline PipelineRequest& operator=(PipelineRequest&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const PipelineRequest& default_instance() {
+    return *reinterpret_cast<const PipelineRequest*>(
+        &_PipelineRequest_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 2;
+  friend void swap(PipelineRequest& a, PipelineRequest& b) { a.Swap(&b); }
+  inline void Swap(PipelineRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(PipelineRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  PipelineRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<PipelineRequest>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const PipelineRequest& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const PipelineRequest& from) { PipelineRequest::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(PipelineRequest* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.PipelineRequest"; }
+
+  explicit PipelineRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  PipelineRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const PipelineRequest& from);
+  PipelineRequest(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, PipelineRequest&& from) noexcept
+      : PipelineRequest(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kIdFieldNumber = 1,
+    kNumber1FieldNumber = 3,
+    kNumber2FieldNumber = 4,
+    kOperationFieldNumber = 2,
+  };
+  // uint64 id = 1;
+  void clear_id() ;
+  ::uint64_t id() const;
+  void set_id(::uint64_t value);
+
+  private:
+  ::uint64_t _internal_id() const;
+  void _internal_set_id(::uint64_t value);
+
+  public:
+  // double number1 = 3;
+  void clear_number1() ;
+  double number1() const;
+  void set_number1(double value);
+
+  private:
+  double _internal_number1() const;
+  void _internal_set_number1(double value);
+
+  public:
+  // double number2 = 4;
+  void clear_number2() ;
+  double number2() const;
+  void set_number2(double value);
+
+  private:
+  double _internal_number2() const;
+  void _internal_set_number2(double value);
+
+  public:
+  // .calculator.Operation operation = 2;
+  void clear_operation() ;
+  ::calculator::Operation operation() const;
+  void set_operation(::calculator::Operation value);
+
+  private:
+  ::calculator::Operation _internal_operation() const;
+  void _internal_set_operation(::calculator::Operation value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.PipelineRequest)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<2, 4,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const PipelineRequest& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::uint64_t id_;
+    double number1_;
+    double number2_;
+    int operation_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull PipelineRequest_class_data_;
+// -------------------------------------------------------------------
+
+class OperationResponse final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.OperationResponse) */ {
+ public:
+  inline OperationResponse() : OperationResponse(nullptr) {}
+  ~OperationResponse() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(OperationResponse* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(OperationResponse));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR OperationResponse(::google::protobuf::internal::ConstantInitialized);
+
+  inline OperationResponse(const OperationResponse& from) : OperationResponse(nullptr, from) {}
+  inline OperationResponse(OperationResponse&& from) noexcept
+      : OperationResponse(nullptr, ::std::move(from)) {}
+  inline OperationResponse& operator=(const OperationResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline OperationResponse& operator=(OperationResponse&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const OperationResponse& default_instance() {
+    return *reinterpret_cast<const OperationResponse*>(
+        &_OperationResponse_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 1;
+  friend void swap(OperationResponse& a, OperationResponse& b) { a.Swap(&b); }
+  inline void Swap(OperationResponse* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(OperationResponse* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  OperationResponse* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<OperationResponse>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const OperationResponse& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const OperationResponse& from) { OperationResponse::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(OperationResponse* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.OperationResponse"; }
+
+  explicit OperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  OperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const OperationResponse& from);
+  OperationResponse(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, OperationResponse&& from) noexcept
+      : OperationResponse(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kResultFieldNumber = 1,
+  };
+  // double result = 1;
+  void clear_result() ;
+  double result() const;
+  void set_result(double value);
+
+  private:
+  double _internal_result() const;
+  void _internal_set_result(double value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.OperationResponse)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<0, 1,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const OperationResponse& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    double result_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull OperationResponse_class_data_;
+// -------------------------------------------------------------------
+
+class OperationRequest final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.OperationRequest) */ {
+ public:
+  inline OperationRequest() : OperationRequest(nullptr) {}
+  ~OperationRequest() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(OperationRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(OperationRequest));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR OperationRequest(::google::protobuf::internal::ConstantInitialized);
+
+  inline OperationRequest(const OperationRequest& from) : OperationRequest(nullptr, from) {}
+  inline OperationRequest(OperationRequest&& from) noexcept
+      : OperationRequest(nullptr, ::std::move(from)) {}
+  inline OperationRequest& operator=(const OperationRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline OperationRequest& operator=(OperationRequest&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const OperationRequest& default_instance() {
+    return *reinterpret_cast<const OperationRequest*>(
+        &_OperationRequest_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 0;
+  friend void swap(OperationRequest& a, OperationRequest& b) { a.Swap(&b); }
+  inline void Swap(OperationRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(OperationRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  OperationRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<OperationRequest>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const OperationRequest& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const OperationRequest& from) { OperationRequest::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(OperationRequest* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.OperationRequest"; }
+
+  explicit OperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  OperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const OperationRequest& from);
+  OperationRequest(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, OperationRequest&& from) noexcept
+      : OperationRequest(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kNumber1FieldNumber = 1,
+    kNumber2FieldNumber = 2,
+  };
+  // double number1 = 1;
+  void clear_number1() ;
+  double number1() const;
+  void set_number1(double value);
+
+  private:
+  double _internal_number1() const;
+  void _internal_set_number1(double value);
+
+  public:
+  // double number2 = 2;
+  void clear_number2() ;
+  double number2() const;
+  void set_number2(double value);
+
+  private:
+  double _internal_number2() const;
+  void _internal_set_number2(double value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.OperationRequest)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<1, 2,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const OperationRequest& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    double number1_;
+    double number2_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull OperationRequest_class_data_;
+// -------------------------------------------------------------------
+
+class ExecutePreparedRequest final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.ExecutePreparedRequest) */ {
+ public:
+  inline ExecutePreparedRequest() : ExecutePreparedRequest(nullptr) {}
+  ~ExecutePreparedRequest() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(ExecutePreparedRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(ExecutePreparedRequest));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR ExecutePreparedRequest(::google::protobuf::internal::ConstantInitialized);
+
+  inline ExecutePreparedRequest(const ExecutePreparedRequest& from) : ExecutePreparedRequest(nullptr, from) {}
+  inline ExecutePreparedRequest(ExecutePreparedRequest&& from) noexcept
+      : ExecutePreparedRequest(nullptr, ::std::move(from)) {}
+  inline ExecutePreparedRequest& operator=(const ExecutePreparedRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline ExecutePreparedRequest& operator=(ExecutePreparedRequest&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const ExecutePreparedRequest& default_instance() {
+    return *reinterpret_cast<const ExecutePreparedRequest*>(
+        &_ExecutePreparedRequest_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 9;
+  friend void swap(ExecutePreparedRequest& a, ExecutePreparedRequest& b) { a.Swap(&b); }
+  inline void Swap(ExecutePreparedRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(ExecutePreparedRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  ExecutePreparedRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<ExecutePreparedRequest>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const ExecutePreparedRequest& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const ExecutePreparedRequest& from) { ExecutePreparedRequest::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(ExecutePreparedRequest* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.ExecutePreparedRequest"; }
+
+  explicit ExecutePreparedRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  ExecutePreparedRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const ExecutePreparedRequest& from);
+  ExecutePreparedRequest(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, ExecutePreparedRequest&& from) noexcept
+      : ExecutePreparedRequest(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kVariablesFieldNumber = 2,
+    kHandleFieldNumber = 1,
+  };
+  // repeated double variables = 2;
+  int variables_size() const;
+  private:
+  int _internal_variables_size() const;
+
+  public:
+  void clear_variables() ;
+  double variables(int index) const;
+  void set_variables(int index, double value);
+  void add_variables(double value);
+  const ::google::protobuf::RepeatedField<double>& variables() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_variables();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_variables() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_variables();
+
+  public:
+  // fixed64 handle = 1;
+  void clear_handle() ;
+  ::uint64_t handle() const;
+  void set_handle(::uint64_t value);
+
+  private:
+  ::uint64_t _internal_handle() const;
+  void _internal_set_handle(::uint64_t value);
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.ExecutePreparedRequest)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<1, 2,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const ExecutePreparedRequest& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::google::protobuf::RepeatedField<double> variables_;
+    ::uint64_t handle_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull ExecutePreparedRequest_class_data_;
+// -------------------------------------------------------------------
+
+class EvaluateRequest final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.EvaluateRequest) */ {
+ public:
+  inline EvaluateRequest() : EvaluateRequest(nullptr) {}
+  ~EvaluateRequest() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(EvaluateRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(EvaluateRequest));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR EvaluateRequest(::google::protobuf::internal::ConstantInitialized);
+
+  inline EvaluateRequest(const EvaluateRequest& from) : EvaluateRequest(nullptr, from) {}
+  inline EvaluateRequest(EvaluateRequest&& from) noexcept
+      : EvaluateRequest(nullptr, ::std::move(from)) {}
+  inline EvaluateRequest& operator=(const EvaluateRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline EvaluateRequest& operator=(EvaluateRequest&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const EvaluateRequest& default_instance() {
+    return *reinterpret_cast<const EvaluateRequest*>(
+        &_EvaluateRequest_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 6;
+  friend void swap(EvaluateRequest& a, EvaluateRequest& b) { a.Swap(&b); }
+  inline void Swap(EvaluateRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(EvaluateRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  EvaluateRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<EvaluateRequest>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const EvaluateRequest& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const EvaluateRequest& from) { EvaluateRequest::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(EvaluateRequest* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.EvaluateRequest"; }
+
+  explicit EvaluateRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  EvaluateRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const EvaluateRequest& from);
+  EvaluateRequest(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, EvaluateRequest&& from) noexcept
+      : EvaluateRequest(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kConstantsFieldNumber = 2,
+    kVariablesFieldNumber = 3,
+    kCodeFieldNumber = 1,
+  };
+  // repeated double constants = 2;
+  int constants_size() const;
+  private:
+  int _internal_constants_size() const;
+
+  public:
+  void clear_constants() ;
+  double constants(int index) const;
+  void set_constants(int index, double value);
+  void add_constants(double value);
+  const ::google::protobuf::RepeatedField<double>& constants() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_constants();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_constants() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_constants();
+
+  public:
+  // repeated double variables = 3;
+  int variables_size() const;
+  private:
+  int _internal_variables_size() const;
+
+  public:
+  void clear_variables() ;
+  double variables(int index) const;
+  void set_variables(int index, double value);
+  void add_variables(double value);
+  const ::google::protobuf::RepeatedField<double>& variables() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_variables();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_variables() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_variables();
+
+  public:
+  // bytes code = 1;
+  void clear_code() ;
+  const ::std::string& code() const;
+  template <typename Arg_ = const ::std::string&, typename... Args_>
+  void set_code(Arg_&& arg, Args_... args);
+  ::std::string* PROTOBUF_NONNULL mutable_code();
+  [[nodiscard]] ::std::string* PROTOBUF_NULLABLE release_code();
+  void set_allocated_code(::std::string* PROTOBUF_NULLABLE value);
+
+  private:
+  const ::std::string& _internal_code() const;
+  PROTOBUF_ALWAYS_INLINE void _internal_set_code(const ::std::string& value);
+  ::std::string* PROTOBUF_NONNULL _internal_mutable_code();
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.EvaluateRequest)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<2, 3,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const EvaluateRequest& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::google::protobuf::RepeatedField<double> constants_;
+    ::google::protobuf::RepeatedField<double> variables_;
+    ::google::protobuf::internal::ArenaStringPtr code_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull EvaluateRequest_class_data_;
+// -------------------------------------------------------------------
+
+class DoubleChunk final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.DoubleChunk) */ {
+ public:
+  inline DoubleChunk() : DoubleChunk(nullptr) {}
+  ~DoubleChunk() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(DoubleChunk* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(DoubleChunk));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR DoubleChunk(::google::protobuf::internal::ConstantInitialized);
+
+  inline DoubleChunk(const DoubleChunk& from) : DoubleChunk(nullptr, from) {}
+  inline DoubleChunk(DoubleChunk&& from) noexcept
+      : DoubleChunk(nullptr, ::std::move(from)) {}
+  inline DoubleChunk& operator=(const DoubleChunk& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline DoubleChunk& operator=(DoubleChunk&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const DoubleChunk& default_instance() {
+    return *reinterpret_cast<const DoubleChunk*>(
+        &_DoubleChunk_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 10;
+  friend void swap(DoubleChunk& a, DoubleChunk& b) { a.Swap(&b); }
+  inline void Swap(DoubleChunk* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(DoubleChunk* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  DoubleChunk* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<DoubleChunk>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const DoubleChunk& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const DoubleChunk& from) { DoubleChunk::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(DoubleChunk* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.DoubleChunk"; }
+
+  explicit DoubleChunk(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  DoubleChunk(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const DoubleChunk& from);
+  DoubleChunk(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, DoubleChunk&& from) noexcept
+      : DoubleChunk(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kValuesFieldNumber = 1,
+  };
+  // repeated double values = 1;
+  int values_size() const;
+  private:
+  int _internal_values_size() const;
+
+  public:
+  void clear_values() ;
+  double values(int index) const;
+  void set_values(int index, double value);
+  void add_values(double value);
+  const ::google::protobuf::RepeatedField<double>& values() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_values();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_values() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_values();
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.DoubleChunk)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<0, 1,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const DoubleChunk& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::google::protobuf::RepeatedField<double> values_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull DoubleChunk_class_data_;
+// -------------------------------------------------------------------
+
+class BatchOperationResponse final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.BatchOperationResponse) */ {
+ public:
+  inline BatchOperationResponse() : BatchOperationResponse(nullptr) {}
+  ~BatchOperationResponse() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(BatchOperationResponse* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(BatchOperationResponse));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR BatchOperationResponse(::google::protobuf::internal::ConstantInitialized);
+
+  inline BatchOperationResponse(const BatchOperationResponse& from) : BatchOperationResponse(nullptr, from) {}
+  inline BatchOperationResponse(BatchOperationResponse&& from) noexcept
+      : BatchOperationResponse(nullptr, ::std::move(from)) {}
+  inline BatchOperationResponse& operator=(const BatchOperationResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline BatchOperationResponse& operator=(BatchOperationResponse&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const BatchOperationResponse& default_instance() {
+    return *reinterpret_cast<const BatchOperationResponse*>(
+        &_BatchOperationResponse_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 5;
+  friend void swap(BatchOperationResponse& a, BatchOperationResponse& b) { a.Swap(&b); }
+  inline void Swap(BatchOperationResponse* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(BatchOperationResponse* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  BatchOperationResponse* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<BatchOperationResponse>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const BatchOperationResponse& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const BatchOperationResponse& from) { BatchOperationResponse::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(BatchOperationResponse* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.BatchOperationResponse"; }
+
+  explicit BatchOperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  BatchOperationResponse(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const BatchOperationResponse& from);
+  BatchOperationResponse(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, BatchOperationResponse&& from) noexcept
+      : BatchOperationResponse(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kResultFieldNumber = 1,
+  };
+  // repeated double result = 1;
+  int result_size() const;
+  private:
+  int _internal_result_size() const;
+
+  public:
+  void clear_result() ;
+  double result(int index) const;
+  void set_result(int index, double value);
+  void add_result(double value);
+  const ::google::protobuf::RepeatedField<double>& result() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_result();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_result() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_result();
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.BatchOperationResponse)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<0, 1,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const BatchOperationResponse& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::google::protobuf::RepeatedField<double> result_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull BatchOperationResponse_class_data_;
+// -------------------------------------------------------------------
+
+class BatchOperationRequest final : public ::google::protobuf::Message
+/* @@protoc_insertion_point(class_definition:calculator.BatchOperationRequest) */ {
+ public:
+  inline BatchOperationRequest() : BatchOperationRequest(nullptr) {}
+  ~BatchOperationRequest() PROTOBUF_FINAL;
+
+#if defined(PROTOBUF_CUSTOM_VTABLE)
+  void operator delete(BatchOperationRequest* PROTOBUF_NONNULL msg, ::std::destroying_delete_t) {
+    SharedDtor(*msg);
+    ::google::protobuf::internal::SizedDelete(msg, sizeof(BatchOperationRequest));
+  }
+#endif
+
+  template <typename = void>
+  explicit PROTOBUF_CONSTEXPR BatchOperationRequest(::google::protobuf::internal::ConstantInitialized);
+
+  inline BatchOperationRequest(const BatchOperationRequest& from) : BatchOperationRequest(nullptr, from) {}
+  inline BatchOperationRequest(BatchOperationRequest&& from) noexcept
+      : BatchOperationRequest(nullptr, ::std::move(from)) {}
+  inline BatchOperationRequest& operator=(const BatchOperationRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+  inline BatchOperationRequest& operator=(BatchOperationRequest&& from) noexcept {
+    if (this == &from) return *this;
+    if (::google::protobuf::internal::CanMoveWithInternalSwap(GetArena(), from.GetArena())) {
+      InternalSwap(&from);
+    } else {
+      CopyFrom(from);
+    }
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.unknown_fields<::google::protobuf::UnknownFieldSet>(::google::protobuf::UnknownFieldSet::default_instance);
+  }
+  inline ::google::protobuf::UnknownFieldSet* PROTOBUF_NONNULL mutable_unknown_fields()
+      ABSL_ATTRIBUTE_LIFETIME_BOUND {
+    return _internal_metadata_.mutable_unknown_fields<::google::protobuf::UnknownFieldSet>();
+  }
+
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL descriptor() {
+    return GetDescriptor();
+  }
+  static const ::google::protobuf::Descriptor* PROTOBUF_NONNULL GetDescriptor() {
+    return default_instance().GetMetadata().descriptor;
+  }
+  static const ::google::protobuf::Reflection* PROTOBUF_NONNULL GetReflection() {
+    return default_instance().GetMetadata().reflection;
+  }
+  static const BatchOperationRequest& default_instance() {
+    return *reinterpret_cast<const BatchOperationRequest*>(
+        &_BatchOperationRequest_default_instance_);
+  }
+  static constexpr int kIndexInFileMessages = 4;
+  friend void swap(BatchOperationRequest& a, BatchOperationRequest& b) { a.Swap(&b); }
+  inline void Swap(BatchOperationRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    if (::google::protobuf::internal::CanUseInternalSwap(GetArena(), other->GetArena())) {
+      InternalSwap(other);
+    } else {
+      ::google::protobuf::internal::GenericSwap(this, other);
+    }
+  }
+  void UnsafeArenaSwap(BatchOperationRequest* PROTOBUF_NONNULL other) {
+    if (other == this) return;
+    ABSL_DCHECK(GetArena() == other->GetArena());
+    InternalSwap(other);
+  }
+
+  // implements Message ----------------------------------------------
+
+  BatchOperationRequest* PROTOBUF_NONNULL New(::google::protobuf::Arena* PROTOBUF_NULLABLE arena = nullptr) const {
+    return ::google::protobuf::Message::DefaultConstruct<BatchOperationRequest>(arena);
+  }
+  using ::google::protobuf::Message::CopyFrom;
+  void CopyFrom(const BatchOperationRequest& from);
+  using ::google::protobuf::Message::MergeFrom;
+  void MergeFrom(const BatchOperationRequest& from) { BatchOperationRequest::MergeImpl(*this, from); }
+
+  private:
+  static void MergeImpl(::google::protobuf::MessageLite& to_msg,
+                        const ::google::protobuf::MessageLite& from_msg);
+
+  public:
+  bool IsInitialized() const {
+    return true;
+  }
+  ABSL_ATTRIBUTE_REINITIALIZES void Clear() PROTOBUF_FINAL;
+  #if defined(PROTOBUF_CUSTOM_VTABLE)
+  private:
+  static ::size_t ByteSizeLong(const ::google::protobuf::MessageLite& msg);
+  static ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      const ::google::protobuf::MessageLite& msg, ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream);
+
+  public:
+  ::size_t ByteSizeLong() const { return ByteSizeLong(*this); }
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const {
+    return _InternalSerialize(*this, target, stream);
+  }
+  #else   // PROTOBUF_CUSTOM_VTABLE
+  ::size_t ByteSizeLong() const final;
+  ::uint8_t* PROTOBUF_NONNULL _InternalSerialize(
+      ::uint8_t* PROTOBUF_NONNULL target,
+      ::google::protobuf::io::EpsCopyOutputStream* PROTOBUF_NONNULL stream) const final;
+  #endif  // PROTOBUF_CUSTOM_VTABLE
+  int GetCachedSize() const { return _impl_._cached_size_.Get(); }
+
+  private:
+  void SharedCtor(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static void SharedDtor(MessageLite& self);
+  void InternalSwap(BatchOperationRequest* PROTOBUF_NONNULL other);
+ private:
+  template <typename T>
+  friend ::absl::string_view(::google::protobuf::internal::GetAnyMessageName)();
+  static ::absl::string_view FullMessageName() { return "calculator.BatchOperationRequest"; }
+
+  explicit BatchOperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  BatchOperationRequest(::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const BatchOperationRequest& from);
+  BatchOperationRequest(
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, BatchOperationRequest&& from) noexcept
+      : BatchOperationRequest(arena) {
+    *this = ::std::move(from);
+  }
+  const ::google::protobuf::internal::ClassData* PROTOBUF_NONNULL GetClassData() const PROTOBUF_FINAL;
+  static void* PROTOBUF_NONNULL PlacementNew_(
+      const void* PROTOBUF_NONNULL, void* PROTOBUF_NONNULL mem,
+      ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+  static constexpr auto InternalNewImpl_();
+
+ public:
+  static constexpr auto InternalGenerateClassData_();
+
+  ::google::protobuf::Metadata GetMetadata() const;
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+  enum : int {
+    kNumber1FieldNumber = 1,
+    kNumber2FieldNumber = 2,
+  };
+  // repeated double number1 = 1;
+  int number1_size() const;
+  private:
+  int _internal_number1_size() const;
+
+  public:
+  void clear_number1() ;
+  double number1(int index) const;
+  void set_number1(int index, double value);
+  void add_number1(double value);
+  const ::google::protobuf::RepeatedField<double>& number1() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_number1();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_number1() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_number1();
+
+  public:
+  // repeated double number2 = 2;
+  int number2_size() const;
+  private:
+  int _internal_number2_size() const;
+
+  public:
+  void clear_number2() ;
+  double number2(int index) const;
+  void set_number2(int index, double value);
+  void add_number2(double value);
+  const ::google::protobuf::RepeatedField<double>& number2() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL mutable_number2();
+
+  private:
+  const ::google::protobuf::RepeatedField<double>& _internal_number2() const;
+  ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL _internal_mutable_number2();
+
+  public:
+  // @@protoc_insertion_point(class_scope:calculator.BatchOperationRequest)
+ private:
+  class _Internal;
+  friend class ::google::protobuf::internal::TcParser;
+  static const ::google::protobuf::internal::TcParseTable<1, 2,
+                                   0, 0,
+                                   2>
+      _table_;
+
+  friend class ::google::protobuf::MessageLite;
+  friend class ::google::protobuf::Arena;
+  template <typename T>
+  friend class ::google::protobuf::Arena::InternalHelper;
+  using InternalArenaConstructable_ = void;
+  using DestructorSkippable_ = void;
+  struct Impl_ {
+    inline explicit constexpr Impl_(::google::protobuf::internal::ConstantInitialized) noexcept;
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena);
+    inline explicit Impl_(
+        ::google::protobuf::internal::InternalVisibility visibility,
+        ::google::protobuf::Arena* PROTOBUF_NULLABLE arena, const Impl_& from,
+        const BatchOperationRequest& from_msg);
+    ::google::protobuf::internal::HasBits<1> _has_bits_;
+    ::google::protobuf::internal::CachedSize _cached_size_;
+    ::google::protobuf::RepeatedField<double> number1_;
+    ::google::protobuf::RepeatedField<double> number2_;
+    PROTOBUF_TSAN_DECLARE_MEMBER
+  };
+  union { Impl_ _impl_; };
+  friend struct ::TableStruct_calculator_2eproto;
+};
+
+extern const ::google::protobuf::internal::ClassDataFull BatchOperationRequest_class_data_;
+
+// ===================================================================
+
+
+
+
+// ===================================================================
+
+
+#ifdef __GNUC__
+#pragma GCC diagnostic push
+#pragma GCC diagnostic ignored "-Wstrict-aliasing"
+#endif  // __GNUC__
+// -------------------------------------------------------------------
+
+// OperationRequest
+
+// double number1 = 1;
+inline void OperationRequest::clear_number1() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number1_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double OperationRequest::number1() const {
+  // @@protoc_insertion_point(field_get:calculator.OperationRequest.number1)
+  return _internal_number1();
+}
+inline void OperationRequest::set_number1(double value) {
+  _internal_set_number1(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_set:calculator.OperationRequest.number1)
+}
+inline double OperationRequest::_internal_number1() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.number1_;
+}
+inline void OperationRequest::_internal_set_number1(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number1_ = value;
+}
+
+// double number2 = 2;
+inline void OperationRequest::clear_number2() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number2_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline double OperationRequest::number2() const {
+  // @@protoc_insertion_point(field_get:calculator.OperationRequest.number2)
+  return _internal_number2();
+}
+inline void OperationRequest::set_number2(double value) {
+  _internal_set_number2(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_set:calculator.OperationRequest.number2)
+}
+inline double OperationRequest::_internal_number2() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.number2_;
+}
+inline void OperationRequest::_internal_set_number2(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number2_ = value;
+}
+
+// -------------------------------------------------------------------
 
 // OperationResponse
 
-// double result = 1;
-inline void OperationResponse::clear_result() {
+// double result = 1;
+inline void OperationResponse::clear_result() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.result_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double OperationResponse::result() const {
+  // @@protoc_insertion_point(field_get:calculator.OperationResponse.result)
+  return _internal_result();
+}
+inline void OperationResponse::set_result(double value) {
+  _internal_set_result(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_set:calculator.OperationResponse.result)
+}
+inline double OperationResponse::_internal_result() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.result_;
+}
+inline void OperationResponse::_internal_set_result(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.result_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// PipelineRequest
+
+// uint64 id = 1;
+inline void PipelineRequest::clear_id() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.id_ = ::uint64_t{0u};
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline ::uint64_t PipelineRequest::id() const {
+  // @@protoc_insertion_point(field_get:calculator.PipelineRequest.id)
+  return _internal_id();
+}
+inline void PipelineRequest::set_id(::uint64_t value) {
+  _internal_set_id(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_set:calculator.PipelineRequest.id)
+}
+inline ::uint64_t PipelineRequest::_internal_id() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.id_;
+}
+inline void PipelineRequest::_internal_set_id(::uint64_t value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.id_ = value;
+}
+
+// .calculator.Operation operation = 2;
+inline void PipelineRequest::clear_operation() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.operation_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000008U);
+}
+inline ::calculator::Operation PipelineRequest::operation() const {
+  // @@protoc_insertion_point(field_get:calculator.PipelineRequest.operation)
+  return _internal_operation();
+}
+inline void PipelineRequest::set_operation(::calculator::Operation value) {
+  _internal_set_operation(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000008U);
+  // @@protoc_insertion_point(field_set:calculator.PipelineRequest.operation)
+}
+inline ::calculator::Operation PipelineRequest::_internal_operation() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return static_cast<::calculator::Operation>(_impl_.operation_);
+}
+inline void PipelineRequest::_internal_set_operation(::calculator::Operation value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.operation_ = value;
+}
+
+// double number1 = 3;
+inline void PipelineRequest::clear_number1() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number1_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline double PipelineRequest::number1() const {
+  // @@protoc_insertion_point(field_get:calculator.PipelineRequest.number1)
+  return _internal_number1();
+}
+inline void PipelineRequest::set_number1(double value) {
+  _internal_set_number1(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_set:calculator.PipelineRequest.number1)
+}
+inline double PipelineRequest::_internal_number1() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.number1_;
+}
+inline void PipelineRequest::_internal_set_number1(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number1_ = value;
+}
+
+// double number2 = 4;
+inline void PipelineRequest::clear_number2() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number2_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000004U);
+}
+inline double PipelineRequest::number2() const {
+  // @@protoc_insertion_point(field_get:calculator.PipelineRequest.number2)
+  return _internal_number2();
+}
+inline void PipelineRequest::set_number2(double value) {
+  _internal_set_number2(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000004U);
+  // @@protoc_insertion_point(field_set:calculator.PipelineRequest.number2)
+}
+inline double PipelineRequest::_internal_number2() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.number2_;
+}
+inline void PipelineRequest::_internal_set_number2(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number2_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// PipelineResponse
+
+// uint64 id = 1;
+inline void PipelineResponse::clear_id() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.id_ = ::uint64_t{0u};
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline ::uint64_t PipelineResponse::id() const {
+  // @@protoc_insertion_point(field_get:calculator.PipelineResponse.id)
+  return _internal_id();
+}
+inline void PipelineResponse::set_id(::uint64_t value) {
+  _internal_set_id(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_set:calculator.PipelineResponse.id)
+}
+inline ::uint64_t PipelineResponse::_internal_id() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.id_;
+}
+inline void PipelineResponse::_internal_set_id(::uint64_t value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.id_ = value;
+}
+
+// double result = 2;
+inline void PipelineResponse::clear_result() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.result_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline double PipelineResponse::result() const {
+  // @@protoc_insertion_point(field_get:calculator.PipelineResponse.result)
+  return _internal_result();
+}
+inline void PipelineResponse::set_result(double value) {
+  _internal_set_result(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_set:calculator.PipelineResponse.result)
+}
+inline double PipelineResponse::_internal_result() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.result_;
+}
+inline void PipelineResponse::_internal_set_result(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.result_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// BatchOperationRequest
+
+// repeated double number1 = 1;
+inline int BatchOperationRequest::_internal_number1_size() const {
+  return _internal_number1().size();
+}
+inline int BatchOperationRequest::number1_size() const {
+  return _internal_number1_size();
+}
+inline void BatchOperationRequest::clear_number1() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number1_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double BatchOperationRequest::number1(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.BatchOperationRequest.number1)
+  return _internal_number1().Get(index);
+}
+inline void BatchOperationRequest::set_number1(int index, double value) {
+  _internal_mutable_number1()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.BatchOperationRequest.number1)
+}
+inline void BatchOperationRequest::add_number1(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_number1()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_add:calculator.BatchOperationRequest.number1)
+}
+inline const ::google::protobuf::RepeatedField<double>& BatchOperationRequest::number1() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.BatchOperationRequest.number1)
+  return _internal_number1();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL BatchOperationRequest::mutable_number1()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.BatchOperationRequest.number1)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_number1();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+BatchOperationRequest::_internal_number1() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.number1_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+BatchOperationRequest::_internal_mutable_number1() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.number1_;
+}
+
+// repeated double number2 = 2;
+inline int BatchOperationRequest::_internal_number2_size() const {
+  return _internal_number2().size();
+}
+inline int BatchOperationRequest::number2_size() const {
+  return _internal_number2_size();
+}
+inline void BatchOperationRequest::clear_number2() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.number2_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline double BatchOperationRequest::number2(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.BatchOperationRequest.number2)
+  return _internal_number2().Get(index);
+}
+inline void BatchOperationRequest::set_number2(int index, double value) {
+  _internal_mutable_number2()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.BatchOperationRequest.number2)
+}
+inline void BatchOperationRequest::add_number2(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_number2()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_add:calculator.BatchOperationRequest.number2)
+}
+inline const ::google::protobuf::RepeatedField<double>& BatchOperationRequest::number2() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.BatchOperationRequest.number2)
+  return _internal_number2();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL BatchOperationRequest::mutable_number2()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.BatchOperationRequest.number2)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_number2();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+BatchOperationRequest::_internal_number2() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.number2_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+BatchOperationRequest::_internal_mutable_number2() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.number2_;
+}
+
+// -------------------------------------------------------------------
+
+// BatchOperationResponse
+
+// repeated double result = 1;
+inline int BatchOperationResponse::_internal_result_size() const {
+  return _internal_result().size();
+}
+inline int BatchOperationResponse::result_size() const {
+  return _internal_result_size();
+}
+inline void BatchOperationResponse::clear_result() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.result_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double BatchOperationResponse::result(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.BatchOperationResponse.result)
+  return _internal_result().Get(index);
+}
+inline void BatchOperationResponse::set_result(int index, double value) {
+  _internal_mutable_result()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.BatchOperationResponse.result)
+}
+inline void BatchOperationResponse::add_result(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_result()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_add:calculator.BatchOperationResponse.result)
+}
+inline const ::google::protobuf::RepeatedField<double>& BatchOperationResponse::result() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.BatchOperationResponse.result)
+  return _internal_result();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL BatchOperationResponse::mutable_result()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.BatchOperationResponse.result)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_result();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+BatchOperationResponse::_internal_result() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.result_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+BatchOperationResponse::_internal_mutable_result() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.result_;
+}
+
+// -------------------------------------------------------------------
+
+// EvaluateRequest
+
+// bytes code = 1;
+inline void EvaluateRequest::clear_code() {
   ::google::protobuf::internal::TSanWrite(&_impl_);
-  _impl_.result_ = 0;
+  _impl_.code_.ClearToEmpty();
   ClearHasBit(_impl_._has_bits_[0],
+                  0x00000004U);
+}
+inline const ::std::string& EvaluateRequest::code() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_get:calculator.EvaluateRequest.code)
+  return _internal_code();
+}
+template <typename Arg_, typename... Args_>
+PROTOBUF_ALWAYS_INLINE void EvaluateRequest::set_code(Arg_&& arg, Args_... args) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  SetHasBit(_impl_._has_bits_[0], 0x00000004U);
+  _impl_.code_.SetBytes(static_cast<Arg_&&>(arg), args..., GetArena());
+  // @@protoc_insertion_point(field_set:calculator.EvaluateRequest.code)
+}
+inline ::std::string* PROTOBUF_NONNULL EvaluateRequest::mutable_code()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBit(_impl_._has_bits_[0], 0x00000004U);
+  ::std::string* _s = _internal_mutable_code();
+  // @@protoc_insertion_point(field_mutable:calculator.EvaluateRequest.code)
+  return _s;
+}
+inline const ::std::string& EvaluateRequest::_internal_code() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.code_.Get();
+}
+inline void EvaluateRequest::_internal_set_code(const ::std::string& value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.code_.Set(value, GetArena());
+}
+inline ::std::string* PROTOBUF_NONNULL EvaluateRequest::_internal_mutable_code() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _impl_.code_.Mutable( GetArena());
+}
+inline ::std::string* PROTOBUF_NULLABLE EvaluateRequest::release_code() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  // @@protoc_insertion_point(field_release:calculator.EvaluateRequest.code)
+  if (!CheckHasBit(_impl_._has_bits_[0], 0x00000004U)) {
+    return nullptr;
+  }
+  ClearHasBit(_impl_._has_bits_[0], 0x00000004U);
+  auto* released = _impl_.code_.Release();
+  if (::google::protobuf::internal::DebugHardenForceCopyDefaultString()) {
+    _impl_.code_.Set("", GetArena());
+  }
+  return released;
+}
+inline void EvaluateRequest::set_allocated_code(::std::string* PROTOBUF_NULLABLE value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  if (value != nullptr) {
+    SetHasBit(_impl_._has_bits_[0], 0x00000004U);
+  } else {
+    ClearHasBit(_impl_._has_bits_[0], 0x00000004U);
+  }
+  _impl_.code_.SetAllocated(value, GetArena());
+  if (::google::protobuf::internal::DebugHardenForceCopyDefaultString() && _impl_.code_.IsDefault()) {
+    _impl_.code_.Set("", GetArena());
+  }
+  // @@protoc_insertion_point(field_set_allocated:calculator.EvaluateRequest.code)
+}
+
+// repeated double constants = 2;
+inline int EvaluateRequest::_internal_constants_size() const {
+  return _internal_constants().size();
+}
+inline int EvaluateRequest::constants_size() const {
+  return _internal_constants_size();
+}
+inline void EvaluateRequest::clear_constants() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.constants_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
                   0x00000001U);
 }
-inline double OperationResponse::result() const {
-  // @@protoc_insertion_point(field_get:calculator.OperationResponse.result)
-  return _internal_result();
+inline double EvaluateRequest::constants(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.EvaluateRequest.constants)
+  return _internal_constants().Get(index);
 }
-inline void OperationResponse::set_result(double value) {
-  _internal_set_result(value);
+inline void EvaluateRequest::set_constants(int index, double value) {
+  _internal_mutable_constants()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.EvaluateRequest.constants)
+}
+inline void EvaluateRequest::add_constants(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_constants()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_add:calculator.EvaluateRequest.constants)
+}
+inline const ::google::protobuf::RepeatedField<double>& EvaluateRequest::constants() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.EvaluateRequest.constants)
+  return _internal_constants();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL EvaluateRequest::mutable_constants()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.EvaluateRequest.constants)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_constants();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+EvaluateRequest::_internal_constants() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.constants_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+EvaluateRequest::_internal_mutable_constants() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.constants_;
+}
+
+// repeated double variables = 3;
+inline int EvaluateRequest::_internal_variables_size() const {
+  return _internal_variables().size();
+}
+inline int EvaluateRequest::variables_size() const {
+  return _internal_variables_size();
+}
+inline void EvaluateRequest::clear_variables() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.variables_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline double EvaluateRequest::variables(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.EvaluateRequest.variables)
+  return _internal_variables().Get(index);
+}
+inline void EvaluateRequest::set_variables(int index, double value) {
+  _internal_mutable_variables()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.EvaluateRequest.variables)
+}
+inline void EvaluateRequest::add_variables(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_variables()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_add:calculator.EvaluateRequest.variables)
+}
+inline const ::google::protobuf::RepeatedField<double>& EvaluateRequest::variables() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.EvaluateRequest.variables)
+  return _internal_variables();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL EvaluateRequest::mutable_variables()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.EvaluateRequest.variables)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_variables();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+EvaluateRequest::_internal_variables() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.variables_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+EvaluateRequest::_internal_mutable_variables() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.variables_;
+}
+
+// -------------------------------------------------------------------
+
+// PrepareRequest
+
+// bytes code = 1;
+inline void PrepareRequest::clear_code() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.code_.ClearToEmpty();
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline const ::std::string& PrepareRequest::code() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_get:calculator.PrepareRequest.code)
+  return _internal_code();
+}
+template <typename Arg_, typename... Args_>
+PROTOBUF_ALWAYS_INLINE void PrepareRequest::set_code(Arg_&& arg, Args_... args) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  _impl_.code_.SetBytes(static_cast<Arg_&&>(arg), args..., GetArena());
+  // @@protoc_insertion_point(field_set:calculator.PrepareRequest.code)
+}
+inline ::std::string* PROTOBUF_NONNULL PrepareRequest::mutable_code()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  ::std::string* _s = _internal_mutable_code();
+  // @@protoc_insertion_point(field_mutable:calculator.PrepareRequest.code)
+  return _s;
+}
+inline const ::std::string& PrepareRequest::_internal_code() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.code_.Get();
+}
+inline void PrepareRequest::_internal_set_code(const ::std::string& value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.code_.Set(value, GetArena());
+}
+inline ::std::string* PROTOBUF_NONNULL PrepareRequest::_internal_mutable_code() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _impl_.code_.Mutable( GetArena());
+}
+inline ::std::string* PROTOBUF_NULLABLE PrepareRequest::release_code() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  // @@protoc_insertion_point(field_release:calculator.PrepareRequest.code)
+  if (!CheckHasBit(_impl_._has_bits_[0], 0x00000002U)) {
+    return nullptr;
+  }
+  ClearHasBit(_impl_._has_bits_[0], 0x00000002U);
+  auto* released = _impl_.code_.Release();
+  if (::google::protobuf::internal::DebugHardenForceCopyDefaultString()) {
+    _impl_.code_.Set("", GetArena());
+  }
+  return released;
+}
+inline void PrepareRequest::set_allocated_code(::std::string* PROTOBUF_NULLABLE value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  if (value != nullptr) {
+    SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  } else {
+    ClearHasBit(_impl_._has_bits_[0], 0x00000002U);
+  }
+  _impl_.code_.SetAllocated(value, GetArena());
+  if (::google::protobuf::internal::DebugHardenForceCopyDefaultString() && _impl_.code_.IsDefault()) {
+    _impl_.code_.Set("", GetArena());
+  }
+  // @@protoc_insertion_point(field_set_allocated:calculator.PrepareRequest.code)
+}
+
+// repeated double constants = 2;
+inline int PrepareRequest::_internal_constants_size() const {
+  return _internal_constants().size();
+}
+inline int PrepareRequest::constants_size() const {
+  return _internal_constants_size();
+}
+inline void PrepareRequest::clear_constants() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.constants_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double PrepareRequest::constants(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.PrepareRequest.constants)
+  return _internal_constants().Get(index);
+}
+inline void PrepareRequest::set_constants(int index, double value) {
+  _internal_mutable_constants()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.PrepareRequest.constants)
+}
+inline void PrepareRequest::add_constants(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_constants()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_add:calculator.PrepareRequest.constants)
+}
+inline const ::google::protobuf::RepeatedField<double>& PrepareRequest::constants() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.PrepareRequest.constants)
+  return _internal_constants();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL PrepareRequest::mutable_constants()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.PrepareRequest.constants)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_constants();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+PrepareRequest::_internal_constants() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.constants_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+PrepareRequest::_internal_mutable_constants() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.constants_;
+}
+
+// uint32 variable_count = 3;
+inline void PrepareRequest::clear_variable_count() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.variable_count_ = 0u;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000004U);
+}
+inline ::uint32_t PrepareRequest::variable_count() const {
+  // @@protoc_insertion_point(field_get:calculator.PrepareRequest.variable_count)
+  return _internal_variable_count();
+}
+inline void PrepareRequest::set_variable_count(::uint32_t value) {
+  _internal_set_variable_count(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000004U);
+  // @@protoc_insertion_point(field_set:calculator.PrepareRequest.variable_count)
+}
+inline ::uint32_t PrepareRequest::_internal_variable_count() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.variable_count_;
+}
+inline void PrepareRequest::_internal_set_variable_count(::uint32_t value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.variable_count_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// PrepareResponse
+
+// fixed64 handle = 1;
+inline void PrepareResponse::clear_handle() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.handle_ = ::uint64_t{0u};
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline ::uint64_t PrepareResponse::handle() const {
+  // @@protoc_insertion_point(field_get:calculator.PrepareResponse.handle)
+  return _internal_handle();
+}
+inline void PrepareResponse::set_handle(::uint64_t value) {
+  _internal_set_handle(value);
   SetHasBit(_impl_._has_bits_[0], 0x00000001U);
-  // @@protoc_insertion_point(field_set:calculator.OperationResponse.result)
+  // @@protoc_insertion_point(field_set:calculator.PrepareResponse.handle)
 }
-inline double OperationResponse::_internal_result() const {
+inline ::uint64_t PrepareResponse::_internal_handle() const {
   ::google::protobuf::internal::TSanRead(&_impl_);
-  return _impl_.result_;
+  return _impl_.handle_;
 }
-inline void OperationResponse::_internal_set_result(double value) {
+inline void PrepareResponse::_internal_set_handle(::uint64_t value) {
   ::google::protobuf::internal::TSanWrite(&_impl_);
-  _impl_.result_ = value;
+  _impl_.handle_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// ExecutePreparedRequest
+
+// fixed64 handle = 1;
+inline void ExecutePreparedRequest::clear_handle() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.handle_ = ::uint64_t{0u};
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline ::uint64_t ExecutePreparedRequest::handle() const {
+  // @@protoc_insertion_point(field_get:calculator.ExecutePreparedRequest.handle)
+  return _internal_handle();
+}
+inline void ExecutePreparedRequest::set_handle(::uint64_t value) {
+  _internal_set_handle(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_set:calculator.ExecutePreparedRequest.handle)
+}
+inline ::uint64_t ExecutePreparedRequest::_internal_handle() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.handle_;
+}
+inline void ExecutePreparedRequest::_internal_set_handle(::uint64_t value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.handle_ = value;
+}
+
+// repeated double variables = 2;
+inline int ExecutePreparedRequest::_internal_variables_size() const {
+  return _internal_variables().size();
+}
+inline int ExecutePreparedRequest::variables_size() const {
+  return _internal_variables_size();
+}
+inline void ExecutePreparedRequest::clear_variables() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.variables_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double ExecutePreparedRequest::variables(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.ExecutePreparedRequest.variables)
+  return _internal_variables().Get(index);
+}
+inline void ExecutePreparedRequest::set_variables(int index, double value) {
+  _internal_mutable_variables()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.ExecutePreparedRequest.variables)
+}
+inline void ExecutePreparedRequest::add_variables(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_variables()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_add:calculator.ExecutePreparedRequest.variables)
+}
+inline const ::google::protobuf::RepeatedField<double>& ExecutePreparedRequest::variables() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.ExecutePreparedRequest.variables)
+  return _internal_variables();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL ExecutePreparedRequest::mutable_variables()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.ExecutePreparedRequest.variables)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_variables();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+ExecutePreparedRequest::_internal_variables() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.variables_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+ExecutePreparedRequest::_internal_mutable_variables() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.variables_;
+}
+
+// -------------------------------------------------------------------
+
+// DoubleChunk
+
+// repeated double values = 1;
+inline int DoubleChunk::_internal_values_size() const {
+  return _internal_values().size();
+}
+inline int DoubleChunk::values_size() const {
+  return _internal_values_size();
+}
+inline void DoubleChunk::clear_values() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.values_.Clear();
+  ClearHasBitForRepeated(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline double DoubleChunk::values(int index) const {
+  // @@protoc_insertion_point(field_get:calculator.DoubleChunk.values)
+  return _internal_values().Get(index);
+}
+inline void DoubleChunk::set_values(int index, double value) {
+  _internal_mutable_values()->Set(index, value);
+  // @@protoc_insertion_point(field_set:calculator.DoubleChunk.values)
+}
+inline void DoubleChunk::add_values(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _internal_mutable_values()->Add(value);
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_add:calculator.DoubleChunk.values)
+}
+inline const ::google::protobuf::RepeatedField<double>& DoubleChunk::values() const
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  // @@protoc_insertion_point(field_list:calculator.DoubleChunk.values)
+  return _internal_values();
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL DoubleChunk::mutable_values()
+    ABSL_ATTRIBUTE_LIFETIME_BOUND {
+  SetHasBitForRepeated(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_mutable_list:calculator.DoubleChunk.values)
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  return _internal_mutable_values();
+}
+inline const ::google::protobuf::RepeatedField<double>&
+DoubleChunk::_internal_values() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.values_;
+}
+inline ::google::protobuf::RepeatedField<double>* PROTOBUF_NONNULL
+DoubleChunk::_internal_mutable_values() {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return &_impl_.values_;
+}
+
+// -------------------------------------------------------------------
+
+// StatsResponse
+
+// uint64 count = 1;
+inline void StatsResponse::clear_count() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.count_ = ::uint64_t{0u};
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000001U);
+}
+inline ::uint64_t StatsResponse::count() const {
+  // @@protoc_insertion_point(field_get:calculator.StatsResponse.count)
+  return _internal_count();
+}
+inline void StatsResponse::set_count(::uint64_t value) {
+  _internal_set_count(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000001U);
+  // @@protoc_insertion_point(field_set:calculator.StatsResponse.count)
+}
+inline ::uint64_t StatsResponse::_internal_count() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.count_;
+}
+inline void StatsResponse::_internal_set_count(::uint64_t value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.count_ = value;
+}
+
+// double sum = 2;
+inline void StatsResponse::clear_sum() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.sum_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000002U);
+}
+inline double StatsResponse::sum() const {
+  // @@protoc_insertion_point(field_get:calculator.StatsResponse.sum)
+  return _internal_sum();
+}
+inline void StatsResponse::set_sum(double value) {
+  _internal_set_sum(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000002U);
+  // @@protoc_insertion_point(field_set:calculator.StatsResponse.sum)
+}
+inline double StatsResponse::_internal_sum() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.sum_;
+}
+inline void StatsResponse::_internal_set_sum(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.sum_ = value;
+}
+
+// double min = 3;
+inline void StatsResponse::clear_min() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.min_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000004U);
+}
+inline double StatsResponse::min() const {
+  // @@protoc_insertion_point(field_get:calculator.StatsResponse.min)
+  return _internal_min();
+}
+inline void StatsResponse::set_min(double value) {
+  _internal_set_min(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000004U);
+  // @@protoc_insertion_point(field_set:calculator.StatsResponse.min)
+}
+inline double StatsResponse::_internal_min() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.min_;
+}
+inline void StatsResponse::_internal_set_min(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.min_ = value;
+}
+
+// double max = 4;
+inline void StatsResponse::clear_max() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.max_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000008U);
+}
+inline double StatsResponse::max() const {
+  // @@protoc_insertion_point(field_get:calculator.StatsResponse.max)
+  return _internal_max();
+}
+inline void StatsResponse::set_max(double value) {
+  _internal_set_max(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000008U);
+  // @@protoc_insertion_point(field_set:calculator.StatsResponse.max)
+}
+inline double StatsResponse::_internal_max() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.max_;
+}
+inline void StatsResponse::_internal_set_max(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.max_ = value;
+}
+
+// double mean = 5;
+inline void StatsResponse::clear_mean() {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.mean_ = 0;
+  ClearHasBit(_impl_._has_bits_[0],
+                  0x00000010U);
+}
+inline double StatsResponse::mean() const {
+  // @@protoc_insertion_point(field_get:calculator.StatsResponse.mean)
+  return _internal_mean();
+}
+inline void StatsResponse::set_mean(double value) {
+  _internal_set_mean(value);
+  SetHasBit(_impl_._has_bits_[0], 0x00000010U);
+  // @@protoc_insertion_point(field_set:calculator.StatsResponse.mean)
+}
+inline double StatsResponse::_internal_mean() const {
+  ::google::protobuf::internal::TSanRead(&_impl_);
+  return _impl_.mean_;
+}
+inline void StatsResponse::_internal_set_mean(double value) {
+  ::google::protobuf::internal::TSanWrite(&_impl_);
+  _impl_.mean_ = value;
 }
 
 #ifdef __GNUC__
@@ -568,6 +3712,19 @@ inline void OperationResponse::_internal_set_result(double value) {
 }  // namespace calculator
 
 
+namespace google {
+namespace protobuf {
+
+template <>
+struct is_proto_enum<::calculator::Operation> : std::true_type {};
+template <>
+inline const EnumDescriptor* PROTOBUF_NONNULL GetEnumDescriptor<::calculator::Operation>() {
+  return ::calculator::Operation_descriptor();
+}
+
+}  // namespace protobuf
+}  // namespace google
+
 // @@protoc_insertion_point(global_scope)
 
 #include "google/protobuf/port_undef.inc"
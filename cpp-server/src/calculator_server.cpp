@@ -1,17 +1,283 @@
+#include <cmath>
+#include <cstdint>
+#include <cstring>
 #include <iostream>
+#include <list>
 #include <memory>
+#include <mutex>
 #include <string>
+#include <unordered_map>
+#include <utility>
+#include <vector>
 #include <grpcpp/grpcpp.h>
 #include "calculator.grpc.pb.h"
 
 using grpc::Server;
 using grpc::ServerBuilder;
 using grpc::ServerContext;
+using grpc::ServerReader;
+using grpc::ServerReaderWriter;
 using grpc::Status;
+using grpc::StatusCode;
 using calculator::OperationRequest;
 using calculator::OperationResponse;
+using calculator::BatchOperationRequest;
+using calculator::BatchOperationResponse;
+using calculator::DoubleChunk;
+using calculator::EvaluateRequest;
+using calculator::ExecutePreparedRequest;
+using calculator::PrepareRequest;
+using calculator::PrepareResponse;
+using calculator::StatsResponse;
+using calculator::Operation;
+using calculator::PipelineRequest;
+using calculator::PipelineResponse;
 using calculator::CalculatorService;
 
+// Applies op element-wise over the two packed columns of a batch request.
+template <typename Op>
+Status ComputeBatch(const BatchOperationRequest* request,
+                    BatchOperationResponse* reply, Op op) {
+    const int n = request->number1_size();
+    if (request->number2_size() != n) {
+        return Status(StatusCode::INVALID_ARGUMENT,
+                      "number1 and number2 must have the same length");
+    }
+    const double* a = request->number1().data();
+    const double* b = request->number2().data();
+    reply->mutable_result()->Resize(n, 0.0);
+    double* out = reply->mutable_result()->mutable_data();
+    for (int i = 0; i < n; ++i) {
+        out[i] = op(a[i], b[i]);
+    }
+    return Status::OK;
+}
+
+// Running sum with Neumaier's compensation, so the error stays within a few
+// ulps however many values are added. As in Java's DoubleSummaryStatistics,
+// a NaN caused only by infinite inputs is replaced by the plain sum.
+class CompensatedSum {
+public:
+    void Add(double value) {
+        double t = sum_ + value;
+        if (std::fabs(sum_) >= std::fabs(value)) {
+            compensation_ += (sum_ - t) + value;
+        } else {
+            compensation_ += (value - t) + sum_;
+        }
+        sum_ = t;
+        simple_sum_ += value;
+    }
+
+    double Value() const {
+        double result = sum_ + compensation_;
+        if (std::isnan(result) && std::isinf(simple_sum_)) {
+            return simple_sum_;
+        }
+        return result;
+    }
+
+private:
+    double sum_ = 0.0;
+    double compensation_ = 0.0;
+    double simple_sum_ = 0.0;
+};
+
+// Java's Math.min/Math.max, which the Stats reply follows: NaN propagates
+// and -0.0 orders below 0.0.
+double JavaMin(double a, double b) {
+    if (std::isnan(a) || std::isnan(b)) {
+        return NAN;
+    }
+    if (a == 0.0 && b == 0.0) {
+        return std::signbit(a) ? a : b;
+    }
+    return a <= b ? a : b;
+}
+
+double JavaMax(double a, double b) {
+    if (std::isnan(a) || std::isnan(b)) {
+        return NAN;
+    }
+    if (a == 0.0 && b == 0.0) {
+        return std::signbit(a) ? b : a;
+    }
+    return a >= b ? a : b;
+}
+
+// Opcodes of EvaluateRequest.code; see calculator.proto.
+enum Opcode : uint8_t {
+    kPushConstant = 1,
+    kPushVariable = 2,
+    kAdd = 3,
+    kSubtract = 4,
+    kNegate = 5,
+};
+
+constexpr int kMaxStackDepth = 1024;
+
+struct Instruction {
+    uint8_t opcode;
+    uint32_t index;  // Constant or variable slot of the push opcodes
+};
+
+// Decodes and validates a program, so RunProgram needs no checks.
+Status DecodeProgram(const std::string& code, int constant_count, int variable_count,
+                     std::vector<Instruction>* program) {
+    int depth = 0;
+    size_t pc = 0;
+    while (pc < code.size()) {
+        Instruction instruction{static_cast<uint8_t>(code[pc++]), 0};
+        switch (instruction.opcode) {
+            case kPushConstant:
+            case kPushVariable: {
+                uint64_t index = 0;
+                for (int shift = 0;; shift += 7) {
+                    if (pc >= code.size() || shift > 28) {
+                        return Status(StatusCode::INVALID_ARGUMENT, "Malformed operand index");
+                    }
+                    uint8_t byte = static_cast<uint8_t>(code[pc++]);
+                    index |= static_cast<uint64_t>(byte & 0x7F) << shift;
+                    if ((byte & 0x80) == 0) {
+                        break;
+                    }
+                }
+                int limit = instruction.opcode == kPushConstant ? constant_count : variable_count;
+                if (index >= static_cast<uint64_t>(limit)) {
+                    return Status(StatusCode::INVALID_ARGUMENT, "Operand index out of range");
+                }
+                instruction.index = static_cast<uint32_t>(index);
+                if (++depth > kMaxStackDepth) {
+                    return Status(StatusCode::INVALID_ARGUMENT, "Program exceeds the stack limit");
+                }
+                break;
+            }
+            case kAdd:
+            case kSubtract:
+                if (depth < 2) {
+                    return Status(StatusCode::INVALID_ARGUMENT, "Stack underflow");
+                }
+                --depth;
+                break;
+            case kNegate:
+                if (depth < 1) {
+                    return Status(StatusCode::INVALID_ARGUMENT, "Stack underflow");
+                }
+                break;
+            default:
+                return Status(StatusCode::INVALID_ARGUMENT, "Unknown opcode");
+        }
+        program->push_back(instruction);
+    }
+    if (depth != 1) {
+        return Status(StatusCode::INVALID_ARGUMENT, "Program must leave exactly one value");
+    }
+    return Status::OK;
+}
+
+double RunProgram(const std::vector<Instruction>& program,
+                  const double* constants, const double* variables) {
+    double stack[kMaxStackDepth];
+    int top = 0;
+    for (const Instruction& instruction : program) {
+        switch (instruction.opcode) {
+            case kPushConstant:
+                stack[top++] = constants[instruction.index];
+                break;
+            case kPushVariable:
+                stack[top++] = variables[instruction.index];
+                break;
+            case kAdd:
+                --top;
+                stack[top - 1] = stack[top - 1] + stack[top];
+                break;
+            case kSubtract:
+                --top;
+                stack[top - 1] = stack[top - 1] - stack[top];
+                break;
+            case kNegate:
+                stack[top - 1] = -stack[top - 1];
+                break;
+        }
+    }
+    return stack[0];
+}
+
+constexpr size_t kMaxPreparedPrograms = 1024;
+constexpr uint32_t kMaxPreparedVariables = 65536;
+
+struct PreparedProgram {
+    std::string code;
+    std::vector<double> constants;
+    int variable_count;
+    std::vector<Instruction> instructions;
+
+    bool SameAs(const PreparedProgram& other) const {
+        return code == other.code && variable_count == other.variable_count &&
+               constants.size() == other.constants.size() &&
+               std::memcmp(constants.data(), other.constants.data(),
+                           constants.size() * sizeof(double)) == 0;
+    }
+};
+
+// FNV-1a over the program content, as specified for PrepareResponse.handle.
+uint64_t ProgramHandle(const PrepareRequest& request) {
+    uint64_t hash = 14695981039346656037ULL;
+    auto mix = [&hash](uint64_t value, int bytes) {
+        for (int i = 0; i < bytes; ++i) {
+            hash ^= (value >> (8 * i)) & 0xFF;
+            hash *= 1099511628211ULL;
+        }
+    };
+    for (char c : request.code()) {
+        mix(static_cast<uint8_t>(c), 1);
+    }
+    for (double constant : request.constants()) {
+        uint64_t bits;
+        std::memcpy(&bits, &constant, sizeof(bits));
+        mix(bits, 8);
+    }
+    mix(request.variable_count(), 4);
+    return hash;
+}
+
+// Least-recently-used cache of validated programs, keyed by handle.
+class ProgramCache {
+public:
+    std::shared_ptr<const PreparedProgram> Get(uint64_t handle) {
+        std::lock_guard<std::mutex> lock(mutex_);
+        auto it = index_.find(handle);
+        if (it == index_.end()) {
+            return nullptr;
+        }
+        order_.splice(order_.begin(), order_, it->second);
+        return it->second->second;
+    }
+
+    // Returns false if a different program already holds this handle.
+    bool Put(uint64_t handle, std::shared_ptr<const PreparedProgram> program) {
+        std::lock_guard<std::mutex> lock(mutex_);
+        auto it = index_.find(handle);
+        if (it != index_.end()) {
+            order_.splice(order_.begin(), order_, it->second);
+            return it->second->second->SameAs(*program);
+        }
+        order_.emplace_front(handle, std::move(program));
+        index_[handle] = order_.begin();
+        if (order_.size() > kMaxPreparedPrograms) {
+            index_.erase(order_.back().first);
+            order_.pop_back();
+        }
+        return true;
+    }
+
+private:
+    using Entry = std::pair<uint64_t, std::shared_ptr<const PreparedProgram>>;
+    std::mutex mutex_;
+    std::list<Entry> order_;
+    std::unordered_map<uint64_t, std::list<Entry>::iterator> index_;
+};
+
 class CalculatorServiceImpl final : public CalculatorService::Service {
 public:
     Status Add(ServerContext* context, const OperationRequest* request,
@@ -33,6 +299,207 @@ public:
                   << " = " << result << std::endl;
         return Status::OK;
     }
+
+    Status AddStream(ServerContext* context, ServerReader<OperationRequest>* reader,
+                     BatchOperationResponse* reply) override {
+        OperationRequest request;
+        while (reader->Read(&request)) {
+            reply->add_result(request.number1() + request.number2());
+        }
+        std::cout << "[Server] AddStream: " << reply->result_size()
+                  << " operations" << std::endl;
+        return Status::OK;
+    }
+
+    Status SubtractStream(ServerContext* context, ServerReader<OperationRequest>* reader,
+                          BatchOperationResponse* reply) override {
+        OperationRequest request;
+        while (reader->Read(&request)) {
+            reply->add_result(request.number1() - request.number2());
+        }
+        std::cout << "[Server] SubtractStream: " << reply->result_size()
+                  << " operations" << std::endl;
+        return Status::OK;
+    }
+
+    Status AddBatch(ServerContext* context, const BatchOperationRequest* request,
+                    BatchOperationResponse* reply) override {
+        Status status = ComputeBatch(request, reply,
+                                     [](double a, double b) { return a + b; });
+        std::cout << "[Server] AddBatch: " << request->number1_size()
+                  << " operations" << std::endl;
+        return status;
+    }
+
+    Status SubtractBatch(ServerContext* context, const BatchOperationRequest* request,
+                         BatchOperationResponse* reply) override {
+        Status status = ComputeBatch(request, reply,
+                                     [](double a, double b) { return a - b; });
+        std::cout << "[Server] SubtractBatch: " << request->number1_size()
+                  << " operations" << std::endl;
+        return status;
+    }
+
+    // Responses carry the request id, so clients must not rely on ordering;
+    // this implementation happens to answer each request as it is read.
+    Status ComputePipeline(ServerContext* context,
+                           ServerReaderWriter<PipelineResponse, PipelineRequest>* stream) override {
+        PipelineRequest request;
+        PipelineResponse response;
+        long count = 0;
+        while (stream->Read(&request)) {
+            double result;
+            switch (request.operation()) {
+                case Operation::ADD:
+                    result = request.number1() + request.number2();
+                    break;
+                case Operation::SUBTRACT:
+                    result = request.number1() - request.number2();
+                    break;
+                default:
+                    return Status(StatusCode::INVALID_ARGUMENT, "Unknown operation");
+            }
+            response.set_id(request.id());
+            response.set_result(result);
+            if (!stream->Write(response)) {
+                break;
+            }
+            ++count;
+        }
+        std::cout << "[Server] ComputePipeline: " << count
+                  << " operations" << std::endl;
+        return Status::OK;
+    }
+
+    Status Evaluate(ServerContext* context, const EvaluateRequest* request,
+                    OperationResponse* reply) override {
+        std::vector<Instruction> program;
+        Status status = DecodeProgram(request->code(), request->constants_size(),
+                                      request->variables_size(), &program);
+        if (!status.ok()) {
+            return status;
+        }
+        reply->set_result(RunProgram(program, request->constants().data(),
+                                     request->variables().data()));
+        std::cout << "[Server] Evaluate: " << program.size()
+                  << " instructions = " << reply->result() << std::endl;
+        return Status::OK;
+    }
+
+    Status Prepare(ServerContext* context, const PrepareRequest* request,
+                   PrepareResponse* reply) override {
+        if (request->variable_count() > kMaxPreparedVariables) {
+            return Status(StatusCode::INVALID_ARGUMENT, "Too many variables");
+        }
+        auto program = std::make_shared<PreparedProgram>();
+        program->variable_count = static_cast<int>(request->variable_count());
+        Status status = DecodeProgram(request->code(), request->constants_size(),
+                                      program->variable_count, &program->instructions);
+        if (!status.ok()) {
+            return status;
+        }
+        program->code = request->code();
+        program->constants.assign(request->constants().begin(), request->constants().end());
+        uint64_t handle = ProgramHandle(*request);
+        if (!programs_.Put(handle, std::move(program))) {
+            return Status(StatusCode::ALREADY_EXISTS,
+                          "Handle is taken by a different program");
+        }
+        reply->set_handle(handle);
+        std::cout << "[Server] Prepare: handle " << handle << std::endl;
+        return Status::OK;
+    }
+
+    Status ExecutePrepared(ServerContext* context, const ExecutePreparedRequest* request,
+                           BatchOperationResponse* reply) override {
+        std::shared_ptr<const PreparedProgram> program = programs_.Get(request->handle());
+        if (!program) {
+            return Status(StatusCode::NOT_FOUND, "Unknown program handle");
+        }
+        const int n = program->variable_count;
+        const int size = request->variables_size();
+        if (n == 0 ? size != 0 : size % n != 0) {
+            return Status(StatusCode::INVALID_ARGUMENT,
+                          "variables must hold whole rows of variable_count values");
+        }
+        const int rows = n == 0 ? 1 : size / n;
+        reply->mutable_result()->Resize(rows, 0.0);
+        double* out = reply->mutable_result()->mutable_data();
+        const double* variables = request->variables().data();
+        for (int row = 0; row < rows; ++row) {
+            out[row] = RunProgram(program->instructions, program->constants.data(),
+                                  variables + static_cast<size_t>(row) * n);
+        }
+        std::cout << "[Server] ExecutePrepared: " << rows << " rows" << std::endl;
+        return Status::OK;
+    }
+
+    Status Sum(ServerContext* context, ServerReader<DoubleChunk>* reader,
+               OperationResponse* reply) override {
+        CompensatedSum sum;
+        DoubleChunk chunk;
+        long count = 0;
+        while (reader->Read(&chunk)) {
+            for (double value : chunk.values()) {
+                sum.Add(value);
+            }
+            count += chunk.values_size();
+        }
+        reply->set_result(sum.Value());
+        std::cout << "[Server] Sum: " << count << " values" << std::endl;
+        return Status::OK;
+    }
+
+    Status PrefixSum(ServerContext* context,
+                     ServerReaderWriter<DoubleChunk, DoubleChunk>* stream) override {
+        CompensatedSum sum;
+        DoubleChunk chunk;
+        DoubleChunk sums;
+        long count = 0;
+        while (stream->Read(&chunk)) {
+            const int n = chunk.values_size();
+            sums.mutable_values()->Resize(n, 0.0);
+            double* out = sums.mutable_values()->mutable_data();
+            for (int i = 0; i < n; ++i) {
+                sum.Add(chunk.values(i));
+                out[i] = sum.Value();
+            }
+            if (!stream->Write(sums)) {
+                break;
+            }
+            count += n;
+        }
+        std::cout << "[Server] PrefixSum: " << count << " values" << std::endl;
+        return Status::OK;
+    }
+
+    Status Stats(ServerContext* context, ServerReader<DoubleChunk>* reader,
+                 StatsResponse* reply) override {
+        CompensatedSum sum;
+        DoubleChunk chunk;
+        uint64_t count = 0;
+        double min = INFINITY;
+        double max = -INFINITY;
+        while (reader->Read(&chunk)) {
+            for (double value : chunk.values()) {
+                sum.Add(value);
+                min = JavaMin(min, value);
+                max = JavaMax(max, value);
+            }
+            count += chunk.values_size();
+        }
+        const double total = sum.Value();
+        reply->set_count(count);
+        reply->set_sum(total);
+        reply->set_min(min);
+        reply->set_max(max);
+        reply->set_mean(count > 0 ? total / count : 0.0);
+        std::cout << "[Server] Stats: " << count << " values" << std::endl;
+        return Status::OK;
+    }
+
+private:
+    ProgramCache programs_;
 };
 
 void RunServer() {
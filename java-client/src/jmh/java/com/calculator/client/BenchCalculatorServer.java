@@ -0,0 +1,115 @@
+package com.calculator.client;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process server and channel for benchmarks, so they measure the client
+ * and the gRPC stack without sockets or a running C++ server.
+ */
+final class BenchCalculatorServer implements AutoCloseable {
+    private final Server server;
+    private final ManagedChannel channel;
+    private final ScheduledExecutorService timer;
+
+    BenchCalculatorServer() throws IOException {
+        this(0);
+    }
+
+    /** Server whose scalar responses are sent {@code delayMicros} after the request, like a network hop. */
+    BenchCalculatorServer(long delayMicros) throws IOException {
+        timer = delayMicros > 0 ? Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "in-process-delay");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new Service(timer, delayMicros))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name)
+                .directExecutor()
+                .build();
+    }
+
+    ManagedChannel channel() {
+        return channel;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    /** Minimal service with the same arithmetic as the C++ server and no logging. */
+    static final class Service extends CalculatorServiceGrpc.CalculatorServiceImplBase {
+        private final ScheduledExecutorService timer;
+        private final long delayMicros;
+
+        Service(ScheduledExecutorService timer, long delayMicros) {
+            this.timer = timer;
+            this.delayMicros = delayMicros;
+        }
+
+        @Override
+        public void add(OperationRequest request, StreamObserver<OperationResponse> responseObserver) {
+            respond(request.getNumber1() + request.getNumber2(), responseObserver);
+        }
+
+        @Override
+        public void subtract(OperationRequest request, StreamObserver<OperationResponse> responseObserver) {
+            respond(request.getNumber1() - request.getNumber2(), responseObserver);
+        }
+
+        private void respond(double result, StreamObserver<OperationResponse> responseObserver) {
+            Runnable send = () -> {
+                responseObserver.onNext(OperationResponse.newBuilder().setResult(result).build());
+                responseObserver.onCompleted();
+            };
+            if (timer == null) {
+                send.run();
+            } else {
+                timer.schedule(send, delayMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+
+        @Override
+        public void addBatch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+            BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+            for (int i = 0; i < request.getNumber1Count(); i++) {
+                response.addResult(request.getNumber1(i) + request.getNumber2(i));
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void subtractBatch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+            BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+            for (int i = 0; i < request.getNumber1Count(); i++) {
+                response.addResult(request.getNumber1(i) - request.getNumber2(i));
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+    }
+}
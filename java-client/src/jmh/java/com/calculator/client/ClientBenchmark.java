@@ -0,0 +1,75 @@
+package com.calculator.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CalculatorClient over the in-process transport. Times are per operation,
+ * so the scalar and batch paths can be compared directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientBenchmark {
+    static final int OPS = 1024;
+
+    private BenchCalculatorServer server;
+    private CalculatorClient client;
+    private double[] a;
+    private double[] b;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new BenchCalculatorServer();
+        client = new CalculatorClient(server.channel());
+        a = new double[OPS];
+        b = new double[OPS];
+        for (int i = 0; i < OPS; i++) {
+            a[i] = ThreadLocalRandom.current().nextDouble();
+            b[i] = ThreadLocalRandom.current().nextDouble();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    public double scalarAdd() {
+        return client.add(a[0], b[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void scalarLoop(Blackhole bh) {
+        for (int i = 0; i < OPS; i++) {
+            bh.consume(client.add(a[i], b[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public double[] batch() {
+        return client.addBatch(a, b);
+    }
+}
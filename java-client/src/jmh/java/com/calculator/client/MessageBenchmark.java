@@ -0,0 +1,52 @@
+package com.calculator.client;
+
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of building, serializing and parsing the unary messages. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmark {
+    private double a = 10.5;
+    private double b = 5.2;
+    private OperationRequest request;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setUp() {
+        request = OperationRequest.newBuilder().setNumber1(a).setNumber2(b).build();
+        responseBytes = OperationResponse.newBuilder().setResult(a + b).build().toByteArray();
+    }
+
+    @Benchmark
+    public OperationRequest buildRequest() {
+        return OperationRequest.newBuilder().setNumber1(a).setNumber2(b).build();
+    }
+
+    @Benchmark
+    public byte[] serializeRequest() {
+        return request.toByteArray();
+    }
+
+    @Benchmark
+    public double parseResponse() throws InvalidProtocolBufferException {
+        return OperationResponse.parseFrom(responseBytes).getResult();
+    }
+}
@@ -0,0 +1,76 @@
+package com.calculator.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link #CALLS} concurrent adds against a server with a fixed response
+ * delay, issued three ways: blocking calls on platform threads, blocking
+ * calls on virtual threads, and the async stub. VIRTUAL needs the jar to
+ * run on a Java 21 JVM. The in-process channel keeps its own executor, so
+ * VIRTUAL differs from PLATFORM only in the threads that make the calls.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+    static final int CALLS = 1000;
+
+    @Param({"PLATFORM", "VIRTUAL", "ASYNC"})
+    public String mode;
+
+    @Param({"200"})
+    public long serverDelayMicros;
+
+    private BenchCalculatorServer server;
+    private CalculatorClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new BenchCalculatorServer(serverDelayMicros);
+        CalculatorClient.Builder builder = CalculatorClient.newBuilder(server.channel());
+        if (mode.equals("VIRTUAL")) {
+            builder.virtualThreads();
+        }
+        client = builder.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public double concurrentAdds() {
+        if (mode.equals("ASYNC")) {
+            CompletableFuture<?>[] calls = new CompletableFuture<?>[CALLS];
+            for (int i = 0; i < CALLS; i++) {
+                calls[i] = client.addAsync(i, 1);
+            }
+            CompletableFuture.allOf(calls).join();
+            return (Double) calls[CALLS - 1].join();
+        }
+        double[] results = client.fanOut(CALLS, i -> client.add(i, 1));
+        return results[CALLS - 1];
+    }
+}
@@ -0,0 +1,432 @@
+package com.calculator.client;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Deadline;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Client interceptor that limits outstanding unary calls to an estimate of
+ * what the server can handle without queueing, in the style of TCP Vegas.
+ *
+ * <p>The limiter tracks the lowest round-trip time seen (the no-load RTT)
+ * and after each call estimates how many calls were waiting at the server:
+ * {@code limit * (1 - noLoadRtt / rtt)}. When that estimate is small the
+ * limit grows; when it is large, or a call fails with
+ * {@code DEADLINE_EXCEEDED}, {@code UNAVAILABLE} or
+ * {@code RESOURCE_EXHAUSTED}, it shrinks. Under overload, latency therefore
+ * stays near the no-load RTT rather than growing with the client's queue.
+ * The no-load RTT is re-measured periodically so the limit can follow a
+ * server whose baseline changes.
+ *
+ * <p>Calls over the limit wait in a queue of at most {@code maxQueued}
+ * calls and start as earlier calls finish; once the queue is full, or when
+ * {@code maxQueued} is zero, they fail at once with
+ * {@code RESOURCE_EXHAUSTED}. A queued call whose deadline passes fails
+ * with {@code DEADLINE_EXCEEDED} without starting. Streaming calls are
+ * long-lived and pass through unlimited. Install with
+ * {@link CalculatorClient.Builder#intercept}.
+ */
+public final class AdaptiveConcurrencyLimiter implements ClientInterceptor {
+    // Closes calls that never started when their options name no executor
+    private static final Executor CLOSE_EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "calculator-limiter-close");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Expires queued calls at their deadline
+    private static final ScheduledThreadPoolExecutor DEADLINE_TIMER = new ScheduledThreadPoolExecutor(1, task -> {
+        Thread thread = new Thread(task, "calculator-limiter-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        DEADLINE_TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueued;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final Queue<LimitedCall<?, ?>> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejected = new LongAdder();
+
+    // Estimator state, guarded by this
+    private double estimatedLimit;
+    private long noLoadRttNanos = Long.MAX_VALUE;
+    private long samplesUntilProbe;
+    private volatile int limit;
+
+    /** Start at 20 calls, adapt between 1 and 1000, and fail fast when the limit is reached. */
+    public AdaptiveConcurrencyLimiter() {
+        this(20, 1, 1000, 0);
+    }
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueued) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Need 0 < minLimit <= initialLimit <= maxLimit, got "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueued = maxQueued;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+        this.samplesUntilProbe = probeInterval(initialLimit);
+    }
+
+    /** Current limit on outstanding unary calls. */
+    public int limit() {
+        return limit;
+    }
+
+    /** Unary calls currently started and not yet closed. */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /** Calls waiting for the limit to allow them to start. */
+    public int queued() {
+        return queuedCount.get();
+    }
+
+    /** Calls failed with {@code RESOURCE_EXHAUSTED} because the limit and queue were full. */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        if (method.getType() != MethodDescriptor.MethodType.UNARY) {
+            return next.newCall(method, callOptions);
+        }
+        return new LimitedCall<>(method, callOptions, next);
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /** Start queued calls while the limit allows. */
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            LimitedCall<?, ?> next = queue.poll();
+            if (next == null) {
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queuedCount.decrementAndGet();
+            try {
+                // A call cancelled or expired while queued gives its permit straight back
+                next.begin();
+            } catch (RuntimeException e) {
+                // This may run inside another call's onClose, so report the failure to its own call
+                next.failToStart(e);
+            }
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, boolean dropped, int inFlightAtStart) {
+        double current = estimatedLimit;
+        double step = Math.max(1.0, Math.log10(current));
+        double next;
+        if (dropped) {
+            next = current - step;
+        } else {
+            if (--samplesUntilProbe <= 0) {
+                // Forget the old baseline so a slower or faster server is noticed
+                noLoadRttNanos = rttNanos;
+                samplesUntilProbe = probeInterval(current);
+            } else if (rttNanos < noLoadRttNanos) {
+                noLoadRttNanos = rttNanos;
+            }
+            double queueSize = Math.ceil(current * (1.0 - (double) noLoadRttNanos / rttNanos));
+            double alpha = 3 * step;
+            double beta = 6 * step;
+            if (queueSize <= alpha) {
+                // Only grow when the limit is actually being used
+                next = inFlightAtStart * 2 >= current ? current + step : current;
+            } else if (queueSize > beta) {
+                next = current - step;
+            } else {
+                next = current;
+            }
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimatedLimit;
+    }
+
+    private static long probeInterval(double limit) {
+        return Math.max(100, (long) (30 * limit));
+    }
+
+    private static boolean isDrop(Status.Code code) {
+        return code == Status.Code.DEADLINE_EXCEEDED
+                || code == Status.Code.UNAVAILABLE
+                || code == Status.Code.RESOURCE_EXHAUSTED;
+    }
+
+    /**
+     * A unary call that holds back the real call until a permit is granted.
+     * Operations issued before that are recorded and replayed in order.
+     */
+    private final class LimitedCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+        private final MethodDescriptor<ReqT, RespT> method;
+        private final CallOptions callOptions;
+        private final Channel next;
+        private final List<Consumer<ClientCall<ReqT, RespT>>> pending = new ArrayList<>();
+        private Listener<RespT> listener;
+        private Metadata headers;
+        private boolean cancelled;
+        private ScheduledFuture<?> deadlineTimer;  // set while queued with a deadline
+        private volatile ClientCall<ReqT, RespT> delegate;  // set once the call has a permit
+
+        LimitedCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+            this.method = method;
+            this.callOptions = callOptions;
+            this.next = next;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            synchronized (this) {
+                this.listener = responseListener;
+                this.headers = headers;
+            }
+            if (tryAcquire()) {
+                boolean started = false;
+                try {
+                    started = begin();
+                } finally {
+                    if (!started) {
+                        // The permit was given back; a queued call may use it
+                        drain();
+                    }
+                }
+                return;
+            }
+            if (queuedCount.incrementAndGet() > maxQueued) {
+                queuedCount.decrementAndGet();
+                rejected.increment();
+                synchronized (this) {
+                    cancelled = true;
+                }
+                closeUnstarted(responseListener, Status.RESOURCE_EXHAUSTED
+                        .withDescription("Concurrency limit of " + limit + " reached"));
+                return;
+            }
+            queue.add(this);
+            Deadline deadline = callOptions.getDeadline();
+            if (deadline != null) {
+                ScheduledFuture<?> timer = deadline.runOnExpiration(this::expire, DEADLINE_TIMER);
+                synchronized (this) {
+                    deadlineTimer = timer;
+                }
+            }
+            // A permit may have been released between tryAcquire and add
+            drain();
+        }
+
+        /**
+         * Start the real call with a permit already taken. If the call was
+         * cancelled this returns false, and if it cannot be started the
+         * exception propagates; either way the permit is given back.
+         */
+        boolean begin() {
+            synchronized (this) {
+                if (cancelled) {
+                    inFlight.decrementAndGet();
+                    return false;
+                }
+                if (deadlineTimer != null) {
+                    // From here on the real call enforces the deadline
+                    deadlineTimer.cancel(false);
+                }
+                ClientCall<ReqT, RespT> call;
+                boolean started = false;
+                try {
+                    call = next.newCall(method, callOptions);
+                    call.start(new PermitListener<>(listener, inFlight.get()), headers);
+                    started = true;
+                } finally {
+                    if (!started) {
+                        cancelled = true;
+                        pending.clear();
+                        inFlight.decrementAndGet();
+                    }
+                }
+                // Callers arriving meanwhile wait for the lock, so they stay ordered after the replay
+                for (Consumer<ClientCall<ReqT, RespT>> operation : pending) {
+                    operation.accept(call);
+                }
+                pending.clear();
+                delegate = call;
+            }
+            return true;
+        }
+
+        private void run(Consumer<ClientCall<ReqT, RespT>> operation) {
+            ClientCall<ReqT, RespT> call = delegate;
+            if (call == null) {
+                synchronized (this) {
+                    call = delegate;
+                    if (call == null) {
+                        if (!cancelled) {
+                            pending.add(operation);
+                        }
+                        return;
+                    }
+                }
+            }
+            operation.accept(call);
+        }
+
+        @Override
+        public void request(int numMessages) {
+            run(call -> call.request(numMessages));
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+            if (!closeQueued(Status.CANCELLED.withDescription(message).withCause(cause))) {
+                run(call -> call.cancel(message, cause));
+            }
+        }
+
+        private void expire() {
+            closeQueued(Status.DEADLINE_EXCEEDED.withDescription(
+                    "Deadline exceeded while queued for the concurrency limit"));
+        }
+
+        /** Close the call with {@code status} if it has not started; false if it already has. */
+        private boolean closeQueued(Status status) {
+            Listener<RespT> waiting;
+            synchronized (this) {
+                if (delegate != null || cancelled) {
+                    return delegate == null;
+                }
+                cancelled = true;
+                waiting = listener;
+                if (deadlineTimer != null) {
+                    deadlineTimer.cancel(false);
+                }
+            }
+            if (waiting == null) {
+                // Not started yet; start() will find the call cancelled
+                return true;
+            }
+            if (queue.remove(this)) {
+                queuedCount.decrementAndGet();
+            }
+            closeUnstarted(waiting, status);
+            return true;
+        }
+
+        /** Close a queued call whose real call threw while being started. */
+        void failToStart(RuntimeException e) {
+            Listener<RespT> target;
+            synchronized (this) {
+                target = listener;
+            }
+            closeUnstarted(target, Status.INTERNAL.withDescription("Call could not be started").withCause(e));
+        }
+
+        /**
+         * Close a call that never reached the channel. Like the channel, this
+         * calls the listener on the call's executor, never from inside
+         * {@code start} or {@code cancel}.
+         */
+        private void closeUnstarted(Listener<RespT> target, Status status) {
+            Executor executor = callOptions.getExecutor();
+            (executor != null ? executor : CLOSE_EXECUTOR).execute(() -> target.onClose(status, new Metadata()));
+        }
+
+        @Override
+        public void halfClose() {
+            run(ClientCall::halfClose);
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {
+            run(call -> call.sendMessage(message));
+        }
+
+        @Override
+        public void setMessageCompression(boolean enabled) {
+            run(call -> call.setMessageCompression(enabled));
+        }
+
+        @Override
+        public boolean isReady() {
+            ClientCall<ReqT, RespT> call = delegate;
+            return call != null && call.isReady();
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            ClientCall<ReqT, RespT> call = delegate;
+            return call != null ? call.getAttributes() : Attributes.EMPTY;
+        }
+    }
+
+    /** Releases the permit and feeds the round-trip time to the estimator. */
+    private final class PermitListener<RespT> extends ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT> {
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+
+        PermitListener(ClientCall.Listener<RespT> delegate, int inFlightAtStart) {
+            super(delegate);
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            long rtt = System.nanoTime() - startNanos;
+            if (status.isOk()) {
+                onSample(Math.max(1, rtt), false, inFlightAtStart);
+            } else if (isDrop(status.getCode())) {
+                onSample(rtt, true, inFlightAtStart);
+            }
+            // Also starts the extra calls a raised limit allows
+            release();
+            super.onClose(status, trailers);
+        }
+    }
+}
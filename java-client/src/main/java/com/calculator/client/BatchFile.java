@@ -0,0 +1,67 @@
+package com.calculator.client;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Command line front end for {@link CalculatorClient#addFile} and
+ * {@link CalculatorClient#subtractFile}.
+ *
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.calculator.client.BatchFile \
+ *     -Dexec.args="--port 50051 add operands.bin results.bin"
+ * </pre>
+ */
+public class BatchFile {
+    static final String USAGE = "Usage: BatchFile [--host H] [--port P] (add|subtract) INPUT OUTPUT";
+
+    public static void main(String[] args) throws InterruptedException {
+        String host = "localhost";
+        int port = 50051;
+        String[] positional = new String[3];
+        int count = 0;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--host": host = value(args, ++i); break;
+                    case "--port": port = Integer.parseInt(value(args, ++i)); break;
+                    default:
+                        if (count == positional.length) {
+                            throw new IllegalArgumentException("Unexpected argument " + args[i]);
+                        }
+                        positional[count++] = args[i];
+                }
+            }
+            if (count != positional.length) {
+                throw new IllegalArgumentException("Missing operation, input or output");
+            }
+            if (!positional[0].equals("add") && !positional[0].equals("subtract")) {
+                throw new IllegalArgumentException("Unknown operation " + positional[0]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Path input = Paths.get(positional[1]);
+        Path output = Paths.get(positional[2]);
+        CalculatorClient client = new CalculatorClient(host, port);
+        try {
+            long start = System.nanoTime();
+            long pairs = positional[0].equals("add") ? client.addFile(input, output) : client.subtractFile(input, output);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%d pairs in %.2fs (%.0f pairs/s) -> %s%n", pairs, seconds, pairs / seconds, output);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+}
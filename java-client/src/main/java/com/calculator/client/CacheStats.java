@@ -0,0 +1,48 @@
+package com.calculator.client;
+
+/** Point-in-time counters for a client's result cache. */
+public final class CacheStats {
+    private final int capacity;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    CacheStats(int capacity, long hits, long misses, long evictions) {
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /** Maximum number of cached results. */
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Lookups served from the cache without an RPC. */
+    public long hits() {
+        return hits;
+    }
+
+    /** Lookups that had to go to the server. */
+    public long misses() {
+        return misses;
+    }
+
+    /** Results dropped to make room for newer ones. */
+    public long evictions() {
+        return evictions;
+    }
+
+    /** Fraction of lookups that were hits, between 0 and 1. */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("capacity=%d hits=%d misses=%d evictions=%d hitRate=%.3f",
+                capacity, hits, misses, evictions, hitRate());
+    }
+}
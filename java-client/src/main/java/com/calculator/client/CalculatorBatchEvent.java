@@ -0,0 +1,51 @@
+package com.calculator.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one packed batch RPC, from {@code addBatch},
+ * {@code subtractBatch} or micro-batching. Disabled by default, like
+ * {@link CalculatorRpcEvent}; its name is {@code calculator.Batch}.
+ */
+@Name("calculator.Batch")
+@Label("Calculator Batch")
+@Category("Calculator")
+@Description("One packed batch call, from start to close")
+@Enabled(false)
+@StackTrace(false)
+public final class CalculatorBatchEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+
+    @Label("Status")
+    String status;
+
+    @Label("Batch Size")
+    @Description("Operand pairs in the request")
+    int batchSize;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Queue Time")
+    @Description("From the first queued operation, or call start, until the transport stream was created")
+    @Timespan
+    long queueTime;
+
+    @Label("Network Time")
+    @Description("From stream creation until the call closed")
+    @Timespan
+    long networkTime;
+}
@@ -1,37 +1,205 @@
 package com.calculator.client;
 
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.StreamObserver;
 import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+import calculator.Calculator.DoubleChunk;
 import calculator.Calculator.OperationRequest;
 import calculator.Calculator.OperationResponse;
+import calculator.Calculator.StatsResponse;
 
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.DoubleStream;
 
 public class CalculatorClient {
+    /**
+     * Operations sent per streaming call. Keeps each response (8 bytes per
+     * result) well under gRPC's default 4 MiB message limit.
+     */
+    static final int STREAM_CHUNK_SIZE = 65536;
+
+    /** Pairs sent per batch call: 16 bytes each, so requests stay around 2 MiB. */
+    static final int BATCH_CHUNK_SIZE = 131072;
+
+    /** Batch calls of one buffer batch in flight at once. */
+    static final int BUFFER_BATCH_WINDOW = 4;
+
+    /** Pairs per mapped window of a file batch: 1 GiB of input, under the 2 GiB mapping limit. */
+    static final int FILE_WINDOW_PAIRS = 1 << 26;
+
     private final ManagedChannel channel;
     private final CalculatorServiceGrpc.CalculatorServiceBlockingStub blockingStub;
+    private final CalculatorServiceGrpc.CalculatorServiceStub asyncStub;
+    private final InFlightLimiter limiter;  // null when in-flight calls are unbounded
+    private final MicroBatcher batcher;  // null unless micro-batching is enabled
+    private final ResultCache cache;  // null unless result caching is enabled
+    private final ExecutorService virtualExecutor;  // null unless virtual-thread mode is on
+    private final Hedger hedger;  // null unless hedging is enabled
+    private final List<ManagedChannel> hedgeChannels = new ArrayList<>();
+    private ExecutorService platformFanOut;  // created on first platform-thread fanOut
 
     /** Construct client connecting to server at {@code host:port}. */
     public CalculatorClient(String host, int port) {
-        this(ManagedChannelBuilder.forAddress(host, port)
-                .usePlaintext()  // No encryption for simplicity
-                .build());
+        this(newBuilder(host, port));
     }
 
     /** Construct client using existing channel. */
     public CalculatorClient(ManagedChannel channel) {
-        this.channel = channel;
-        blockingStub = CalculatorServiceGrpc.newBlockingStub(channel);
+        this(newBuilder(channel));
+    }
+
+    private CalculatorClient(Builder builder) {
+        virtualExecutor = builder.virtualThreads ? VirtualThreads.newExecutor() : null;
+        this.channel = builder.channel != null
+                ? builder.channel
+                : newChannel(ManagedChannelBuilder.forAddress(builder.host, builder.port));
+        Channel calls = ClientInterceptors.intercept(channel, builder.interceptors());
+        blockingStub = CalculatorServiceGrpc.newBlockingStub(calls);
+        Executor callbackExecutor = builder.executor != null ? builder.executor : virtualExecutor;
+        asyncStub = newAsyncStub(calls, callbackExecutor);
+        if (builder.hedgeEndpoints != null) {
+            List<CalculatorServiceGrpc.CalculatorServiceStub> secondaries = new ArrayList<>();
+            for (String endpoint : builder.hedgeEndpoints) {
+                ManagedChannel secondary = newChannel(ManagedChannelBuilder.forTarget(endpoint));
+                hedgeChannels.add(secondary);
+                secondaries.add(newAsyncStub(
+                        ClientInterceptors.intercept(secondary, builder.interceptors()), callbackExecutor));
+            }
+            hedger = new Hedger(asyncStub, secondaries, builder.hedgePercentile, builder.maxHedgeRatio);
+        } else {
+            hedger = null;
+        }
+        limiter = builder.maxInFlight > 0 ? new InFlightLimiter(builder.maxInFlight) : null;
+        batcher = builder.maxBatchSize > 0
+                ? new MicroBatcher(asyncStub, builder.maxBatchSize, builder.maxBatchDelayNanos)
+                : null;
+        cache = builder.cacheEntries > 0 ? new ResultCache(builder.cacheEntries) : null;
+    }
+
+    private ManagedChannel newChannel(ManagedChannelBuilder<?> channelBuilder) {
+        channelBuilder.usePlaintext();  // No encryption for simplicity
+        if (virtualExecutor != null) {
+            channelBuilder.executor(virtualExecutor);
+        }
+        return channelBuilder.build();
+    }
+
+    private static CalculatorServiceGrpc.CalculatorServiceStub newAsyncStub(Channel channel, Executor executor) {
+        CalculatorServiceGrpc.CalculatorServiceStub stub = CalculatorServiceGrpc.newStub(channel);
+        return executor != null ? stub.withExecutor(executor) : stub;
+    }
+
+    /** Start building a client that connects to {@code host:port}. */
+    public static Builder newBuilder(String host, int port) {
+        return new Builder(host, port, null);
+    }
+
+    /**
+     * Start building a client on top of an existing channel. The channel's
+     * own settings, such as its executor, are left as they are.
+     */
+    public static Builder newBuilder(ManagedChannel channel) {
+        return new Builder(null, 0, channel);
     }
 
     public void shutdown() throws InterruptedException {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+        if (hedger != null) {
+            hedger.shutdown();
+        }
         channel.shutdown();
+        for (ManagedChannel secondary : hedgeChannels) {
+            secondary.shutdown();
+        }
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
+        synchronized (this) {
+            if (platformFanOut != null) {
+                platformFanOut.shutdown();
+            }
+        }
     }
 
     /** Add two numbers */
     public double add(double a, double b) {
+        if (cache == null) {
+            return remoteAdd(a, b);
+        }
+        long cached = cache.get(ResultCache.ADD, a, b);
+        if (cached != ResultCache.MISS) {
+            return Double.longBitsToDouble(cached);
+        }
+        double result = remoteAdd(a, b);
+        cache.put(ResultCache.ADD, a, b, result);
+        return result;
+    }
+
+    /** Subtract two numbers */
+    public double subtract(double a, double b) {
+        if (cache == null) {
+            return remoteSubtract(a, b);
+        }
+        long cached = cache.get(ResultCache.SUBTRACT, a, b);
+        if (cached != ResultCache.MISS) {
+            return Double.longBitsToDouble(cached);
+        }
+        double result = remoteSubtract(a, b);
+        cache.put(ResultCache.SUBTRACT, a, b, result);
+        return result;
+    }
+
+    private double remoteAdd(double a, double b) {
+        if (batcher != null) {
+            return await(batcher.submit(false, a, b));
+        }
+        if (hedger != null) {
+            return await(hedged(false, a, b));
+        }
         OperationRequest request = OperationRequest.newBuilder()
                 .setNumber1(a)
                 .setNumber2(b)
@@ -46,8 +214,13 @@ public class CalculatorClient {
         }
     }
 
-    /** Subtract two numbers */
-    public double subtract(double a, double b) {
+    private double remoteSubtract(double a, double b) {
+        if (batcher != null) {
+            return await(batcher.submit(true, a, b));
+        }
+        if (hedger != null) {
+            return await(hedged(true, a, b));
+        }
         OperationRequest request = OperationRequest.newBuilder()
                 .setNumber1(a)
                 .setNumber2(b)
@@ -62,11 +235,906 @@ public class CalculatorClient {
         }
     }
 
-    /** Interactive calculator menu */
+    /**
+     * Add two numbers with fewer allocations than {@link #add}: the request
+     * is encoded straight into the outgoing buffer and the response parsed
+     * without building protobuf messages. Always a plain unary call, so
+     * caching, micro-batching and hedging do not apply.
+     */
+    public double addRaw(double a, double b) {
+        return rawCall(RawOperations.ADD, a, b);
+    }
+
+    /** Subtract two numbers; see {@link #addRaw}. */
+    public double subtractRaw(double a, double b) {
+        return rawCall(RawOperations.SUBTRACT, a, b);
+    }
+
+    private double rawCall(MethodDescriptor<RawOperations.Operands, Double> method, double a, double b) {
+        try {
+            return ClientCalls.blockingUnaryCall(blockingStub.getChannel(), method,
+                    blockingStub.getCallOptions(), new RawOperations.Operands(a, b));
+        } catch (StatusRuntimeException e) {
+            System.err.println("RPC failed: " + e.getStatus());
+            throw new RuntimeException("RPC failed", e);
+        }
+    }
+
+    /**
+     * Add two numbers without blocking the caller.
+     *
+     * <p>The returned future completes on the executor given to
+     * {@link Builder#executor}, or on the channel's executor by default.
+     */
+    public CompletableFuture<Double> addAsync(double a, double b) {
+        if (cache == null) {
+            return remoteAddAsync(a, b);
+        }
+        long cached = cache.get(ResultCache.ADD, a, b);
+        if (cached != ResultCache.MISS) {
+            return CompletableFuture.completedFuture(Double.longBitsToDouble(cached));
+        }
+        return remoteAddAsync(a, b).thenApply(result -> {
+            cache.put(ResultCache.ADD, a, b, result);
+            return result;
+        });
+    }
+
+    /** Subtract two numbers without blocking the caller. */
+    public CompletableFuture<Double> subtractAsync(double a, double b) {
+        if (cache == null) {
+            return remoteSubtractAsync(a, b);
+        }
+        long cached = cache.get(ResultCache.SUBTRACT, a, b);
+        if (cached != ResultCache.MISS) {
+            return CompletableFuture.completedFuture(Double.longBitsToDouble(cached));
+        }
+        return remoteSubtractAsync(a, b).thenApply(result -> {
+            cache.put(ResultCache.SUBTRACT, a, b, result);
+            return result;
+        });
+    }
+
+    private CompletableFuture<Double> remoteAddAsync(double a, double b) {
+        if (batcher != null) {
+            return batcher.submit(false, a, b);
+        }
+        if (hedger != null) {
+            return hedged(false, a, b);
+        }
+        return unaryAsync(a, b, asyncStub::add);
+    }
+
+    private CompletableFuture<Double> remoteSubtractAsync(double a, double b) {
+        if (batcher != null) {
+            return batcher.submit(true, a, b);
+        }
+        if (hedger != null) {
+            return hedged(true, a, b);
+        }
+        return unaryAsync(a, b, asyncStub::subtract);
+    }
+
+    /**
+     * Evaluate an expression such as {@code ((a + b) - c) + d} in a single
+     * RPC. The expression is parsed and compiled to stack-machine code on
+     * the client; the server runs the program against {@code variables}.
+     *
+     * @throws IllegalArgumentException if the expression is malformed or
+     *     uses a variable missing from {@code variables}
+     */
+    public double evaluate(String expression, Map<String, Double> variables) {
+        return evaluate(Formula.parse(expression), variables);
+    }
+
+    /**
+     * Evaluate a formula in a single RPC; see {@link #evaluate(String, Map)}.
+     * The formula is optimized first, and if no add or subtract is left it
+     * is evaluated locally without an RPC.
+     */
+    public double evaluate(Formula formula, Map<String, Double> variables) {
+        Formula residual = formula.optimize();
+        if (residual.operationCount() == 0) {
+            return residual.evaluate(variables);
+        }
+        Program program = Program.compile(residual);
+        try {
+            return blockingStub.evaluate(program.toRequest(variables)).getResult();
+        } catch (StatusRuntimeException e) {
+            System.err.println("RPC failed: " + e.getStatus());
+            throw new RuntimeException("RPC failed", e);
+        }
+    }
+
+    /**
+     * Register an expression on the server once, for executing it against
+     * many sets of variable values; see {@link PreparedExpression}.
+     */
+    public PreparedExpression prepare(String expression) {
+        return prepare(Formula.parse(expression));
+    }
+
+    /** Register a formula on the server once; see {@link PreparedExpression}. */
+    public PreparedExpression prepare(Formula formula) {
+        return new PreparedExpression(blockingStub, Program.compile(formula.optimize()));
+    }
+
+    /**
+     * Create an executor that evaluates formulas as individual add and
+     * subtract calls, with independent branches in flight concurrently but
+     * never more than {@code parallelism} calls at a time.
+     */
+    public DagExecutor dagExecutor(int parallelism) {
+        return new DagExecutor(this, parallelism);
+    }
+
+    /**
+     * Run {@code count} blocking calls concurrently, one task per index, and
+     * collect what {@code call} returns for each. In virtual-thread mode every
+     * task gets its own virtual thread; otherwise tasks run on a cached pool
+     * of platform threads. For example
+     * {@code client.fanOut(a.length, i -> client.add(a[i], b[i]))}.
+     */
+    public double[] fanOut(int count, IntToDoubleFunction call) {
+        ExecutorService executor = fanOutExecutor();
+        double[] results = new double[count];
+        List<Future<?>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks.add(executor.submit(() -> {
+                results[index] = call.applyAsDouble(index);
+            }));
+        }
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for RPC", e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new RuntimeException("RPC failed", e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private synchronized ExecutorService fanOutExecutor() {
+        if (virtualExecutor != null) {
+            return virtualExecutor;
+        }
+        if (platformFanOut == null) {
+            platformFanOut = Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "calculator-fan-out");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return platformFanOut;
+    }
+
+    /** Add {@code a[i] + b[i]} for every index, sending packed batches. */
+    public double[] addBatch(double[] a, double[] b) {
+        return batchAll(a, b, false);
+    }
+
+    /** Subtract {@code a[i] - b[i]} for every index, sending packed batches. */
+    public double[] subtractBatch(double[] a, double[] b) {
+        return batchAll(a, b, true);
+    }
+
+    private double[] batchAll(double[] a, double[] b, boolean subtract) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException(
+                    "Operand arrays differ in length: " + a.length + " != " + b.length);
+        }
+        double[] results = new double[a.length];
+        for (int offset = 0; offset < a.length; offset += BATCH_CHUNK_SIZE) {
+            int length = Math.min(BATCH_CHUNK_SIZE, a.length - offset);
+            BatchOperationRequest request = batchRequest(a, b, offset, length);
+            BatchOperationResponse response;
+            try {
+                response = subtract ? blockingStub.subtractBatch(request) : blockingStub.addBatch(request);
+            } catch (StatusRuntimeException e) {
+                System.err.println("RPC failed: " + e.getStatus());
+                throw new RuntimeException("RPC failed", e);
+            }
+            copyResults(response, results, offset, length);
+        }
+        return results;
+    }
+
+    /**
+     * Add pairs from two buffers and write the sums to {@code results},
+     * without copying the operands into {@code double[]} or protobuf
+     * messages. Meant for direct buffers holding more data than should live
+     * on the heap: operands are streamed to the wire in chunks and each
+     * response is decoded straight into {@code results}, with a few chunks
+     * in flight at a time.
+     *
+     * <p>Reads {@code a} and {@code b} from position to limit and writes
+     * {@code results} from its position; no buffer's position changes.
+     *
+     * @throws IllegalArgumentException if {@code a} and {@code b} have
+     *     different remaining lengths or {@code results} has less room
+     */
+    public void addBatch(DoubleBuffer a, DoubleBuffer b, DoubleBuffer results) {
+        bufferBatch(CalculatorServiceGrpc.getAddBatchMethod(), a, b, results);
+    }
+
+    /** Subtract pairs from two buffers; see {@link #addBatch(DoubleBuffer, DoubleBuffer, DoubleBuffer)}. */
+    public void subtractBatch(DoubleBuffer a, DoubleBuffer b, DoubleBuffer results) {
+        bufferBatch(CalculatorServiceGrpc.getSubtractBatchMethod(), a, b, results);
+    }
+
+    private void bufferBatch(MethodDescriptor<BatchOperationRequest, BatchOperationResponse> method,
+                             DoubleBuffer a, DoubleBuffer b, DoubleBuffer results) {
+        int count = a.remaining();
+        if (b.remaining() != count) {
+            throw new IllegalArgumentException("Operand buffers differ in length: " + count + " vs " + b.remaining());
+        }
+        bufferBatch(method, a, b, 1, count, results);
+    }
+
+    /** Operands are {@code count} values {@code stride} elements apart in {@code a} and {@code b}. */
+    private void bufferBatch(MethodDescriptor<BatchOperationRequest, BatchOperationResponse> method,
+                             DoubleBuffer a, DoubleBuffer b, int stride, int count, DoubleBuffer results) {
+        if (results.remaining() < count) {
+            throw new IllegalArgumentException("Result buffer has room for " + results.remaining()
+                    + " values, needs " + count);
+        }
+        Semaphore window = new Semaphore(BUFFER_BATCH_WINDOW);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            for (int offset = 0; offset < count && failure.get() == null; offset += BATCH_CHUNK_SIZE) {
+                int length = Math.min(BATCH_CHUNK_SIZE, count - offset);
+                window.acquire();
+                ClientCall<PackedBuffers.Operands, Integer> call = asyncStub.getChannel().newCall(
+                        PackedBuffers.descriptor(method, PackedBuffers.slice(results, offset, length)),
+                        asyncStub.getCallOptions());
+                ClientCalls.asyncUnaryCall(call,
+                        new PackedBuffers.Operands(PackedBuffers.slice(a, offset, length, stride),
+                                PackedBuffers.slice(b, offset, length, stride), stride, length),
+                        new BufferChunkObserver(length, window, failure));
+            }
+            // Every permit back means every chunk has been written to results
+            window.acquire(BUFFER_BATCH_WINDOW);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for RPC", e);
+        }
+        Throwable error = failure.get();
+        if (error != null) {
+            System.err.println("RPC failed: " + error);
+            throw new RuntimeException("RPC failed", error);
+        }
+    }
+
+    /**
+     * Add every pair of a binary file and write the sums to another: the
+     * input holds little-endian {@code double} pairs {@code a0 b0 a1 b1 ...}
+     * and the output, created or truncated to the right size, gets one
+     * little-endian {@code double} per pair at the matching index. Both
+     * files are memory-mapped in windows of {@value #FILE_WINDOW_PAIRS}
+     * pairs and streamed like {@link #addBatch(DoubleBuffer, DoubleBuffer,
+     * DoubleBuffer)}, so files far larger than the heap work.
+     *
+     * <p>Each window's results are forced to storage once its last chunk
+     * has been written. Java cannot unmap a window, so its mappings stay
+     * until the garbage collector frees them: 1.5 GiB of address space per
+     * window, which a 64-bit JVM has room for, but a huge file can leave many
+     * windows' dirty pages to the page cache at once.
+     *
+     * @return the number of pairs processed
+     * @throws IllegalArgumentException if the input size is not a multiple
+     *     of 16 bytes, or if the input and output are the same file
+     * @throws UncheckedIOException if a file cannot be read or written
+     */
+    public long addFile(Path input, Path output) {
+        return fileBatch(CalculatorServiceGrpc.getAddBatchMethod(), input, output);
+    }
+
+    /** Subtract every pair of a binary file; see {@link #addFile}. */
+    public long subtractFile(Path input, Path output) {
+        return fileBatch(CalculatorServiceGrpc.getSubtractBatchMethod(), input, output);
+    }
+
+    private long fileBatch(MethodDescriptor<BatchOperationRequest, BatchOperationResponse> method,
+                           Path input, Path output) {
+        try {
+            // The output is truncated once opened, which would wipe the input
+            if (Files.exists(output) && Files.isSameFile(input, output)) {
+                throw new IllegalArgumentException("Input and output are the same file: " + input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            if (size % (2 * Double.BYTES) != 0) {
+                throw new IllegalArgumentException(input + " holds " + size
+                        + " bytes, not a whole number of double pairs");
+            }
+            long pairs = size / (2 * Double.BYTES);
+            if (pairs > 0) {
+                // Pre-size the output so every window can be mapped read-write
+                out.write(ByteBuffer.allocate(1), pairs * Double.BYTES - 1);
+            }
+            for (long first = 0; first < pairs; first += FILE_WINDOW_PAIRS) {
+                int count = (int) Math.min(FILE_WINDOW_PAIRS, pairs - first);
+                DoubleBuffer operands = in.map(FileChannel.MapMode.READ_ONLY, first * 2 * Double.BYTES,
+                        (long) count * 2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                MappedByteBuffer resultBytes = out.map(FileChannel.MapMode.READ_WRITE, first * Double.BYTES,
+                        (long) count * Double.BYTES);
+                DoubleBuffer results = resultBytes.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                DoubleBuffer second = operands.duplicate();
+                second.position(1);
+                bufferBatch(method, operands, second, 2, count, results);
+                // Every chunk of the window is in; flush them together
+                resultBytes.force();
+            }
+            return pairs;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static BatchOperationRequest batchRequest(double[] a, double[] b, int offset, int length) {
+        BatchOperationRequest.Builder request = BatchOperationRequest.newBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            request.addNumber1(a[i]);
+        }
+        for (int i = offset; i < offset + length; i++) {
+            request.addNumber2(b[i]);
+        }
+        return request.build();
+    }
+
+    /** Fail the call unless {@code response} holds exactly {@code expected} results. */
+    static void checkResultCount(BatchOperationResponse response, int expected) {
+        if (response.getResultCount() != expected) {
+            throw new RuntimeException("RPC failed: expected " + expected
+                    + " results, got " + response.getResultCount());
+        }
+    }
+
+    static void copyResults(BatchOperationResponse response, double[] results, int offset, int length) {
+        checkResultCount(response, length);
+        for (int i = 0; i < length; i++) {
+            results[offset + i] = response.getResult(i);
+        }
+    }
+
+    /**
+     * Add every pair from {@code pairs}, streaming them to the server
+     * instead of making one call per pair. Results are in input order.
+     */
+    public double[] addStream(Iterator<OperationRequest> pairs) {
+        return streamAll(pairs, asyncStub::addStream);
+    }
+
+    /** Subtract every pair from {@code pairs}; see {@link #addStream}. */
+    public double[] subtractStream(Iterator<OperationRequest> pairs) {
+        return streamAll(pairs, asyncStub::subtractStream);
+    }
+
+    private double[] streamAll(
+            Iterator<OperationRequest> pairs,
+            Function<StreamObserver<BatchOperationResponse>, StreamObserver<OperationRequest>> rpc) {
+        double[] results = new double[0];
+        int count = 0;
+        while (pairs.hasNext()) {
+            CompletableFuture<BatchOperationResponse> response = new CompletableFuture<>();
+            StreamObserver<OperationRequest> requests = rpc.apply(new BatchObserver(response));
+            int sent = 0;
+            try {
+                while (sent < STREAM_CHUNK_SIZE && pairs.hasNext()) {
+                    requests.onNext(pairs.next());
+                    sent++;
+                }
+            } catch (RuntimeException e) {
+                requests.onError(e);
+                throw e;
+            }
+            requests.onCompleted();
+
+            BatchOperationResponse batch = awaitBatch(response);
+            if (batch.getResultCount() != sent) {
+                throw new RuntimeException("RPC failed: expected " + sent
+                        + " results, got " + batch.getResultCount());
+            }
+            if (count + sent > results.length) {
+                results = Arrays.copyOf(results, Math.max(count + sent, results.length * 2));
+            }
+            for (int i = 0; i < sent; i++) {
+                results[count++] = batch.getResult(i);
+            }
+        }
+        return results.length == count ? results : Arrays.copyOf(results, count);
+    }
+
+    /**
+     * Sum {@code values} on the server in one streaming call, with
+     * compensated summation instead of a chain of dependent adds.
+     */
+    public double sum(double[] values) {
+        return sum(Arrays.stream(values));
+    }
+
+    /** Sum a stream of values; see {@link #sum(double[])}. */
+    public double sum(DoubleStream values) {
+        ColumnCall<OperationResponse> call = ColumnCall.run(asyncStub::sum, values.iterator());
+        return call.response().getResult();
+    }
+
+    /** Running sums: element i of the result is the sum of {@code values[0..i]}. */
+    public double[] prefixSum(double[] values) {
+        return prefixSum(Arrays.stream(values));
+    }
+
+    /**
+     * Running sums of a stream of values; see {@link #prefixSum(double[])}.
+     *
+     * @throws IllegalArgumentException if the stream holds more values than
+     *     an array can; the call is cancelled once that is known
+     */
+    public double[] prefixSum(DoubleStream values) {
+        ColumnCall<DoubleChunk> call = ColumnCall.run(asyncStub::prefixSum, values.iterator(), Integer.MAX_VALUE);
+        long received = 0;
+        for (DoubleChunk chunk : call.responses()) {
+            received += chunk.getValuesCount();
+        }
+        if (received != call.sent()) {
+            throw new RuntimeException("RPC failed: expected " + call.sent()
+                    + " prefix sums, got " + received);
+        }
+        double[] sums = new double[(int) received];
+        int count = 0;
+        for (DoubleChunk chunk : call.responses()) {
+            for (int i = 0; i < chunk.getValuesCount(); i++) {
+                sums[count++] = chunk.getValues(i);
+            }
+        }
+        return sums;
+    }
+
+    /** Count, sum, min, max and mean of {@code values}, in one streaming call. */
+    public ColumnStats stats(double[] values) {
+        return stats(Arrays.stream(values));
+    }
+
+    /** Statistics of a stream of values; see {@link #stats(double[])}. */
+    public ColumnStats stats(DoubleStream values) {
+        StatsResponse response = ColumnCall.run(asyncStub::stats, values.iterator()).response();
+        return new ColumnStats(response.getCount(), response.getSum(),
+                response.getMin(), response.getMax(), response.getMean());
+    }
+
+    private static BatchOperationResponse awaitBatch(CompletableFuture<BatchOperationResponse> response) {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for RPC", e);
+        } catch (ExecutionException e) {
+            System.err.println("RPC failed: " + e.getCause());
+            throw new RuntimeException("RPC failed", e.getCause());
+        }
+    }
+
+    /** Send one AddBatch or SubtractBatch call without waiting for it. */
+    CompletableFuture<BatchOperationResponse> batchAsync(BatchOperationRequest request, boolean subtract) {
+        CompletableFuture<BatchOperationResponse> response = new CompletableFuture<>();
+        if (subtract) {
+            asyncStub.subtractBatch(request, new BatchObserver(response));
+        } else {
+            asyncStub.addBatch(request, new BatchObserver(response));
+        }
+        return response;
+    }
+
+    /** Block until a future from one of the async paths completes. */
+    static double await(CompletableFuture<Double> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for RPC", e);
+        } catch (ExecutionException e) {
+            System.err.println("RPC failed: " + e.getCause());
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException("RPC failed", e.getCause());
+        }
+    }
+
+    /**
+     * Open a long-lived pipeline stream that many threads can share. Close
+     * it when done; the client's channel stays open.
+     */
+    public CalculatorPipeline openPipeline() {
+        return new CalculatorPipeline(asyncStub);
+    }
+
+    /**
+     * Batch fill counters for micro-batching mode.
+     *
+     * @throws IllegalStateException if micro-batching is not enabled
+     */
+    public MicroBatchStats microBatchStats() {
+        if (batcher == null) {
+            throw new IllegalStateException("Micro-batching is not enabled");
+        }
+        return batcher.stats();
+    }
+
+    /**
+     * Hit, miss and eviction counters of the result cache.
+     *
+     * @throws IllegalStateException if result caching is not enabled
+     */
+    public CacheStats cacheStats() {
+        if (cache == null) {
+            throw new IllegalStateException("Result caching is not enabled");
+        }
+        return cache.stats();
+    }
+
+    /**
+     * Hedge and win counters for hedging mode.
+     *
+     * @throws IllegalStateException if hedging is not enabled
+     */
+    public HedgeStats hedgeStats() {
+        if (hedger == null) {
+            throw new IllegalStateException("Hedging is not enabled");
+        }
+        return hedger.stats();
+    }
+
+    /** Connectivity state of the channel, without triggering a connection. */
+    ConnectivityState channelState() {
+        return channel.getState(false);
+    }
+
+    /**
+     * Number of asynchronous add/subtract calls currently on the wire.
+     * Calls are only counted when {@link Builder#maxInFlight} is set; without
+     * a limit nothing is tracked and this always returns 0.
+     */
+    public int inFlight() {
+        return limiter != null ? limiter.inFlight() : 0;
+    }
+
+    private CompletableFuture<Double> unaryAsync(
+            double a, double b, BiConsumer<OperationRequest, StreamObserver<OperationResponse>> rpc) {
+        OperationRequest request = OperationRequest.newBuilder()
+                .setNumber1(a)
+                .setNumber2(b)
+                .build();
+        CompletableFuture<Double> result = new CompletableFuture<>();
+        if (limiter == null) {
+            rpc.accept(request, new ResultObserver(result, null));
+        } else {
+            limiter.submit(() -> {
+                ResultObserver observer = new ResultObserver(result, limiter);
+                try {
+                    rpc.accept(request, observer);
+                } catch (RuntimeException e) {
+                    // The call could not be started, for example by a failing interceptor
+                    observer.onError(e);
+                }
+            });
+        }
+        return result;
+    }
+
+    private CompletableFuture<Double> hedged(boolean subtract, double a, double b) {
+        OperationRequest request = OperationRequest.newBuilder()
+                .setNumber1(a)
+                .setNumber2(b)
+                .build();
+        if (limiter == null) {
+            return hedger.call(subtract, request);
+        }
+        CompletableFuture<Double> result = new CompletableFuture<>();
+        limiter.submit(() -> {
+            CompletableFuture<Double> call;
+            try {
+                call = hedger.call(subtract, request);
+            } catch (RuntimeException e) {
+                limiter.release();
+                result.completeExceptionally(e);
+                return;
+            }
+            call.whenComplete((value, error) -> {
+                limiter.release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Completes a future with the single response of a unary call. A call
+     * that throws while starting may still be closed through onError later,
+     * so its limiter slot is released only once.
+     */
+    private static final class ResultObserver implements StreamObserver<OperationResponse> {
+        private final CompletableFuture<Double> result;
+        private final InFlightLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ResultObserver(CompletableFuture<Double> result, InFlightLimiter limiter) {
+            this.result = result;
+            this.limiter = limiter;
+        }
+
+        @Override
+        public void onNext(OperationResponse response) {
+            result.complete(response.getResult());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            release();
+            result.completeExceptionally(new RuntimeException("RPC failed", t));
+        }
+
+        @Override
+        public void onCompleted() {
+            release();
+        }
+
+        private void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+
+    /** Completes a future with the single response of a client-streaming call. */
+    private static final class BatchObserver implements StreamObserver<BatchOperationResponse> {
+        private final CompletableFuture<BatchOperationResponse> result;
+
+        BatchObserver(CompletableFuture<BatchOperationResponse> result) {
+            this.result = result;
+        }
+
+        @Override
+        public void onNext(BatchOperationResponse response) {
+            result.complete(response);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            // The response was delivered by onNext
+        }
+    }
+
+    /** Checks the result count of one buffer batch chunk and frees its window slot. */
+    private static final class BufferChunkObserver implements StreamObserver<Integer> {
+        private final int expected;
+        private final Semaphore window;
+        private final AtomicReference<Throwable> failure;
+
+        BufferChunkObserver(int expected, Semaphore window, AtomicReference<Throwable> failure) {
+            this.expected = expected;
+            this.window = window;
+            this.failure = failure;
+        }
+
+        @Override
+        public void onNext(Integer written) {
+            if (written != expected) {
+                failure.compareAndSet(null,
+                        new IllegalStateException("Expected " + expected + " results, got " + written));
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            failure.compareAndSet(null, t);
+            window.release();
+        }
+
+        @Override
+        public void onCompleted() {
+            window.release();
+        }
+    }
+
+    /** Options for a {@link CalculatorClient}. */
+    public static final class Builder {
+        private final String host;
+        private final int port;
+        private final ManagedChannel channel;
+        private Executor executor;
+        private int maxInFlight;
+        private int maxBatchSize;
+        private long maxBatchDelayNanos;
+        private int cacheEntries;
+        private boolean virtualThreads;
+        private final List<ClientInterceptor> interceptors = new ArrayList<>();
+        private List<String> hedgeEndpoints;
+        private double hedgePercentile;
+        private double maxHedgeRatio;
+
+        private Builder(String host, int port, ManagedChannel channel) {
+            this.host = host;
+            this.port = port;
+            this.channel = channel;
+        }
+
+        /** Executor that completes the futures returned by the async methods. */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Cap on asynchronous calls on the wire at once. Further calls are
+         * queued and started as earlier ones complete. Zero means no cap.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 0) {
+                throw new IllegalArgumentException("maxInFlight must not be negative: " + maxInFlight);
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Send scalar {@code add}/{@code subtract} calls, blocking or async,
+         * as packed batch RPCs. A batch goes out once it holds
+         * {@code maxBatchSize} calls or {@code maxDelay} after its first call,
+         * whichever comes first. For example {@code microBatching(256, 200,
+         * TimeUnit.MICROSECONDS)}.
+         */
+        public Builder microBatching(int maxBatchSize, long maxDelay, TimeUnit unit) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+            }
+            if (maxDelay < 0) {
+                throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelay);
+            }
+            this.maxBatchSize = maxBatchSize;
+            this.maxBatchDelayNanos = unit.toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Memoize scalar {@code add}/{@code subtract} results, keeping at
+         * most about {@code maxEntries} of them (rounded down to a power of
+         * two). A hit returns without an RPC. Keys compare the operands'
+         * exact bit patterns, so {@code 0.0} and {@code -0.0} are distinct.
+         */
+        public Builder resultCache(int maxEntries) {
+            if (maxEntries < 8) {
+                throw new IllegalArgumentException("maxEntries must be at least 8: " + maxEntries);
+            }
+            this.cacheEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Run the channel's callbacks, async completions and {@link #fanOut}
+         * tasks on virtual threads, so thread-per-request code using the
+         * blocking methods scales without platform threads. Needs a Java 21+
+         * runtime; the client itself is built for Java 11.
+         *
+         * <p>A channel passed to {@link #newBuilder(ManagedChannel)} keeps the
+         * executor it was built with; only async completions and fan-out
+         * tasks move to virtual threads then.
+         */
+        public Builder virtualThreads() {
+            if (!VirtualThreads.isSupported()) {
+                throw new UnsupportedOperationException(
+                        "Virtual threads need Java 21 or newer, running on " + System.getProperty("java.version"));
+            }
+            this.virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * Run every call through {@code interceptors}, for example an
+         * {@link AdaptiveConcurrencyLimiter}. As with
+         * {@link ClientInterceptors#intercept(Channel, ClientInterceptor...)},
+         * the last interceptor sees each call first. Repeated calls append.
+         */
+        public Builder intercept(ClientInterceptor... interceptors) {
+            this.interceptors.addAll(Arrays.asList(interceptors));
+            return this;
+        }
+
+        /**
+         * Hedge scalar {@code add}/{@code subtract} calls: when a call has not
+         * been answered after the {@code delayPercentile} of recent latencies,
+         * send a duplicate to the next of {@code secondaryEndpoints} (gRPC
+         * targets such as {@code "replica-2:50051"}), take whichever answers
+         * first and cancel the other. Hedges are limited to
+         * {@code maxHedgeRatio} of calls, for example {@code hedging(
+         * List.of("replica-2:50051"), 95, 0.05)}. No hedges are sent until
+         * about a hundred latencies have been measured.
+         *
+         * <p>To hedge across the addresses of a single channel instead, pass a
+         * channel built with a service config {@code hedgingPolicy} to
+         * {@link CalculatorClient#newBuilder(ManagedChannel)}.
+         */
+        public Builder hedging(List<String> secondaryEndpoints, double delayPercentile, double maxHedgeRatio) {
+            if (secondaryEndpoints.isEmpty()) {
+                throw new IllegalArgumentException("Hedging needs at least one secondary endpoint");
+            }
+            if (!(delayPercentile > 0 && delayPercentile < 100)) {
+                throw new IllegalArgumentException("delayPercentile must be between 0 and 100: " + delayPercentile);
+            }
+            if (!(maxHedgeRatio > 0 && maxHedgeRatio <= 1)) {
+                throw new IllegalArgumentException("maxHedgeRatio must be in (0, 1]: " + maxHedgeRatio);
+            }
+            this.hedgeEndpoints = new ArrayList<>(secondaryEndpoints);
+            this.hedgePercentile = delayPercentile;
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        /** User interceptors plus JFR events, which see each call first. */
+        private List<ClientInterceptor> interceptors() {
+            List<ClientInterceptor> all = new ArrayList<>(interceptors);
+            all.add(new JfrInterceptor());
+            return all;
+        }
+
+        public CalculatorClient build() {
+            if (hedgeEndpoints != null && maxBatchSize > 0) {
+                throw new IllegalStateException("Hedging and micro-batching cannot be combined");
+            }
+            return new CalculatorClient(this);
+        }
+    }
+
+    /**
+     * Interactive menu by default. With {@code --pipe [--host H] [--port P]}
+     * reads {@code op a b} lines from stdin and writes one result per line to
+     * stdout; see {@link PipeMode}.
+     */
     public static void main(String[] args) throws InterruptedException {
         String serverHost = "localhost";
         int serverPort = 50051;
-        
+        boolean pipe = false;
+        for (int i = 0; i < args.length; i++) {
+            String flag = args[i];
+            if (flag.equals("--pipe")) {
+                pipe = true;
+            } else if ((flag.equals("--host") || flag.equals("--port")) && i + 1 < args.length) {
+                String value = args[++i];
+                if (flag.equals("--host")) {
+                    serverHost = value;
+                } else {
+                    serverPort = Integer.parseInt(value);
+                }
+            } else {
+                System.err.println("Usage: CalculatorClient [--pipe] [--host H] [--port P]");
+                System.exit(2);
+                return;
+            }
+        }
+        if (pipe) {
+            System.exit(runPipe(serverHost, serverPort));
+            return;
+        }
+
         System.out.println("=== gRPC Calculator Client ===");
         System.out.println("Connecting to server at " + serverHost + ":" + serverPort);
         
@@ -114,6 +1182,29 @@ public class CalculatorClient {
         }
     }
     
+    private static int runPipe(String host, int port) throws InterruptedException {
+        CalculatorClient client = new CalculatorClient(host, port);
+        try {
+            new PipeMode(client, new FileInputStream(FileDescriptor.in),
+                    new FileOutputStream(FileDescriptor.out)).run();
+            return 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        } catch (IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            return 1;
+        } catch (RuntimeException e) {
+            // Failed calls were reported where they failed; anything else is a bug
+            if (!(e.getCause() instanceof StatusRuntimeException)) {
+                e.printStackTrace();
+            }
+            return 1;
+        } finally {
+            client.shutdown();
+        }
+    }
+
     private static void printMenu() {
         System.out.println("\n=== Calculator Menu ===");
         System.out.println("1. Add two numbers");
@@ -0,0 +1,160 @@
+package com.calculator.client;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.Operation;
+import calculator.Calculator.PipelineRequest;
+import calculator.Calculator.PipelineResponse;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Multiplexes many concurrent calls onto one long-lived ComputePipeline
+ * stream. Each request is tagged with a sequence id and its future is
+ * completed when the response with the same id arrives, in any order.
+ *
+ * <p>Requests are only written while the stream reports {@code isReady()};
+ * the rest wait in a queue until gRPC signals {@code onReady}. Create one
+ * with {@link CalculatorClient#openPipeline()}.
+ */
+public final class CalculatorPipeline implements AutoCloseable {
+    private final Map<Long, CompletableFuture<Double>> pending = new ConcurrentHashMap<>();
+    private final Queue<PipelineRequest> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private volatile ClientCallStreamObserver<PipelineRequest> requests;
+    private volatile Throwable failure;  // set once the stream has ended
+    private volatile boolean closing;
+    private boolean halfClosed;  // only touched by the draining thread
+
+    CalculatorPipeline(CalculatorServiceGrpc.CalculatorServiceStub stub) {
+        stub.computePipeline(new ResponseObserver());
+    }
+
+    /** Add two numbers over the pipeline. */
+    public CompletableFuture<Double> add(double a, double b) {
+        return submit(Operation.ADD, a, b);
+    }
+
+    /** Subtract two numbers over the pipeline. */
+    public CompletableFuture<Double> subtract(double a, double b) {
+        return submit(Operation.SUBTRACT, a, b);
+    }
+
+    /** Number of calls sent or queued that have not completed yet. */
+    public int pending() {
+        return pending.size();
+    }
+
+    /**
+     * Stop accepting calls and half-close the stream once every queued
+     * request has been written. Outstanding futures still complete.
+     */
+    @Override
+    public void close() {
+        closing = true;
+        drain();
+    }
+
+    private CompletableFuture<Double> submit(Operation operation, double a, double b) {
+        CompletableFuture<Double> result = new CompletableFuture<>();
+        if (closing || failure != null) {
+            result.completeExceptionally(new IllegalStateException("Pipeline is closed", failure));
+            return result;
+        }
+        long id = nextId.getAndIncrement();
+        pending.put(id, result);
+        outbound.add(PipelineRequest.newBuilder()
+                .setId(id)
+                .setOperation(operation)
+                .setNumber1(a)
+                .setNumber2(b)
+                .build());
+        drain();
+        return result;
+    }
+
+    /** Write queued requests while the transport accepts them. Never runs concurrently. */
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            ClientCallStreamObserver<PipelineRequest> stream = requests;
+            Throwable ended = failure;
+            if (ended == null && halfClosed) {
+                ended = new IllegalStateException("Pipeline is closed");
+            }
+            if (ended != null) {
+                // Anything that raced past the closed check cannot be sent anymore
+                PipelineRequest next;
+                while ((next = outbound.poll()) != null) {
+                    fail(next.getId(), ended);
+                }
+            } else if (stream != null) {
+                while (stream.isReady()) {
+                    PipelineRequest next = outbound.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    stream.onNext(next);
+                }
+                if (closing && outbound.isEmpty()) {
+                    halfClosed = true;
+                    stream.onCompleted();
+                }
+            }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void fail(long id, Throwable cause) {
+        CompletableFuture<Double> result = pending.remove(id);
+        if (result != null) {
+            result.completeExceptionally(new RuntimeException("RPC failed", cause));
+        }
+    }
+
+    private void failAll(Throwable cause) {
+        failure = cause;
+        for (Long id : pending.keySet()) {
+            fail(id, cause);
+        }
+        drain();
+    }
+
+    private final class ResponseObserver implements ClientResponseObserver<PipelineRequest, PipelineResponse> {
+        @Override
+        public void beforeStart(ClientCallStreamObserver<PipelineRequest> stream) {
+            requests = stream;
+            stream.setOnReadyHandler(CalculatorPipeline.this::drain);
+        }
+
+        @Override
+        public void onNext(PipelineResponse response) {
+            CompletableFuture<Double> result = pending.remove(response.getId());
+            if (result != null) {
+                result.complete(response.getResult());
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            System.err.println("Pipeline failed: " + t);
+            failAll(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            failAll(new IllegalStateException("Pipeline closed by server"));
+        }
+    }
+}
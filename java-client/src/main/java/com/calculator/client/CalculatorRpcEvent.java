@@ -0,0 +1,51 @@
+package com.calculator.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one calculator RPC that is not a packed batch. Disabled by
+ * default; enable it in a recording with
+ * {@code -XX:StartFlightRecording:settings=profile,+calculator.Rpc#enabled=true}
+ * (JDK 17+) or a {@code .jfc} file.
+ */
+@Name("calculator.Rpc")
+@Label("Calculator RPC")
+@Category("Calculator")
+@Description("One calculator call, from start to close")
+@Enabled(false)
+@StackTrace(false)
+public final class CalculatorRpcEvent extends jdk.jfr.Event {
+    @Label("Method")
+    String method;
+
+    @Label("Status")
+    String status;
+
+    @Label("Messages Sent")
+    int messagesSent;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Queue Time")
+    @Description("From call start until the transport stream was created")
+    @Timespan
+    long queueTime;
+
+    @Label("Network Time")
+    @Description("From stream creation until the call closed")
+    @Timespan
+    long networkTime;
+}
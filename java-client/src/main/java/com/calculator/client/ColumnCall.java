@@ -0,0 +1,152 @@
+package com.calculator.client;
+
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import calculator.Calculator.DoubleChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Streams a column of doubles to one of the Sum, PrefixSum or Stats RPCs
+ * and collects the responses.
+ *
+ * <p>Values are sent in chunks of {@value #CHUNK_SIZE} and only while the
+ * transport reports {@code isReady()}, so a long {@code DoubleStream} is
+ * never buffered in memory as a whole.
+ */
+final class ColumnCall<R> implements ClientResponseObserver<DoubleChunk, R> {
+    /** Values per request message: 64 KiB of doubles. */
+    static final int CHUNK_SIZE = 8192;
+
+    private final List<R> responses = new ArrayList<>();
+    private final CompletableFuture<List<R>> done = new CompletableFuture<>();
+    private ClientCallStreamObserver<DoubleChunk> requests;
+    private long sent;
+
+    private ColumnCall() {
+    }
+
+    /** Send every value and block until the server has answered the whole column. */
+    static <R> ColumnCall<R> run(Function<StreamObserver<R>, StreamObserver<DoubleChunk>> rpc,
+                                 PrimitiveIterator.OfDouble values) {
+        return run(rpc, values, Long.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #run(Function, PrimitiveIterator.OfDouble)}, but cancels
+     * the call as soon as the column turns out to be longer than
+     * {@code maxValues}.
+     *
+     * @throws IllegalArgumentException if there are more than
+     *     {@code maxValues} values
+     */
+    static <R> ColumnCall<R> run(Function<StreamObserver<R>, StreamObserver<DoubleChunk>> rpc,
+                                 PrimitiveIterator.OfDouble values, long maxValues) {
+        ColumnCall<R> call = new ColumnCall<>();
+        StreamObserver<DoubleChunk> requests = rpc.apply(call);
+        try {
+            while (values.hasNext() && call.awaitReady()) {
+                DoubleChunk.Builder chunk = DoubleChunk.newBuilder();
+                for (int i = 0; i < CHUNK_SIZE && values.hasNext(); i++) {
+                    if (call.sent + i == maxValues) {
+                        throw new IllegalArgumentException("Too many values for one array: more than " + maxValues);
+                    }
+                    chunk.addValues(values.nextDouble());
+                }
+                requests.onNext(chunk.build());
+                call.sent += chunk.getValuesCount();
+            }
+        } catch (RuntimeException e) {
+            requests.onError(e);
+            throw e;
+        }
+        requests.onCompleted();
+        call.await();
+        return call;
+    }
+
+    /** Values sent to the server. */
+    long sent() {
+        return sent;
+    }
+
+    /** Responses in arrival order; only valid once {@link #run} has returned. */
+    List<R> responses() {
+        return responses;
+    }
+
+    /**
+     * The one response of a call that answers the whole column at once.
+     *
+     * @throws RuntimeException "RPC failed" if the server closed the call
+     *     without answering
+     */
+    R response() {
+        if (responses.isEmpty()) {
+            Status status = Status.INTERNAL.withDescription("No value received for the column");
+            System.err.println("RPC failed: " + status);
+            throw new RuntimeException("RPC failed", status.asRuntimeException());
+        }
+        return responses.get(0);
+    }
+
+    /** Wait until the stream accepts more data; false if the call has already ended. */
+    private synchronized boolean awaitReady() {
+        try {
+            while (!requests.isReady() && !done.isDone()) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for RPC", e);
+        }
+        return !done.isDone();
+    }
+
+    private void await() {
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            requests.cancel("Interrupted", e);
+            throw new RuntimeException("Interrupted while waiting for RPC", e);
+        } catch (ExecutionException e) {
+            System.err.println("RPC failed: " + e.getCause());
+            throw new RuntimeException("RPC failed", e.getCause());
+        }
+    }
+
+    private synchronized void wake() {
+        notifyAll();
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<DoubleChunk> stream) {
+        requests = stream;
+        stream.setOnReadyHandler(this::wake);
+    }
+
+    @Override
+    public void onNext(R response) {
+        responses.add(response);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        done.completeExceptionally(t);
+        wake();
+    }
+
+    @Override
+    public void onCompleted() {
+        done.complete(responses);
+        wake();
+    }
+}
@@ -0,0 +1,53 @@
+package com.calculator.client;
+
+/**
+ * Count, sum, min, max and mean of a column, computed by the server. Follows
+ * {@link java.util.DoubleSummaryStatistics}: an empty column has min
+ * {@code +Infinity}, max {@code -Infinity} and mean 0, and any NaN value
+ * makes sum, min, max and mean NaN.
+ */
+public final class ColumnStats {
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final double mean;
+
+    ColumnStats(long count, double sum, double min, double max, double mean) {
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    /** Number of values. */
+    public long count() {
+        return count;
+    }
+
+    /** Compensated sum of the values. */
+    public double sum() {
+        return sum;
+    }
+
+    /** Smallest value. */
+    public double min() {
+        return min;
+    }
+
+    /** Largest value. */
+    public double max() {
+        return max;
+    }
+
+    /** Sum divided by count, or 0 for an empty column. */
+    public double mean() {
+        return mean;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d sum=%s min=%s max=%s mean=%s", count, sum, min, max, mean);
+    }
+}
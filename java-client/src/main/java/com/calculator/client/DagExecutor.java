@@ -0,0 +1,196 @@
+package com.calculator.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates a formula as individual add and subtract calls, running
+ * independent branches concurrently. For {@code (a + b) - (c + d)} both
+ * additions are sent at once and the subtraction follows when they
+ * return, so latency grows with the depth of the formula rather than its
+ * number of operations.
+ *
+ * <p>Constants, variables and negations are resolved locally, and a
+ * subtree shared by several parents is computed once. At most
+ * {@code parallelism} calls of this executor are outstanding at a time,
+ * across all formulas it is running; the rest wait until a slot frees up.
+ * Create one with {@link CalculatorClient#dagExecutor(int)}.
+ */
+public final class DagExecutor {
+    private final CalculatorClient client;
+    private final InFlightLimiter limiter;
+
+    DagExecutor(CalculatorClient client, int parallelism) {
+        this.client = client;
+        this.limiter = new InFlightLimiter(parallelism);
+    }
+
+    /**
+     * Start evaluating {@code formula}. The formula is optimized first; see
+     * {@link Formula#optimize()}.
+     *
+     * @throws IllegalArgumentException if a variable is missing from
+     *     {@code variables}
+     */
+    public CompletableFuture<Double> execute(Formula formula, Map<String, Double> variables) {
+        return new Run(formula.optimize(), variables).start();
+    }
+
+    /** Evaluate {@code formula} and block until the result is known. */
+    public double evaluate(Formula formula, Map<String, Double> variables) {
+        return CalculatorClient.await(execute(formula, variables));
+    }
+
+    /** Calls of this executor currently on the wire. */
+    public int inFlight() {
+        return limiter.inFlight();
+    }
+
+    /** Operations whose inputs are known but that wait for a free slot. */
+    public int queued() {
+        return limiter.queued();
+    }
+
+    /** A formula node with the parents waiting for its value. */
+    private static final class Node {
+        final Formula formula;
+        final Node left;  // operand of a negation, or left side of an operation
+        final Node right;
+        final List<Node> parents = new ArrayList<>(1);
+        final AtomicInteger remaining;  // inputs not known yet
+        double value;  // published to parents through remaining
+
+        Node(Formula formula, Node left, Node right) {
+            this.formula = formula;
+            this.left = left;
+            this.right = right;
+            this.remaining = new AtomicInteger((left != null ? 1 : 0) + (right != null ? 1 : 0));
+        }
+    }
+
+    /** State of one {@link #execute} call. */
+    private final class Run {
+        private final Map<Formula, Node> nodes = new IdentityHashMap<>();
+        private final List<Node> leaves = new ArrayList<>();
+        private final Map<String, Double> variables;
+        private final Node root;
+        private final CompletableFuture<Double> result = new CompletableFuture<>();
+        // Nodes whose value is known but not yet passed on to their parents.
+        // Calls answered synchronously, e.g. from the result cache, only
+        // queue here, so a long chain of them does not nest on the stack.
+        private final ArrayDeque<Node> completed = new ArrayDeque<>();  // guarded by this
+        private boolean draining;  // guarded by this
+
+        Run(Formula formula, Map<String, Double> variables) {
+            this.variables = variables;
+            // Children first, so every node's inputs already exist when it is built
+            Formula.postOrder(formula, nodes::containsKey, this::add);
+            this.root = nodes.get(formula);
+        }
+
+        private void add(Formula formula) {
+            Node node;
+            if (formula instanceof Formula.Operation) {
+                Formula.Operation operation = (Formula.Operation) formula;
+                node = new Node(formula, nodes.get(operation.left), nodes.get(operation.right));
+            } else if (formula instanceof Formula.Negation) {
+                node = new Node(formula, nodes.get(((Formula.Negation) formula).operand), null);
+            } else {
+                node = new Node(formula, null, null);
+                // Resolve variables now so a missing one fails before any call is sent
+                node.value = formula.evaluate(variables);
+                leaves.add(node);
+            }
+            if (node.left != null) {
+                node.left.parents.add(node);
+            }
+            if (node.right != null) {
+                node.right.parents.add(node);
+            }
+            nodes.put(formula, node);
+        }
+
+        CompletableFuture<Double> start() {
+            for (Node leaf : leaves) {
+                complete(leaf, leaf.value);
+            }
+            return result;
+        }
+
+        private void complete(Node node, double value) {
+            node.value = value;
+            synchronized (this) {
+                completed.add(node);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                Node next;
+                synchronized (this) {
+                    next = completed.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                propagate(next);
+            }
+        }
+
+        private void propagate(Node node) {
+            double value = node.value;
+            if (node == root) {
+                result.complete(value);
+                return;
+            }
+            for (Node parent : node.parents) {
+                if (parent.remaining.decrementAndGet() == 0) {
+                    ready(parent);
+                }
+            }
+        }
+
+        private void ready(Node node) {
+            if (node.formula instanceof Formula.Negation) {
+                complete(node, -node.left.value);
+            } else {
+                limiter.submit(() -> send(node));
+            }
+        }
+
+        private void send(Node node) {
+            if (result.isDone()) {
+                // An earlier call failed; nothing depends on this one anymore
+                limiter.release();
+                return;
+            }
+            double a = node.left.value;
+            double b = node.right.value;
+            CompletableFuture<Double> call;
+            try {
+                call = ((Formula.Operation) node.formula).subtract
+                        ? client.subtractAsync(a, b)
+                        : client.addAsync(a, b);
+            } catch (RuntimeException e) {
+                limiter.release();
+                result.completeExceptionally(e);
+                return;
+            }
+            call.whenComplete((value, error) -> {
+                limiter.release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    complete(node, value);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.calculator.client;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Immutable expression tree of additions and subtractions over constants
+ * and named variables.
+ *
+ * <p>Build one with {@link #constant}, {@link #variable}, {@link #plus},
+ * {@link #minus} and {@link #negate}, or parse one with {@link #parse}.
+ * Trees are walked without recursion, so long chains such as
+ * {@code a + b + c + ...} can be as deep as memory allows. A formula may
+ * use the same subtree more than once; evaluating it computes each shared
+ * subtree once.
+ */
+public abstract class Formula {
+
+    Formula() {
+    }
+
+    public static Formula constant(double value) {
+        return new Constant(value);
+    }
+
+    public static Formula variable(String name) {
+        return new Variable(name);
+    }
+
+    /**
+     * Parse an expression such as {@code ((a + b) - c) + 2.5}. Supports
+     * binary {@code +} and {@code -}, unary minus, parentheses, decimal
+     * literals and identifiers.
+     *
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    public static Formula parse(String expression) {
+        return new FormulaParser(expression).parse();
+    }
+
+    public Formula plus(Formula other) {
+        return new Operation(false, this, other);
+    }
+
+    public Formula minus(Formula other) {
+        return new Operation(true, this, other);
+    }
+
+    public Formula negate() {
+        return new Negation(this);
+    }
+
+    /** Evaluate on this machine; same IEEE-754 results the server computes. */
+    public abstract double evaluate(Map<String, Double> variables);
+
+    /**
+     * Fold constant subtrees and drop identities where the result stays
+     * bit-identical for every input; see {@link FormulaOptimizer}.
+     */
+    public Formula optimize() {
+        return FormulaOptimizer.optimize(this);
+    }
+
+    /** Distinct add and subtract nodes, i.e. the work the server would do. */
+    public int operationCount() {
+        Set<Formula> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(this, nodes);
+        int count = 0;
+        for (Formula node : nodes) {
+            if (node instanceof Operation) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** Add {@code node} and everything below it to {@code nodes}, visiting shared subtrees once. */
+    static void collect(Formula node, Set<Formula> nodes) {
+        postOrder(node, child -> !nodes.add(child), child -> { });
+    }
+
+    /**
+     * Call {@code visit} on {@code root} and every node below it, children
+     * before parents and left before right, using an explicit stack. Nodes
+     * for which {@code skip} returns true are neither visited nor descended
+     * into; without skipping, a shared subtree is visited once per use.
+     */
+    static void postOrder(Formula root, Predicate<Formula> skip, Consumer<Formula> visit) {
+        ArrayDeque<Formula> nodes = new ArrayDeque<>();
+        ArrayDeque<Boolean> expanded = new ArrayDeque<>();
+        nodes.push(root);
+        expanded.push(false);
+        while (!nodes.isEmpty()) {
+            Formula node = nodes.pop();
+            if (expanded.pop()) {
+                visit.accept(node);
+                continue;
+            }
+            if (skip.test(node)) {
+                continue;
+            }
+            nodes.push(node);
+            expanded.push(true);
+            if (node instanceof Operation) {
+                nodes.push(((Operation) node).right);
+                expanded.push(false);
+                nodes.push(((Operation) node).left);
+                expanded.push(false);
+            } else if (node instanceof Negation) {
+                nodes.push(((Negation) node).operand);
+                expanded.push(false);
+            }
+        }
+    }
+
+    /** Longest string {@link #toString} returns for an operation or negation, before the ellipsis. */
+    static final int MAX_STRING_LENGTH = 100_000;
+
+    /**
+     * Print {@code root} fully parenthesized, using an explicit stack. Shared
+     * subtrees print once per use, so the text is cut off after
+     * {@link #MAX_STRING_LENGTH} characters.
+     */
+    static String format(Formula root) {
+        StringBuilder out = new StringBuilder();
+        ArrayDeque<Object> pending = new ArrayDeque<>();  // formulas and literal text, next one first
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            if (out.length() > MAX_STRING_LENGTH) {
+                out.setLength(MAX_STRING_LENGTH);
+                return out.append("...").toString();
+            }
+            Object item = pending.pop();
+            if (item instanceof Operation) {
+                Operation operation = (Operation) item;
+                out.append('(');
+                pending.push(")");
+                pending.push(operation.right);
+                pending.push(operation.subtract ? " - " : " + ");
+                pending.push(operation.left);
+            } else if (item instanceof Negation) {
+                out.append('-');
+                pending.push(((Negation) item).operand);
+            } else {
+                out.append(item);
+            }
+        }
+        return out.toString();
+    }
+
+    static double lookup(Map<String, Double> variables, String name) {
+        Double value = variables.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("No value for variable " + name);
+        }
+        return value;
+    }
+
+    static final class Constant extends Formula {
+        final double value;
+
+        Constant(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double evaluate(Map<String, Double> variables) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return Double.toString(value);
+        }
+    }
+
+    static final class Variable extends Formula {
+        final String name;
+
+        Variable(String name) {
+            this.name = Objects.requireNonNull(name, "name");
+        }
+
+        @Override
+        public double evaluate(Map<String, Double> variables) {
+            return lookup(variables, name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /** {@code left + right}, or {@code left - right} when {@code subtract} is set. */
+    static final class Operation extends Formula {
+        final boolean subtract;
+        final Formula left;
+        final Formula right;
+
+        Operation(boolean subtract, Formula left, Formula right) {
+            this.subtract = subtract;
+            this.left = Objects.requireNonNull(left, "left");
+            this.right = Objects.requireNonNull(right, "right");
+        }
+
+        @Override
+        public double evaluate(Map<String, Double> variables) {
+            return new Evaluator(variables).run(this);
+        }
+
+        @Override
+        public String toString() {
+            return format(this);
+        }
+    }
+
+    static final class Negation extends Formula {
+        final Formula operand;
+
+        Negation(Formula operand) {
+            this.operand = Objects.requireNonNull(operand, "operand");
+        }
+
+        @Override
+        public double evaluate(Map<String, Double> variables) {
+            return new Evaluator(variables).run(this);
+        }
+
+        @Override
+        public String toString() {
+            return format(this);
+        }
+    }
+
+    /**
+     * Evaluates an operation or negation over an explicit value stack,
+     * remembering the value of every operation and negation so a shared
+     * subtree is computed once rather than once per use.
+     */
+    private static final class Evaluator implements Consumer<Formula> {
+        private final Map<String, Double> variables;
+        private final Map<Formula, Double> known = new IdentityHashMap<>();
+        private double[] values = new double[16];
+        private int top;
+
+        Evaluator(Map<String, Double> variables) {
+            this.variables = variables;
+        }
+
+        double run(Formula root) {
+            postOrder(root, this::reuse, this);
+            return values[0];
+        }
+
+        /** Push the value of a subtree computed before, in place of walking it again. */
+        private boolean reuse(Formula node) {
+            Double value = known.get(node);
+            if (value == null) {
+                return false;
+            }
+            push(value);
+            return true;
+        }
+
+        @Override
+        public void accept(Formula node) {
+            if (node instanceof Operation) {
+                double b = values[--top];
+                double a = values[top - 1];
+                values[top - 1] = ((Operation) node).subtract ? a - b : a + b;
+                known.put(node, values[top - 1]);
+            } else if (node instanceof Negation) {
+                values[top - 1] = -values[top - 1];
+                known.put(node, values[top - 1]);
+            } else {
+                push(node.evaluate(variables));
+            }
+        }
+
+        private void push(double value) {
+            if (top == values.length) {
+                values = Arrays.copyOf(values, top * 2);
+            }
+            values[top++] = value;
+        }
+    }
+}
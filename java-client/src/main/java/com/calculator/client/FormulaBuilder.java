@@ -0,0 +1,96 @@
+package com.calculator.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a formula step by step, the way callers would otherwise chain
+ * {@code add}/{@code subtract} calls, and hands back only the work that
+ * needs the server.
+ *
+ * <pre>
+ * FormulaBuilder f = new FormulaBuilder();
+ * Formula offset = f.add(f.constant(1.5), f.constant(2));  // folded to 3.5
+ * Formula unused = f.add(f.variable("y"), offset);         // dead, never sent
+ * Formula result = f.build(f.subtract(offset, f.variable("x")));
+ * client.evaluate(result, Map.of("x", 1.0));
+ * </pre>
+ *
+ * Only the steps the result depends on are ever sent: a dead step is not
+ * part of the result's tree, so there is nothing to remove. {@link #build}
+ * applies the bit-exact rewrites of {@link Formula#optimize()}, counts the
+ * steps recorded since the previous build that the result does not reach,
+ * and forgets them, so a builder can be reused.
+ */
+public final class FormulaBuilder {
+    private final List<Formula> steps = new ArrayList<>();
+    private int operations;
+    private int deadOperations;
+
+    public Formula constant(double value) {
+        return Formula.constant(value);
+    }
+
+    public Formula variable(String name) {
+        return Formula.variable(name);
+    }
+
+    public Formula add(Formula a, Formula b) {
+        return record(a.plus(b));
+    }
+
+    public Formula add(Formula a, double b) {
+        return add(a, constant(b));
+    }
+
+    public Formula subtract(Formula a, Formula b) {
+        return record(a.minus(b));
+    }
+
+    public Formula subtract(Formula a, double b) {
+        return subtract(a, constant(b));
+    }
+
+    public Formula subtract(double a, Formula b) {
+        return subtract(constant(a), b);
+    }
+
+    public Formula negate(Formula a) {
+        return record(a.negate());
+    }
+
+    /** Add, subtract and negate steps recorded before the last {@link #build}, dead ones included. */
+    public int operations() {
+        return operations;
+    }
+
+    /** Steps recorded before the last {@link #build} that its result did not reach. */
+    public int deadOperations() {
+        return deadOperations;
+    }
+
+    /** The optimized formula for {@code result}; starts the count of steps over. */
+    public Formula build(Formula result) {
+        Set<Formula> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        Formula.collect(result, live);
+        int dead = 0;
+        for (Formula step : steps) {
+            if (!live.contains(step)) {
+                dead++;
+            }
+        }
+        operations = steps.size();
+        deadOperations = dead;
+        steps.clear();
+        return result.optimize();
+    }
+
+    private Formula record(Formula step) {
+        steps.add(step);
+        return step;
+    }
+}
@@ -0,0 +1,81 @@
+package com.calculator.client;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Rewrites a formula so less of it has to be sent to the server, without
+ * changing any result bit.
+ *
+ * <ul>
+ *   <li>Constant subtrees are folded with the same IEEE-754 double
+ *       operations the server performs.
+ *   <li>{@code x + -0.0}, {@code -0.0 + x} and {@code x - 0.0} become
+ *       {@code x}: exact for every x, including {@code -0.0}, infinities
+ *       and quiet NaNs. A signalling NaN passes through unquieted.
+ *   <li>{@code -(-x)} becomes {@code x}: negation only flips the sign bit.
+ * </ul>
+ *
+ * Rewrites that are not bit-exact are never applied: {@code x + 0.0}
+ * turns {@code -0.0} into {@code 0.0}, {@code x - x} is NaN for infinite
+ * x, and reassociating {@code (x + 1) + 2} changes rounding.
+ */
+final class FormulaOptimizer {
+    // Shared subtrees are rewritten once and stay shared
+    private final Map<Formula, Formula> rewritten = new IdentityHashMap<>();
+
+    static Formula optimize(Formula formula) {
+        FormulaOptimizer optimizer = new FormulaOptimizer();
+        // Children are rewritten before their parents, without recursion
+        Formula.postOrder(formula, optimizer.rewritten::containsKey,
+                node -> optimizer.rewritten.put(node, optimizer.simplify(node)));
+        return optimizer.rewritten.get(formula);
+    }
+
+    private Formula rewrite(Formula node) {
+        return rewritten.get(node);
+    }
+
+    private Formula simplify(Formula node) {
+        if (node instanceof Formula.Operation) {
+            Formula.Operation operation = (Formula.Operation) node;
+            Formula left = rewrite(operation.left);
+            Formula right = rewrite(operation.right);
+            if (left instanceof Formula.Constant && right instanceof Formula.Constant) {
+                double a = ((Formula.Constant) left).value;
+                double b = ((Formula.Constant) right).value;
+                return Formula.constant(operation.subtract ? a - b : a + b);
+            }
+            if (operation.subtract ? isPositiveZero(right) : isNegativeZero(right)) {
+                return left;
+            }
+            if (!operation.subtract && isNegativeZero(left)) {
+                return right;
+            }
+            return left == operation.left && right == operation.right
+                    ? node
+                    : new Formula.Operation(operation.subtract, left, right);
+        }
+        if (node instanceof Formula.Negation) {
+            Formula operand = rewrite(((Formula.Negation) node).operand);
+            if (operand instanceof Formula.Constant) {
+                return Formula.constant(-((Formula.Constant) operand).value);
+            }
+            if (operand instanceof Formula.Negation) {
+                return ((Formula.Negation) operand).operand;
+            }
+            return operand == ((Formula.Negation) node).operand ? node : operand.negate();
+        }
+        return node;
+    }
+
+    private static boolean isPositiveZero(Formula node) {
+        return node instanceof Formula.Constant
+                && Double.doubleToRawLongBits(((Formula.Constant) node).value) == 0L;
+    }
+
+    private static boolean isNegativeZero(Formula node) {
+        return node instanceof Formula.Constant
+                && Double.doubleToRawLongBits(((Formula.Constant) node).value) == Long.MIN_VALUE;
+    }
+}
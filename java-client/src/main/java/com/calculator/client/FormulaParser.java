@@ -0,0 +1,130 @@
+package com.calculator.client;
+
+/**
+ * Recursive-descent parser for {@link Formula#parse}.
+ *
+ * <pre>
+ * expression := term (('+' | '-') term)*
+ * term       := '-' term | number | identifier | '(' expression ')'
+ * </pre>
+ */
+final class FormulaParser {
+    /** Deepest parenthesis nesting accepted; each level costs a few stack frames. */
+    static final int MAX_NESTING = 1000;
+
+    private final String input;
+    private int pos;
+    private int nesting;
+
+    FormulaParser(String input) {
+        this.input = input;
+    }
+
+    Formula parse() {
+        Formula result = expression();
+        skipWhitespace();
+        if (pos < input.length()) {
+            throw error("Unexpected '" + input.charAt(pos) + "'");
+        }
+        return result;
+    }
+
+    private Formula expression() {
+        Formula result = term();
+        while (true) {
+            skipWhitespace();
+            if (consume('+')) {
+                result = result.plus(term());
+            } else if (consume('-')) {
+                result = result.minus(term());
+            } else {
+                return result;
+            }
+        }
+    }
+
+    private Formula term() {
+        int negations = 0;
+        skipWhitespace();
+        while (consume('-')) {
+            negations++;
+            skipWhitespace();
+        }
+        Formula result = operand();
+        for (int i = 0; i < negations; i++) {
+            result = result.negate();
+        }
+        return result;
+    }
+
+    private Formula operand() {
+        if (pos >= input.length()) {
+            throw error("Unexpected end of expression");
+        }
+        char c = input.charAt(pos);
+        if (consume('(')) {
+            if (++nesting > MAX_NESTING) {
+                throw error("Parentheses nested more than " + MAX_NESTING + " deep");
+            }
+            Formula inner = expression();
+            skipWhitespace();
+            if (!consume(')')) {
+                throw error("Expected ')'");
+            }
+            nesting--;
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return Formula.constant(number());
+        }
+        if (Character.isJavaIdentifierStart(c)) {
+            int start = pos;
+            while (pos < input.length() && Character.isJavaIdentifierPart(input.charAt(pos))) {
+                pos++;
+            }
+            return Formula.variable(input.substring(start, pos));
+        }
+        throw error("Unexpected '" + c + "'");
+    }
+
+    private double number() {
+        int start = pos;
+        while (pos < input.length() && (Character.isDigit(input.charAt(pos)) || input.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < input.length() && (input.charAt(pos) == 'e' || input.charAt(pos) == 'E')) {
+            pos++;
+            if (pos < input.length() && (input.charAt(pos) == '+' || input.charAt(pos) == '-')) {
+                pos++;
+            }
+            while (pos < input.length() && Character.isDigit(input.charAt(pos))) {
+                pos++;
+            }
+        }
+        String literal = input.substring(start, pos);
+        try {
+            return Double.parseDouble(literal);
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Invalid number '" + literal + "'");
+        }
+    }
+
+    private boolean consume(char c) {
+        if (pos < input.length() && input.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos + " in \"" + input + "\"");
+    }
+}
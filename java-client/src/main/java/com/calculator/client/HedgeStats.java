@@ -0,0 +1,55 @@
+package com.calculator.client;
+
+/** Point-in-time counters for a client's hedged requests. */
+public final class HedgeStats {
+    private final long calls;
+    private final long hedges;
+    private final long hedgeWins;
+    private final long budgetExhausted;
+    private final long delayNanos;
+
+    HedgeStats(long calls, long hedges, long hedgeWins, long budgetExhausted, long delayNanos) {
+        this.calls = calls;
+        this.hedges = hedges;
+        this.hedgeWins = hedgeWins;
+        this.budgetExhausted = budgetExhausted;
+        this.delayNanos = delayNanos;
+    }
+
+    /** Calls started, not counting hedges. */
+    public long calls() {
+        return calls;
+    }
+
+    /** Duplicate attempts sent to a secondary endpoint. */
+    public long hedges() {
+        return hedges;
+    }
+
+    /** Calls answered by the hedge before the first attempt. */
+    public long hedgeWins() {
+        return hedgeWins;
+    }
+
+    /** Hedges skipped because the hedge budget was used up. */
+    public long budgetExhausted() {
+        return budgetExhausted;
+    }
+
+    /** Current hedge delay, or {@code Long.MAX_VALUE} while too few latencies are known. */
+    public long delayNanos() {
+        return delayNanos;
+    }
+
+    /** Hedges as a fraction of calls. */
+    public double hedgeRatio() {
+        return calls == 0 ? 0.0 : (double) hedges / calls;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("calls=%d hedges=%d hedgeWins=%d budgetExhausted=%d delay=%s",
+                calls, hedges, hedgeWins, budgetExhausted,
+                delayNanos == Long.MAX_VALUE ? "warming up" : String.format("%.1fus", delayNanos / 1000.0));
+    }
+}
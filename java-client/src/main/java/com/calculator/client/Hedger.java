@@ -0,0 +1,253 @@
+package com.calculator.client;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends unary calls to the primary endpoint and, if no response has
+ * arrived after the tracked latency percentile, a duplicate to one of the
+ * secondary endpoints. The first response wins and the other attempt is
+ * cancelled.
+ *
+ * <p>Hedges are paid for from a token budget: every call earns
+ * {@code maxHedgeRatio} tokens and a hedge costs one, so hedges never add
+ * more than that fraction of extra load, even when every endpoint is slow.
+ */
+final class Hedger {
+    private static final long TOKEN = 1000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private final CalculatorServiceGrpc.CalculatorServiceStub primary;
+    private final List<CalculatorServiceGrpc.CalculatorServiceStub> secondaries;
+    private final LatencyTracker latencies;
+    private final long tokensPerCall;
+    private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+    private final AtomicInteger nextSecondary = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor timer;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    Hedger(CalculatorServiceGrpc.CalculatorServiceStub primary,
+           List<CalculatorServiceGrpc.CalculatorServiceStub> secondaries,
+           double delayPercentile, double maxHedgeRatio) {
+        if (secondaries.isEmpty()) {
+            throw new IllegalArgumentException("Hedging needs at least one secondary endpoint");
+        }
+        if (!(maxHedgeRatio > 0 && maxHedgeRatio <= 1)) {
+            throw new IllegalArgumentException("maxHedgeRatio must be in (0, 1]: " + maxHedgeRatio);
+        }
+        this.primary = primary;
+        this.secondaries = secondaries;
+        this.latencies = new LatencyTracker(delayPercentile);
+        this.tokensPerCall = Math.max(1, Math.round(maxHedgeRatio * TOKEN));
+        this.timer = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "calculator-hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    CompletableFuture<Double> call(boolean subtract, OperationRequest request) {
+        if (timer.isShutdown()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Client is shut down"));
+        }
+        calls.increment();
+        earnToken();
+        HedgedCall call = new HedgedCall(subtract, request);
+        call.startPrimary();
+        long delay = latencies.percentileNanos();
+        if (delay != Long.MAX_VALUE) {
+            try {
+                call.hedgeTimer = timer.schedule(call::hedge, delay, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shut down since the check above; the primary attempt still answers
+                return call.result;
+            }
+            if (call.result.isDone()) {
+                call.hedgeTimer.cancel(false);
+            }
+        }
+        return call.result;
+    }
+
+    HedgeStats stats() {
+        return new HedgeStats(calls.sum(), hedges.sum(), hedgeWins.sum(),
+                budgetExhausted.sum(), latencies.percentileNanos());
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private void earnToken() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= MAX_TOKENS) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + tokensPerCall)));
+    }
+
+    private boolean spendToken() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /** Up to two attempts of one call; the first response completes {@link #result}. */
+    private final class HedgedCall {
+        final boolean subtract;
+        final OperationRequest request;
+        final CompletableFuture<Double> result = new CompletableFuture<>();
+        final long startNanos = System.nanoTime();
+        volatile ScheduledFuture<?> hedgeTimer;
+        private Attempt first;
+        private Attempt second;
+        private int live;
+        private Throwable lastError;
+
+        HedgedCall(boolean subtract, OperationRequest request) {
+            this.subtract = subtract;
+            this.request = request;
+        }
+
+        void startPrimary() {
+            Attempt attempt = new Attempt(this, false);
+            synchronized (this) {
+                first = attempt;
+                live++;
+            }
+            send(primary, attempt);
+        }
+
+        void hedge() {
+            Attempt attempt;
+            synchronized (this) {
+                // Checked and registered under one lock, so a primary that
+                // fails meanwhile cannot leave a hedge running for a failed call
+                if (result.isDone() || live == 0) {
+                    return;
+                }
+                if (!spendToken()) {
+                    budgetExhausted.increment();
+                    return;
+                }
+                attempt = new Attempt(this, true);
+                second = attempt;
+                live++;
+            }
+            hedges.increment();
+            int index = Math.floorMod(nextSecondary.getAndIncrement(), secondaries.size());
+            send(secondaries.get(index), attempt);
+        }
+
+        private void send(CalculatorServiceGrpc.CalculatorServiceStub stub, Attempt attempt) {
+            if (subtract) {
+                stub.subtract(request, attempt);
+            } else {
+                stub.add(request, attempt);
+            }
+        }
+
+        void succeeded(Attempt winner, double value) {
+            if (!result.complete(value)) {
+                return;
+            }
+            // From the start of the call, not of the winning attempt, so the
+            // hedge delay tracks what callers actually wait
+            latencies.record(System.nanoTime() - startNanos);
+            if (winner.hedge) {
+                hedgeWins.increment();
+            }
+            ScheduledFuture<?> pending = hedgeTimer;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            Attempt loser;
+            synchronized (this) {
+                loser = winner == first ? second : first;
+            }
+            if (loser != null) {
+                loser.cancel();
+            }
+        }
+
+        void failed(Throwable t) {
+            boolean last;
+            synchronized (this) {
+                lastError = t;
+                last = --live == 0;
+            }
+            if (last) {
+                // Nothing is left to answer the call; a hedge is no longer worth sending
+                ScheduledFuture<?> pending = hedgeTimer;
+                if (pending != null) {
+                    pending.cancel(false);
+                }
+                result.completeExceptionally(new RuntimeException("RPC failed", lastError));
+            }
+        }
+    }
+
+    /** One attempt of a hedged call. */
+    private static final class Attempt implements ClientResponseObserver<OperationRequest, OperationResponse> {
+        private final HedgedCall call;
+        private final boolean hedge;
+        private volatile ClientCallStreamObserver<OperationRequest> stream;
+
+        Attempt(HedgedCall call, boolean hedge) {
+            this.call = call;
+            this.hedge = hedge;
+        }
+
+        void cancel() {
+            ClientCallStreamObserver<OperationRequest> current = stream;
+            if (current != null) {
+                current.cancel("Hedged call answered by another attempt", null);
+            }
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<OperationRequest> stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void onNext(OperationResponse response) {
+            call.succeeded(this, response.getResult());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            call.failed(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            // The response was delivered by onNext
+        }
+    }
+}
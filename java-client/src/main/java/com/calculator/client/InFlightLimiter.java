@@ -0,0 +1,100 @@
+package com.calculator.client;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of calls in flight without blocking the caller.
+ *
+ * <p>Calls that arrive while the cap is reached are queued and started as
+ * earlier calls complete, so submitting never parks a thread. One thread at
+ * a time starts queued calls; a call that completes synchronously, for
+ * example from a cache, and releases its slot from inside the drain loop
+ * only asks that loop for another pass, so the stack does not grow with
+ * the queue.
+ *
+ * <p>Callers are expected to report failures through their own futures. A
+ * queued call that throws anyway is treated as never started: its slot is
+ * released, the loop goes on with the rest of the queue, and the exception
+ * is rethrown to whichever thread ran the loop once it is done.
+ */
+final class InFlightLimiter {
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    InFlightLimiter(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /** Start {@code call} now if a slot is free, otherwise once one is released. */
+    void submit(Runnable call) {
+        pending.add(call);
+        drain();
+    }
+
+    /** Must be called exactly once for every started call when it completes. */
+    void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    int queued() {
+        return pending.size();
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            // The draining thread, possibly this one further up the stack, makes another pass
+            return;
+        }
+        RuntimeException failure = null;
+        int requests = 1;
+        do {
+            while (!pending.isEmpty() && tryAcquire()) {
+                // Only the draining thread polls, so the queue is still not empty
+                Runnable next = pending.poll();
+                boolean started = false;
+                try {
+                    next.run();
+                    started = true;
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                } finally {
+                    if (!started) {
+                        inFlight.decrementAndGet();
+                    }
+                }
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.calculator.client;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import jdk.jfr.EventType;
+import calculator.Calculator.BatchOperationRequest;
+
+/**
+ * Emits a {@link CalculatorRpcEvent} or {@link CalculatorBatchEvent} for
+ * every call. While neither event is enabled in a running recording, calls
+ * pass straight through without allocating anything.
+ */
+final class JfrInterceptor implements ClientInterceptor {
+    /**
+     * When the work of a call was queued on the client before the call
+     * started, e.g. by micro-batching; counted as queue time.
+     */
+    static final CallOptions.Key<Long> QUEUED_SINCE = CallOptions.Key.create("calculator.queuedSince");
+
+    private static final EventType RPC = EventType.getEventType(CalculatorRpcEvent.class);
+    private static final EventType BATCH = EventType.getEventType(CalculatorBatchEvent.class);
+
+    static boolean isEnabled() {
+        return RPC.isEnabled() || BATCH.isEnabled();
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        if (!isEnabled()) {
+            return next.newCall(method, callOptions);
+        }
+        CallRecord record = new CallRecord(method.getFullMethodName(), callOptions.getOption(QUEUED_SINCE));
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+                next.newCall(method, callOptions.withStreamTracerFactory(record))) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                record.started();
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        record.closed(status);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+
+            @Override
+            public void sendMessage(ReqT message) {
+                record.sent(message);
+                super.sendMessage(message);
+            }
+        };
+    }
+
+    /** Measurements of one call; its own stream tracer so it sees the wire. */
+    private static final class CallRecord extends ClientStreamTracer.Factory {
+        private final String method;
+        private final Long queuedSince;
+        private final CalculatorRpcEvent rpcEvent = new CalculatorRpcEvent();
+        private final CalculatorBatchEvent batchEvent = new CalculatorBatchEvent();
+        private volatile long startNanos;
+        private volatile long streamNanos;
+        // Each direction is only updated by one transport thread at a time
+        private volatile long requestBytes;
+        private volatile long responseBytes;
+        // Sends never overlap, but may come from any thread; read at close
+        // on the transport thread
+        private volatile int messagesSent;
+        private volatile int batchSize;
+
+        CallRecord(String method, Long queuedSince) {
+            this.method = method;
+            this.queuedSince = queuedSince;
+        }
+
+        void started() {
+            startNanos = System.nanoTime();
+            rpcEvent.begin();
+            batchEvent.begin();
+        }
+
+        void sent(Object message) {
+            messagesSent++;
+            if (message instanceof BatchOperationRequest) {
+                batchSize += ((BatchOperationRequest) message).getNumber1Count();
+            } else if (message instanceof PackedBuffers.Operands) {
+                batchSize += ((PackedBuffers.Operands) message).count();
+            }
+        }
+
+        void closed(Status status) {
+            long end = System.nanoTime();
+            long stream = streamNanos != 0 ? streamNanos : end;
+            long queueStart = queuedSince != null ? queuedSince : startNanos;
+            int batchSize = this.batchSize;
+            if (batchSize > 0) {
+                CalculatorBatchEvent event = batchEvent;
+                event.end();
+                if (event.shouldCommit()) {
+                    event.method = method;
+                    event.status = status.getCode().name();
+                    event.batchSize = batchSize;
+                    event.requestBytes = requestBytes;
+                    event.responseBytes = responseBytes;
+                    event.queueTime = stream - queueStart;
+                    event.networkTime = end - stream;
+                    event.commit();
+                }
+            } else {
+                CalculatorRpcEvent event = rpcEvent;
+                event.end();
+                if (event.shouldCommit()) {
+                    event.method = method;
+                    event.status = status.getCode().name();
+                    event.messagesSent = messagesSent;
+                    event.requestBytes = requestBytes;
+                    event.responseBytes = responseBytes;
+                    event.queueTime = stream - queueStart;
+                    event.networkTime = end - stream;
+                    event.commit();
+                }
+            }
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            return new ClientStreamTracer() {
+                @Override
+                public void streamCreated(Attributes transportAttrs, Metadata headers) {
+                    streamNanos = System.nanoTime();
+                }
+
+                @Override
+                public void outboundWireSize(long bytes) {
+                    requestBytes += bytes;
+                }
+
+                @Override
+                public void inboundWireSize(long bytes) {
+                    responseBytes += bytes;
+                }
+            };
+        }
+    }
+}
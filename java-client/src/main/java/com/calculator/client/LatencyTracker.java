@@ -0,0 +1,55 @@
+package com.calculator.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of recent call latencies with a cached percentile.
+ *
+ * <p>Recording is one atomic increment and one array store. Every
+ * {@code RECOMPUTE_INTERVAL} samples the recording thread sorts a copy of
+ * the window and publishes the new percentile, so readers only do a
+ * volatile read.
+ */
+final class LatencyTracker {
+    private static final int WINDOW = 1024;
+    private static final int RECOMPUTE_INTERVAL = 128;
+    private static final int MIN_SAMPLES = 100;
+
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong count = new AtomicLong();
+    private volatile long percentileNanos = Long.MAX_VALUE;
+
+    LatencyTracker(double percentile) {
+        if (!(percentile > 0 && percentile < 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        long n = count.getAndIncrement();
+        samples.set((int) (n % WINDOW), nanos);
+        long recorded = n + 1;
+        if (recorded >= MIN_SAMPLES && (recorded == MIN_SAMPLES || recorded % RECOMPUTE_INTERVAL == 0)) {
+            recompute((int) Math.min(recorded, WINDOW));
+        }
+    }
+
+    /** The configured percentile of the window, or {@code Long.MAX_VALUE} until enough samples exist. */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute(int size) {
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * size) - 1;
+        percentileNanos = sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
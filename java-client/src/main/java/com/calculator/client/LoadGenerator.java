@@ -0,0 +1,348 @@
+package com.calculator.client;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for a running calculator server.
+ *
+ * <p>Open loop ({@code --rate}) sends calls on a fixed schedule whether or
+ * not earlier ones have returned, and measures each latency from its
+ * scheduled start, so a stalled server shows up in the percentiles instead
+ * of silently lowering the request rate (coordinated omission). Closed loop
+ * ({@code --concurrency}) keeps a fixed number of calls outstanding.
+ *
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.calculator.client.LoadGenerator \
+ *     -Dexec.args="--rate 20000 --duration 30 --mix add=70,subtract=30 --json result.json"
+ * </pre>
+ */
+public class LoadGenerator {
+    private final CalculatorClient client;
+    private final Options options;
+    private final Recorder recorder = new Recorder(3);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong outstanding = new AtomicLong();
+    private volatile boolean running = true;
+
+    LoadGenerator(CalculatorClient client, Options options) {
+        this.client = client;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(Options.USAGE);
+            System.exit(2);
+            return;
+        }
+        CalculatorClient client = new CalculatorClient(options.host, options.port);
+        try {
+            Report report = new LoadGenerator(client, options).run(System.out);
+            if (options.jsonPath != null) {
+                Files.write(Paths.get(options.jsonPath), report.toJson().getBytes(StandardCharsets.UTF_8));
+                System.out.println("Wrote " + options.jsonPath);
+            }
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    /** Drive load for the configured duration, printing one line per interval. */
+    Report run(PrintStream out) throws InterruptedException {
+        out.printf("Target %s:%d, %s, %s, %ds%n", options.host, options.port,
+                options.rate > 0 ? "open loop at " + options.rate + " ops/s"
+                        : "closed loop with " + options.concurrency + " in flight",
+                options.mixDescription(), options.durationSeconds);
+
+        Thread driver = new Thread(options.rate > 0 ? this::openLoop : this::closedLoop, "loadgen-driver");
+        driver.setDaemon(true);
+        long start = System.nanoTime();
+        driver.start();
+
+        Report report = new Report(options);
+        Histogram interval = null;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(options.intervalSeconds);
+        long end = start + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        long next = start + intervalNanos;
+        long lastErrors = 0;
+        while (true) {
+            long now = System.nanoTime();
+            if (now < Math.min(next, end)) {
+                TimeUnit.NANOSECONDS.sleep(Math.min(next, end) - now);
+                continue;
+            }
+            interval = recorder.getIntervalHistogram(interval);
+            long totalErrors = errors.get();
+            report.addInterval(interval, (now - start) / 1e9, totalErrors - lastErrors,
+                    (now - (next - intervalNanos)) / 1e9, out);
+            lastErrors = totalErrors;
+            if (now >= end) {
+                break;
+            }
+            next += intervalNanos;
+        }
+        running = false;
+        driver.join();
+
+        // Let calls already on the wire finish so they are not dropped from the totals
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        interval = recorder.getIntervalHistogram(interval);
+        report.addTail(interval, errors.get() - lastErrors, (System.nanoTime() - start) / 1e9);
+        report.printSummary(out);
+        return report;
+    }
+
+    private void openLoop() {
+        long periodNanos = Math.max(1, 1_000_000_000L / options.rate);
+        long intended = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            if (now < intended) {
+                LockSupport.parkNanos(intended - now);
+                continue;
+            }
+            // Behind schedule: issue immediately and keep the original start time
+            issue(intended, null);
+            intended += periodNanos;
+        }
+    }
+
+    private void closedLoop() {
+        for (int i = 0; i < options.concurrency; i++) {
+            issueNext();
+        }
+    }
+
+    /** Fill a closed-loop slot, retrying calls that fail before they are sent so the slot is not lost. */
+    private void issueNext() {
+        while (running) {
+            if (issue(System.nanoTime(), this::issueNext)) {
+                return;
+            }
+        }
+    }
+
+    /** Start one call; returns false if it failed synchronously and was counted as an error. */
+    private boolean issue(long startNanos, Runnable onDone) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double a = random.nextDouble(-1e6, 1e6);
+        double b = random.nextDouble(-1e6, 1e6);
+        CompletableFuture<Double> call;
+        try {
+            call = random.nextInt(100) < options.addPercent ? client.addAsync(a, b) : client.subtractAsync(a, b);
+        } catch (RuntimeException e) {
+            errors.incrementAndGet();
+            return false;
+        }
+        outstanding.incrementAndGet();
+        call.whenComplete((result, error) -> {
+            if (error != null) {
+                errors.incrementAndGet();
+            } else {
+                recorder.recordValue(System.nanoTime() - startNanos);
+            }
+            outstanding.decrementAndGet();
+            if (onDone != null) {
+                onDone.run();
+            }
+        });
+        return true;
+    }
+
+    /** Command line settings. */
+    static final class Options {
+        static final String USAGE = "Usage: LoadGenerator [--host H] [--port P]"
+                + " (--rate OPS_PER_SEC | --concurrency N) [--duration SECONDS]"
+                + " [--interval SECONDS] [--mix add=70,subtract=30] [--json FILE]";
+
+        String host = "localhost";
+        int port = 50051;
+        int rate;
+        int concurrency;
+        int durationSeconds = 30;
+        int intervalSeconds = 1;
+        int addPercent = 50;
+        String jsonPath;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String flag = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + flag);
+                }
+                String value = args[++i];
+                switch (flag) {
+                    case "--host": options.host = value; break;
+                    case "--port": options.port = Integer.parseInt(value); break;
+                    case "--rate": options.rate = Integer.parseInt(value); break;
+                    case "--concurrency": options.concurrency = Integer.parseInt(value); break;
+                    case "--duration": options.durationSeconds = Integer.parseInt(value); break;
+                    case "--interval": options.intervalSeconds = Integer.parseInt(value); break;
+                    case "--mix": options.addPercent = parseMix(value); break;
+                    case "--json": options.jsonPath = value; break;
+                    default: throw new IllegalArgumentException("Unknown option " + flag);
+                }
+            }
+            if ((options.rate > 0) == (options.concurrency > 0)) {
+                throw new IllegalArgumentException("Specify exactly one of --rate and --concurrency");
+            }
+            if (options.durationSeconds <= 0 || options.intervalSeconds <= 0) {
+                throw new IllegalArgumentException("--duration and --interval must be positive");
+            }
+            return options;
+        }
+
+        /** Parse {@code add=W,subtract=W} into the percentage of adds. */
+        private static int parseMix(String mix) {
+            int add = 0;
+            int subtract = 0;
+            for (String part : mix.split(",")) {
+                String[] kv = part.split("=", 2);
+                if (kv.length != 2) {
+                    throw new IllegalArgumentException("Bad --mix entry: " + part);
+                }
+                int weight = Integer.parseInt(kv[1].trim());
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Negative --mix weight: " + part);
+                }
+                switch (kv[0].trim()) {
+                    case "add": add = weight; break;
+                    case "subtract": subtract = weight; break;
+                    default: throw new IllegalArgumentException("Unknown operation in --mix: " + kv[0]);
+                }
+            }
+            if (add + subtract == 0) {
+                throw new IllegalArgumentException("--mix weights must not all be zero");
+            }
+            return (int) Math.round(100.0 * add / (add + subtract));
+        }
+
+        String mixDescription() {
+            return "add=" + addPercent + "% subtract=" + (100 - addPercent) + "%";
+        }
+    }
+
+    /** Interval and total latency statistics for one run. */
+    static final class Report {
+        private final Options options;
+        private final Histogram total = new Histogram(3);
+        private final List<String> intervalsJson = new ArrayList<>();
+        private long totalErrors;
+        private double elapsedSeconds;
+
+        Report(Options options) {
+            this.options = options;
+        }
+
+        void addInterval(Histogram interval, double elapsed, long errors, double seconds, PrintStream out) {
+            total.add(interval);
+            totalErrors += errors;
+            elapsedSeconds = elapsed;
+            double throughput = interval.getTotalCount() / seconds;
+            out.printf(Locale.ROOT, "%8.1fs %10.0f ops/s  p50=%9.1fus  p99=%9.1fus  p99.9=%9.1fus  max=%9.1fus  errors=%d%n",
+                    elapsed, throughput,
+                    micros(interval.getValueAtPercentile(50)),
+                    micros(interval.getValueAtPercentile(99)),
+                    micros(interval.getValueAtPercentile(99.9)),
+                    micros(interval.getMaxValue()),
+                    errors);
+            intervalsJson.add(String.format(Locale.ROOT, "{\"elapsedSeconds\":%.3f,\"opsPerSecond\":%.1f,%s,\"errors\":%d}",
+                    elapsed, throughput, latencyJson(interval), errors));
+        }
+
+        /**
+         * Calls that completed after the last interval; they count towards the
+         * totals only, which then cover the run up to {@code elapsed}.
+         */
+        void addTail(Histogram interval, long errors, double elapsed) {
+            total.add(interval);
+            totalErrors += errors;
+            elapsedSeconds = elapsed;
+        }
+
+        long totalCount() {
+            return total.getTotalCount();
+        }
+
+        long totalErrors() {
+            return totalErrors;
+        }
+
+        double elapsedSeconds() {
+            return elapsedSeconds;
+        }
+
+        void printSummary(PrintStream out) {
+            out.printf(Locale.ROOT, "Total: %d ops in %.1fs (%.0f ops/s), p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus, errors=%d%n",
+                    total.getTotalCount(), elapsedSeconds, total.getTotalCount() / elapsedSeconds,
+                    micros(total.getValueAtPercentile(50)),
+                    micros(total.getValueAtPercentile(99)),
+                    micros(total.getValueAtPercentile(99.9)),
+                    micros(total.getMaxValue()),
+                    totalErrors);
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"host\":\"%s\",\"port\":%d,\"mode\":\"%s\",\"targetRate\":%d,\"concurrency\":%d,"
+                            + "\"addPercent\":%d,\"durationSeconds\":%.3f,\"intervals\":[%s],"
+                            + "\"total\":{\"count\":%d,\"opsPerSecond\":%.1f,%s,\"errors\":%d}}%n",
+                    json(options.host), options.port, options.rate > 0 ? "open" : "closed",
+                    options.rate, options.concurrency, options.addPercent, elapsedSeconds,
+                    String.join(",", intervalsJson),
+                    total.getTotalCount(), total.getTotalCount() / elapsedSeconds,
+                    latencyJson(total), totalErrors);
+        }
+
+        /** Escape {@code value} for use inside a JSON string literal. */
+        private static String json(String value) {
+            StringBuilder escaped = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    escaped.append('\\').append(c);
+                } else if (c < 0x20) {
+                    escaped.append(String.format("\\u%04x", (int) c));
+                } else {
+                    escaped.append(c);
+                }
+            }
+            return escaped.toString();
+        }
+
+        private static String latencyJson(Histogram histogram) {
+            return String.format(Locale.ROOT,
+                    "\"p50Micros\":%.1f,\"p99Micros\":%.1f,\"p999Micros\":%.1f,\"maxMicros\":%.1f",
+                    micros(histogram.getValueAtPercentile(50)),
+                    micros(histogram.getValueAtPercentile(99)),
+                    micros(histogram.getValueAtPercentile(99.9)),
+                    micros(histogram.getMaxValue()));
+        }
+
+        private static double micros(long nanos) {
+            return nanos / 1000.0;
+        }
+    }
+}
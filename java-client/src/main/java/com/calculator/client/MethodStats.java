@@ -0,0 +1,125 @@
+package com.calculator.client;
+
+import io.grpc.Status;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/** Point-in-time counters and latency distribution of one RPC method. */
+public final class MethodStats {
+    private final String method;
+    private final long started;
+    private final Map<Status.Code, Long> statusCounts;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long latencySumNanos;
+    private final long[] buckets;
+    private final long completed;
+
+    MethodStats(String method, long started, Map<Status.Code, Long> statusCounts,
+                long bytesSent, long bytesReceived, long latencySumNanos, long[] buckets) {
+        this.method = method;
+        this.started = started;
+        this.statusCounts = statusCounts;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.latencySumNanos = latencySumNanos;
+        this.buckets = buckets;
+        long total = 0;
+        for (long count : buckets) {
+            total += count;
+        }
+        this.completed = total;
+    }
+
+    /** Full method name, such as {@code calculator.CalculatorService/Add}. */
+    public String method() {
+        return method;
+    }
+
+    /** Calls started. */
+    public long started() {
+        return started;
+    }
+
+    /** Calls closed, with any status. */
+    public long completed() {
+        return completed;
+    }
+
+    /** Calls started and not closed yet. */
+    public long inFlight() {
+        return Math.max(0, started - completed);
+    }
+
+    /** Closed calls per status code; codes never seen are absent. */
+    public Map<Status.Code, Long> statusCounts() {
+        return new EnumMap<>(statusCounts);
+    }
+
+    /** Closed calls with {@code code}. */
+    public long count(Status.Code code) {
+        return statusCounts.getOrDefault(code, 0L);
+    }
+
+    /** Wire bytes of all request messages, after framing and compression. */
+    public long bytesSent() {
+        return bytesSent;
+    }
+
+    /** Wire bytes of all response messages. */
+    public long bytesReceived() {
+        return bytesReceived;
+    }
+
+    /** Sum of the latencies of all closed calls. */
+    public long latencySumNanos() {
+        return latencySumNanos;
+    }
+
+    /** Mean latency of closed calls. */
+    public double meanLatencyNanos() {
+        return completed == 0 ? 0.0 : (double) latencySumNanos / completed;
+    }
+
+    /**
+     * Latency at {@code percentile} (0 to 100), accurate to the histogram's
+     * 12.5% bucket width; zero if no call has closed.
+     */
+    public long latencyAtPercentile(double percentile) {
+        if (completed == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * completed));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return LatencyHistogram.upperBound(i);
+            }
+        }
+        return LatencyHistogram.upperBound(buckets.length - 1);
+    }
+
+    /**
+     * Closed calls with a latency of at most about {@code nanos}: counts
+     * whole buckets up to the one holding {@code nanos}.
+     */
+    public long countAtOrBelow(long nanos) {
+        int last = LatencyHistogram.bucket(nanos);
+        long count = 0;
+        for (int i = 0; i <= last; i++) {
+            count += buckets[i];
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s started=%d completed=%d statuses=%s sent=%dB received=%dB"
+                        + " mean=%.1fus p50=%.1fus p99=%.1fus p99.9=%.1fus",
+                method, started, completed, statusCounts, bytesSent, bytesReceived,
+                meanLatencyNanos() / 1000, latencyAtPercentile(50) / 1000.0,
+                latencyAtPercentile(99) / 1000.0, latencyAtPercentile(99.9) / 1000.0);
+    }
+}
@@ -0,0 +1,133 @@
+package com.calculator.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client interceptor that records, per method, calls started, status codes,
+ * wire bytes in and out, and a latency histogram.
+ *
+ * <p>Recording only touches {@code LongAdder}s and the striped
+ * {@link LatencyHistogram}, so concurrent calls do not contend on shared
+ * counters. Install with {@link CalculatorClient.Builder#intercept} and read
+ * with {@link #snapshot()}.
+ */
+public final class MetricsInterceptor implements ClientInterceptor {
+    private static final Status.Code[] CODES = Status.Code.values();
+
+    private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        MethodMetrics metrics = methods.get(method.getFullMethodName());
+        if (metrics == null) {
+            metrics = methods.computeIfAbsent(method.getFullMethodName(), name -> new MethodMetrics());
+        }
+        MethodMetrics recorder = metrics;
+        return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(
+                next.newCall(method, callOptions.withStreamTracerFactory(recorder.bytes))) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                long startNanos = System.nanoTime();
+                recorder.started.increment();
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        recorder.closed(status.getCode(), System.nanoTime() - startNanos);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+
+    /** Stats of every method called so far, by full method name. */
+    public Map<String, MethodStats> snapshot() {
+        Map<String, MethodStats> snapshot = new TreeMap<>();
+        methods.forEach((name, metrics) -> snapshot.put(name, metrics.snapshot(name)));
+        return snapshot;
+    }
+
+    /** Stats of one method, or {@code null} if it has not been called. */
+    public MethodStats snapshot(String fullMethodName) {
+        MethodMetrics metrics = methods.get(fullMethodName);
+        return metrics != null ? metrics.snapshot(fullMethodName) : null;
+    }
+
+    /** Live counters of one method. */
+    private static final class MethodMetrics {
+        final LongAdder started = new LongAdder();
+        final LongAdder[] statusCounts = new LongAdder[CODES.length];
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LongAdder latencySum = new LongAdder();
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final ClientStreamTracer.Factory bytes = new ByteCounter(this);
+
+        MethodMetrics() {
+            for (int i = 0; i < CODES.length; i++) {
+                statusCounts[i] = new LongAdder();
+            }
+        }
+
+        void closed(Status.Code code, long nanos) {
+            statusCounts[code.ordinal()].increment();
+            latencySum.add(nanos);
+            latencies.record(nanos);
+        }
+
+        MethodStats snapshot(String name) {
+            // Histogram first so started never reads lower than completed
+            long[] buckets = latencies.snapshot();
+            Map<Status.Code, Long> codes = new EnumMap<>(Status.Code.class);
+            for (int i = 0; i < CODES.length; i++) {
+                long count = statusCounts[i].sum();
+                if (count > 0) {
+                    codes.put(CODES[i], count);
+                }
+            }
+            return new MethodStats(name, started.sum(), codes, bytesSent.sum(), bytesReceived.sum(),
+                    latencySum.sum(), buckets);
+        }
+    }
+
+    /** Stateless, so one instance serves every stream of its method. */
+    private static final class ByteCounter extends ClientStreamTracer.Factory {
+        private final MethodMetrics metrics;
+        private final ClientStreamTracer tracer = new ClientStreamTracer() {
+            @Override
+            public void outboundWireSize(long bytes) {
+                metrics.bytesSent.add(bytes);
+            }
+
+            @Override
+            public void inboundWireSize(long bytes) {
+                metrics.bytesReceived.add(bytes);
+            }
+        };
+
+        ByteCounter(MethodMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+            return tracer;
+        }
+    }
+}
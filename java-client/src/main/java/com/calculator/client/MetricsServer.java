@@ -0,0 +1,249 @@
+package com.calculator.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.ConnectivityState;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocator;
+import io.grpc.netty.shaded.io.netty.buffer.PooledByteBufAllocatorMetric;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves a client's metrics in the Prometheus text format on
+ * {@code /metrics}, using the JDK's built-in HTTP server.
+ *
+ * <pre>
+ * MetricsInterceptor metrics = new MetricsInterceptor();
+ * CalculatorClient client = CalculatorClient.newBuilder(host, port).intercept(metrics).build();
+ * MetricsServer server = MetricsServer.start(9464, client, metrics);
+ * </pre>
+ *
+ * <p>Given the {@link AdaptiveConcurrencyLimiter} the client was built
+ * with, the endpoint also exports its current limit, in-flight and queued
+ * calls, and rejections.
+ *
+ * <p>Scrapes run on the server's own thread and only read counters, so
+ * they never block or slow down calls.
+ *
+ * <p>gRPC's transport allocates from its own pooled allocator, which is not
+ * reachable from outside. {@code jvm_direct_buffer_used_bytes} is the JVM's
+ * "direct" buffer pool; Netty buffers allocated without a cleaner are not
+ * part of it. The {@code netty_allocator_*} metrics describe
+ * {@code PooledByteBufAllocator.DEFAULT}.
+ */
+public final class MetricsServer implements AutoCloseable {
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Latency histogram bucket bounds in nanoseconds: 50us, 100us, 250us, ...
+     * 10s, each raised to the upper edge of the {@link LatencyHistogram}
+     * bucket holding it, so every {@code le} count is exact rather than
+     * including part of the next bucket. 1ms is exported as
+     * {@code le="0.001048575"}, for example.
+     */
+    private static final long[] BUCKETS = bucketEdges(
+        0.00005, 0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    );
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final CalculatorClient client;
+    private final MetricsInterceptor metrics;
+    private final AdaptiveConcurrencyLimiter limiter;  // null when not exported
+
+    private MetricsServer(HttpServer server, CalculatorClient client, MetricsInterceptor metrics,
+                          AdaptiveConcurrencyLimiter limiter) {
+        this.server = server;
+        this.client = client;
+        this.metrics = metrics;
+        this.limiter = limiter;
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "calculator-metrics-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /** Listen on {@code port} on all interfaces; port 0 picks a free one. */
+    public static MetricsServer start(int port, CalculatorClient client, MetricsInterceptor metrics)
+            throws IOException {
+        return start(new InetSocketAddress(port), client, metrics);
+    }
+
+    public static MetricsServer start(InetSocketAddress address, CalculatorClient client, MetricsInterceptor metrics)
+            throws IOException {
+        return start(address, client, metrics, null);
+    }
+
+    /** Listen on {@code port}, also exporting {@code limiter}, which may be null. */
+    public static MetricsServer start(int port, CalculatorClient client, MetricsInterceptor metrics,
+                                      AdaptiveConcurrencyLimiter limiter) throws IOException {
+        return start(new InetSocketAddress(port), client, metrics, limiter);
+    }
+
+    public static MetricsServer start(InetSocketAddress address, CalculatorClient client, MetricsInterceptor metrics,
+                                      AdaptiveConcurrencyLimiter limiter) throws IOException {
+        return new MetricsServer(HttpServer.create(address, 0), client, metrics, limiter);
+    }
+
+    /** Port the endpoint listens on. */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /** Render every metric in the Prometheus text exposition format. */
+    String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        Map<String, MethodStats> methods = metrics.snapshot();
+
+        header(out, "calculator_client_calls_started_total", "counter", "Calls started.");
+        for (MethodStats stats : methods.values()) {
+            sample(out, "calculator_client_calls_started_total", method(stats), stats.started());
+        }
+        header(out, "calculator_client_calls_total", "counter", "Calls closed, by status code.");
+        for (MethodStats stats : methods.values()) {
+            for (Map.Entry<Status.Code, Long> entry : stats.statusCounts().entrySet()) {
+                sample(out, "calculator_client_calls_total",
+                        method(stats) + ",code=\"" + entry.getKey() + "\"", entry.getValue());
+            }
+        }
+        header(out, "calculator_client_sent_bytes_total", "counter", "Request bytes on the wire.");
+        for (MethodStats stats : methods.values()) {
+            sample(out, "calculator_client_sent_bytes_total", method(stats), stats.bytesSent());
+        }
+        header(out, "calculator_client_received_bytes_total", "counter", "Response bytes on the wire.");
+        for (MethodStats stats : methods.values()) {
+            sample(out, "calculator_client_received_bytes_total", method(stats), stats.bytesReceived());
+        }
+        header(out, "calculator_client_calls_in_flight", "gauge", "Calls started and not closed yet.");
+        for (MethodStats stats : methods.values()) {
+            sample(out, "calculator_client_calls_in_flight", method(stats), stats.inFlight());
+        }
+        header(out, "calculator_client_latency_seconds", "histogram", "Call latency from start to close.");
+        for (MethodStats stats : methods.values()) {
+            String labels = method(stats);
+            for (long bound : BUCKETS) {
+                sample(out, "calculator_client_latency_seconds_bucket",
+                        labels + ",le=\"" + number(bound / 1e9) + "\"", stats.countAtOrBelow(bound));
+            }
+            sample(out, "calculator_client_latency_seconds_bucket", labels + ",le=\"+Inf\"", stats.completed());
+            sample(out, "calculator_client_latency_seconds_sum", labels, stats.latencySumNanos() / 1e9);
+            sample(out, "calculator_client_latency_seconds_count", labels, stats.completed());
+        }
+
+        header(out, "calculator_client_limiter_in_flight", "gauge",
+                "Async calls holding a slot of the client's maxInFlight limiter.");
+        sample(out, "calculator_client_limiter_in_flight", null, client.inFlight());
+
+        if (limiter != null) {
+            header(out, "calculator_client_adaptive_limit", "gauge",
+                    "Current limit of the adaptive concurrency limiter.");
+            sample(out, "calculator_client_adaptive_limit", null, limiter.limit());
+            header(out, "calculator_client_adaptive_in_flight", "gauge",
+                    "Unary calls holding a permit of the adaptive limiter.");
+            sample(out, "calculator_client_adaptive_in_flight", null, limiter.inFlight());
+            header(out, "calculator_client_adaptive_queued", "gauge",
+                    "Calls waiting for the adaptive limit to let them start.");
+            sample(out, "calculator_client_adaptive_queued", null, limiter.queued());
+            header(out, "calculator_client_adaptive_rejected_total", "counter",
+                    "Calls failed with RESOURCE_EXHAUSTED by the adaptive limiter.");
+            sample(out, "calculator_client_adaptive_rejected_total", null, limiter.rejected());
+        }
+
+        header(out, "calculator_client_channel_state", "gauge", "1 for the channel's current connectivity state.");
+        ConnectivityState current = client.channelState();
+        for (ConnectivityState state : ConnectivityState.values()) {
+            sample(out, "calculator_client_channel_state", "state=\"" + state + "\"", state == current ? 1 : 0);
+        }
+
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if ("direct".equals(pool.getName())) {
+                header(out, "jvm_direct_buffer_used_bytes", "gauge", "Memory used by the JVM's direct buffers.");
+                sample(out, "jvm_direct_buffer_used_bytes", null, pool.getMemoryUsed());
+            }
+        }
+        PooledByteBufAllocatorMetric pooled = PooledByteBufAllocator.DEFAULT.metric();
+        header(out, "netty_allocator_used_direct_bytes", "gauge", "Direct memory held by the default pooled allocator.");
+        sample(out, "netty_allocator_used_direct_bytes", null, pooled.usedDirectMemory());
+        header(out, "netty_allocator_used_heap_bytes", "gauge", "Heap memory held by the default pooled allocator.");
+        sample(out, "netty_allocator_used_heap_bytes", null, pooled.usedHeapMemory());
+        header(out, "netty_allocator_direct_arenas", "gauge", "Direct arenas of the default pooled allocator.");
+        sample(out, "netty_allocator_direct_arenas", null, pooled.numDirectArenas());
+        header(out, "netty_allocator_thread_local_caches", "gauge",
+                "Thread-local caches of the default pooled allocator.");
+        sample(out, "netty_allocator_thread_local_caches", null, pooled.numThreadLocalCaches());
+        return out.toString();
+    }
+
+    private static long[] bucketEdges(double... seconds) {
+        long[] edges = new long[seconds.length];
+        for (int i = 0; i < seconds.length; i++) {
+            edges[i] = LatencyHistogram.upperBound(LatencyHistogram.bucket(Math.round(seconds[i] * 1e9)));
+        }
+        return edges;
+    }
+
+    private static String method(MethodStats stats) {
+        return "method=\"" + stats.method() + "\"";
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (labels != null) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(number(value)).append('\n');
+    }
+
+    private static String number(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.calculator.client;
+
+/** Point-in-time counters for a client's micro-batching mode. */
+public final class MicroBatchStats {
+    private final int maxBatchSize;
+    private final long batches;
+    private final long operations;
+    private final long sizeFlushes;
+    private final long timeFlushes;
+
+    MicroBatchStats(int maxBatchSize, long batches, long operations, long sizeFlushes, long timeFlushes) {
+        this.maxBatchSize = maxBatchSize;
+        this.batches = batches;
+        this.operations = operations;
+        this.sizeFlushes = sizeFlushes;
+        this.timeFlushes = timeFlushes;
+    }
+
+    /**
+     * Batch RPCs sent so far. A flush that mixes adds and subtracts sends
+     * two of them.
+     */
+    public long batches() {
+        return batches;
+    }
+
+    /** Scalar calls sent as part of a batch. */
+    public long operations() {
+        return operations;
+    }
+
+    /** Flushes triggered by reaching the size limit. */
+    public long sizeFlushes() {
+        return sizeFlushes;
+    }
+
+    /** Flushes triggered by the time limit expiring first. */
+    public long timeFlushes() {
+        return timeFlushes;
+    }
+
+    /** Mean calls per batch. */
+    public double averageBatchSize() {
+        return batches == 0 ? 0.0 : (double) operations / batches;
+    }
+
+    /** Mean batch size as a fraction of the size limit, between 0 and 1. */
+    public double averageFill() {
+        return averageBatchSize() / maxBatchSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("batches=%d operations=%d sizeFlushes=%d timeFlushes=%d fill=%.2f",
+                batches, operations, sizeFlushes, timeFlushes, averageFill());
+    }
+}
@@ -0,0 +1,208 @@
+package com.calculator.client;
+
+import io.grpc.stub.StreamObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gathers scalar calls from many threads and sends them as packed batch
+ * RPCs. A batch is flushed when it reaches {@code maxBatchSize} calls or
+ * when {@code maxDelayNanos} has passed since the flusher saw the first one.
+ *
+ * <p>Callers only append to a lock-free queue; one daemon thread builds and
+ * sends the batches.
+ */
+final class MicroBatcher {
+    private final CalculatorServiceGrpc.CalculatorServiceStub stub;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Queue<Call> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder sizeFlushes = new LongAdder();
+    private final LongAdder timeFlushes = new LongAdder();
+
+    MicroBatcher(CalculatorServiceGrpc.CalculatorServiceStub stub, int maxBatchSize, long maxDelayNanos) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxDelayNanos < 0) {
+            throw new IllegalArgumentException("maxDelay must not be negative: " + maxDelayNanos);
+        }
+        this.stub = stub;
+        this.maxBatchSize = Math.min(maxBatchSize, CalculatorClient.BATCH_CHUNK_SIZE);
+        this.maxDelayNanos = maxDelayNanos;
+        this.flusher = new Thread(this::run, "calculator-micro-batcher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    CompletableFuture<Double> submit(boolean subtract, double a, double b) {
+        Call call = new Call(subtract, a, b);
+        queue.add(call);
+        int size = queued.incrementAndGet();
+        if (size == 1 || size >= maxBatchSize) {
+            LockSupport.unpark(flusher);
+        }
+        if (!running && queue.remove(call)) {
+            // The flusher may already have exited and would never see this call
+            queued.decrementAndGet();
+            call.result.completeExceptionally(new IllegalStateException("Client is shut down"));
+        }
+        return call.result;
+    }
+
+    /**
+     * Stop the flusher after sending everything already queued, and wait
+     * until it has started those calls so the channel can still carry them.
+     */
+    void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        if (Thread.currentThread() != flusher) {
+            flusher.join();
+        }
+    }
+
+    MicroBatchStats stats() {
+        return new MicroBatchStats(maxBatchSize, batches.sum(), operations.sum(),
+                sizeFlushes.sum(), timeFlushes.sum());
+    }
+
+    private void run() {
+        while (running) {
+            if (queued.get() == 0) {
+                LockSupport.park(this);
+                continue;
+            }
+            long firstSeen = System.nanoTime();
+            long deadline = firstSeen + maxDelayNanos;
+            boolean full;
+            while (!(full = queued.get() >= maxBatchSize) && running) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            flush(full, firstSeen);
+        }
+        while (queued.get() > 0) {
+            flush(true, System.nanoTime());
+        }
+    }
+
+    private void flush(boolean bySize, long firstSeenNanos) {
+        List<Call> adds = new ArrayList<>();
+        List<Call> subtracts = new ArrayList<>();
+        for (int i = 0; i < maxBatchSize; i++) {
+            Call call = queue.poll();
+            if (call == null) {
+                break;
+            }
+            queued.decrementAndGet();
+            (call.subtract ? subtracts : adds).add(call);
+        }
+        int size = adds.size() + subtracts.size();
+        if (size == 0) {
+            return;
+        }
+        operations.add(size);
+        (bySize ? sizeFlushes : timeFlushes).increment();
+        CalculatorServiceGrpc.CalculatorServiceStub stub = JfrInterceptor.isEnabled()
+                ? this.stub.withOption(JfrInterceptor.QUEUED_SINCE, firstSeenNanos)
+                : this.stub;
+        if (!adds.isEmpty()) {
+            send(stub, false, adds);
+        }
+        if (!subtracts.isEmpty()) {
+            send(stub, true, subtracts);
+        }
+    }
+
+    private void send(CalculatorServiceGrpc.CalculatorServiceStub stub, boolean subtract, List<Call> calls) {
+        batches.increment();
+        BatchObserver observer = new BatchObserver(calls);
+        try {
+            if (subtract) {
+                stub.subtractBatch(request(calls), observer);
+            } else {
+                stub.addBatch(request(calls), observer);
+            }
+        } catch (RuntimeException e) {
+            // Fail these calls but keep the flusher alive for the ones still queued
+            observer.onError(e);
+        }
+    }
+
+    private static BatchOperationRequest request(List<Call> calls) {
+        BatchOperationRequest.Builder request = BatchOperationRequest.newBuilder();
+        for (Call call : calls) {
+            request.addNumber1(call.a);
+        }
+        for (Call call : calls) {
+            request.addNumber2(call.b);
+        }
+        return request.build();
+    }
+
+    private static final class Call {
+        final boolean subtract;
+        final double a;
+        final double b;
+        final CompletableFuture<Double> result = new CompletableFuture<>();
+
+        Call(boolean subtract, double a, double b) {
+            this.subtract = subtract;
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    /** Hands each result of a batch back to the call it belongs to. */
+    private static final class BatchObserver implements StreamObserver<BatchOperationResponse> {
+        private final List<Call> calls;
+
+        BatchObserver(List<Call> calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public void onNext(BatchOperationResponse response) {
+            if (response.getResultCount() != calls.size()) {
+                onError(new IllegalStateException("Expected " + calls.size()
+                        + " results, got " + response.getResultCount()));
+                return;
+            }
+            for (int i = 0; i < calls.size(); i++) {
+                calls.get(i).result.complete(response.getResult(i));
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            for (Call call : calls) {
+                call.result.completeExceptionally(new RuntimeException("RPC failed", t));
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            // Results were delivered by onNext
+        }
+    }
+}
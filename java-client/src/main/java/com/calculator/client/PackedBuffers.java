@@ -0,0 +1,387 @@
+package com.calculator.client;
+
+import io.grpc.Drainable;
+import io.grpc.HasByteBuffer;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Marshallers that move batch operands and results between
+ * {@link DoubleBuffer}s and the wire without protobuf messages or
+ * {@code double[]} copies on the heap.
+ *
+ * <p>A request streams both packed fields of a {@code BatchOperationRequest}
+ * from the operand buffers through a 64 KiB staging array, since
+ * {@code OutputStream} only accepts bytes. A response is decoded straight
+ * into its slice of the result buffer, reading gRPC's receive buffers in
+ * place when the transport exposes them, else through a staging array too.
+ *
+ * <p>Staging arrays come from a shared pool that keeps at most
+ * {@link #MAX_POOLED_STAGING} of them, rather than one per thread, so
+ * sending from many virtual threads does not cost 64 KiB each. Drains
+ * beyond that many at once use a temporary array.
+ *
+ * <p>The other direction, parsing a request into heap buffers and encoding
+ * the results of a region, is there so the same descriptors can back a
+ * server; it is not tuned.
+ */
+final class PackedBuffers {
+    private static final int NUMBER1_TAG = WireFormat.tag(1, WireFormat.LENGTH_DELIMITED);
+    private static final int NUMBER2_TAG = WireFormat.tag(2, WireFormat.LENGTH_DELIMITED);
+    private static final int RESULT_PACKED_TAG = WireFormat.tag(1, WireFormat.LENGTH_DELIMITED);
+    private static final int RESULT_TAG = WireFormat.tag(1, WireFormat.FIXED64);
+
+    private static final int STAGING_BYTES = 64 * 1024;
+    /** Staging arrays kept for reuse; about as many as can be in use at once on platform threads. */
+    static final int MAX_POOLED_STAGING = 2 * Runtime.getRuntime().availableProcessors();
+    private static final Queue<Staging> STAGING = new ArrayBlockingQueue<>(MAX_POOLED_STAGING);
+
+    private PackedBuffers() {
+    }
+
+    /** {@code method} with its messages replaced by buffer regions; results go to {@code results}. */
+    static MethodDescriptor<Operands, Integer> descriptor(
+            MethodDescriptor<BatchOperationRequest, BatchOperationResponse> method, DoubleBuffer results) {
+        return method.toBuilder(OPERANDS, new ResultMarshaller(results)).build();
+    }
+
+    /**
+     * The elements of {@code buffer} from {@code offset} to {@code offset +
+     * (count - 1) * stride} past its position, for {@code count} values that
+     * lie {@code stride} elements apart.
+     */
+    static DoubleBuffer slice(DoubleBuffer buffer, int offset, int count, int stride) {
+        return slice(buffer, offset * stride, count == 0 ? 0 : (count - 1) * stride + 1);
+    }
+
+    /** {@code length} elements of {@code buffer} starting {@code offset} past its position. */
+    static DoubleBuffer slice(DoubleBuffer buffer, int offset, int length) {
+        DoubleBuffer region = buffer.duplicate();
+        region.position(buffer.position() + offset).limit(buffer.position() + offset + length);
+        return region.slice();
+    }
+
+    /** Reusable little-endian staging array with a double view of it. */
+    private static final class Staging {
+        final byte[] bytes = new byte[STAGING_BYTES];
+        final DoubleBuffer doubles = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+
+    private static Staging acquireStaging() {
+        Staging staging = STAGING.poll();
+        return staging != null ? staging : new Staging();
+    }
+
+    /** Return a staging array to the pool, or drop it if the pool is full. */
+    private static void releaseStaging(Staging staging) {
+        STAGING.offer(staging);
+    }
+
+    /** Staging arrays waiting in the pool. */
+    static int pooledStaging() {
+        return STAGING.size();
+    }
+
+    /**
+     * The wire encoding of a {@code BatchOperationRequest} over two operand
+     * regions. Each holds {@code count} values {@code stride} elements apart,
+     * so interleaved pairs can be sent with a stride of two. Single use.
+     */
+    static final class Operands extends InputStream implements Drainable, KnownLength {
+        private final DoubleBuffer number1;
+        private final DoubleBuffer number2;
+        private final int stride;
+        private final int count;
+        private final int fieldBytes;
+        private InputStream copy;  // only for transports that read instead of drain
+        private boolean drained;
+
+        Operands(DoubleBuffer number1, DoubleBuffer number2) {
+            this(number1, number2, 1, number1.remaining());
+        }
+
+        Operands(DoubleBuffer number1, DoubleBuffer number2, int stride, int count) {
+            this.number1 = number1;
+            this.number2 = number2;
+            this.stride = stride;
+            this.count = count;
+            this.fieldBytes = count * Double.BYTES;
+        }
+
+        /** Operand pairs in this request. */
+        int count() {
+            return count;
+        }
+
+        private int length() {
+            return 2 * (1 + WireFormat.varintSize(fieldBytes) + fieldBytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            if (copy != null || drained) {
+                throw new IllegalStateException("Operands already read");
+            }
+            drained = true;
+            Staging staging = acquireStaging();
+            try {
+                writeField(target, staging, NUMBER1_TAG, number1);
+                writeField(target, staging, NUMBER2_TAG, number2);
+            } finally {
+                releaseStaging(staging);
+            }
+            return length();
+        }
+
+        private void writeField(OutputStream target, Staging staging, int tag, DoubleBuffer values) throws IOException {
+            staging.bytes[0] = (byte) tag;
+            target.write(staging.bytes, 0, WireFormat.writeVarint(staging.bytes, 1, fieldBytes));
+            if (stride != 1) {
+                writeStrided(target, staging, values);
+                return;
+            }
+            DoubleBuffer source = values.duplicate();
+            int chunk = staging.doubles.capacity();
+            while (source.hasRemaining()) {
+                int n = Math.min(chunk, source.remaining());
+                int end = source.position() + n;
+                DoubleBuffer part = source.duplicate();
+                part.limit(end);
+                staging.doubles.clear();
+                staging.doubles.put(part);
+                target.write(staging.bytes, 0, n * Double.BYTES);
+                source.position(end);
+            }
+        }
+
+        private void writeStrided(OutputStream target, Staging staging, DoubleBuffer values) throws IOException {
+            int chunk = staging.doubles.capacity();
+            int base = values.position();
+            for (int i = 0; i < count; ) {
+                int n = Math.min(chunk, count - i);
+                for (int j = 0; j < n; j++) {
+                    staging.doubles.put(j, values.get(base + (i + j) * stride));
+                }
+                target.write(staging.bytes, 0, n * Double.BYTES);
+                i += n;
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            return materialize().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return materialize().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            if (copy != null) {
+                return copy.available();
+            }
+            return drained ? 0 : length();
+        }
+
+        private InputStream materialize() throws IOException {
+            if (copy == null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(length());
+                drainTo(bytes);
+                copy = new ByteArrayInputStream(bytes.toByteArray());
+            }
+            return copy;
+        }
+    }
+
+    private static final MethodDescriptor.Marshaller<Operands> OPERANDS = new MethodDescriptor.Marshaller<Operands>() {
+        @Override
+        public InputStream stream(Operands value) {
+            return value;
+        }
+
+        /** Reads both fields, packed or not, into heap buffers; their counts must match. */
+        @Override
+        public Operands parse(InputStream stream) {
+            try {
+                DoubleBuffer number1 = DoubleBuffer.allocate(16);
+                DoubleBuffer number2 = DoubleBuffer.allocate(16);
+                int tag;
+                while ((tag = WireFormat.readVarint(stream)) >= 0) {
+                    if (tag == NUMBER1_TAG) {
+                        number1 = readPacked(stream, number1);
+                    } else if (tag == NUMBER2_TAG) {
+                        number2 = readPacked(stream, number2);
+                    } else if (tag == WireFormat.tag(1, WireFormat.FIXED64)) {
+                        number1 = append(number1, WireFormat.readFixed64(stream));
+                    } else if (tag == WireFormat.tag(2, WireFormat.FIXED64)) {
+                        number2 = append(number2, WireFormat.readFixed64(stream));
+                    } else {
+                        WireFormat.skipField(stream, tag);
+                    }
+                }
+                if (number1.position() != number2.position()) {
+                    throw new IOException(number1.position() + " values of number1 but "
+                            + number2.position() + " of number2");
+                }
+                return new Operands(number1.flip(), number2.flip());
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Malformed BatchOperationRequest").withCause(e)
+                        .asRuntimeException();
+            }
+        }
+
+        private DoubleBuffer readPacked(InputStream stream, DoubleBuffer values) throws IOException {
+            int length = WireFormat.readLength(stream);
+            if (length % Double.BYTES != 0) {
+                throw new IOException("Bad packed length " + length);
+            }
+            for (int i = length / Double.BYTES; i > 0; i--) {
+                values = append(values, WireFormat.readFixed64(stream));
+            }
+            return values;
+        }
+
+        private DoubleBuffer append(DoubleBuffer values, long bits) {
+            if (!values.hasRemaining()) {
+                values = DoubleBuffer.allocate(values.capacity() * 2).put(values.flip());
+            }
+            return values.put(Double.longBitsToDouble(bits));
+        }
+    };
+
+    /**
+     * Decodes {@code BatchOperationResponse.result} into a result region and
+     * returns how many values were written. Accepts packed and unpacked
+     * encodings, as protobuf parsers must.
+     */
+    private static final class ResultMarshaller implements MethodDescriptor.Marshaller<Integer> {
+        private final DoubleBuffer results;
+
+        ResultMarshaller(DoubleBuffer results) {
+            this.results = results;
+        }
+
+        /** Encodes the first {@code count} values of the region, packed. */
+        @Override
+        public InputStream stream(Integer count) {
+            if (count < 0 || count > results.limit()) {
+                throw new IllegalArgumentException("Region holds " + results.limit() + " results, not " + count);
+            }
+            if (count == 0) {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+            int fieldBytes = count * Double.BYTES;
+            byte[] bytes = new byte[1 + WireFormat.varintSize(fieldBytes) + fieldBytes];
+            bytes[0] = (byte) RESULT_PACKED_TAG;
+            int offset = WireFormat.writeVarint(bytes, 1, fieldBytes);
+            DoubleBuffer values = results.duplicate();
+            values.position(0).limit(count);
+            ByteBuffer.wrap(bytes, offset, fieldBytes).slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().put(values);
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public Integer parse(InputStream stream) {
+            try {
+                int written = 0;
+                int tag;
+                while ((tag = WireFormat.readVarint(stream)) >= 0) {
+                    if (tag == RESULT_PACKED_TAG) {
+                        int length = WireFormat.readLength(stream);
+                        if (length % Double.BYTES != 0) {
+                            throw new IOException("Bad packed length " + length);
+                        }
+                        written = readDoubles(stream, length / Double.BYTES, written);
+                    } else if (tag == RESULT_TAG) {
+                        checkRoom(written, 1);
+                        results.put(written++, Double.longBitsToDouble(WireFormat.readFixed64(stream)));
+                    } else {
+                        WireFormat.skipField(stream, tag);
+                    }
+                }
+                return written;
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Malformed BatchOperationResponse").withCause(e)
+                        .asRuntimeException();
+            }
+        }
+
+        private int readDoubles(InputStream stream, int count, int offset) throws IOException {
+            checkRoom(offset, count);
+            DoubleBuffer target = results.duplicate();
+            target.position(offset);
+            int end = offset + count;
+            boolean direct = stream instanceof HasByteBuffer && ((HasByteBuffer) stream).byteBufferSupported();
+            Staging staging = direct ? null : acquireStaging();
+            try {
+                readInto(stream, target, end, staging);
+            } finally {
+                if (staging != null) {
+                    releaseStaging(staging);
+                }
+            }
+            return end;
+        }
+
+        /** Fill {@code target} up to {@code end}, in place when {@code staging} is null. */
+        private static void readInto(InputStream stream, DoubleBuffer target, int end, Staging staging)
+                throws IOException {
+            boolean direct = staging == null;
+            while (target.position() < end) {
+                int wanted = end - target.position();
+                if (direct) {
+                    ByteBuffer received = ((HasByteBuffer) stream).getByteBuffer();
+                    int whole = received != null ? Math.min(wanted, received.remaining() / Double.BYTES) : 0;
+                    if (whole > 0) {
+                        // Read the receive buffer in place
+                        ByteBuffer view = received.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                        view.limit(view.position() + whole * Double.BYTES);
+                        target.put(view.asDoubleBuffer());
+                        WireFormat.skipBytes(stream, (long) whole * Double.BYTES);
+                    } else {
+                        // A value split across two receive buffers
+                        target.put(Double.longBitsToDouble(WireFormat.readFixed64(stream)));
+                    }
+                } else {
+                    int n = Math.min(wanted, staging.doubles.capacity());
+                    readFully(stream, staging.bytes, n * Double.BYTES);
+                    staging.doubles.clear().limit(n);
+                    target.put(staging.doubles);
+                }
+            }
+        }
+
+        private void checkRoom(int offset, int count) throws IOException {
+            if (count > results.limit() - offset) {
+                throw new IOException("More results than operands");
+            }
+        }
+
+        private static void readFully(InputStream stream, byte[] buffer, int length) throws IOException {
+            int read = 0;
+            while (read < length) {
+                int n = stream.read(buffer, read, length - read);
+                if (n < 0) {
+                    throw new IOException("Truncated packed field");
+                }
+                read += n;
+            }
+        }
+    }
+}
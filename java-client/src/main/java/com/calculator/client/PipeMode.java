@@ -0,0 +1,466 @@
+package com.calculator.client;
+
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Non-interactive mode of {@link CalculatorClient#main}: reads lines such
+ * as {@code add 1.5 2} or {@code subtract 10 4.25} ({@code +}, {@code sub}
+ * and {@code -} also work) and writes one result per line, in input order.
+ *
+ * <p>Lines are parsed from raw bytes and gathered into batches; each batch
+ * goes out as one AddBatch and one SubtractBatch call while the next is
+ * being read, with up to {@value #MAX_PENDING_BATCHES} batches in flight.
+ * Results are formatted straight into an output byte buffer. Integral
+ * results print without a fraction ({@code 42}, {@code -0}); every printed
+ * value parses back to exactly the computed double.
+ */
+final class PipeMode {
+    static final int BATCH_LINES = 8192;
+    static final int MAX_PENDING_BATCHES = 8;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final long MAX_EXACT = 1L << 53;
+
+    private final CalculatorClient client;
+    private final InputStream in;
+    private final OutputStream out;
+    private final ArrayDeque<Batch> pending = new ArrayDeque<>();
+    private final ArrayDeque<Batch> free = new ArrayDeque<>();
+
+    private byte[] input = new byte[1 << 16];
+    private int inputStart;
+    private int inputEnd;
+    private boolean inputDone;
+    private long lineNumber;
+
+    private final byte[] output = new byte[1 << 16];
+    private int outputSize;
+
+    PipeMode(CalculatorClient client, InputStream in, OutputStream out) {
+        this.client = client;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * Process all of {@code in}.
+     *
+     * @throws IllegalArgumentException for a malformed line, after the
+     *     results of every line before it have been written
+     */
+    void run() throws IOException {
+        Batch batch = nextBatch();
+        try {
+            try {
+                while (readLine(batch)) {
+                    if (batch.size == BATCH_LINES) {
+                        submit(batch);
+                        batch = nextBatch();
+                    }
+                }
+            } finally {
+                if (batch.size > 0) {
+                    submit(batch);
+                }
+            }
+        } finally {
+            try {
+                while (!pending.isEmpty()) {
+                    writeOldest();
+                }
+            } catch (IOException | RuntimeException e) {
+                // Still hand over the results written before the failure
+                try {
+                    flushOutput();
+                } catch (IOException flushFailure) {
+                    e.addSuppressed(flushFailure);
+                }
+                throw e;
+            }
+            flushOutput();
+        }
+    }
+
+    private Batch nextBatch() {
+        Batch batch = free.poll();
+        return batch != null ? batch : new Batch();
+    }
+
+    private void submit(Batch batch) throws IOException {
+        batch.send(client);
+        pending.add(batch);
+        if (pending.size() >= MAX_PENDING_BATCHES) {
+            writeOldest();
+        }
+    }
+
+    private void writeOldest() throws IOException {
+        Batch batch = pending.poll();
+        batch.await();
+        int adds = 0;
+        int subtracts = 0;
+        for (int i = 0; i < batch.size; i++) {
+            double result = batch.subtract[i]
+                    ? batch.subtractResults.getResult(subtracts++)
+                    : batch.addResults.getResult(adds++);
+            writeDouble(result);
+        }
+        batch.clear();
+        free.add(batch);
+    }
+
+    // Input
+
+    /** Parse the next non-blank line into {@code batch}; false at end of input. */
+    private boolean readLine(Batch batch) throws IOException {
+        while (true) {
+            int end = findNewline();
+            if (end < 0) {
+                return false;
+            }
+            lineNumber++;
+            int lineEnd = end > inputStart && input[end - 1] == '\r' ? end - 1 : end;
+            int position = skipSpaces(inputStart, lineEnd);
+            if (position == lineEnd) {
+                inputStart = Math.min(end + 1, inputEnd);
+                continue;
+            }
+            int opEnd = tokenEnd(position, lineEnd);
+            boolean subtract = parseOperation(position, opEnd);
+            int aStart = skipSpaces(opEnd, lineEnd);
+            int aEnd = tokenEnd(aStart, lineEnd);
+            int bStart = skipSpaces(aEnd, lineEnd);
+            int bEnd = tokenEnd(bStart, lineEnd);
+            if (aStart == aEnd || bStart == bEnd || skipSpaces(bEnd, lineEnd) != lineEnd) {
+                throw malformed("expected: operation number number");
+            }
+            batch.add(subtract, parseDouble(aStart, aEnd), parseDouble(bStart, bEnd));
+            inputStart = Math.min(end + 1, inputEnd);
+            return true;
+        }
+    }
+
+    /**
+     * Index of the newline ending the current line, refilling the buffer as
+     * needed. At end of input a final unterminated line ends at
+     * {@code inputEnd}; -1 once nothing is left.
+     */
+    private int findNewline() throws IOException {
+        int scanned = inputStart;
+        while (true) {
+            for (int i = scanned; i < inputEnd; i++) {
+                if (input[i] == '\n') {
+                    return i;
+                }
+            }
+            scanned = inputEnd;
+            if (inputDone) {
+                return inputStart < inputEnd ? inputEnd : -1;
+            }
+            scanned -= inputStart;
+            fill();
+        }
+    }
+
+    /** Move the partial line to the front, growing the buffer if it is full, and read more. */
+    private void fill() throws IOException {
+        int remaining = inputEnd - inputStart;
+        if (remaining == input.length) {
+            byte[] larger = new byte[input.length * 2];
+            System.arraycopy(input, inputStart, larger, 0, remaining);
+            input = larger;
+        } else if (inputStart > 0) {
+            System.arraycopy(input, inputStart, input, 0, remaining);
+        }
+        inputStart = 0;
+        inputEnd = remaining;
+        int n = in.read(input, inputEnd, input.length - inputEnd);
+        if (n < 0) {
+            inputDone = true;
+        } else {
+            inputEnd += n;
+        }
+    }
+
+    private int skipSpaces(int position, int end) {
+        while (position < end && (input[position] == ' ' || input[position] == '\t')) {
+            position++;
+        }
+        return position;
+    }
+
+    private int tokenEnd(int position, int end) {
+        while (position < end && input[position] != ' ' && input[position] != '\t') {
+            position++;
+        }
+        return position;
+    }
+
+    private boolean parseOperation(int start, int end) {
+        if (matches(start, end, "add") || matches(start, end, "+")) {
+            return false;
+        }
+        if (matches(start, end, "subtract") || matches(start, end, "sub") || matches(start, end, "-")) {
+            return true;
+        }
+        throw malformed("unknown operation " + text(start, end));
+    }
+
+    private boolean matches(int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (input[start + i] != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decimal literals with at most 15 significant digits and a decimal
+     * exponent within ±22 are converted with one exact multiply or divide,
+     * which is correctly rounded (Clinger's fast path). Everything else goes
+     * through {@link Double#parseDouble}.
+     */
+    private double parseDouble(int start, int end) {
+        int position = start;
+        boolean negative = false;
+        if (input[position] == '-' || input[position] == '+') {
+            negative = input[position] == '-';
+            position++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean exact = true;
+        while (position < end && isDigit(input[position])) {
+            anyDigit = true;
+            if (mantissa != 0 || input[position] != '0') {
+                if (++digits > 18) {
+                    exact = false;
+                    break;
+                }
+                mantissa = mantissa * 10 + (input[position] - '0');
+            }
+            position++;
+        }
+        if (exact && position < end && input[position] == '.') {
+            position++;
+            while (position < end && isDigit(input[position])) {
+                anyDigit = true;
+                if (mantissa != 0 || input[position] != '0') {
+                    if (++digits > 18) {
+                        exact = false;
+                        break;
+                    }
+                    mantissa = mantissa * 10 + (input[position] - '0');
+                }
+                exponent--;
+                position++;
+            }
+        }
+        if (exact && anyDigit && position < end && (input[position] == 'e' || input[position] == 'E')) {
+            position++;
+            boolean negativeExponent = false;
+            if (position < end && (input[position] == '-' || input[position] == '+')) {
+                negativeExponent = input[position] == '-';
+                position++;
+            }
+            int value = 0;
+            int exponentDigits = 0;
+            while (position < end && isDigit(input[position]) && value < 10000) {
+                value = value * 10 + (input[position] - '0');
+                exponentDigits++;
+                position++;
+            }
+            if (exponentDigits == 0) {
+                exact = false;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (exact && anyDigit && position == end && mantissa <= MAX_EXACT) {
+            double value;
+            if (mantissa == 0) {
+                value = 0.0;
+            } else if (exponent >= 0 && exponent <= 22) {
+                value = mantissa * POWERS_OF_TEN[exponent];
+            } else if (exponent < 0 && exponent >= -22) {
+                value = mantissa / POWERS_OF_TEN[-exponent];
+            } else {
+                return slowParse(start, end);
+            }
+            return negative ? -value : value;
+        }
+        return slowParse(start, end);
+    }
+
+    private double slowParse(int start, int end) {
+        String text = text(start, end);
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw malformed("not a number: " + text);
+        }
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private String text(int start, int end) {
+        return new String(input, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private IllegalArgumentException malformed(String message) {
+        return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+    }
+
+    // Output
+
+    /**
+     * Integral values up to 2^53 print as integers. Other values print in
+     * plain decimal with the fewest fraction digits (up to 8) that convert
+     * back to the same double, and otherwise via {@link Double#toString}.
+     */
+    private void writeDouble(double value) throws IOException {
+        if (outputSize + 32 > output.length) {
+            flushOutput();
+        }
+        if (value == (long) value && Math.abs(value) <= MAX_EXACT) {
+            if (value == 0 && Double.doubleToRawLongBits(value) != 0) {
+                output[outputSize++] = '-';
+            }
+            writeLong((long) value);
+        } else if (!writeShortDecimal(value)) {
+            String text = Double.toString(value);
+            for (int i = 0; i < text.length(); i++) {
+                output[outputSize++] = (byte) text.charAt(i);
+            }
+        }
+        output[outputSize++] = '\n';
+    }
+
+    private boolean writeShortDecimal(double value) {
+        double magnitude = Math.abs(value);
+        for (int scale = 1; scale <= 8; scale++) {
+            double scaled = magnitude * POWERS_OF_TEN[scale];
+            if (!(scaled < MAX_EXACT)) {
+                return false;
+            }
+            long units = (long) scaled;
+            if (units == scaled && units / POWERS_OF_TEN[scale] == magnitude) {
+                if (value < 0) {
+                    output[outputSize++] = '-';
+                }
+                writeLong(units / (long) POWERS_OF_TEN[scale]);
+                output[outputSize++] = '.';
+                long fraction = units % (long) POWERS_OF_TEN[scale];
+                for (int i = scale - 1; i >= 0; i--) {
+                    output[outputSize + i] = (byte) ('0' + fraction % 10);
+                    fraction /= 10;
+                }
+                outputSize += scale;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeLong(long value) {
+        if (value < 0) {
+            output[outputSize++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            output[outputSize + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        outputSize += digits;
+    }
+
+    private void flushOutput() throws IOException {
+        out.write(output, 0, outputSize);
+        outputSize = 0;
+        out.flush();
+    }
+
+    /** Up to {@link #BATCH_LINES} parsed lines and, once sent, their results. */
+    private static final class Batch {
+        final boolean[] subtract = new boolean[BATCH_LINES];
+        final double[] a = new double[BATCH_LINES];
+        final double[] b = new double[BATCH_LINES];
+        int size;
+        private int addCount;
+        private int subtractCount;
+        private CompletableFuture<BatchOperationResponse> adds;
+        private CompletableFuture<BatchOperationResponse> subtracts;
+        BatchOperationResponse addResults;
+        BatchOperationResponse subtractResults;
+
+        void add(boolean isSubtract, double first, double second) {
+            subtract[size] = isSubtract;
+            a[size] = first;
+            b[size] = second;
+            size++;
+        }
+
+        void send(CalculatorClient client) {
+            BatchOperationRequest.Builder addRequest = BatchOperationRequest.newBuilder();
+            BatchOperationRequest.Builder subtractRequest = BatchOperationRequest.newBuilder();
+            for (int i = 0; i < size; i++) {
+                BatchOperationRequest.Builder request = subtract[i] ? subtractRequest : addRequest;
+                request.addNumber1(a[i]).addNumber2(b[i]);
+            }
+            addCount = addRequest.getNumber1Count();
+            subtractCount = subtractRequest.getNumber1Count();
+            adds = addCount > 0
+                    ? client.batchAsync(addRequest.build(), false)
+                    : CompletableFuture.completedFuture(BatchOperationResponse.getDefaultInstance());
+            subtracts = subtractCount > 0
+                    ? client.batchAsync(subtractRequest.build(), true)
+                    : CompletableFuture.completedFuture(BatchOperationResponse.getDefaultInstance());
+        }
+
+        void await() {
+            try {
+                addResults = adds.get();
+                subtractResults = subtracts.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for RPC", e);
+            } catch (ExecutionException e) {
+                System.err.println("RPC failed: " + e.getCause());
+                throw new RuntimeException("RPC failed", e.getCause());
+            }
+            CalculatorClient.checkResultCount(addResults, addCount);
+            CalculatorClient.checkResultCount(subtractResults, subtractCount);
+        }
+
+        void clear() {
+            size = 0;
+            adds = null;
+            subtracts = null;
+            addResults = null;
+            subtractResults = null;
+        }
+    }
+}
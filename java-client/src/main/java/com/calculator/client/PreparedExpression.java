@@ -0,0 +1,128 @@
+package com.calculator.client;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationResponse;
+import calculator.Calculator.ExecutePreparedRequest;
+import calculator.Calculator.PrepareRequest;
+import com.google.protobuf.ByteString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A formula registered once on the server with the Prepare RPC and then
+ * executed by handle, so the program is neither resent nor re-validated
+ * per call. Create one with {@link CalculatorClient#prepare(String)}.
+ *
+ * <p>If the server has evicted the program, it is prepared again and the
+ * call retried once.
+ */
+public final class PreparedExpression {
+    private final CalculatorServiceGrpc.CalculatorServiceBlockingStub stub;
+    private final PrepareRequest prepareRequest;
+    private final List<String> variables;
+    private final int rowsPerCall;
+    private volatile long handle;
+
+    PreparedExpression(CalculatorServiceGrpc.CalculatorServiceBlockingStub stub, Program program) {
+        this.stub = stub;
+        this.variables = program.variables();
+        PrepareRequest.Builder request = PrepareRequest.newBuilder()
+                .setCode(ByteString.copyFrom(program.code()))
+                .setVariableCount(variables.size());
+        for (double constant : program.constants()) {
+            request.addConstants(constant);
+        }
+        this.prepareRequest = request.build();
+        // Keep each request near the size of a packed batch call
+        this.rowsPerCall = Math.max(1, 2 * CalculatorClient.BATCH_CHUNK_SIZE / Math.max(1, variables.size()));
+        this.handle = prepare();
+    }
+
+    /** Variable names in the order {@link #execute(double...)} expects them. */
+    public List<String> variables() {
+        return variables;
+    }
+
+    public double execute(Map<String, Double> values) {
+        double[] row = new double[variables.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = Formula.lookup(values, variables.get(i));
+        }
+        return execute(row);
+    }
+
+    /** Execute with values given in {@link #variables()} order. */
+    public double execute(double... values) {
+        if (values.length != variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size()
+                    + " values, got " + values.length);
+        }
+        return executeRows(values)[0];
+    }
+
+    /**
+     * Execute once per row of {@code rows}, which holds the values row-major
+     * in {@link #variables()} order. Returns one result per row.
+     *
+     * <p>A formula without variables has no rows to tell apart: pass an
+     * empty array to get its single result.
+     */
+    public double[] executeRows(double[] rows) {
+        int n = variables.size();
+        if (n == 0) {
+            if (rows.length != 0) {
+                throw new IllegalArgumentException("Formula has no variables; expected no values, got " + rows.length);
+            }
+            return call(rows, 0, 0, 1);
+        }
+        if (rows.length % n != 0) {
+            throw new IllegalArgumentException("rows must hold whole rows of " + n + " values");
+        }
+        int rowCount = rows.length / n;
+        double[] results = new double[rowCount];
+        for (int row = 0; row < rowCount; row += rowsPerCall) {
+            int count = Math.min(rowsPerCall, rowCount - row);
+            double[] chunk = call(rows, row * n, count * n, count);
+            System.arraycopy(chunk, 0, results, row, count);
+        }
+        return results;
+    }
+
+    /** Execute the {@code rows} rows held in {@code values[offset, offset + length)}. */
+    private double[] call(double[] values, int offset, int length, int rows) {
+        ExecutePreparedRequest.Builder request = ExecutePreparedRequest.newBuilder();
+        for (int i = offset; i < offset + length; i++) {
+            request.addVariables(values[i]);
+        }
+        BatchOperationResponse response;
+        try {
+            try {
+                response = stub.executePrepared(request.setHandle(handle).build());
+            } catch (StatusRuntimeException e) {
+                if (e.getStatus().getCode() != Status.Code.NOT_FOUND) {
+                    throw e;
+                }
+                handle = prepare();
+                response = stub.executePrepared(request.setHandle(handle).build());
+            }
+        } catch (StatusRuntimeException e) {
+            System.err.println("RPC failed: " + e.getStatus());
+            throw new RuntimeException("RPC failed", e);
+        }
+        double[] results = new double[rows];
+        CalculatorClient.copyResults(response, results, 0, rows);
+        return results;
+    }
+
+    private long prepare() {
+        try {
+            return stub.prepare(prepareRequest).getHandle();
+        } catch (StatusRuntimeException e) {
+            System.err.println("RPC failed: " + e.getStatus());
+            throw new RuntimeException("RPC failed", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.calculator.client;
+
+import calculator.Calculator.EvaluateRequest;
+import com.google.protobuf.ByteString;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Formula} compiled to the stack-machine bytecode the server runs
+ * (see {@code EvaluateRequest} in calculator.proto).
+ *
+ * <p>Each instruction is a one-byte opcode; the push instructions are
+ * followed by a varint index into the constant or variable table. Equal
+ * constants share one table entry, and variables are numbered in order of
+ * first use.
+ *
+ * <p>The code has no way to reuse a value, so a subtree the formula uses
+ * several times is compiled once per use. Formulas whose code would grow
+ * past {@link #MAX_INSTRUCTIONS} this way are rejected before any code is
+ * emitted.
+ */
+final class Program {
+    static final byte PUSH_CONSTANT = 1;
+    static final byte PUSH_VARIABLE = 2;
+    static final byte ADD = 3;
+    static final byte SUBTRACT = 4;
+    static final byte NEGATE = 5;
+
+    /** Deepest operand stack the servers accept. */
+    static final int MAX_STACK_DEPTH = 1024;
+
+    /** Most instructions compile emits, so code stays a few MiB at most. */
+    static final int MAX_INSTRUCTIONS = 1 << 19;
+
+    private final byte[] code;
+    private final double[] constants;
+    private final List<String> variables;
+
+    private Program(byte[] code, double[] constants, List<String> variables) {
+        this.code = code;
+        this.constants = constants;
+        this.variables = variables;
+    }
+
+    static Program compile(Formula formula) {
+        if (instructionCount(formula) > MAX_INSTRUCTIONS) {
+            throw new IllegalArgumentException("Formula expands to more than " + MAX_INSTRUCTIONS + " instructions");
+        }
+        Compiler compiler = new Compiler();
+        Formula.postOrder(formula, node -> false, compiler::emit);
+        double[] constants = new double[compiler.constants.size()];
+        for (Map.Entry<Long, Integer> entry : compiler.constants.entrySet()) {
+            constants[entry.getValue()] = Double.longBitsToDouble(entry.getKey());
+        }
+        return new Program(compiler.code.toByteArray(), constants,
+                Collections.unmodifiableList(new ArrayList<>(compiler.variables.keySet())));
+    }
+
+    /**
+     * Instructions the code for {@code formula} would contain, with shared
+     * subtrees counted once per use; computed over distinct nodes and
+     * capped just above {@link #MAX_INSTRUCTIONS}.
+     */
+    private static long instructionCount(Formula formula) {
+        Map<Formula, Long> counts = new IdentityHashMap<>();
+        Formula.postOrder(formula, counts::containsKey, node -> {
+            long count = 1;
+            if (node instanceof Formula.Operation) {
+                count += counts.get(((Formula.Operation) node).left) + counts.get(((Formula.Operation) node).right);
+            } else if (node instanceof Formula.Negation) {
+                count += counts.get(((Formula.Negation) node).operand);
+            }
+            counts.put(node, Math.min(count, MAX_INSTRUCTIONS + 1L));
+        });
+        return counts.get(formula);
+    }
+
+    byte[] code() {
+        return code;
+    }
+
+    double[] constants() {
+        return constants;
+    }
+
+    /** Variable names in slot order. */
+    List<String> variables() {
+        return variables;
+    }
+
+    EvaluateRequest toRequest(Map<String, Double> values) {
+        EvaluateRequest.Builder request = EvaluateRequest.newBuilder()
+                .setCode(ByteString.copyFrom(code));
+        for (double constant : constants) {
+            request.addConstants(constant);
+        }
+        for (String name : variables) {
+            request.addVariables(Formula.lookup(values, name));
+        }
+        return request.build();
+    }
+
+    private static final class Compiler {
+        final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        // Keyed by raw bits so 0.0 and -0.0, and different NaNs, stay distinct
+        final Map<Long, Integer> constants = new LinkedHashMap<>();
+        final Map<String, Integer> variables = new LinkedHashMap<>();
+
+        int depth;  // values on the operand stack after the code so far
+
+        /** Emit the instruction for {@code node}; its operands were emitted before it. */
+        void emit(Formula node) {
+            if (node instanceof Formula.Constant) {
+                push();
+                long bits = Double.doubleToRawLongBits(((Formula.Constant) node).value);
+                Integer index = constants.computeIfAbsent(bits, k -> constants.size());
+                code.write(PUSH_CONSTANT);
+                writeVarint(index);
+            } else if (node instanceof Formula.Variable) {
+                push();
+                Integer index = variables.computeIfAbsent(((Formula.Variable) node).name, k -> variables.size());
+                code.write(PUSH_VARIABLE);
+                writeVarint(index);
+            } else if (node instanceof Formula.Operation) {
+                depth--;
+                code.write(((Formula.Operation) node).subtract ? SUBTRACT : ADD);
+            } else if (node instanceof Formula.Negation) {
+                code.write(NEGATE);
+            } else {
+                throw new IllegalArgumentException("Unsupported formula node " + node.getClass().getName());
+            }
+        }
+
+        private void push() {
+            if (++depth > MAX_STACK_DEPTH) {
+                throw new IllegalArgumentException("Formula is nested too deeply");
+            }
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                code.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            code.write(value);
+        }
+    }
+}
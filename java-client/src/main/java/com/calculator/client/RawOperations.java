@@ -0,0 +1,164 @@
+package com.calculator.client;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import calculator.CalculatorServiceGrpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Add and Subtract method descriptors that skip protobuf message objects.
+ *
+ * <p>The request is the wire encoding of an {@code OperationRequest}
+ * written straight into gRPC's outgoing buffer: both {@code double} fields
+ * always as fixed64, 18 bytes in total. The response is parsed by hand to
+ * the {@code result} field, skipping any other fields a newer server might
+ * send. Used by {@link CalculatorClient#addRaw} and
+ * {@link CalculatorClient#subtractRaw}.
+ *
+ * <p>Both marshallers also work in the other direction, parsing requests and
+ * encoding responses the same way, so the descriptors can back a server too.
+ */
+final class RawOperations {
+    private static final int NUMBER1_TAG = WireFormat.tag(1, WireFormat.FIXED64);
+    private static final int NUMBER2_TAG = WireFormat.tag(2, WireFormat.FIXED64);
+    private static final int RESULT_TAG = WireFormat.tag(1, WireFormat.FIXED64);
+    private static final int REQUEST_SIZE = 18;
+
+    // drainTo runs on the thread sending the call; the framer copies the bytes out
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[REQUEST_SIZE]);
+
+    static final MethodDescriptor<Operands, Double> ADD =
+            descriptor(CalculatorServiceGrpc.getAddMethod());
+    static final MethodDescriptor<Operands, Double> SUBTRACT =
+            descriptor(CalculatorServiceGrpc.getSubtractMethod());
+
+    private RawOperations() {
+    }
+
+    private static MethodDescriptor<Operands, Double> descriptor(MethodDescriptor<?, ?> generated) {
+        return MethodDescriptor.<Operands, Double>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(generated.getFullMethodName())
+                .setRequestMarshaller(new RequestMarshaller())
+                .setResponseMarshaller(new ResultMarshaller())
+                .build();
+    }
+
+    /**
+     * The two operands of a call, which is also the stream that encodes
+     * them. Single use: gRPC reads or drains it once.
+     */
+    static final class Operands extends InputStream implements Drainable, KnownLength {
+        private final long bits1;
+        private final long bits2;
+        private int position;
+
+        Operands(double a, double b) {
+            this.bits1 = Double.doubleToRawLongBits(a);
+            this.bits2 = Double.doubleToRawLongBits(b);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            byte[] buffer = SCRATCH.get();
+            int length = 0;
+            while (position < REQUEST_SIZE) {
+                buffer[length++] = byteAt(position++);
+            }
+            target.write(buffer, 0, length);
+            return length;
+        }
+
+        @Override
+        public int read() {
+            return position < REQUEST_SIZE ? byteAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int available() {
+            return REQUEST_SIZE - position;
+        }
+
+        private byte byteAt(int index) {
+            if (index == 0) {
+                return (byte) NUMBER1_TAG;
+            }
+            if (index < 9) {
+                return (byte) (bits1 >>> (8 * (index - 1)));
+            }
+            if (index == 9) {
+                return (byte) NUMBER2_TAG;
+            }
+            return (byte) (bits2 >>> (8 * (index - 10)));
+        }
+    }
+
+    private static final class RequestMarshaller implements MethodDescriptor.Marshaller<Operands> {
+        @Override
+        public InputStream stream(Operands value) {
+            return value;
+        }
+
+        /** Reads both operands in either encoding; a missing one is 0.0 as in proto3. */
+        @Override
+        public Operands parse(InputStream stream) {
+            try {
+                long bits1 = 0;
+                long bits2 = 0;
+                int tag;
+                while ((tag = WireFormat.readVarint(stream)) >= 0) {
+                    if (tag == NUMBER1_TAG) {
+                        bits1 = WireFormat.readFixed64(stream);
+                    } else if (tag == NUMBER2_TAG) {
+                        bits2 = WireFormat.readFixed64(stream);
+                    } else {
+                        WireFormat.skipField(stream, tag);
+                    }
+                }
+                return new Operands(Double.longBitsToDouble(bits1), Double.longBitsToDouble(bits2));
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Malformed OperationRequest").withCause(e)
+                        .asRuntimeException();
+            }
+        }
+    }
+
+    /** Reads {@code OperationResponse.result}; a missing field is 0.0 as in proto3. */
+    private static final class ResultMarshaller implements MethodDescriptor.Marshaller<Double> {
+        /** Always writes the field, even for 0.0, like the request. */
+        @Override
+        public InputStream stream(Double value) {
+            byte[] bytes = new byte[1 + Double.BYTES];
+            bytes[0] = (byte) RESULT_TAG;
+            ByteBuffer.wrap(bytes, 1, Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).putDouble(value);
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public Double parse(InputStream stream) {
+            try {
+                long bits = 0;
+                int tag;
+                while ((tag = WireFormat.readVarint(stream)) >= 0) {
+                    if (tag == RESULT_TAG) {
+                        bits = WireFormat.readFixed64(stream);
+                    } else {
+                        WireFormat.skipField(stream, tag);
+                    }
+                }
+                return Double.longBitsToDouble(bits);
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Malformed OperationResponse").withCause(e)
+                        .asRuntimeException();
+            }
+        }
+    }
+}
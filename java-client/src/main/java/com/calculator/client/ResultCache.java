@@ -0,0 +1,158 @@
+package com.calculator.client;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Bounded memo of {@code (operation, number1, number2) -> result}.
+ *
+ * <p>Keys and values are stored as raw {@code long} bit patterns in flat
+ * primitive arrays, so lookups neither box nor allocate. The table is
+ * set-associative: a key hashes to one set of {@link #WAYS} slots, which is
+ * probed linearly, and a full set evicts with the CLOCK algorithm (a slot
+ * that was hit since the hand last passed gets a second chance). Lookups
+ * take an optimistic read stamp and only lock when a writer got in the way.
+ */
+final class ResultCache {
+    static final int ADD = 1;
+    static final int SUBTRACT = 2;
+
+    /**
+     * Returned by {@link #get} on a miss. It is a signalling NaN payload no
+     * arithmetic produces; a result with exactly these bits is never cached.
+     */
+    static final long MISS = 0x7FF4_CA1C_0000_0001L;
+
+    private static final int WAYS = 8;
+    private static final int MAX_STRIPES = 64;
+
+    private final int setMask;
+    private final int stripeMask;
+    private final long[] number1;
+    private final long[] number2;
+    private final long[] results;
+    private final byte[] operations;  // 0 marks an empty slot
+    private final byte[] referenced;
+    private final byte[] hands;  // CLOCK hand per set
+    private final StampedLock[] locks;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ResultCache(int maxEntries) {
+        if (maxEntries < WAYS) {
+            throw new IllegalArgumentException("maxEntries must be at least " + WAYS + ": " + maxEntries);
+        }
+        int sets = Integer.highestOneBit(maxEntries / WAYS);
+        int slots = sets * WAYS;
+        setMask = sets - 1;
+        number1 = new long[slots];
+        number2 = new long[slots];
+        results = new long[slots];
+        operations = new byte[slots];
+        referenced = new byte[slots];
+        hands = new byte[sets];
+        int stripes = Math.min(sets, MAX_STRIPES);
+        stripeMask = stripes - 1;
+        locks = new StampedLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new StampedLock();
+        }
+    }
+
+    /** Raw bits of the cached result, or {@link #MISS}. */
+    long get(int operation, double a, double b) {
+        long aBits = Double.doubleToRawLongBits(a);
+        long bBits = Double.doubleToRawLongBits(b);
+        int set = set(operation, aBits, bBits);
+        StampedLock lock = locks[set & stripeMask];
+        long stamp = lock.tryOptimisticRead();
+        long result = probe(set, operation, aBits, bBits);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                result = probe(set, operation, aBits, bBits);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        (result == MISS ? misses : hits).increment();
+        return result;
+    }
+
+    void put(int operation, double a, double b, double result) {
+        long resultBits = Double.doubleToRawLongBits(result);
+        if (resultBits == MISS) {
+            return;
+        }
+        long aBits = Double.doubleToRawLongBits(a);
+        long bBits = Double.doubleToRawLongBits(b);
+        int set = set(operation, aBits, bBits);
+        int base = set * WAYS;
+        StampedLock lock = locks[set & stripeMask];
+        long stamp = lock.writeLock();
+        try {
+            int free = -1;
+            for (int i = base; i < base + WAYS; i++) {
+                if (operations[i] == operation && number1[i] == aBits && number2[i] == bBits) {
+                    results[i] = resultBits;
+                    return;
+                }
+                if (free < 0 && operations[i] == 0) {
+                    free = i;
+                }
+            }
+            if (free < 0) {
+                free = evict(set);
+            }
+            number1[free] = aBits;
+            number2[free] = bBits;
+            results[free] = resultBits;
+            operations[free] = (byte) operation;
+            referenced[free] = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    CacheStats stats() {
+        return new CacheStats(capacity(), hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    int capacity() {
+        return operations.length;
+    }
+
+    private long probe(int set, int operation, long aBits, long bBits) {
+        int base = set * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            if (operations[i] == operation && number1[i] == aBits && number2[i] == bBits) {
+                referenced[i] = 1;
+                return results[i];
+            }
+        }
+        return MISS;
+    }
+
+    /** Advance the set's CLOCK hand to a slot without a second chance. Caller holds the write lock. */
+    private int evict(int set) {
+        int base = set * WAYS;
+        int hand = hands[set];
+        while (referenced[base + hand] != 0) {
+            referenced[base + hand] = 0;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        hands[set] = (byte) ((hand + 1) & (WAYS - 1));
+        evictions.increment();
+        return base + hand;
+    }
+
+    private int set(int operation, long aBits, long bBits) {
+        long h = aBits * 0x9E3779B97F4A7C15L ^ Long.rotateLeft(bBits * 0xC2B2AE3D27D4EB4FL, 31) ^ operation;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h & setMask;
+    }
+}
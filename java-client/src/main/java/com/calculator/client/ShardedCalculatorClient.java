@@ -0,0 +1,374 @@
+package com.calculator.client;
+
+import io.grpc.Context;
+import io.grpc.ManagedChannelBuilder;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spreads large packed batches over several calculator servers.
+ *
+ * <p>A batch is cut into chunks of {@code chunkSize} pairs that the shards
+ * pull from a shared queue, each keeping at most {@code maxInFlightPerShard}
+ * calls outstanding, so faster replicas simply take more chunks. Once the
+ * queue is empty, a shard with a free slot re-sends the oldest chunk still
+ * running on another shard; whichever copy answers first is used and the
+ * other is cancelled. Results are written back by chunk index, so they come
+ * out in input order.
+ *
+ * <p>A shard whose call fails, or answers with the wrong number of
+ * results, gets no more chunks of that batch and its chunk is retried on
+ * the others; the batch fails only when every shard has failed.
+ *
+ * <pre>
+ * ShardedCalculatorClient sharded = new ShardedCalculatorClient(
+ *         List.of("replica-1:50051", "replica-2:50051", "replica-3:50051"));
+ * double[] sums = sharded.addBatch(a, b);
+ * </pre>
+ */
+public final class ShardedCalculatorClient {
+    /** Pairs per chunk by default: 256 KiB requests, small enough to balance well. */
+    static final int DEFAULT_CHUNK_SIZE = 16384;
+    static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private final CalculatorClient[] shards;
+    private final int maxInFlightPerShard;
+    private final int chunkSize;
+    private final LongAdder[] completedChunks;
+    private final LongAdder stolenChunks = new LongAdder();
+
+    /** Connect to every endpoint, given as a gRPC target such as {@code "replica-2:50051"}. */
+    public ShardedCalculatorClient(List<String> endpoints) {
+        this(endpoints, DEFAULT_MAX_IN_FLIGHT, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Connect to every endpoint, sending chunks of {@code chunkSize} pairs
+     * with at most {@code maxInFlightPerShard} outstanding per endpoint.
+     */
+    public ShardedCalculatorClient(List<String> endpoints, int maxInFlightPerShard, int chunkSize) {
+        this(connect(endpoints), maxInFlightPerShard, chunkSize);
+    }
+
+    ShardedCalculatorClient(CalculatorClient[] shards, int maxInFlightPerShard, int chunkSize) {
+        if (maxInFlightPerShard <= 0) {
+            throw new IllegalArgumentException("maxInFlightPerShard must be positive: " + maxInFlightPerShard);
+        }
+        if (chunkSize <= 0 || chunkSize > CalculatorClient.BATCH_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and "
+                    + CalculatorClient.BATCH_CHUNK_SIZE + ": " + chunkSize);
+        }
+        this.shards = shards;
+        this.maxInFlightPerShard = maxInFlightPerShard;
+        this.chunkSize = chunkSize;
+        this.completedChunks = new LongAdder[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            completedChunks[i] = new LongAdder();
+        }
+    }
+
+    private static CalculatorClient[] connect(List<String> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("At least one endpoint is required");
+        }
+        List<CalculatorClient> clients = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            clients.add(new CalculatorClient(ManagedChannelBuilder.forTarget(endpoint).usePlaintext().build()));
+        }
+        return clients.toArray(new CalculatorClient[0]);
+    }
+
+    /** Add {@code a[i] + b[i]} for every index across all shards. */
+    public double[] addBatch(double[] a, double[] b) {
+        return run(a, b, false);
+    }
+
+    /** Subtract {@code a[i] - b[i]} for every index across all shards. */
+    public double[] subtractBatch(double[] a, double[] b) {
+        return run(a, b, true);
+    }
+
+    /** Chunks each shard has answered first, indexed like the endpoint list. */
+    public long[] completedChunks() {
+        long[] counts = new long[shards.length];
+        for (int i = 0; i < shards.length; i++) {
+            counts[i] = completedChunks[i].sum();
+        }
+        return counts;
+    }
+
+    /** Chunks re-sent to a second shard because the queue had run dry. */
+    public long stolenChunks() {
+        return stolenChunks.sum();
+    }
+
+    public void shutdown() throws InterruptedException {
+        for (CalculatorClient shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    private double[] run(double[] a, double[] b, boolean subtract) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException(
+                    "Operand arrays differ in length: " + a.length + " != " + b.length);
+        }
+        if (a.length == 0) {
+            return new double[0];
+        }
+        Job job = new Job(a, b, subtract);
+        job.start();
+        try {
+            return job.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(e);
+            throw new RuntimeException("Interrupted while waiting for RPC", e);
+        } catch (ExecutionException e) {
+            System.err.println("RPC failed: " + e.getCause());
+            throw new RuntimeException("RPC failed", e.getCause());
+        }
+    }
+
+    /** One call of a chunk on one shard; cancelling its context cancels the RPC. */
+    private static final class Attempt {
+        final int chunk;
+        final int shard;
+        final Context.CancellableContext context;
+        boolean finished;  // guarded by the job
+
+        Attempt(int chunk, int shard, Context parent) {
+            this.chunk = chunk;
+            this.shard = shard;
+            this.context = parent.withCancellation();
+        }
+    }
+
+    /** Scheduling state of one batch. Every field below the finals is guarded by {@code this}. */
+    private final class Job {
+        final double[] a;
+        final double[] b;
+        final double[] results;
+        final boolean subtract;
+        final int chunks;
+        final CompletableFuture<double[]> result = new CompletableFuture<>();
+        // Callbacks run in the context of the call that completed, so every
+        // attempt forks from the caller's context instead of the current one
+        final Context parent = Context.current();
+
+        final Attempt[] primary;
+        final Attempt[] backup;
+        final boolean[] done;
+        final int[] inFlight = new int[shards.length];
+        final boolean[] down = new boolean[shards.length];
+        final ArrayDeque<Integer> retries = new ArrayDeque<>();
+        int nextChunk;
+        int stealCursor;
+        int remaining;
+        int healthy = shards.length;
+        boolean finished;
+
+        Job(double[] a, double[] b, boolean subtract) {
+            this.a = a;
+            this.b = b;
+            this.results = new double[a.length];
+            this.subtract = subtract;
+            this.chunks = (a.length + chunkSize - 1) / chunkSize;
+            this.primary = new Attempt[chunks];
+            this.backup = new Attempt[chunks];
+            this.done = new boolean[chunks];
+            this.remaining = chunks;
+        }
+
+        void start() {
+            for (int slot = 0; slot < maxInFlightPerShard; slot++) {
+                for (int shard = 0; shard < shards.length; shard++) {
+                    issueNext(shard);
+                }
+            }
+        }
+
+        /**
+         * Send {@code shard} a chunk to retry, else the next queued chunk,
+         * else a copy of one still running elsewhere, if it has a free slot.
+         */
+        private void issueNext(int shard) {
+            Attempt attempt;
+            synchronized (this) {
+                if (finished || down[shard] || inFlight[shard] >= maxInFlightPerShard) {
+                    return;
+                }
+                Integer retry = retries.poll();
+                int chunk = retry != null ? retry : nextChunk < chunks ? nextChunk++ : stealable(shard);
+                if (chunk < 0) {
+                    return;
+                }
+                attempt = new Attempt(chunk, shard, parent);
+                if (primary[chunk] == null) {
+                    primary[chunk] = attempt;
+                } else {
+                    backup[chunk] = attempt;
+                    stolenChunks.increment();
+                }
+                inFlight[shard]++;
+            }
+            int offset = attempt.chunk * chunkSize;
+            int length = Math.min(chunkSize, a.length - offset);
+            BatchOperationRequest request = CalculatorClient.batchRequest(a, b, offset, length);
+            CompletableFuture<BatchOperationResponse> response;
+            try {
+                response = attempt.context.call(() -> shards[shard].batchAsync(request, subtract));
+            } catch (Exception e) {
+                onResult(attempt, null, e);
+                return;
+            }
+            response.whenComplete((batch, error) -> onResult(attempt, batch, error));
+        }
+
+        /** Oldest unfinished chunk that runs on another shard only, or -1. */
+        private int stealable(int shard) {
+            while (stealCursor < chunks && done[stealCursor]) {
+                stealCursor++;
+            }
+            for (int chunk = stealCursor; chunk < chunks; chunk++) {
+                if (!done[chunk] && primary[chunk] != null && backup[chunk] == null
+                        && primary[chunk].shard != shard) {
+                    return chunk;
+                }
+            }
+            return -1;
+        }
+
+        private void onResult(Attempt attempt, BatchOperationResponse batch, Throwable error) {
+            attempt.context.cancel(null);
+            int chunk = attempt.chunk;
+            int offset = chunk * chunkSize;
+            int length = Math.min(chunkSize, a.length - offset);
+            if (error == null) {
+                try {
+                    CalculatorClient.checkResultCount(batch, length);
+                } catch (RuntimeException e) {
+                    // A shard that answers with the wrong count is as broken as one that fails
+                    error = e;
+                }
+            }
+            if (error != null) {
+                onError(attempt, error);
+                return;
+            }
+            Attempt twin;
+            synchronized (this) {
+                attempt.finished = true;
+                inFlight[attempt.shard]--;
+                if (finished || done[chunk]) {
+                    twin = null;
+                    chunk = -1;
+                } else {
+                    done[chunk] = true;
+                    twin = primary[chunk] == attempt ? backup[chunk] : primary[chunk];
+                }
+            }
+            if (chunk >= 0) {
+                if (twin != null) {
+                    twin.context.cancel(null);
+                }
+                CalculatorClient.copyResults(batch, results, offset, length);
+                completedChunks[attempt.shard].increment();
+                boolean complete;
+                synchronized (this) {
+                    complete = --remaining == 0 && !finished;
+                    finished |= complete;
+                }
+                if (complete) {
+                    result.complete(results);
+                    return;
+                }
+            }
+            issueNext(attempt.shard);
+        }
+
+        /**
+         * A failed shard takes no more chunks from this batch. Its chunk goes
+         * back to the other shards unless a copy is still running; the batch
+         * fails once no shard is left.
+         */
+        private void onError(Attempt attempt, Throwable error) {
+            int chunk = attempt.chunk;
+            boolean settled;
+            boolean requeued = false;
+            boolean newlyDown = false;
+            synchronized (this) {
+                attempt.finished = true;
+                inFlight[attempt.shard]--;
+                // Lost the race and was cancelled, or the batch is over
+                settled = finished || done[chunk];
+                if (!settled) {
+                    if (!down[attempt.shard]) {
+                        down[attempt.shard] = true;
+                        healthy--;
+                        newlyDown = true;
+                    }
+                    if (healthy > 0) {
+                        Attempt twin = primary[chunk] == attempt ? backup[chunk] : primary[chunk];
+                        if (twin == null || twin.finished) {
+                            primary[chunk] = null;
+                            backup[chunk] = null;
+                            retries.add(chunk);
+                            requeued = true;
+                        } else {
+                            primary[chunk] = twin;
+                            backup[chunk] = null;
+                        }
+                    }
+                }
+            }
+            if (settled) {
+                // Nothing wrong with the shard, so its slot takes the next chunk
+                issueNext(attempt.shard);
+                return;
+            }
+            if (healthy() == 0) {
+                fail(error);
+                return;
+            }
+            if (newlyDown) {
+                System.err.println("Shard " + attempt.shard + " failed, moving its chunks to the others: " + error);
+            }
+            if (requeued) {
+                for (int shard = 0; shard < shards.length; shard++) {
+                    issueNext(shard);
+                }
+            }
+        }
+
+        private synchronized int healthy() {
+            return healthy;
+        }
+
+        /** Give up on the whole batch and cancel every call still running. */
+        void fail(Throwable cause) {
+            List<Attempt> running = new ArrayList<>();
+            synchronized (this) {
+                finished = true;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    for (Attempt attempt : new Attempt[] {primary[chunk], backup[chunk]}) {
+                        if (attempt != null && !attempt.finished) {
+                            running.add(attempt);
+                        }
+                    }
+                }
+            }
+            for (Attempt attempt : running) {
+                attempt.context.cancel(cause);
+            }
+            result.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.calculator.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/** The few pieces of the protobuf wire format the hand-written marshallers need. */
+final class WireFormat {
+    static final int FIXED64 = 1;
+    static final int LENGTH_DELIMITED = 2;
+
+    private WireFormat() {
+    }
+
+    static int tag(int field, int wireType) {
+        return field << 3 | wireType;
+    }
+
+    /**
+     * Next varint as a non-negative int, or -1 at the end of the stream.
+     *
+     * @throws IOException if the varint is truncated or its value does not
+     *     fit in a non-negative int
+     */
+    static int readVarint(InputStream stream) throws IOException {
+        long result = 0;
+        boolean tooLarge = false;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = stream.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return -1;
+                }
+                throw new IOException("Truncated varint");
+            }
+            if (shift < 35) {
+                result |= (long) (b & 0x7F) << shift;
+            } else if ((b & 0x7F) != 0) {
+                tooLarge = true;
+            }
+            if ((b & 0x80) == 0) {
+                if (tooLarge || result > Integer.MAX_VALUE) {
+                    throw new IOException("Varint does not fit in an int");
+                }
+                return (int) result;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    static long readFixed64(InputStream stream) throws IOException {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            int b = stream.read();
+            if (b < 0) {
+                throw new IOException("Truncated fixed64");
+            }
+            bits |= (long) b << (8 * i);
+        }
+        return bits;
+    }
+
+    /** Skip the value of a field whose tag has just been read. */
+    static void skipField(InputStream stream, int tag) throws IOException {
+        switch (tag & 7) {
+            case 0: skipVarint(stream); break;
+            case 1: skipBytes(stream, 8); break;
+            case 2: skipBytes(stream, readLength(stream)); break;
+            case 5: skipBytes(stream, 4); break;
+            default: throw new IOException("Unsupported wire type " + (tag & 7));
+        }
+    }
+
+    /** Length of a length-delimited field whose tag has just been read. */
+    static int readLength(InputStream stream) throws IOException {
+        int length = readVarint(stream);
+        if (length < 0) {
+            throw new IOException("Truncated field");
+        }
+        return length;
+    }
+
+    /** Skip a varint of any 64-bit value, such as a negative int64 field. */
+    static void skipVarint(InputStream stream) throws IOException {
+        for (int i = 0; i < 10; i++) {
+            int b = stream.read();
+            if (b < 0) {
+                throw new IOException("Truncated varint");
+            }
+            if ((b & 0x80) == 0) {
+                return;
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    static void skipBytes(InputStream stream, long count) throws IOException {
+        while (count > 0) {
+            long skipped = stream.skip(count);
+            if (skipped <= 0) {
+                if (stream.read() < 0) {
+                    throw new IOException("Truncated field");
+                }
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+
+    static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /** Write {@code value} as a varint at {@code offset}; returns the offset after it. */
+    static int writeVarint(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+}
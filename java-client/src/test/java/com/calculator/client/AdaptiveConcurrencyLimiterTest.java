@@ -0,0 +1,277 @@
+package com.calculator.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+    private InProcessCalculator server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+        channel = server.channel();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        server.service.releaseHeld();
+        channel.shutdownNow();
+        server.close();
+    }
+
+    private static OperationRequest request(double a, double b) {
+        return OperationRequest.newBuilder().setNumber1(a).setNumber2(b).build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private CalculatorServiceGrpc.CalculatorServiceFutureStub stub(AdaptiveConcurrencyLimiter limiter) {
+        return CalculatorServiceGrpc.newFutureStub(ClientInterceptors.intercept(channel, limiter));
+    }
+
+    /** Start an add through {@code limiter} whose callbacks run only when {@code callbacks} is drained. */
+    private ClientCall<OperationRequest, OperationResponse> startAdd(
+            AdaptiveConcurrencyLimiter limiter, Queue<Runnable> callbacks, ClosedListener listener) {
+        Channel limited = ClientInterceptors.intercept(channel, limiter);
+        ClientCall<OperationRequest, OperationResponse> call = limited.newCall(
+                CalculatorServiceGrpc.getAddMethod(), CallOptions.DEFAULT.withExecutor(callbacks::add));
+        call.start(listener, new Metadata());
+        call.sendMessage(request(1, 2));
+        call.halfClose();
+        call.request(1);
+        return call;
+    }
+
+    private static void runAll(Queue<Runnable> callbacks) {
+        for (Runnable callback = callbacks.poll(); callback != null; callback = callbacks.poll()) {
+            callback.run();
+        }
+    }
+
+    /** Remembers how its call closed. */
+    private static final class ClosedListener extends ClientCall.Listener<OperationResponse> {
+        volatile Status status;
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            this.status = status;
+        }
+    }
+
+    @Test
+    void rejectsAtTheLimitWhenNothingMayQueue() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0);
+        server.service.holdUnary = true;
+        ListenableFuture<OperationResponse> first = stub(limiter).add(request(1, 2));
+        await(() -> server.service.unaryCalls.get() == 1);
+
+        // The rejection arrives on the call's executor, not inside start()
+        Queue<Runnable> callbacks = new ArrayDeque<>();
+        ClosedListener listener = new ClosedListener();
+        startAdd(limiter, callbacks, listener);
+        assertNull(listener.status);
+        runAll(callbacks);
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, listener.status.getCode());
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> stub(limiter).add(request(3, 4)).get(5, TimeUnit.SECONDS));
+        assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(e.getCause()).getCode());
+        assertEquals(2, limiter.rejected());
+        assertEquals(0, limiter.queued());
+
+        server.service.releaseHeld();
+        assertEquals(3.0, first.get(5, TimeUnit.SECONDS).getResult());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(1, server.service.unaryCalls.get());
+    }
+
+    @Test
+    void queuedCallsStartAsPermitsAreReleased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 10);
+        server.service.holdUnary = true;
+        List<ListenableFuture<OperationResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(stub(limiter).add(request(i, 10)));
+        }
+        await(() -> server.service.unaryCalls.get() == 1);
+        assertEquals(1, limiter.inFlight());
+        assertEquals(2, limiter.queued());
+
+        for (int i = 0; i < 3; i++) {
+            ListenableFuture<OperationResponse> result = results.get(i);
+            // A call is counted before its answer is held, so keep releasing
+            await(() -> {
+                assertTrue(limiter.inFlight() <= 1);
+                server.service.releaseHeld();
+                return result.isDone();
+            });
+        }
+        assertEquals(3, server.service.unaryCalls.get());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 10.0, results.get(i).get(5, TimeUnit.SECONDS).getResult());
+        }
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+        assertEquals(0, limiter.rejected());
+    }
+
+    @Test
+    void cancelledQueuedCallLeavesTheQueueAndNeverStarts() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 10);
+        server.service.holdUnary = true;
+        ListenableFuture<OperationResponse> first = stub(limiter).add(request(1, 2));
+        await(() -> server.service.unaryCalls.get() == 1);
+
+        Queue<Runnable> callbacks = new ArrayDeque<>();
+        ClosedListener listener = new ClosedListener();
+        ClientCall<OperationRequest, OperationResponse> queued = startAdd(limiter, callbacks, listener);
+        assertEquals(1, limiter.queued());
+        queued.cancel("no longer needed", null);
+        assertEquals(0, limiter.queued());
+        assertNull(listener.status);
+        runAll(callbacks);
+        assertEquals(Status.Code.CANCELLED, listener.status.getCode());
+        assertEquals("no longer needed", listener.status.getDescription());
+
+        server.service.holdUnary = false;
+        server.service.releaseHeld();
+        assertEquals(3.0, first.get(5, TimeUnit.SECONDS).getResult());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(1, server.service.unaryCalls.get());
+    }
+
+    @Test
+    void limitShrinksOnDropStatusesOnly() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 0);
+        server.service.failure = Status.INVALID_ARGUMENT;
+        assertThrows(ExecutionException.class, () -> stub(limiter).add(request(1, 2)).get(5, TimeUnit.SECONDS));
+        assertEquals(10, limiter.limit());
+
+        server.service.failure = Status.UNAVAILABLE;
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> stub(limiter).add(request(1, 2)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StatusRuntimeException.class, e.getCause());
+        assertEquals(9, limiter.limit());
+        assertThrows(ExecutionException.class, () -> stub(limiter).add(request(1, 2)).get(5, TimeUnit.SECONDS));
+        assertEquals(8, limiter.limit());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    /** A channel whose calls throw while being created as long as {@code failing} is set. */
+    private Channel failingChannel(AtomicBoolean failing) {
+        return ClientInterceptors.intercept(channel, new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                if (failing.get()) {
+                    throw new IllegalStateException("interceptor failed");
+                }
+                return next.newCall(method, callOptions);
+            }
+        });
+    }
+
+    @Test
+    void callThatCannotStartGivesItsPermitBack() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0);
+        AtomicBoolean failing = new AtomicBoolean(true);
+        CalculatorServiceGrpc.CalculatorServiceFutureStub stub =
+                CalculatorServiceGrpc.newFutureStub(ClientInterceptors.intercept(failingChannel(failing), limiter));
+        assertThrows(IllegalStateException.class, () -> stub.add(request(1, 2)));
+        assertEquals(0, limiter.inFlight());
+
+        failing.set(false);
+        assertEquals(3.0, stub.add(request(1, 2)).get(5, TimeUnit.SECONDS).getResult());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.rejected());
+    }
+
+    @Test
+    void queuedCallThatCannotStartFailsAndTheQueueMovesOn() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 10);
+        AtomicBoolean failing = new AtomicBoolean();
+        CalculatorServiceGrpc.CalculatorServiceFutureStub stub =
+                CalculatorServiceGrpc.newFutureStub(ClientInterceptors.intercept(failingChannel(failing), limiter));
+        server.service.holdUnary = true;
+        ListenableFuture<OperationResponse> first = stub.add(request(1, 2));
+        await(() -> server.service.unaryCalls.get() == 1);
+        ListenableFuture<OperationResponse> second = stub.add(request(3, 4));
+        assertEquals(1, limiter.queued());
+
+        // The second call fails to start when the first one's permit passes to it
+        failing.set(true);
+        server.service.holdUnary = false;
+        server.service.releaseHeld();
+        assertEquals(3.0, first.get(5, TimeUnit.SECONDS).getResult());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        Status status = Status.fromThrowable(e.getCause());
+        assertEquals(Status.Code.INTERNAL, status.getCode());
+        assertInstanceOf(IllegalStateException.class, status.getCause());
+        await(() -> limiter.inFlight() == 0);
+        assertEquals(0, limiter.queued());
+
+        failing.set(false);
+        assertEquals(11.0, stub.add(request(5, 6)).get(5, TimeUnit.SECONDS).getResult());
+    }
+
+    @Test
+    void queuedCallFailsAtItsDeadline() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 10);
+        server.service.holdUnary = true;
+        ListenableFuture<OperationResponse> first = stub(limiter).add(request(1, 2));
+        await(() -> server.service.unaryCalls.get() == 1);
+
+        ListenableFuture<OperationResponse> late =
+                stub(limiter).withDeadlineAfter(50, TimeUnit.MILLISECONDS).add(request(3, 4));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> late.get(5, TimeUnit.SECONDS));
+        Status status = Status.fromThrowable(e.getCause());
+        assertEquals(Status.Code.DEADLINE_EXCEEDED, status.getCode());
+        assertEquals("Deadline exceeded while queued for the concurrency limit", status.getDescription());
+        assertEquals(0, limiter.queued());
+        assertEquals(1, limiter.inFlight());
+
+        server.service.holdUnary = false;
+        server.service.releaseHeld();
+        assertEquals(3.0, first.get(5, TimeUnit.SECONDS).getResult());
+        assertEquals(0, limiter.inFlight());
+        assertEquals(1, server.service.unaryCalls.get());
+    }
+}
@@ -0,0 +1,560 @@
+package com.calculator.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.OperationRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalculatorClientTest {
+    private InProcessCalculator server;
+    private CalculatorClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+        client = server.client();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        client.shutdown();
+        server.close();
+    }
+
+    private static double[] values(int count, double scale) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i * scale + 0.25;
+        }
+        return values;
+    }
+
+    private static DoubleBuffer direct(double[] values, int padding) {
+        DoubleBuffer buffer = ByteBuffer.allocateDirect((values.length + padding) * Double.BYTES)
+                .order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        buffer.position(padding);
+        buffer.put(values);
+        buffer.position(padding);
+        return buffer;
+    }
+
+    /** An interceptor whose first call throws from {@code newCall}, as a broken interceptor would. */
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private static ClientInterceptor throwingOnce() {
+        AtomicBoolean thrown = new AtomicBoolean();
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                if (thrown.compareAndSet(false, true)) {
+                    throw new IllegalStateException("interceptor failed");
+                }
+                return next.newCall(method, callOptions);
+            }
+        };
+    }
+
+    @Test
+    void scalarCalls() throws Exception {
+        assertEquals(3.5, client.add(1.5, 2));
+        assertEquals(5.75, client.subtract(10, 4.25));
+        assertEquals(3.5, client.addRaw(1.5, 2));
+        assertEquals(5.75, client.subtractRaw(10, 4.25));
+        assertEquals(7.0, client.addAsync(3, 4).get(5, TimeUnit.SECONDS));
+        assertEquals(-1.0, client.subtractAsync(3, 4).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedCallsThrowRpcFailed() {
+        server.service.failure = Status.UNAVAILABLE;
+        RuntimeException e = assertThrows(RuntimeException.class, () -> client.add(1, 2));
+        assertEquals("RPC failed", e.getMessage());
+        assertInstanceOf(StatusRuntimeException.class, e.getCause());
+        assertThrows(RuntimeException.class, () -> client.addBatch(new double[] {1}, new double[] {2}));
+    }
+
+    @Test
+    void inFlightCountsOnlyUnderALimit() throws Exception {
+        CalculatorClient limited = server.clientBuilder().maxInFlight(2).build();
+        try {
+            List<CompletableFuture<Double>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                results.add(limited.addAsync(i, i));
+            }
+            for (int i = 0; i < 20; i++) {
+                assertEquals(2.0 * i, results.get(i).get(5, TimeUnit.SECONDS));
+            }
+            // Results arrive before their calls close and give their slots back
+            await(() -> limited.inFlight() == 0);
+        } finally {
+            limited.shutdown();
+        }
+        assertEquals(0, client.inFlight());
+    }
+
+    @Test
+    void limitedCallsThatCannotStartFailTheirFuture() throws Exception {
+        CalculatorClient limited = server.clientBuilder().intercept(throwingOnce()).maxInFlight(1).build();
+        try {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> limited.addAsync(1, 2).get(5, TimeUnit.SECONDS));
+            assertEquals("RPC failed", e.getCause().getMessage());
+            assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+            assertEquals(0, limited.inFlight());
+            assertEquals(7.0, limited.addAsync(3, 4).get(5, TimeUnit.SECONDS));
+            // The result arrives before the call closes and gives its slot back
+            await(() -> limited.inFlight() == 0);
+        } finally {
+            limited.shutdown();
+        }
+    }
+
+    @Test
+    void streamsKeepInputOrder() {
+        List<OperationRequest> pairs = new ArrayList<>();
+        for (int i = 0; i < CalculatorClient.STREAM_CHUNK_SIZE + 10; i++) {
+            pairs.add(OperationRequest.newBuilder().setNumber1(i).setNumber2(0.5).build());
+        }
+        double[] sums = client.addStream(pairs.iterator());
+        double[] differences = client.subtractStream(pairs.iterator());
+        assertEquals(pairs.size(), sums.length);
+        for (int i = 0; i < pairs.size(); i++) {
+            assertEquals(i + 0.5, sums[i]);
+            assertEquals(i - 0.5, differences[i]);
+        }
+        assertEquals(0, client.addStream(List.<OperationRequest>of().iterator()).length);
+    }
+
+    @Test
+    void arrayBatchesSpanSeveralCalls() {
+        int count = CalculatorClient.BATCH_CHUNK_SIZE + 3;
+        double[] a = values(count, 1.5);
+        double[] b = values(count, -0.5);
+        double[] sums = client.addBatch(a, b);
+        double[] differences = client.subtractBatch(a, b);
+        for (int i = 0; i < count; i++) {
+            assertEquals(a[i] + b[i], sums[i]);
+            assertEquals(a[i] - b[i], differences[i]);
+        }
+        assertEquals(4, server.service.batchCalls.get());
+        assertEquals(0, client.addBatch(new double[0], new double[0]).length);
+    }
+
+    @Test
+    void arrayBatchChecksItsInputAndTheResultCount() {
+        assertThrows(IllegalArgumentException.class, () -> client.addBatch(new double[2], new double[3]));
+        server.service.dropLastResult = true;
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> client.addBatch(new double[] {1, 2}, new double[] {3, 4}));
+        assertEquals("RPC failed: expected 2 results, got 1", e.getMessage());
+    }
+
+    @Test
+    void pipelineMatchesResponsesToCalls() throws Exception {
+        try (CalculatorPipeline pipeline = client.openPipeline()) {
+            List<CompletableFuture<Double>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(i % 2 == 0 ? pipeline.add(i, 0.5) : pipeline.subtract(i, 0.5));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i % 2 == 0 ? i + 0.5 : i - 0.5, results.get(i).get(5, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    @Test
+    void microBatchingSendsScalarCallsAsBatches() throws Exception {
+        CalculatorClient batching = server.clientBuilder().microBatching(4, 1, TimeUnit.SECONDS).build();
+        try {
+            List<CompletableFuture<Double>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(i % 2 == 0 ? batching.addAsync(i, 1) : batching.subtractAsync(i, 1));
+            }
+            for (int i = 0; i < 8; i++) {
+                assertEquals(i % 2 == 0 ? i + 1.0 : i - 1.0, results.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(0, server.service.unaryCalls.get());
+            MicroBatchStats stats = batching.microBatchStats();
+            assertEquals(8, stats.operations());
+            // At most four calls fit in a batch
+            assertTrue(stats.batches() >= 2);
+        } finally {
+            batching.shutdown();
+        }
+    }
+
+    @Test
+    void microBatchingCountsEveryBatchRpc() throws Exception {
+        CalculatorClient batching = server.clientBuilder().microBatching(4, 1, TimeUnit.MINUTES).build();
+        try {
+            List<CompletableFuture<Double>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(i % 2 == 0 ? batching.addAsync(i, 1) : batching.subtractAsync(i, 1));
+            }
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i % 2 == 0 ? i + 1.0 : i - 1.0, results.get(i).get(5, TimeUnit.SECONDS));
+            }
+            MicroBatchStats stats = batching.microBatchStats();
+            assertEquals(1, stats.sizeFlushes());
+            assertEquals(2, stats.batches());
+            assertEquals(2, server.service.batchCalls.get());
+        } finally {
+            batching.shutdown();
+        }
+    }
+
+    @Test
+    void microBatchingShutdownSendsQueuedCalls() throws Exception {
+        CalculatorClient batching = server.clientBuilder().microBatching(1000, 1, TimeUnit.MINUTES).build();
+        List<CompletableFuture<Double>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(batching.addAsync(i, 1));
+        }
+        batching.shutdown();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1.0, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void microBatchingSurvivesABatchThatCannotBeSent() throws Exception {
+        CalculatorClient batching = server.clientBuilder()
+                .intercept(throwingOnce())
+                .microBatching(1, 1, TimeUnit.SECONDS)
+                .build();
+        try {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> batching.addAsync(1, 2).get(5, TimeUnit.SECONDS));
+            assertEquals("RPC failed", e.getCause().getMessage());
+            assertEquals(7.0, batching.addAsync(3, 4).get(5, TimeUnit.SECONDS));
+        } finally {
+            batching.shutdown();
+        }
+    }
+
+    @Test
+    void resultCacheAnswersRepeatsLocally() throws InterruptedException {
+        CalculatorClient cached = server.clientBuilder().resultCache(64).build();
+        try {
+            assertEquals(3.0, cached.add(1, 2));
+            assertEquals(3.0, cached.add(1, 2));
+            assertEquals(-1.0, cached.subtract(1, 2));
+            assertEquals(1.0, cached.add(-0.0, 1));
+            assertEquals(1.0, cached.add(0.0, 1));
+            assertEquals(4, server.service.unaryCalls.get());
+            assertEquals(1, cached.cacheStats().hits());
+        } finally {
+            cached.shutdown();
+        }
+        assertThrows(IllegalStateException.class, client::cacheStats);
+    }
+
+    @Test
+    void dagExecutorRunsAWideFormulaFromAWarmCacheUnderATightLimit() throws InterruptedException {
+        // Every call is answered synchronously from the cache, while tens of
+        // thousands of ready operations wait for the single slot
+        int terms = 20_000;
+        Formula x = Formula.variable("x");
+        List<Formula> level = new ArrayList<>();
+        for (int i = 0; i < terms; i++) {
+            level.add(x.plus(Formula.constant(i)));
+        }
+        while (level.size() > 1) {
+            List<Formula> next = new ArrayList<>();
+            for (int i = 0; i + 1 < level.size(); i += 2) {
+                next.add(level.get(i).plus(level.get(i + 1)));
+            }
+            if (level.size() % 2 == 1) {
+                next.add(level.get(level.size() - 1));
+            }
+            level = next;
+        }
+        Formula formula = level.get(0);
+        Map<String, Double> variables = Map.of("x", 0.5);
+        double expected = formula.evaluate(variables);
+
+        // Roomy enough that no set of the cache overflows and evicts a result
+        CalculatorClient cached = server.clientBuilder().resultCache(1 << 20).build();
+        try {
+            DagExecutor executor = cached.dagExecutor(1);
+            assertEquals(expected, executor.evaluate(formula, variables));
+            int calls = server.service.unaryCalls.get();
+            assertEquals(formula.operationCount(), calls);
+            assertEquals(expected, executor.evaluate(formula, variables));
+            assertEquals(calls, server.service.unaryCalls.get());
+            assertEquals(0, executor.inFlight());
+            assertEquals(0, executor.queued());
+        } finally {
+            cached.shutdown();
+        }
+    }
+
+    @Test
+    void fanOutCollectsEveryResult() {
+        double[] results = client.fanOut(50, i -> client.add(i, 1));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i + 1.0, results[i]);
+        }
+    }
+
+    @Test
+    void evaluateSendsOneProgram() {
+        Map<String, Double> values = Map.of("x", 10.0, "y", 4.0);
+        assertEquals(-(10.0 - 4.0) + 2.5, client.evaluate("-(x - y) + 2.5", values));
+        assertEquals(1, server.service.evaluateCalls.get());
+        assertThrows(IllegalArgumentException.class, () -> client.evaluate("x + z", values));
+        assertThrows(IllegalArgumentException.class, () -> client.evaluate("x +", values));
+    }
+
+    @Test
+    void preparedExpressionsRunPerRow() {
+        PreparedExpression expression = client.prepare("(a - b) + 1");
+        assertEquals(List.of("a", "b"), expression.variables());
+        assertEquals(6.0, expression.execute(10, 5));
+        assertEquals(6.0, expression.execute(Map.of("a", 10.0, "b", 5.0)));
+        assertArrayEquals(new double[] {2.0, 0.0, 11.0}, expression.executeRows(new double[] {1, 0, 2, 3, 10, 0}));
+        assertThrows(IllegalArgumentException.class, () -> expression.execute(1));
+        assertThrows(IllegalArgumentException.class, () -> expression.executeRows(new double[3]));
+        assertEquals(1, server.service.prepareCalls.get());
+    }
+
+    @Test
+    void evictedProgramsArePreparedAgain() {
+        PreparedExpression expression = client.prepare("a + b");
+        server.service.evictPrograms();
+        assertEquals(3.0, expression.execute(1, 2));
+        assertEquals(2, server.service.prepareCalls.get());
+    }
+
+    @Test
+    void programsWithoutVariablesRunOnce() {
+        PreparedExpression expression = client.prepare(Formula.constant(2).negate().plus(Formula.constant(1)));
+        assertEquals(List.of(), expression.variables());
+        assertArrayEquals(new double[] {-1.0}, expression.executeRows(new double[0]));
+        assertEquals(-1.0, expression.execute());
+        assertThrows(IllegalArgumentException.class, () -> expression.executeRows(new double[] {1, 2}));
+    }
+
+    @Test
+    void preparedResultCountIsChecked() {
+        PreparedExpression expression = client.prepare("a + b");
+        server.service.dropLastResult = true;
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> expression.executeRows(new double[] {1, 2, 3, 4}));
+        assertEquals("RPC failed: expected 2 results, got 1", e.getMessage());
+    }
+
+    @Test
+    void evaluateWithoutOperationsStaysLocal() {
+        assertEquals(3.5, client.evaluate("(1 + 2) + 0.5", Map.of()));
+        assertEquals(-7.0, client.evaluate("--(-x) + -0.0", Map.of("x", 7.0)));
+        assertEquals(0, server.service.evaluateCalls.get());
+    }
+
+    @Test
+    void dagExecutorEvaluatesWithScalarCalls() {
+        Formula x = Formula.variable("x");
+        Formula shared = x.plus(Formula.constant(1));
+        Formula formula = shared.minus(shared.negate()).plus(x.minus(Formula.constant(3)));
+        DagExecutor executor = client.dagExecutor(2);
+        assertEquals(formula.evaluate(Map.of("x", 5.0)), executor.evaluate(formula, Map.of("x", 5.0)));
+        assertEquals(formula.operationCount(), server.service.unaryCalls.get());
+        assertEquals(0, executor.inFlight());
+    }
+
+    @Test
+    void bufferBatchesLeavePositionsAlone() {
+        int count = 2 * CalculatorClient.BATCH_CHUNK_SIZE + 5;
+        double[] a = values(count, 0.75);
+        double[] b = values(count, 3.0);
+        DoubleBuffer first = direct(a, 3);
+        DoubleBuffer second = DoubleBuffer.wrap(b);
+        DoubleBuffer results = direct(new double[count], 1);
+
+        client.subtractBatch(first, second, results);
+        assertEquals(3, first.position());
+        assertEquals(1, results.position());
+        for (int i = 0; i < count; i++) {
+            assertEquals(a[i] - b[i], results.get(1 + i));
+        }
+        client.addBatch(first, second, results);
+        for (int i = 0; i < count; i++) {
+            assertEquals(a[i] + b[i], results.get(1 + i));
+        }
+        assertEquals(6, server.service.batchCalls.get());
+    }
+
+    @Test
+    void bufferBatchChecksItsInputAndTheResultCount() {
+        DoubleBuffer two = DoubleBuffer.wrap(new double[] {1, 2});
+        assertThrows(IllegalArgumentException.class,
+                () -> client.addBatch(two, DoubleBuffer.allocate(3), DoubleBuffer.allocate(3)));
+        assertThrows(IllegalArgumentException.class,
+                () -> client.addBatch(two, two, DoubleBuffer.allocate(1)));
+        server.service.dropLastResult = true;
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> client.addBatch(two, two, DoubleBuffer.allocate(2)));
+        assertEquals("RPC failed", e.getMessage());
+    }
+
+    @Test
+    void filesOfPairs(@TempDir Path directory) throws IOException {
+        int count = 1000;
+        ByteBuffer pairs = ByteBuffer.allocate(count * 2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < count; i++) {
+            pairs.putDouble(i * 0.5).putDouble(i);
+        }
+        Path input = Files.write(directory.resolve("pairs.bin"), pairs.array());
+        Path output = directory.resolve("results.bin");
+
+        assertEquals(count, client.subtractFile(input, output));
+        DoubleBuffer results = ByteBuffer.wrap(Files.readAllBytes(output)).order(ByteOrder.LITTLE_ENDIAN)
+                .asDoubleBuffer();
+        assertEquals(count, results.remaining());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i * 0.5 - i, results.get(i));
+        }
+        assertEquals(count, client.addFile(input, output));
+        assertEquals(count * Double.BYTES, Files.size(output));
+
+        Path empty = Files.write(directory.resolve("empty.bin"), new byte[0]);
+        assertEquals(0, client.addFile(empty, output));
+        assertEquals(0, Files.size(output));
+
+        Path ragged = Files.write(directory.resolve("ragged.bin"), new byte[24]);
+        assertThrows(IllegalArgumentException.class, () -> client.addFile(ragged, output));
+    }
+
+    @Test
+    void fileBatchRefusesToOverwriteItsInput(@TempDir Path directory) throws IOException {
+        byte[] pairs = new byte[4 * 2 * Double.BYTES];
+        Path input = Files.write(directory.resolve("pairs.bin"), pairs);
+        assertThrows(IllegalArgumentException.class, () -> client.addFile(input, input));
+        Path sameFile = directory.resolve(".").resolve("pairs.bin");
+        assertThrows(IllegalArgumentException.class, () -> client.subtractFile(input, sameFile));
+        assertEquals(pairs.length, Files.size(input));
+        assertEquals(0, server.service.batchCalls.get());
+    }
+
+    @Test
+    void columnReductions() {
+        double[] values = {4, -2, 7};
+        assertEquals(9.0, client.sum(values));
+        assertEquals(0.0, client.sum(DoubleStream.empty()));
+        assertArrayEquals(new double[] {4, 2, 9}, client.prefixSum(values));
+        assertEquals(0, client.prefixSum(new double[0]).length);
+        ColumnStats stats = client.stats(values);
+        assertEquals(3, stats.count());
+        assertEquals(9.0, stats.sum());
+        assertEquals(-2.0, stats.min());
+        assertEquals(7.0, stats.max());
+        assertEquals(3.0, stats.mean());
+    }
+
+    @Test
+    void longColumnsAreSentInChunks() {
+        double[] values = new double[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1;
+        }
+        assertEquals(values.length, client.sum(values));
+        double[] sums = client.prefixSum(values);
+        assertEquals(values.length, sums.length);
+        assertEquals(values.length, sums[values.length - 1]);
+    }
+
+    /** Drops every response message, as if the server closed each call OK without answering. */
+    private static ClientInterceptor droppingResponses() {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void start(Listener<RespT> listener, Metadata headers) {
+                        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                            @Override
+                            public void onMessage(RespT message) {
+                            }
+                        }, headers);
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    void columnCallsWithoutAnAnswerFail() throws InterruptedException {
+        CalculatorClient silent = server.clientBuilder().intercept(droppingResponses()).build();
+        try {
+            RuntimeException sum = assertThrows(RuntimeException.class, () -> silent.sum(new double[] {1, 2}));
+            assertEquals("RPC failed", sum.getMessage());
+            assertEquals(Status.Code.INTERNAL, Status.fromThrowable(sum.getCause()).getCode());
+            RuntimeException stats = assertThrows(RuntimeException.class, () -> silent.stats(new double[] {1, 2}));
+            assertEquals("RPC failed", stats.getMessage());
+        } finally {
+            silent.shutdown();
+        }
+    }
+
+    @Test
+    void columnsLongerThanTheLimitStopWhileSending() {
+        ManagedChannel channel = server.channel();
+        try {
+            CalculatorServiceGrpc.CalculatorServiceStub stub = CalculatorServiceGrpc.newStub(channel);
+            int limit = 3 * ColumnCall.CHUNK_SIZE / 2;
+            // An endless column: only the limit check can end the call
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> ColumnCall.run(stub::prefixSum, DoubleStream.generate(() -> 1).iterator(), limit));
+            assertEquals("Too many values for one array: more than " + limit, e.getMessage());
+
+            double[] exactly = new double[limit];
+            assertEquals(limit, ColumnCall.run(stub::prefixSum, Arrays.stream(exactly).iterator(), limit).sent());
+        } finally {
+            channel.shutdownNow();
+        }
+    }
+}
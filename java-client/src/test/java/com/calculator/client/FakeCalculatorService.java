@@ -0,0 +1,327 @@
+package com.calculator.client;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+import calculator.Calculator.DoubleChunk;
+import calculator.Calculator.EvaluateRequest;
+import calculator.Calculator.ExecutePreparedRequest;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+import calculator.Calculator.PipelineRequest;
+import calculator.Calculator.PipelineResponse;
+import calculator.Calculator.PrepareRequest;
+import calculator.Calculator.PrepareResponse;
+import calculator.Calculator.StatsResponse;
+import com.google.protobuf.ByteString;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plain-arithmetic CalculatorService for client tests. It counts calls and
+ * can be told to fail every call, to answer batches one result short or to
+ * hold back unary answers until {@link #releaseHeld()}.
+ */
+class FakeCalculatorService extends CalculatorServiceGrpc.CalculatorServiceImplBase {
+    final AtomicInteger unaryCalls = new AtomicInteger();
+    final AtomicInteger batchCalls = new AtomicInteger();
+    final AtomicInteger evaluateCalls = new AtomicInteger();
+    final AtomicInteger prepareCalls = new AtomicInteger();
+    final AtomicInteger cancelledCalls = new AtomicInteger();
+    volatile EvaluateRequest lastEvaluate;
+    volatile Status failure;
+    volatile boolean dropLastResult;
+    volatile boolean holdUnary;
+
+    private final Queue<Runnable> held = new ConcurrentLinkedQueue<>();
+
+    private final Map<Long, PrepareRequest> programs = new ConcurrentHashMap<>();
+    private final AtomicLong nextHandle = new AtomicLong(1);
+
+    /** Forget every prepared program, as a server does when it evicts them. */
+    void evictPrograms() {
+        programs.clear();
+    }
+
+    /** Answer every unary call held back so far, skipping those the client cancelled. */
+    void releaseHeld() {
+        for (Runnable answer = held.poll(); answer != null; answer = held.poll()) {
+            answer.run();
+        }
+    }
+
+    private boolean failed(StreamObserver<?> responseObserver) {
+        Status status = failure;
+        if (status != null) {
+            responseObserver.onError(status.asRuntimeException());
+            return true;
+        }
+        return false;
+    }
+
+    private static OperationResponse result(double value) {
+        return OperationResponse.newBuilder().setResult(value).build();
+    }
+
+    @Override
+    public void add(OperationRequest request, StreamObserver<OperationResponse> responseObserver) {
+        answer(responseObserver, request.getNumber1() + request.getNumber2());
+    }
+
+    @Override
+    public void subtract(OperationRequest request, StreamObserver<OperationResponse> responseObserver) {
+        answer(responseObserver, request.getNumber1() - request.getNumber2());
+    }
+
+    private void answer(StreamObserver<OperationResponse> responseObserver, double value) {
+        unaryCalls.incrementAndGet();
+        if (failed(responseObserver)) {
+            return;
+        }
+        if (!holdUnary) {
+            responseObserver.onNext(result(value));
+            responseObserver.onCompleted();
+            return;
+        }
+        ServerCallStreamObserver<OperationResponse> call = (ServerCallStreamObserver<OperationResponse>) responseObserver;
+        call.setOnCancelHandler(cancelledCalls::incrementAndGet);
+        held.add(() -> {
+            if (!call.isCancelled()) {
+                call.onNext(result(value));
+                call.onCompleted();
+            }
+        });
+    }
+
+    @Override
+    public void addBatch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+        batch(request, responseObserver, false);
+    }
+
+    @Override
+    public void subtractBatch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+        batch(request, responseObserver, true);
+    }
+
+    private void batch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver,
+                       boolean subtract) {
+        batchCalls.incrementAndGet();
+        if (failed(responseObserver)) {
+            return;
+        }
+        int n = request.getNumber1Count() - (dropLastResult ? 1 : 0);
+        BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+        for (int i = 0; i < n; i++) {
+            double a = request.getNumber1(i);
+            double b = request.getNumber2(i);
+            response.addResult(subtract ? a - b : a + b);
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<OperationRequest> addStream(StreamObserver<BatchOperationResponse> responseObserver) {
+        return pairStream(responseObserver, false);
+    }
+
+    @Override
+    public StreamObserver<OperationRequest> subtractStream(StreamObserver<BatchOperationResponse> responseObserver) {
+        return pairStream(responseObserver, true);
+    }
+
+    private static StreamObserver<OperationRequest> pairStream(
+            StreamObserver<BatchOperationResponse> responseObserver, boolean subtract) {
+        BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+        return new Collector<OperationRequest>() {
+            @Override
+            public void onNext(OperationRequest request) {
+                double a = request.getNumber1();
+                double b = request.getNumber2();
+                response.addResult(subtract ? a - b : a + b);
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(response.build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<PipelineRequest> computePipeline(StreamObserver<PipelineResponse> responseObserver) {
+        return new Collector<PipelineRequest>() {
+            @Override
+            public void onNext(PipelineRequest request) {
+                double a = request.getNumber1();
+                double b = request.getNumber2();
+                double result = request.getOperationValue() == 0 ? a + b : a - b;
+                responseObserver.onNext(PipelineResponse.newBuilder()
+                        .setId(request.getId()).setResult(result).build());
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public void evaluate(EvaluateRequest request, StreamObserver<OperationResponse> responseObserver) {
+        evaluateCalls.incrementAndGet();
+        lastEvaluate = request;
+        if (!failed(responseObserver)) {
+            responseObserver.onNext(result(run(request.getCode(), request.getConstantsList(),
+                    request.getVariablesList(), 0)));
+            responseObserver.onCompleted();
+        }
+    }
+
+    @Override
+    public void prepare(PrepareRequest request, StreamObserver<PrepareResponse> responseObserver) {
+        prepareCalls.incrementAndGet();
+        if (failed(responseObserver)) {
+            return;
+        }
+        long handle = nextHandle.getAndIncrement();
+        programs.put(handle, request);
+        responseObserver.onNext(PrepareResponse.newBuilder().setHandle(handle).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void executePrepared(ExecutePreparedRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+        if (failed(responseObserver)) {
+            return;
+        }
+        PrepareRequest program = programs.get(request.getHandle());
+        if (program == null) {
+            responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+            return;
+        }
+        int n = program.getVariableCount();
+        int rows = n == 0 ? 1 : request.getVariablesCount() / n;
+        BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+        for (int row = 0; row < rows - (dropLastResult ? 1 : 0); row++) {
+            response.addResult(run(program.getCode(), program.getConstantsList(),
+                    request.getVariablesList(), row * n));
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<DoubleChunk> sum(StreamObserver<OperationResponse> responseObserver) {
+        return new Collector<DoubleChunk>() {
+            private double sum;
+
+            @Override
+            public void onNext(DoubleChunk chunk) {
+                for (double value : chunk.getValuesList()) {
+                    sum += value;
+                }
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(result(sum));
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<DoubleChunk> prefixSum(StreamObserver<DoubleChunk> responseObserver) {
+        return new Collector<DoubleChunk>() {
+            private double sum;
+
+            @Override
+            public void onNext(DoubleChunk chunk) {
+                DoubleChunk.Builder sums = DoubleChunk.newBuilder();
+                for (double value : chunk.getValuesList()) {
+                    sum += value;
+                    sums.addValues(sum);
+                }
+                responseObserver.onNext(sums.build());
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<DoubleChunk> stats(StreamObserver<StatsResponse> responseObserver) {
+        return new Collector<DoubleChunk>() {
+            private final DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+
+            @Override
+            public void onNext(DoubleChunk chunk) {
+                chunk.getValuesList().forEach(stats::accept);
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(StatsResponse.newBuilder()
+                        .setCount(stats.getCount())
+                        .setSum(stats.getSum())
+                        .setMin(stats.getMin())
+                        .setMax(stats.getMax())
+                        .setMean(stats.getAverage())
+                        .build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    /** Interpret the stack-machine code of calculator.proto; the client is trusted to send valid code. */
+    private static double run(ByteString code, List<Double> constants, List<Double> variables, int offset) {
+        double[] stack = new double[Program.MAX_STACK_DEPTH];
+        int top = 0;
+        for (int pc = 0; pc < code.size(); ) {
+            int opcode = code.byteAt(pc++);
+            if (opcode == Program.PUSH_CONSTANT || opcode == Program.PUSH_VARIABLE) {
+                int index = 0;
+                for (int shift = 0; ; shift += 7) {
+                    int b = code.byteAt(pc++);
+                    index |= (b & 0x7F) << shift;
+                    if ((b & 0x80) == 0) {
+                        break;
+                    }
+                }
+                stack[top++] = opcode == Program.PUSH_CONSTANT ? constants.get(index) : variables.get(offset + index);
+            } else if (opcode == Program.ADD) {
+                top--;
+                stack[top - 1] += stack[top];
+            } else if (opcode == Program.SUBTRACT) {
+                top--;
+                stack[top - 1] -= stack[top];
+            } else {
+                stack[top - 1] = -stack[top - 1];
+            }
+        }
+        return stack[0];
+    }
+
+    /** Request observer whose call the client never cancels in these tests. */
+    private abstract static class Collector<T> implements StreamObserver<T> {
+        @Override
+        public void onError(Throwable t) {
+            // Client went away
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.calculator.client;
+
+import calculator.Calculator.EvaluateRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class FormulaBuilderTest {
+    private InProcessCalculator server;
+    private CalculatorClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+        client = server.client();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        client.shutdown();
+        server.close();
+    }
+
+    @Test
+    void foldsConstantSteps() {
+        FormulaBuilder f = new FormulaBuilder();
+        Formula folded = f.build(f.negate(f.subtract(f.add(f.constant(1.5), 2), 0.5)));
+        assertInstanceOf(Formula.Constant.class, folded);
+        assertEquals(-3.0, ((Formula.Constant) folded).value);
+        assertEquals(3, f.operations());
+        assertEquals(0, f.deadOperations());
+
+        // Nothing is left for the server
+        assertEquals(-3.0, client.evaluate(folded, Map.of()));
+        assertEquals(0, server.service.evaluateCalls.get());
+    }
+
+    @Test
+    void countsStepsTheResultDoesNotReach() {
+        FormulaBuilder f = new FormulaBuilder();
+        Formula offset = f.add(f.constant(1.5), f.constant(2));
+        f.add(f.variable("y"), offset);
+        f.negate(f.variable("x"));
+        Formula result = f.build(f.subtract(offset, f.variable("x")));
+        assertEquals("(3.5 - x)", result.toString());
+        assertEquals(4, f.operations());
+        assertEquals(2, f.deadOperations());
+    }
+
+    @Test
+    void buildStartsTheCountOver() {
+        FormulaBuilder f = new FormulaBuilder();
+        f.add(f.variable("x"), 1);
+        f.build(f.subtract(f.variable("x"), 1));
+        assertEquals(2, f.operations());
+        assertEquals(1, f.deadOperations());
+
+        f.build(f.negate(f.variable("x")));
+        assertEquals(1, f.operations());
+        assertEquals(0, f.deadOperations());
+    }
+
+    @Test
+    void evaluateSendsOnlyTheRemainingWork() {
+        FormulaBuilder f = new FormulaBuilder();
+        Formula offset = f.add(f.constant(1.5), f.constant(2));
+        f.add(f.variable("y"), offset);
+        Formula result = f.build(f.subtract(offset, f.variable("x")));
+
+        assertEquals(2.5, client.evaluate(result, Map.of("x", 1.0)));
+        assertEquals(1, server.service.evaluateCalls.get());
+        // One subtract of the folded constant and x; y and the dead add are not sent
+        Program expected = Program.compile(Formula.constant(3.5).minus(Formula.variable("x")));
+        EvaluateRequest sent = server.service.lastEvaluate;
+        assertArrayEquals(expected.code(), sent.getCode().toByteArray());
+        assertEquals(List.of(3.5), sent.getConstantsList());
+        assertEquals(List.of(1.0), sent.getVariablesList());
+    }
+}
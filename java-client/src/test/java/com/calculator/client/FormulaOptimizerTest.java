@@ -0,0 +1,104 @@
+package com.calculator.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FormulaOptimizerTest {
+    private static final Formula X = Formula.variable("x");
+    private static final Formula Y = Formula.variable("y");
+    private static final Formula ZERO = Formula.constant(0.0);
+    private static final Formula NEGATIVE_ZERO = Formula.constant(-0.0);
+
+    /** Inputs where sloppy rewrites show: signed zeros, infinities, a quiet NaN with a payload, extremes. */
+    private static final double[] INPUTS = {
+        0.0, -0.0, 1.5, -2.25, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        Double.longBitsToDouble(0x7FF8_0000_0000_0042L), Double.MIN_VALUE, -Double.MAX_VALUE
+    };
+
+    private static long bits(Formula formula, double x) {
+        return Double.doubleToRawLongBits(formula.evaluate(Map.of("x", x, "y", 3.0)));
+    }
+
+    /** {@code formula} and its optimized form agree bit for bit on every input. */
+    private static Formula assertBitExact(Formula formula) {
+        Formula optimized = formula.optimize();
+        for (double x : INPUTS) {
+            assertEquals(bits(formula, x), bits(optimized, x), () -> formula + " at x = " + x);
+        }
+        return optimized;
+    }
+
+    @Test
+    void foldsConstantsWithDoubleArithmetic() {
+        Formula folded = assertBitExact(Formula.constant(0.1).plus(Formula.constant(0.2)).minus(Formula.constant(0.5)));
+        assertInstanceOf(Formula.Constant.class, folded);
+        assertEquals((0.1 + 0.2) - 0.5, ((Formula.Constant) folded).value);
+
+        Formula negated = ZERO.negate().optimize();
+        assertEquals(Long.MIN_VALUE, Double.doubleToRawLongBits(((Formula.Constant) negated).value));
+    }
+
+    @Test
+    void foldsConstantSubtreesInsideLargerFormulas() {
+        Formula formula = X.plus(Formula.constant(1).plus(Formula.constant(2)));
+        Formula optimized = assertBitExact(formula);
+        assertEquals("(x + 3.0)", optimized.toString());
+    }
+
+    @Test
+    void dropsIdentitiesThatKeepEveryBit() {
+        assertSame(X, assertBitExact(X.plus(NEGATIVE_ZERO)));
+        assertSame(X, assertBitExact(NEGATIVE_ZERO.plus(X)));
+        assertSame(X, assertBitExact(X.minus(ZERO)));
+        assertSame(X, assertBitExact(X.negate().negate()));
+    }
+
+    @Test
+    void keepsIdentitiesThatChangeSignedZeros() {
+        Formula[] kept = {X.plus(ZERO), ZERO.plus(X), X.minus(NEGATIVE_ZERO), ZERO.minus(X), NEGATIVE_ZERO.minus(X)};
+        for (Formula formula : kept) {
+            assertSame(formula, assertBitExact(formula));
+        }
+        // Each of them turns one zero into the other for some input
+        assertNotEquals(Double.doubleToRawLongBits(-0.0), bits(X.plus(ZERO), -0.0));
+        assertNotEquals(Double.doubleToRawLongBits(-0.0), bits(X.minus(NEGATIVE_ZERO), -0.0));
+    }
+
+    @Test
+    void neverCancelsOrReassociates() {
+        Formula difference = X.minus(X);
+        assertSame(difference, assertBitExact(difference));
+
+        Formula chain = X.plus(Formula.constant(1)).plus(Formula.constant(2));
+        assertEquals(2, assertBitExact(chain).operationCount());
+    }
+
+    @Test
+    void rewritesSharedSubtreesOnce() {
+        Formula shared = X.plus(Y).plus(NEGATIVE_ZERO);
+        Formula.Operation optimized = (Formula.Operation) assertBitExact(shared.minus(shared));
+        assertSame(optimized.left, optimized.right);
+        assertEquals(2, optimized.operationCount());
+    }
+
+    @Test
+    void leavesOptimalFormulasAlone() {
+        Formula formula = X.plus(Y).minus(X.negate());
+        assertSame(formula, formula.optimize());
+    }
+
+    @Test
+    void handlesVeryLongChains() {
+        Formula chain = X;
+        for (int i = 0; i < 200_000; i++) {
+            chain = i % 2 == 0 ? chain.plus(NEGATIVE_ZERO) : chain.minus(ZERO);
+        }
+        assertSame(X, chain.optimize());
+    }
+}
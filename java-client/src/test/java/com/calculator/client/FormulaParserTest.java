@@ -0,0 +1,116 @@
+package com.calculator.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormulaParserTest {
+    private static final Map<String, Double> XY = Map.of("x", 10.0, "y", 4.0);
+
+    private static double eval(String expression) {
+        return Formula.parse(expression).evaluate(XY);
+    }
+
+    private static String error(String expression) {
+        return assertThrows(IllegalArgumentException.class, () -> Formula.parse(expression)).getMessage();
+    }
+
+    @Test
+    void binaryOperatorsAssociateLeft() {
+        assertEquals(-4.0, eval("1 - 2 - 3"));
+        assertEquals("((1.0 - 2.0) + 3.0)", Formula.parse("1-2+3").toString());
+    }
+
+    @Test
+    void parenthesesGroup() {
+        assertEquals(2.0, eval("1 - (2 - 3)"));
+        assertEquals(((10.0 + 4.0) - 1.0) + 2.5, eval("((x + y) - 1) + 2.5"));
+    }
+
+    @Test
+    void unaryMinusBindsToTheOperand() {
+        assertEquals(-10.0 - 4.0, eval("-x - y"));
+        assertEquals(10.0, eval("--x"));
+        assertEquals(-14.0, eval("-(x + y)"));
+        assertEquals("-(x + y)", Formula.parse("- (x+y)").toString());
+        assertEquals(10.0 - -4.0, eval("x - -y"));
+    }
+
+    @Test
+    void numberLiterals() {
+        assertEquals(2.5, eval("2.5"));
+        assertEquals(0.5, eval(".5"));
+        assertEquals(1500.0, eval("1.5e3"));
+        assertEquals(0.015, eval("1.5E-2"));
+        assertEquals(1e300, eval("1e+300"));
+        assertInstanceOf(Formula.Constant.class, Formula.parse(" 7 "));
+    }
+
+    @Test
+    void identifiersAreVariables() {
+        Formula formula = Formula.parse("_a1 + b$");
+        assertEquals(3.0, formula.evaluate(Map.of("_a1", 1.0, "b$", 2.0)));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> formula.evaluate(Map.of("_a1", 1.0)));
+        assertEquals("No value for variable b$", e.getMessage());
+    }
+
+    @Test
+    void reportsWhereParsingFailed() {
+        assertEquals("Unexpected end of expression at position 0 in \"\"", error(""));
+        assertEquals("Unexpected end of expression at position 4 in \"1 + \"", error("1 + "));
+        assertEquals("Unexpected ')' at position 2 in \"1 ) 2\"", error("1 ) 2"));
+        assertEquals("Expected ')' at position 6 in \"(1 + 2\"", error("(1 + 2"));
+        assertEquals("Unexpected '*' at position 2 in \"2 * 3\"", error("2 * 3"));
+        assertEquals("Invalid number '1.2.3' at position 0 in \"1.2.3\"", error("1.2.3"));
+    }
+
+    @Test
+    void limitsParenthesisNesting() {
+        String ok = "(".repeat(FormulaParser.MAX_NESTING) + "x" + ")".repeat(FormulaParser.MAX_NESTING);
+        assertEquals(10.0, Formula.parse(ok).evaluate(XY));
+        String deep = "(" + ok + ")";
+        assertTrue(error(deep).startsWith("Parentheses nested more than 1000 deep"));
+    }
+
+    @Test
+    void longChainsNeedNoDeepStack() {
+        int terms = 200_000;
+        StringBuilder expression = new StringBuilder("x");
+        for (int i = 1; i < terms; i++) {
+            expression.append(i % 2 == 0 ? " + x" : " - y");
+        }
+        Formula formula = Formula.parse(expression.toString());
+        double expected = 10.0;
+        for (int i = 1; i < terms; i++) {
+            expected = i % 2 == 0 ? expected + 10.0 : expected - 4.0;
+        }
+        assertEquals(expected, formula.evaluate(XY));
+        assertEquals(terms - 1, formula.operationCount());
+        String text = formula.toString();
+        assertEquals(Formula.MAX_STRING_LENGTH + 3, text.length());
+        assertTrue(text.startsWith("(((("), text.substring(0, 10));
+        assertTrue(text.endsWith("..."));
+
+        String negations = "-".repeat(100_001) + "x";
+        assertEquals(-10.0, Formula.parse(negations).evaluate(XY));
+        assertTrue(Formula.parse(negations).toString().endsWith("--..."));
+    }
+
+    @Test
+    void sharedSubtreesAreEvaluatedOnce() {
+        Formula formula = Formula.variable("x");
+        for (int i = 0; i < 60; i++) {
+            formula = formula.plus(formula);
+        }
+        formula = formula.minus(formula).negate().plus(formula);
+        assertEquals(10.0 * Math.pow(2, 60), formula.evaluate(XY));
+        assertEquals(62, formula.operationCount());
+        assertTrue(formula.toString().endsWith("..."));
+    }
+}
@@ -0,0 +1,172 @@
+package com.calculator.client;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.OperationRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgerTest {
+    // Calls recorded before the hedge delay is known
+    private static final int WARM_UP_CALLS = 100;
+    private static final long WARM_UP_MILLIS = 50;
+
+    private InProcessCalculator primary;
+    private InProcessCalculator secondary;
+    private ManagedChannel primaryChannel;
+    private ManagedChannel secondaryChannel;
+    private Hedger hedger;
+
+    @BeforeEach
+    void start() throws IOException {
+        primary = new InProcessCalculator();
+        secondary = new InProcessCalculator();
+        primaryChannel = primary.channel();
+        secondaryChannel = secondary.channel();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        hedger.shutdown();
+        primary.service.releaseHeld();
+        secondary.service.releaseHeld();
+        primaryChannel.shutdownNow();
+        secondaryChannel.shutdownNow();
+        primary.close();
+        secondary.close();
+    }
+
+    /**
+     * A hedger whose delay is known, after its warm-up calls were answered by
+     * the primary no sooner than {@code WARM_UP_MILLIS}. A delay that long
+     * leaves the primary time to answer or fail before any hedge is due.
+     */
+    private Hedger warmHedger(double maxHedgeRatio) throws Exception {
+        hedger = new Hedger(CalculatorServiceGrpc.newStub(primaryChannel),
+                List.of(CalculatorServiceGrpc.newStub(secondaryChannel)), 50, maxHedgeRatio);
+        primary.service.holdUnary = true;
+        List<CompletableFuture<Double>> results = new ArrayList<>();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            results.add(hedger.call(false, request(i, 1)));
+        }
+        await(() -> primary.service.unaryCalls.get() == WARM_UP_CALLS);
+        Thread.sleep(WARM_UP_MILLIS);
+        primary.service.holdUnary = false;
+        primary.service.releaseHeld();
+        for (int i = 0; i < WARM_UP_CALLS; i++) {
+            assertEquals(i + 1.0, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        // A winner's latency is recorded just after its result completes
+        await(() -> hedger.stats().delayNanos() != Long.MAX_VALUE);
+        assertTrue(hedger.stats().delayNanos() >= TimeUnit.MILLISECONDS.toNanos(WARM_UP_MILLIS));
+        assertEquals(0, hedger.stats().hedges());
+        return hedger;
+    }
+
+    private static OperationRequest request(double a, double b) {
+        return OperationRequest.newBuilder().setNumber1(a).setNumber2(b).build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAfterTheDelay() throws Exception {
+        warmHedger(0.5);
+        primary.service.holdUnary = true;
+        long start = System.nanoTime();
+        assertEquals(3.0, hedger.call(true, request(5, 2)).get(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= hedger.stats().delayNanos());
+        await(() -> hedger.stats().hedgeWins() == 1);
+        HedgeStats stats = hedger.stats();
+        assertEquals(WARM_UP_CALLS + 1, stats.calls());
+        assertEquals(1, stats.hedges());
+        assertEquals(1, secondary.service.unaryCalls.get());
+    }
+
+    @Test
+    void losingAttemptIsCancelled() throws Exception {
+        warmHedger(0.5);
+        primary.service.holdUnary = true;
+        assertEquals(3.0, hedger.call(false, request(1, 2)).get(5, TimeUnit.SECONDS));
+        await(() -> primary.service.cancelledCalls.get() == 1);
+
+        // Now the hedge loses: the primary answers while the secondary holds its answer
+        secondary.service.holdUnary = true;
+        CompletableFuture<Double> result = hedger.call(false, request(3, 4));
+        await(() -> secondary.service.unaryCalls.get() == 2);
+        assertFalse(result.isDone());
+        primary.service.releaseHeld();
+        assertEquals(7.0, result.get(5, TimeUnit.SECONDS));
+        await(() -> secondary.service.cancelledCalls.get() == 1);
+        assertEquals(2, hedger.stats().hedges());
+        assertEquals(1, hedger.stats().hedgeWins());
+    }
+
+    @Test
+    void budgetStopsHedgingOnceTokensRunOut() throws Exception {
+        // The smallest ratio earns a thousandth of a hedge per call, so only
+        // the initial budget of ten hedges is available
+        warmHedger(0.001);
+        primary.service.holdUnary = true;
+        List<CompletableFuture<Double>> results = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            results.add(hedger.call(false, request(i, 0.5)));
+        }
+        await(() -> hedger.stats().hedges() + hedger.stats().budgetExhausted() == 12);
+        assertEquals(10, hedger.stats().hedges());
+        assertEquals(2, hedger.stats().budgetExhausted());
+        await(() -> secondary.service.unaryCalls.get() == 10);
+
+        primary.service.releaseHeld();
+        for (int i = 0; i < 12; i++) {
+            assertEquals(i + 0.5, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void failedPrimaryIsNeverHedged() throws Exception {
+        warmHedger(1.0);
+        primary.service.failure = Status.UNAVAILABLE;
+        for (int i = 0; i < 20; i++) {
+            CompletableFuture<Double> result = hedger.call(false, request(i, 1));
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("RPC failed", e.getCause().getMessage());
+        }
+        // Long past the hedge delay of every call
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(hedger.stats().delayNanos()) + 100);
+        assertEquals(0, hedger.stats().hedges());
+        assertEquals(0, secondary.service.unaryCalls.get());
+    }
+
+    @Test
+    void callsAfterShutdownFailWithoutBeingSent() throws Exception {
+        warmHedger(0.5);
+        hedger.shutdown();
+        CompletableFuture<Double> result = hedger.call(false, request(1, 2));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertEquals("Client is shut down", e.getCause().getMessage());
+        assertEquals(WARM_UP_CALLS, primary.service.unaryCalls.get());
+        assertEquals(WARM_UP_CALLS, hedger.stats().calls());
+    }
+}
@@ -0,0 +1,88 @@
+package com.calculator.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InFlightLimiterTest {
+
+    @Test
+    void queuesCallsOverTheLimit() {
+        InFlightLimiter limiter = new InFlightLimiter(2);
+        List<Integer> started = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int call = i;
+            limiter.submit(() -> started.add(call));
+        }
+        assertEquals(List.of(0, 1), started);
+        assertEquals(2, limiter.inFlight());
+        assertEquals(3, limiter.queued());
+        limiter.release();
+        assertEquals(List.of(0, 1, 2), started);
+        limiter.release();
+        limiter.release();
+        limiter.release();
+        limiter.release();
+        assertEquals(List.of(0, 1, 2, 3, 4), started);
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void synchronousCompletionsDoNotDeepenTheStack() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        int[] completed = new int[1];
+        limiter.submit(() -> { });  // holds the only slot while the rest queue up
+        for (int i = 0; i < 200_000; i++) {
+            limiter.submit(() -> {
+                completed[0]++;
+                limiter.release();
+            });
+        }
+        limiter.release();
+        assertEquals(200_000, completed[0]);
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+    }
+
+    @Test
+    void aCallThatThrowsGivesBackItsSlot() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        IllegalStateException failure = new IllegalStateException("not started");
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> limiter.submit(() -> {
+            throw failure;
+        })));
+        assertEquals(0, limiter.inFlight());
+        int[] started = new int[1];
+        limiter.submit(() -> started[0]++);
+        assertEquals(1, started[0]);
+        assertEquals(1, limiter.inFlight());
+    }
+
+    @Test
+    void aQueuedCallThatThrowsDoesNotStallTheQueue() {
+        InFlightLimiter limiter = new InFlightLimiter(1);
+        List<String> started = new ArrayList<>();
+        limiter.submit(() -> started.add("first"));
+        limiter.submit(() -> {
+            throw new IllegalStateException("not started");
+        });
+        limiter.submit(() -> started.add("third"));
+        assertEquals(2, limiter.queued());
+
+        // The failure surfaces on the thread that ran the queue, after the call behind it started
+        assertThrows(IllegalStateException.class, limiter::release);
+        assertEquals(List.of("first", "third"), started);
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+
+        limiter.release();
+        limiter.submit(() -> started.add("fourth"));
+        assertEquals(List.of("first", "third", "fourth"), started);
+    }
+}
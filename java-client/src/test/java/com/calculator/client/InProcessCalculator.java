@@ -0,0 +1,38 @@
+package com.calculator.client;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** A {@link FakeCalculatorService} on an in-process server, for clients under test. */
+final class InProcessCalculator implements AutoCloseable {
+    final FakeCalculatorService service = new FakeCalculatorService();
+    private final String name = InProcessServerBuilder.generateName();
+    private final Server server;
+
+    InProcessCalculator() throws IOException {
+        server = InProcessServerBuilder.forName(name).addService(service).build().start();
+    }
+
+    /** A new channel to the server; closing the harness does not close it. */
+    ManagedChannel channel() {
+        return InProcessChannelBuilder.forName(name).build();
+    }
+
+    CalculatorClient.Builder clientBuilder() {
+        return CalculatorClient.newBuilder(channel());
+    }
+
+    CalculatorClient client() {
+        return clientBuilder().build();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
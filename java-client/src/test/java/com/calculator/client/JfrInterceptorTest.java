@@ -0,0 +1,121 @@
+package com.calculator.client;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrInterceptorTest {
+    // Over loopback rather than in-process, which never serializes messages
+    // and so reports no wire sizes
+    private final FakeCalculatorService service = new FakeCalculatorService();
+    private Server server;
+    private CalculatorClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = NettyServerBuilder.forAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .addService(service)
+                .build()
+                .start();
+        client = CalculatorClient.newBuilder(InetAddress.getLoopbackAddress().getHostAddress(), server.getPort()).build();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        client.shutdown();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /** Runs {@code calls} inside a recording of both calculator events and returns what it recorded. */
+    private static List<RecordedEvent> record(Runnable calls) throws IOException {
+        Path file = Files.createTempFile("calculator", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("calculator.Rpc");
+                recording.enable("calculator.Batch");
+                recording.start();
+                calls.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("calculator."))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), matching.toString());
+        return matching.get(0);
+    }
+
+    @Test
+    void unaryCallRecordsAnRpcEvent() throws IOException {
+        List<RecordedEvent> events = record(() -> assertEquals(5.0, client.add(2, 3)));
+        RecordedEvent event = only(events, "calculator.Rpc");
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().equals("calculator.Batch")));
+
+        assertEquals("calculator.CalculatorService/Add", event.getString("method"));
+        assertEquals("OK", event.getString("status"));
+        assertEquals(1, event.getInt("messagesSent"));
+        // Two doubles plus the message and frame headers
+        assertTrue(event.getLong("requestBytes") >= 18, event.toString());
+        assertTrue(event.getLong("responseBytes") >= 9, event.toString());
+        assertFalse(event.getDuration("queueTime").isNegative());
+        assertFalse(event.getDuration("networkTime").isNegative());
+    }
+
+    @Test
+    void batchCallRecordsItsSize() throws IOException {
+        double[] a = {1, 2, 3, 4};
+        double[] b = {10, 20, 30, 40};
+        List<RecordedEvent> events = record(() -> assertArrayEquals(new double[] {11, 22, 33, 44}, client.addBatch(a, b)));
+        RecordedEvent event = only(events, "calculator.Batch");
+
+        assertEquals("OK", event.getString("status"));
+        assertEquals(4, event.getInt("batchSize"));
+        // Four pairs of doubles
+        assertTrue(event.getLong("requestBytes") >= 64, event.toString());
+        assertTrue(event.getLong("responseBytes") >= 32, event.toString());
+    }
+
+    @Test
+    void failedCallRecordsItsStatus() throws IOException {
+        service.failure = Status.UNAVAILABLE;
+        List<RecordedEvent> events = record(() -> {
+            try {
+                client.add(1, 1);
+            } catch (RuntimeException expected) {
+                // Recorded below
+            }
+        });
+        RecordedEvent event = only(events, "calculator.Rpc");
+        assertEquals("UNAVAILABLE", event.getString("status"));
+        assertEquals(1, event.getInt("messagesSent"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.calculator.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesGetTheirOwnBucket() {
+        for (int nanos = 0; nanos < 8; nanos++) {
+            assertEquals(nanos, LatencyHistogram.bucket(nanos));
+            assertEquals(nanos, LatencyHistogram.upperBound(nanos));
+        }
+        assertEquals(0, LatencyHistogram.bucket(-5));
+    }
+
+    @Test
+    void eachPowerOfTwoSplitsIntoEightBuckets() {
+        assertEquals(8, LatencyHistogram.bucket(8));
+        assertEquals(15, LatencyHistogram.bucket(15));
+        assertEquals(16, LatencyHistogram.bucket(16));
+        assertEquals(16, LatencyHistogram.bucket(17));
+        assertEquals(17, LatencyHistogram.bucket(18));
+        assertEquals(17, LatencyHistogram.upperBound(16));
+        assertEquals(1_048_575, LatencyHistogram.upperBound(LatencyHistogram.bucket(1_000_000)));
+    }
+
+    @Test
+    void bucketsTileTheRangeWithoutGaps() {
+        for (int bucket = 1; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long lower = LatencyHistogram.upperBound(bucket - 1) + 1;
+            long upper = LatencyHistogram.upperBound(bucket);
+            assertEquals(bucket, LatencyHistogram.bucket(lower), "lower edge of " + bucket);
+            assertEquals(bucket, LatencyHistogram.bucket(upper), "upper edge of " + bucket);
+            assertTrue(upper >= lower);
+        }
+    }
+
+    @Test
+    void upperBoundIsWithinAnEighthOfTheValue() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long nanos = 8 + (random.nextLong() >>> (17 + random.nextInt(46)));
+            long bound = LatencyHistogram.upperBound(LatencyHistogram.bucket(nanos));
+            assertTrue(bound >= nanos && bound - nanos <= nanos / 8, () -> nanos + " -> " + bound);
+        }
+    }
+
+    @Test
+    void hugeValuesLandInTheLastBucket() {
+        int last = LatencyHistogram.BUCKETS - 1;
+        assertEquals(last, LatencyHistogram.bucket(Long.MAX_VALUE));
+        assertEquals(last, LatencyHistogram.bucket(LatencyHistogram.upperBound(last)));
+        assertEquals(last, LatencyHistogram.bucket(LatencyHistogram.upperBound(last) + 1));
+    }
+
+    @Test
+    void snapshotCountsRecordedValues() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(1_000_000);
+        Thread other = new Thread(() -> histogram.record(1_000_001));
+        other.start();
+        other.join();
+        long[] counts = histogram.snapshot();
+        assertEquals(LatencyHistogram.BUCKETS, counts.length);
+        assertEquals(1, counts[3]);
+        assertEquals(2, counts[LatencyHistogram.bucket(1_000_000)]);
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        assertEquals(3, total);
+    }
+}
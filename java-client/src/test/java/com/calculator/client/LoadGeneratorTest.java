@@ -0,0 +1,145 @@
+package com.calculator.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadGeneratorTest {
+    private InProcessCalculator server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        server.close();
+    }
+
+    private static LoadGenerator.Options parse(String... args) {
+        return LoadGenerator.Options.parse(args);
+    }
+
+    private static PrintStream discard() {
+        return new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void parsesEveryOption() {
+        LoadGenerator.Options options = parse("--host", "calc", "--port", "9000", "--rate", "500",
+                "--duration", "10", "--interval", "2", "--mix", "add=70,subtract=30", "--json", "out.json");
+        assertEquals("calc", options.host);
+        assertEquals(9000, options.port);
+        assertEquals(500, options.rate);
+        assertEquals(0, options.concurrency);
+        assertEquals(10, options.durationSeconds);
+        assertEquals(2, options.intervalSeconds);
+        assertEquals(70, options.addPercent);
+        assertEquals("out.json", options.jsonPath);
+
+        options = parse("--concurrency", "8");
+        assertEquals("localhost", options.host);
+        assertEquals(8, options.concurrency);
+        assertEquals(50, options.addPercent);
+        assertNull(options.jsonPath);
+    }
+
+    @Test
+    void rejectsBadOptions() {
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "10", "--speed", "1"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--port", "80"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "10", "--concurrency", "2"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "10", "--duration", "0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "10", "--interval", "-1"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "ten"));
+    }
+
+    @Test
+    void mixWeightsBecomeARoundedAddPercentage() {
+        assertEquals(33, parse("--rate", "1", "--mix", "add=1,subtract=2").addPercent);
+        assertEquals(67, parse("--rate", "1", "--mix", "add=2, subtract=1").addPercent);
+        assertEquals(100, parse("--rate", "1", "--mix", "add=3").addPercent);
+        assertEquals(0, parse("--rate", "1", "--mix", "add=0,subtract=5").addPercent);
+        assertEquals("add=67% subtract=33%", parse("--rate", "1", "--mix", "add=2,subtract=1").mixDescription());
+    }
+
+    @Test
+    void rejectsBadMixes() {
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "1", "--mix", "add=0,subtract=0"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "1", "--mix", "add=-1,subtract=2"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "1", "--mix", "multiply=1"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "1", "--mix", "add"));
+        assertThrows(IllegalArgumentException.class, () -> parse("--rate", "1", "--mix", "add=x"));
+    }
+
+    @Test
+    void jsonEscapesTheHost() {
+        LoadGenerator.Options options = parse("--rate", "1", "--host", "a\"b\\c\n");
+        LoadGenerator.Report report = new LoadGenerator.Report(options);
+        Histogram latencies = new Histogram(3);
+        latencies.recordValue(1000);
+        report.addTail(latencies, 0, 2.0);
+        String json = report.toJson();
+        assertTrue(json.startsWith("{\"host\":\"a\\\"b\\\\c\\u000a\",\"port\":50051,\"mode\":\"open\""), json);
+        assertTrue(json.contains("\"total\":{\"count\":1,\"opsPerSecond\":0.5,"), json);
+    }
+
+    @Test
+    void openLoopCountsEveryCallOverTheWholeRun() throws InterruptedException {
+        CalculatorClient client = server.client();
+        try {
+            LoadGenerator.Options options = parse("--rate", "200", "--duration", "1");
+            LoadGenerator.Report report = new LoadGenerator(client, options).run(discard());
+            assertTrue(report.totalCount() > 0);
+            assertEquals(0, report.totalErrors());
+            // Totals include the drain after the last interval
+            assertTrue(report.elapsedSeconds() >= 1.0);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void closedLoopRefillsSlotsAfterSynchronousFailures() throws InterruptedException {
+        AtomicInteger failuresLeft = new AtomicInteger(5);
+        ClientInterceptor failing = new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                if (failuresLeft.getAndDecrement() > 0) {
+                    throw new IllegalStateException("not sent");
+                }
+                return next.newCall(method, callOptions);
+            }
+        };
+        CalculatorClient client = server.clientBuilder().intercept(failing).build();
+        try {
+            LoadGenerator.Options options = parse("--concurrency", "2", "--duration", "1");
+            LoadGenerator.Report report = new LoadGenerator(client, options).run(discard());
+            assertEquals(5, report.totalErrors());
+            // Both slots kept issuing calls after their first attempts failed
+            assertTrue(report.totalCount() > 2, "completed " + report.totalCount());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.calculator.client;
+
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsServerTest {
+    private static final String ADD = "calculator.CalculatorService/Add";
+    private static final String LATENCY = "calculator_client_latency_seconds";
+
+    private InProcessCalculator server;
+    private MetricsInterceptor metrics;
+    private CalculatorClient client;
+    private MetricsServer endpoint;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+        metrics = new MetricsInterceptor();
+        client = server.clientBuilder().intercept(metrics).build();
+        endpoint = MetricsServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), client, metrics);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        endpoint.close();
+        client.shutdown();
+        server.close();
+    }
+
+    private String get(String method) throws IOException {
+        URL url = new URL("http://127.0.0.1:" + endpoint.port() + "/metrics");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        try {
+            assertEquals(200, connection.getResponseCode());
+            assertEquals("text/plain; version=0.0.4; charset=utf-8", connection.getContentType());
+            try (InputStream in = connection.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /** Value of the sample line starting with {@code prefix}, which names the metric and its labels. */
+    private static String value(String body, String prefix) {
+        for (String line : body.split("\n")) {
+            if (line.startsWith(prefix + " ")) {
+                return line.substring(prefix.length() + 1);
+            }
+        }
+        throw new AssertionError("No sample " + prefix + " in\n" + body);
+    }
+
+    @Test
+    void latencyHistogramIsCumulativeOnTheBucketEdges() throws IOException {
+        int calls = 50;
+        for (int i = 0; i < calls; i++) {
+            assertEquals(i + 1.0, client.add(i, 1));
+        }
+        String body = get("GET");
+        MethodStats stats = metrics.snapshot(ADD);
+
+        String labels = "{method=\"" + ADD + "\"";
+        List<String> buckets = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (line.startsWith(LATENCY + "_bucket" + labels + ",le=\"")) {
+                buckets.add(line);
+            }
+        }
+        assertEquals(18, buckets.size());
+        assertTrue(body.contains(labels + ",le=\"0.001048575\"}"), body);
+
+        double lastBound = 0;
+        long lastCount = 0;
+        for (String line : buckets) {
+            int start = line.indexOf("le=\"") + 4;
+            String le = line.substring(start, line.indexOf('"', start));
+            long count = Long.parseLong(line.substring(line.lastIndexOf(' ') + 1));
+            assertTrue(count >= lastCount, line);
+            lastCount = count;
+            if (le.equals("+Inf")) {
+                assertEquals(calls, count);
+                continue;
+            }
+            double bound = Double.parseDouble(le);
+            assertTrue(bound > lastBound, line);
+            lastBound = bound;
+            // Every bound is the upper edge of a histogram bucket, so its count is exact
+            long nanos = Math.round(bound * 1e9);
+            assertEquals(nanos, LatencyHistogram.upperBound(LatencyHistogram.bucket(nanos)), line);
+            assertEquals(stats.countAtOrBelow(nanos), count, line);
+        }
+
+        assertEquals(Integer.toString(calls), value(body, LATENCY + "_count" + labels + "}"));
+        double sum = Double.parseDouble(value(body, LATENCY + "_sum" + labels + "}"));
+        assertTrue(sum > 0);
+        assertEquals(stats.latencySumNanos() / 1e9, sum, 1e-9);
+        assertEquals(Integer.toString(calls), value(body, "calculator_client_calls_total" + labels + ",code=\"OK\"}"));
+        assertEquals("0", value(body, "calculator_client_calls_in_flight" + labels + "}"));
+    }
+
+    @Test
+    void reportsDirectBuffersAndAnswersHead() throws IOException {
+        String body = get("GET");
+        assertTrue(Long.parseLong(value(body, "jvm_direct_buffer_used_bytes")) >= 0);
+        assertTrue(body.contains("# TYPE " + LATENCY + " histogram\n"), body);
+        assertFalse(body.contains("calculator_client_adaptive_"), body);
+        assertEquals("", get("HEAD"));
+    }
+
+    @Test
+    void exportsTheAdaptiveLimiter() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, 0);
+        CalculatorClient limited = server.clientBuilder().intercept(limiter).build();
+        endpoint.close();
+        endpoint = MetricsServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                limited, metrics, limiter);
+        try {
+            server.service.holdUnary = true;
+            CompletableFuture<Double> held = limited.addAsync(1, 2);
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> limited.addAsync(3, 4).get(5, TimeUnit.SECONDS));
+            assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(e.getCause()).getCode());
+
+            String body = get("GET");
+            assertTrue(body.contains("# TYPE calculator_client_adaptive_limit gauge\n"), body);
+            assertEquals("1", value(body, "calculator_client_adaptive_limit"));
+            assertEquals("1", value(body, "calculator_client_adaptive_in_flight"));
+            assertEquals("0", value(body, "calculator_client_adaptive_queued"));
+            assertTrue(body.contains("# TYPE calculator_client_adaptive_rejected_total counter\n"), body);
+            assertEquals("1", value(body, "calculator_client_adaptive_rejected_total"));
+
+            server.service.releaseHeld();
+            assertEquals(3.0, held.get(5, TimeUnit.SECONDS));
+        } finally {
+            limited.shutdown();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.calculator.client;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackedBuffersTest {
+    // More values than one staging array holds, so the copy loops wrap around
+    private static final int COUNT = 20_000;
+
+    private static double[] values(int count, double scale) {
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = i * scale - 0.5;
+        }
+        return values;
+    }
+
+    private static double[] toArray(DoubleBuffer buffer) {
+        double[] values = new double[buffer.remaining()];
+        buffer.duplicate().get(values);
+        return values;
+    }
+
+    private static byte[] drain(PackedBuffers.Operands operands) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        operands.drainTo(bytes);
+        return bytes.toByteArray();
+    }
+
+    private static byte[] expectedRequest(double[] a, double[] b) {
+        return CalculatorClient.batchRequest(a, b, 0, a.length).toByteArray();
+    }
+
+    @Test
+    void sliceIsRelativeToThePosition() {
+        DoubleBuffer buffer = DoubleBuffer.wrap(new double[] {0, 1, 2, 3, 4, 5, 6, 7});
+        buffer.position(2);
+        DoubleBuffer slice = PackedBuffers.slice(buffer, 1, 3);
+        assertArrayEquals(new double[] {3, 4, 5}, toArray(slice));
+        assertEquals(0, slice.position());
+        assertEquals(2, buffer.position());
+        assertEquals(8, buffer.limit());
+    }
+
+    @Test
+    void stridedSliceCoversEveryValueOfTheRun() {
+        DoubleBuffer pairs = DoubleBuffer.wrap(new double[] {10, 20, 11, 21, 12, 22, 13, 23});
+        assertArrayEquals(new double[] {11, 21, 12}, toArray(PackedBuffers.slice(pairs, 1, 2, 2)));
+        DoubleBuffer second = pairs.duplicate();
+        second.position(1);
+        assertArrayEquals(new double[] {21, 12, 22, 13, 23}, toArray(PackedBuffers.slice(second, 1, 3, 2)));
+        assertEquals(0, PackedBuffers.slice(pairs, 2, 0, 2).remaining());
+    }
+
+    @Test
+    void sliceOutsideTheBufferFails() {
+        DoubleBuffer buffer = DoubleBuffer.allocate(4);
+        assertThrows(IllegalArgumentException.class, () -> PackedBuffers.slice(buffer, 2, 3));
+    }
+
+    @Test
+    void operandsEncodeLikeProtobuf() throws IOException {
+        double[] a = values(COUNT, 1.25);
+        double[] b = values(COUNT, -3.0);
+        DoubleBuffer direct = ByteBuffer.allocateDirect(COUNT * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .asDoubleBuffer().put(a);
+        direct.flip();
+        PackedBuffers.Operands operands = new PackedBuffers.Operands(direct, DoubleBuffer.wrap(b));
+        assertEquals(COUNT, operands.count());
+        assertEquals(expectedRequest(a, b).length, operands.available());
+        assertArrayEquals(expectedRequest(a, b), drain(operands));
+        assertEquals(0, operands.available());
+        assertEquals(COUNT, direct.remaining());
+    }
+
+    @Test
+    void stridedOperandsEncodeLikeProtobuf() throws IOException {
+        double[] a = values(COUNT, 0.5);
+        double[] b = values(COUNT, 7.0);
+        DoubleBuffer pairs = DoubleBuffer.allocate(2 * COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            pairs.put(a[i]).put(b[i]);
+        }
+        pairs.flip();
+        DoubleBuffer second = pairs.duplicate();
+        second.position(1);
+        PackedBuffers.Operands operands = new PackedBuffers.Operands(
+                PackedBuffers.slice(pairs, 0, COUNT, 2), PackedBuffers.slice(second, 0, COUNT, 2), 2, COUNT);
+        assertArrayEquals(expectedRequest(a, b), drain(operands));
+    }
+
+    @Test
+    void operandsCanBeReadInsteadOfDrained() throws IOException {
+        double[] a = {1, 2, 3};
+        double[] b = {4, 5, 6};
+        PackedBuffers.Operands operands = new PackedBuffers.Operands(DoubleBuffer.wrap(a), DoubleBuffer.wrap(b));
+        byte[] expected = expectedRequest(a, b);
+        byte[] read = new byte[expected.length];
+        read[0] = (byte) operands.read();
+        assertEquals(read.length - 1, operands.read(read, 1, read.length - 1));
+        assertEquals(-1, operands.read());
+        assertArrayEquals(expected, read);
+        assertEquals(BatchOperationRequest.newBuilder().addNumber1(1).addNumber1(2).addNumber1(3)
+                .addNumber2(4).addNumber2(5).addNumber2(6).build(), BatchOperationRequest.parseFrom(read));
+        assertThrows(IllegalStateException.class, () -> drain(operands));
+    }
+
+    @Test
+    void operandsAreSingleUse() throws IOException {
+        PackedBuffers.Operands operands = new PackedBuffers.Operands(
+                DoubleBuffer.wrap(new double[] {1}), DoubleBuffer.wrap(new double[] {2}));
+        drain(operands);
+        assertThrows(IllegalStateException.class, () -> drain(operands));
+    }
+
+    private static MethodDescriptor<PackedBuffers.Operands, Integer> descriptor(DoubleBuffer results) {
+        return PackedBuffers.descriptor(CalculatorServiceGrpc.getAddBatchMethod(), results);
+    }
+
+    @Test
+    void decodesPackedResultsIntoTheRegion() {
+        double[] expected = values(COUNT, 2.5);
+        BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+        for (double value : expected) {
+            response.addResult(value);
+        }
+        DoubleBuffer results = DoubleBuffer.allocate(COUNT + 2);
+        results.position(1);
+        DoubleBuffer region = PackedBuffers.slice(results, 0, COUNT);
+        int written = descriptor(region).parseResponse(new ByteArrayInputStream(response.build().toByteArray()));
+        assertEquals(COUNT, written);
+        results.position(0);
+        double[] all = toArray(results);
+        assertEquals(0.0, all[0]);
+        assertEquals(0.0, all[COUNT + 1]);
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(expected[i], all[i + 1]);
+        }
+    }
+
+    /** {@code result} values, unpacked, with an unknown varint field in between. */
+    private static InputStream unpacked(double... values) {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * 9 + 3).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < values.length; i++) {
+            bytes.put((byte) WireFormat.tag(1, WireFormat.FIXED64)).putDouble(values[i]);
+            if (i == 0) {
+                bytes.put((byte) WireFormat.tag(9, 0)).put((byte) 0x96).put((byte) 0x01);
+            }
+        }
+        return new ByteArrayInputStream(bytes.array(), 0, bytes.position());
+    }
+
+    @Test
+    void decodesUnpackedResultsAndSkipsUnknownFields() {
+        DoubleBuffer results = DoubleBuffer.allocate(3);
+        assertEquals(3, descriptor(results).parseResponse(unpacked(1.5, -0.0, 4)));
+        assertArrayEquals(new double[] {1.5, -0.0, 4}, results.array());
+    }
+
+    @Test
+    void rejectsMoreResultsThanTheRegionHolds() {
+        BatchOperationResponse response = BatchOperationResponse.newBuilder()
+                .addResult(1).addResult(2).addResult(3).build();
+        DoubleBuffer results = DoubleBuffer.allocate(2);
+        StatusRuntimeException packed = assertThrows(StatusRuntimeException.class,
+                () -> descriptor(results).parseResponse(new ByteArrayInputStream(response.toByteArray())));
+        assertEquals(Status.Code.INTERNAL, packed.getStatus().getCode());
+        StatusRuntimeException single = assertThrows(StatusRuntimeException.class,
+                () -> descriptor(results).parseResponse(unpacked(1, 2, 3)));
+        assertEquals(Status.Code.INTERNAL, single.getStatus().getCode());
+    }
+
+    @Test
+    void rejectsTruncatedResponses() {
+        byte[] bytes = BatchOperationResponse.newBuilder().addResult(1).addResult(2).build().toByteArray();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> descriptor(DoubleBuffer.allocate(2)).parseResponse(
+                        new ByteArrayInputStream(bytes, 0, bytes.length - 3)));
+        assertEquals(Status.Code.INTERNAL, e.getStatus().getCode());
+    }
+
+    @Test
+    void parsesRequestsBackIntoOperands() throws IOException {
+        double[] a = values(COUNT, 1.25);
+        double[] b = values(COUNT, -3);
+        BatchOperationRequest request = CalculatorClient.batchRequest(a, b, 0, COUNT);
+        PackedBuffers.Operands operands = descriptor(DoubleBuffer.allocate(0))
+                .parseRequest(new ByteArrayInputStream(request.toByteArray()));
+        assertEquals(COUNT, operands.count());
+        assertArrayEquals(expectedRequest(a, b), drain(operands));
+    }
+
+    @Test
+    void parsesUnpackedRequests() throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(4 * 9).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.put((byte) WireFormat.tag(1, WireFormat.FIXED64)).putDouble(1);
+        bytes.put((byte) WireFormat.tag(2, WireFormat.FIXED64)).putDouble(10);
+        bytes.put((byte) WireFormat.tag(1, WireFormat.FIXED64)).putDouble(2);
+        bytes.put((byte) WireFormat.tag(2, WireFormat.FIXED64)).putDouble(20);
+        PackedBuffers.Operands operands = descriptor(DoubleBuffer.allocate(0))
+                .parseRequest(new ByteArrayInputStream(bytes.array()));
+        assertArrayEquals(expectedRequest(new double[] {1, 2}, new double[] {10, 20}), drain(operands));
+    }
+
+    @Test
+    void rejectsRequestsWithUnevenOperands() {
+        BatchOperationRequest request = BatchOperationRequest.newBuilder()
+                .addNumber1(1).addNumber1(2).addNumber2(3).build();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> descriptor(DoubleBuffer.allocate(0)).parseRequest(new ByteArrayInputStream(request.toByteArray())));
+        assertEquals(Status.Code.INTERNAL, e.getStatus().getCode());
+    }
+
+    @Test
+    void streamsTheRegionLikeProtobuf() throws IOException {
+        double[] values = values(COUNT, 0.75);
+        DoubleBuffer region = DoubleBuffer.wrap(values);
+        BatchOperationResponse.Builder expected = BatchOperationResponse.newBuilder();
+        for (int i = 0; i < COUNT - 1; i++) {
+            expected.addResult(values[i]);
+        }
+        try (InputStream stream = descriptor(region).streamResponse(COUNT - 1)) {
+            assertArrayEquals(expected.build().toByteArray(), stream.readAllBytes());
+        }
+        try (InputStream stream = descriptor(region).streamResponse(0)) {
+            assertEquals(-1, stream.read());
+        }
+        assertThrows(IllegalArgumentException.class, () -> descriptor(region).streamResponse(COUNT + 1));
+    }
+
+    @Test
+    void stagingArraysArePooledAcrossThreads() throws Exception {
+        double[] a = values(COUNT, 1.25);
+        double[] b = values(COUNT, -3);
+        byte[] expected = expectedRequest(a, b);
+        int threads = 4 * PackedBuffers.MAX_POOLED_STAGING;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<byte[]>> drains = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                drains.add(executor.submit(
+                        () -> drain(new PackedBuffers.Operands(DoubleBuffer.wrap(a), DoubleBuffer.wrap(b)))));
+            }
+            for (Future<byte[]> drain : drains) {
+                assertArrayEquals(expected, drain.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // More threads than the pool holds drained, but it keeps only its bound
+        assertTrue(PackedBuffers.pooledStaging() >= 1);
+        assertTrue(PackedBuffers.pooledStaging() <= PackedBuffers.MAX_POOLED_STAGING);
+    }
+}
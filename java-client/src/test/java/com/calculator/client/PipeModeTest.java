@@ -0,0 +1,155 @@
+package com.calculator.client;
+
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipeModeTest {
+    private InProcessCalculator server;
+    private CalculatorClient client;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+        client = server.client();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        client.shutdown();
+        server.close();
+    }
+
+    private String run(String input, ByteArrayOutputStream out) throws IOException {
+        new PipeMode(client, new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), out).run();
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    private String run(String input) throws IOException {
+        return run(input, new ByteArrayOutputStream());
+    }
+
+    @Test
+    void acceptsEveryOperationSpelling() throws IOException {
+        assertEquals("3.5\n3\n5.75\n-1\n1\n",
+                run("add 1.5 2\n+ 1 2\nsubtract 10 4.25\nsub 1 2\n- 3 2\n"));
+    }
+
+    @Test
+    void toleratesBlankLinesTabsAndCrlf() throws IOException {
+        assertEquals("3\n7\n", run("\n  \nadd\t1   2\r\n\r\n  sub 9 2"));
+        assertEquals("", run(""));
+    }
+
+    @Test
+    void formatsResultsShortestFirst() throws IOException {
+        String input = String.join("\n",
+                "sub -0 0",
+                "add -0 0",
+                "sub 0.1 0.2",
+                "add 0.1 0.2",
+                "add 1e300 1e300",
+                "add 9007199254740992 0",
+                "add 9007199254740992 2",
+                "add 0.00000001 0",
+                "add 0.000000001 0",
+                "add -2.5e-3 0",
+                "sub 1 Infinity",
+                "add NaN 1");
+        assertEquals(String.join("\n",
+                "-0",
+                "0",
+                "-0.1",
+                "0.30000000000000004",
+                "2.0E300",
+                "9007199254740992",
+                "9.007199254740994E15",
+                "0.00000001",
+                "1.0E-9",
+                "-0.0025",
+                "-Infinity",
+                "NaN") + "\n", run(input));
+    }
+
+    @Test
+    void everyResultParsesBackToTheComputedDouble() throws IOException {
+        // Enough lines for several batches in flight at once
+        int lines = PipeMode.BATCH_LINES * (PipeMode.MAX_PENDING_BATCHES + 3) + 17;
+        Random random = new Random(7);
+        double[] a = new double[lines];
+        double[] b = new double[lines];
+        boolean[] subtract = new boolean[lines];
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            String first;
+            String second;
+            switch (i % 3) {
+                case 0:
+                    // Short decimals, converted on the fast path
+                    first = (random.nextInt(2_000_000) - 1_000_000) / 1000.0 + "";
+                    second = random.nextInt(1000) + "e" + (random.nextInt(40) - 20);
+                    break;
+                case 1:
+                    first = Double.toString(random.nextDouble() * 1e10);
+                    second = Double.toString(-random.nextGaussian());
+                    break;
+                default:
+                    // Too many digits for the fast path
+                    first = "0.1234567890123456789" + random.nextInt(10);
+                    second = Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEF_FFFF_FFFF_FFFFL));
+                    break;
+            }
+            a[i] = Double.parseDouble(first);
+            b[i] = Double.parseDouble(second);
+            subtract[i] = random.nextBoolean();
+            input.append(subtract[i] ? "sub " : "add ").append(first).append(' ').append(second).append('\n');
+        }
+        String[] results = run(input.toString()).split("\n");
+        assertEquals(lines, results.length);
+        for (int i = 0; i < lines; i++) {
+            double expected = subtract[i] ? a[i] - b[i] : a[i] + b[i];
+            assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(Double.parseDouble(results[i])),
+                    "line " + (i + 1) + ": " + results[i]);
+        }
+        assertEquals((lines + PipeMode.BATCH_LINES - 1) / PipeMode.BATCH_LINES * 2, server.service.batchCalls.get());
+    }
+
+    @Test
+    void malformedLineFailsAfterWritingEarlierResults() {
+        assertMalformed("Line 3: unknown operation mul", "add 1 2\n\nmul 1 2\nadd 3 4\n", "3\n");
+        assertMalformed("Line 1: expected: operation number number", "add 1\n", "");
+        assertMalformed("Line 1: expected: operation number number", "add 1 2 3\n", "");
+        assertMalformed("Line 2: not a number: x", "sub 5 1\nadd x 2\n", "4\n");
+    }
+
+    private void assertMalformed(String message, String input, String written) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> run(input, out));
+        assertEquals(message, e.getMessage());
+        assertEquals(written, out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void rpcFailureIsReported() {
+        server.service.failure = Status.UNAVAILABLE;
+        RuntimeException e = assertThrows(RuntimeException.class, () -> run("add 1 2\n"));
+        assertEquals("RPC failed", e.getMessage());
+    }
+
+    @Test
+    void shortBatchResponseIsAnError() {
+        server.service.dropLastResult = true;
+        RuntimeException e = assertThrows(RuntimeException.class, () -> run("add 1 2\nadd 3 4\n"));
+        assertEquals("RPC failed: expected 2 results, got 1", e.getMessage());
+    }
+}
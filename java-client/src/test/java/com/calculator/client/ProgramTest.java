@@ -0,0 +1,120 @@
+package com.calculator.client;
+
+import calculator.Calculator.EvaluateRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProgramTest {
+    private static final Formula X = Formula.variable("x");
+    private static final Formula Y = Formula.variable("y");
+
+    @Test
+    void emitsPostfixCode() {
+        Formula two = Formula.constant(2);
+        Program program = Program.compile(two.minus(X).negate().plus(Y).plus(Formula.constant(2)));
+        assertArrayEquals(new byte[] {
+            Program.PUSH_CONSTANT, 0, Program.PUSH_VARIABLE, 0, Program.SUBTRACT, Program.NEGATE,
+            Program.PUSH_VARIABLE, 1, Program.ADD, Program.PUSH_CONSTANT, 0, Program.ADD
+        }, program.code());
+        assertArrayEquals(new double[] {2.0}, program.constants());
+        assertEquals(List.of("x", "y"), program.variables());
+    }
+
+    @Test
+    void numbersVariablesByFirstUse() {
+        Program program = Program.compile(Y.minus(X).plus(Y));
+        assertEquals(List.of("y", "x"), program.variables());
+    }
+
+    @Test
+    void keepsConstantsWithDifferentBitsApart() {
+        Formula zero = Formula.constant(0.0);
+        Formula negativeZero = Formula.constant(-0.0);
+        Program program = Program.compile(X.plus(zero).minus(negativeZero).plus(Formula.constant(0.0)));
+        assertEquals(2, program.constants().length);
+        assertEquals(0L, Double.doubleToRawLongBits(program.constants()[0]));
+        assertEquals(Long.MIN_VALUE, Double.doubleToRawLongBits(program.constants()[1]));
+    }
+
+    @Test
+    void writesLargeIndexesAsVarints() {
+        Formula sum = Formula.constant(0);
+        for (int i = 1; i < 200; i++) {
+            sum = sum.plus(Formula.constant(i));
+        }
+        byte[] code = Program.compile(sum).code();
+        // ... PUSH_CONSTANT 199, ADD with 199 = 0x47 | 1 << 7
+        assertArrayEquals(new byte[] {Program.PUSH_CONSTANT, (byte) 0xC7, 0x01, Program.ADD},
+                Arrays.copyOfRange(code, code.length - 4, code.length));
+    }
+
+    @Test
+    void toRequestSendsValuesInSlotOrder() {
+        Program program = Program.compile(Y.minus(X).plus(Formula.constant(1.5)));
+        EvaluateRequest request = program.toRequest(Map.of("x", 1.0, "y", 2.0, "unused", 3.0));
+        assertEquals(List.of(2.0, 1.0), request.getVariablesList());
+        assertEquals(List.of(1.5), request.getConstantsList());
+        assertArrayEquals(program.code(), request.getCode().toByteArray());
+        assertThrows(IllegalArgumentException.class, () -> program.toRequest(Map.of("x", 1.0)));
+    }
+
+    /** {@code v0 + (v1 + (... + v[leaves-1]))}, which needs one stack slot per leaf. */
+    private static Formula rightNested(int leaves) {
+        Formula formula = Formula.variable("v" + (leaves - 1));
+        for (int i = leaves - 2; i >= 0; i--) {
+            formula = Formula.variable("v" + i).plus(formula);
+        }
+        return formula;
+    }
+
+    @Test
+    void rejectsFormulasDeeperThanTheServerStack() {
+        Program.compile(rightNested(Program.MAX_STACK_DEPTH));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Program.compile(rightNested(Program.MAX_STACK_DEPTH + 1)));
+        assertEquals("Formula is nested too deeply", e.getMessage());
+    }
+
+    @Test
+    void compilesLongLeftChains() {
+        Formula chain = X;
+        for (int i = 0; i < 100_000; i++) {
+            chain = chain.plus(Y);
+        }
+        Program program = Program.compile(chain);
+        assertEquals(2 + 100_000 * 3, program.code().length);
+    }
+
+    /** {@code x} added to itself {@code times} times over, sharing each intermediate sum. */
+    private static Formula doubled(int times) {
+        Formula formula = X;
+        for (int i = 0; i < times; i++) {
+            formula = formula.plus(formula);
+        }
+        return formula;
+    }
+
+    @Test
+    void compilesSharedSubtreesOncePerUse() {
+        Program program = Program.compile(doubled(3));
+        // Eight pushes of x and seven adds
+        assertEquals(8 * 2 + 7, program.code().length);
+    }
+
+    @Test
+    void rejectsFormulasThatExpandPastTheInstructionLimit() {
+        // n doublings push x 2^n times and add 2^n - 1 times: 2^(n+1) - 1 instructions
+        assertEquals(3 * (1 << 18) - 1, Program.compile(doubled(18)).code().length);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Program.compile(doubled(19)));
+        assertEquals("Formula expands to more than " + Program.MAX_INSTRUCTIONS + " instructions", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> Program.compile(doubled(40)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.calculator.client;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RawOperationsTest {
+    private static final MethodDescriptor<RawOperations.Operands, Double> ADD = RawOperations.ADD;
+
+    private static byte[] bytes(InputStream stream) throws IOException {
+        try (stream) {
+            return stream.readAllBytes();
+        }
+    }
+
+    @Test
+    void requestsEncodeLikeProtobuf() throws IOException {
+        OperationRequest expected = OperationRequest.newBuilder().setNumber1(1.5).setNumber2(-2.25).build();
+        assertArrayEquals(expected.toByteArray(), bytes(ADD.streamRequest(new RawOperations.Operands(1.5, -2.25))));
+    }
+
+    @Test
+    void requestsParseBackFromProtobuf() throws IOException {
+        OperationRequest request = OperationRequest.newBuilder().setNumber2(7).build();
+        RawOperations.Operands operands = ADD.parseRequest(new ByteArrayInputStream(request.toByteArray()));
+        OperationRequest both = OperationRequest.newBuilder().setNumber1(0).setNumber2(7).build();
+        // proto3 drops the zero field; the raw encoding always carries both
+        assertEquals(both, OperationRequest.parseFrom(bytes(operands)));
+    }
+
+    @Test
+    void responsesRoundTrip() throws IOException {
+        for (double value : new double[] {0.0, -0.0, 3.5, Double.NaN}) {
+            byte[] encoded = bytes(ADD.streamResponse(value));
+            assertEquals(value, OperationResponse.parseFrom(encoded).getResult());
+            assertEquals(value, ADD.parseResponse(new ByteArrayInputStream(encoded)));
+        }
+    }
+
+    @Test
+    void rejectsTruncatedRequests() {
+        byte[] bytes = OperationRequest.newBuilder().setNumber1(1).setNumber2(2).build().toByteArray();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> ADD.parseRequest(new ByteArrayInputStream(bytes, 0, bytes.length - 3)));
+        assertEquals(Status.Code.INTERNAL, e.getStatus().getCode());
+    }
+}
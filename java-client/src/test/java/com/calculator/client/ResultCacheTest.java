@@ -0,0 +1,84 @@
+package com.calculator.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResultCacheTest {
+
+    @Test
+    void returnsTheExactBitsPut() {
+        ResultCache cache = new ResultCache(64);
+        assertEquals(ResultCache.MISS, cache.get(ResultCache.ADD, 1.5, 2.0));
+        cache.put(ResultCache.ADD, 1.5, 2.0, 3.5);
+        assertEquals(Double.doubleToRawLongBits(3.5), cache.get(ResultCache.ADD, 1.5, 2.0));
+
+        double nan = Double.longBitsToDouble(0x7FF8_0000_0000_1234L);
+        cache.put(ResultCache.SUBTRACT, nan, 1.0, nan);
+        assertEquals(0x7FF8_0000_0000_1234L, cache.get(ResultCache.SUBTRACT, nan, 1.0));
+    }
+
+    @Test
+    void keysCompareOperandBitsAndOperation() {
+        ResultCache cache = new ResultCache(64);
+        cache.put(ResultCache.ADD, 0.0, 1.0, 1.0);
+        assertEquals(ResultCache.MISS, cache.get(ResultCache.ADD, -0.0, 1.0));
+        assertEquals(ResultCache.MISS, cache.get(ResultCache.SUBTRACT, 0.0, 1.0));
+        assertEquals(ResultCache.MISS, cache.get(ResultCache.ADD, 1.0, 0.0));
+    }
+
+    @Test
+    void putReplacesAnExistingEntry() {
+        ResultCache cache = new ResultCache(8);
+        cache.put(ResultCache.ADD, 1.0, 2.0, 3.0);
+        cache.put(ResultCache.ADD, 1.0, 2.0, 4.0);
+        assertEquals(Double.doubleToRawLongBits(4.0), cache.get(ResultCache.ADD, 1.0, 2.0));
+        assertEquals(0, cache.stats().evictions());
+    }
+
+    @Test
+    void neverCachesTheMissPattern() {
+        ResultCache cache = new ResultCache(8);
+        cache.put(ResultCache.ADD, 1.0, 2.0, Double.longBitsToDouble(ResultCache.MISS));
+        assertEquals(ResultCache.MISS, cache.get(ResultCache.ADD, 1.0, 2.0));
+    }
+
+    @Test
+    void capacityRoundsDownToWholeSets() {
+        assertEquals(8, new ResultCache(8).capacity());
+        assertEquals(8, new ResultCache(15).capacity());
+        assertEquals(64, new ResultCache(100).capacity());
+        assertEquals(1024, new ResultCache(1024).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(7));
+    }
+
+    @Test
+    void clockGivesHitEntriesASecondChance() {
+        // Eight entries make one set, so every key competes for the same ways
+        ResultCache cache = new ResultCache(8);
+        for (int i = 0; i < 8; i++) {
+            cache.put(ResultCache.ADD, i, 0.0, i);
+        }
+        cache.get(ResultCache.ADD, 0, 0.0);
+        cache.put(ResultCache.ADD, 8, 0.0, 8);
+
+        assertEquals(Double.doubleToRawLongBits(0), cache.get(ResultCache.ADD, 0, 0.0));
+        assertEquals(ResultCache.MISS, cache.get(ResultCache.ADD, 1, 0.0));
+        assertEquals(Double.doubleToRawLongBits(8), cache.get(ResultCache.ADD, 8, 0.0));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        ResultCache cache = new ResultCache(64);
+        cache.get(ResultCache.ADD, 1.0, 2.0);
+        cache.put(ResultCache.ADD, 1.0, 2.0, 3.0);
+        cache.get(ResultCache.ADD, 1.0, 2.0);
+        cache.get(ResultCache.ADD, 1.0, 2.0);
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(64, stats.capacity());
+    }
+}
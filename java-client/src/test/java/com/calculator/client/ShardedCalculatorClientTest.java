@@ -0,0 +1,167 @@
+package com.calculator.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedCalculatorClientTest {
+    private static final int PAIRS = 10_000;
+    private static final int CHUNK_SIZE = 256;
+    private static final int CHUNKS = (PAIRS + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    private static final long SLOW_MILLIS = 20;
+
+    private InProcessCalculator first;
+    private InProcessCalculator second;
+    private ShardedCalculatorClient sharded;
+
+    @BeforeEach
+    void start() throws IOException {
+        first = new InProcessCalculator();
+        second = new InProcessCalculator();
+        sharded = new ShardedCalculatorClient(new CalculatorClient[] {first.client(), second.client()}, 2, CHUNK_SIZE);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        sharded.shutdown();
+        first.close();
+        second.close();
+    }
+
+    private static double[] values(double scale) {
+        double[] values = new double[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            values[i] = i * scale - 1;
+        }
+        return values;
+    }
+
+    private void assertComputesEveryPair() {
+        double[] a = values(0.5);
+        double[] b = values(-3);
+        double[] sums = sharded.addBatch(a, b);
+        double[] differences = sharded.subtractBatch(a, b);
+        for (int i = 0; i < PAIRS; i++) {
+            assertEquals(a[i] + b[i], sums[i]);
+            assertEquals(a[i] - b[i], differences[i]);
+        }
+    }
+
+    @Test
+    void resultsComeBackInInputOrder() {
+        assertComputesEveryPair();
+        long[] completed = sharded.completedChunks();
+        assertEquals(2 * CHUNKS, completed[0] + completed[1]);
+        // A duplicate cancelled before it reached its server is never counted there
+        int calls = first.service.batchCalls.get() + second.service.batchCalls.get();
+        assertTrue(calls >= 2 * CHUNKS && calls <= 2 * CHUNKS + sharded.stolenChunks());
+    }
+
+    @Test
+    void failedShardHandsItsChunksToTheOthers() {
+        second.service.failure = Status.UNAVAILABLE;
+        assertComputesEveryPair();
+        assertEquals(2 * CHUNKS, sharded.completedChunks()[0]);
+        assertEquals(0, sharded.completedChunks()[1]);
+    }
+
+    @Test
+    void batchFailsOnceEveryShardHasFailed() {
+        first.service.failure = Status.UNAVAILABLE;
+        second.service.failure = Status.UNAVAILABLE;
+        RuntimeException e = assertThrows(RuntimeException.class, () -> sharded.addBatch(values(1), values(2)));
+        assertEquals("RPC failed", e.getMessage());
+    }
+
+    @Test
+    void shardWithShortResponsesHandsItsChunksToTheOthers() {
+        first.service.dropLastResult = true;
+        assertComputesEveryPair();
+        assertEquals(0, sharded.completedChunks()[0]);
+        assertEquals(2 * CHUNKS, sharded.completedChunks()[1]);
+    }
+
+    @Test
+    void batchFailsOnceEveryShardAnswersShort() {
+        first.service.dropLastResult = true;
+        second.service.dropLastResult = true;
+        RuntimeException e = assertThrows(RuntimeException.class, () -> sharded.addBatch(values(1), values(2)));
+        assertEquals("RPC failed", e.getMessage());
+    }
+
+    /** Holds back every response message of a call by {@value #SLOW_MILLIS} ms. */
+    private static ClientInterceptor slow() {
+        return new ClientInterceptor() {
+            @Override
+            public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+                    MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+                return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                    @Override
+                    public void start(Listener<RespT> listener, Metadata headers) {
+                        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(listener) {
+                            @Override
+                            public void onMessage(RespT message) {
+                                try {
+                                    Thread.sleep(SLOW_MILLIS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                super.onMessage(message);
+                            }
+                        }, headers);
+                    }
+                };
+            }
+        };
+    }
+
+    @Test
+    void fastShardTakesOverTheWorkOfASlowOne() throws InterruptedException {
+        ShardedCalculatorClient uneven = new ShardedCalculatorClient(
+                new CalculatorClient[] {first.clientBuilder().intercept(slow()).build(), second.client()}, 2, CHUNK_SIZE);
+        try {
+            double[] a = values(0.5);
+            double[] b = values(-3);
+            double[] sums = uneven.addBatch(a, b);
+            for (int i = 0; i < PAIRS; i++) {
+                assertEquals(a[i] + b[i], sums[i]);
+            }
+            long[] completed = uneven.completedChunks();
+            assertEquals(CHUNKS, completed[0] + completed[1]);
+            // The fast shard pulls most chunks from the queue...
+            assertTrue(completed[1] > completed[0], completed[0] + " vs " + completed[1]);
+            // ...and copies the slow shard's last ones once the queue is empty
+            assertTrue(uneven.stolenChunks() > 0);
+        } finally {
+            uneven.shutdown();
+        }
+    }
+
+    @Test
+    void checksItsArguments() {
+        assertEquals(0, sharded.addBatch(new double[0], new double[0]).length);
+        assertThrows(IllegalArgumentException.class, () -> sharded.addBatch(new double[1], new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedCalculatorClient(List.of()));
+        CalculatorClient[] none = new CalculatorClient[0];
+        assertThrows(IllegalArgumentException.class, () -> new ShardedCalculatorClient(none, 0, CHUNK_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedCalculatorClient(none, 1, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShardedCalculatorClient(none, 1, CalculatorClient.BATCH_CHUNK_SIZE + 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.calculator.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadsTest {
+    private InProcessCalculator server;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new InProcessCalculator();
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        server.close();
+    }
+
+    /** {@code Thread.isVirtual()}, which the Java 11 API used to compile tests lacks. */
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void builderRefusesVirtualThreadsBeforeJava21() {
+        assertFalse(VirtualThreads.isSupported());
+        CalculatorClient.Builder builder = server.clientBuilder();
+        UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class, builder::virtualThreads);
+        assertTrue(e.getMessage().contains(System.getProperty("java.version")), e.getMessage());
+        assertThrows(UnsupportedOperationException.class, VirtualThreads::newExecutor);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void callsRunOnVirtualThreads() throws Exception {
+        assertTrue(VirtualThreads.isSupported());
+        CalculatorClient client = server.clientBuilder().virtualThreads().build();
+        try {
+            assertEquals(3.5, client.add(1.5, 2));
+            assertEquals(7.0, client.addAsync(3, 4).get(5, TimeUnit.SECONDS));
+
+            boolean[] virtual = new boolean[100];
+            double[] sums = client.fanOut(virtual.length, i -> {
+                virtual[i] = isVirtual(Thread.currentThread());
+                return client.add(i, 1);
+            });
+            for (int i = 0; i < virtual.length; i++) {
+                assertEquals(i + 1.0, sums[i]);
+                assertTrue(virtual[i], "task " + i);
+            }
+            assertEquals(virtual.length + 2, server.service.unaryCalls.get());
+        } finally {
+            client.shutdown();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.calculator.client;
+
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WireFormatTest {
+    private static final int[] VALUES = {0, 1, 127, 128, 300, 16383, 16384, 1 << 21, (1 << 28) - 1, 1 << 28,
+        Integer.MAX_VALUE};
+
+    private static InputStream bytes(int... bytes) {
+        byte[] array = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            array[i] = (byte) bytes[i];
+        }
+        return new ByteArrayInputStream(array);
+    }
+
+    /** Protobuf's own encoding of {@code value} as an int64 or uint64 field value. */
+    private static InputStream protobufVarint(long value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        out.writeUInt64NoTag(value);
+        out.flush();
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    @Test
+    void varintsRoundTripThroughProtobuf() throws IOException {
+        for (int value : VALUES) {
+            byte[] buffer = new byte[5];
+            int size = WireFormat.writeVarint(buffer, 0, value);
+            assertEquals(CodedOutputStream.computeUInt32SizeNoTag(value), size);
+            assertEquals(size, WireFormat.varintSize(value));
+            assertEquals(value, WireFormat.readVarint(new ByteArrayInputStream(buffer, 0, size)));
+            assertEquals(value, WireFormat.readVarint(protobufVarint(value)));
+        }
+    }
+
+    @Test
+    void writeVarintReturnsTheNextOffset() {
+        byte[] buffer = new byte[8];
+        assertEquals(4, WireFormat.writeVarint(buffer, 2, 300));
+        assertEquals((byte) 0xAC, buffer[2]);
+        assertEquals(0x02, buffer[3]);
+    }
+
+    @Test
+    void readVarintSignalsTheEndOfTheStream() throws IOException {
+        assertEquals(-1, WireFormat.readVarint(bytes()));
+        IOException e = assertThrows(IOException.class, () -> WireFormat.readVarint(bytes(0x80)));
+        assertEquals("Truncated varint", e.getMessage());
+    }
+
+    @Test
+    void readVarintRejectsValuesBeyondAnInt() {
+        long[] tooLarge = {1L << 31, 0xFFFF_FFFFL, 1L << 35, Long.MAX_VALUE, -1L};
+        for (long value : tooLarge) {
+            IOException e = assertThrows(IOException.class, () -> WireFormat.readVarint(protobufVarint(value)));
+            assertEquals("Varint does not fit in an int", e.getMessage());
+        }
+        IOException e = assertThrows(IOException.class,
+                () -> WireFormat.readVarint(bytes(0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0x80, 0)));
+        assertEquals("Varint too long", e.getMessage());
+    }
+
+    @Test
+    void readVarintAcceptsRedundantZeroBytes() throws IOException {
+        assertEquals(1, WireFormat.readVarint(bytes(0x81, 0x80, 0x80, 0x80, 0x80, 0x80, 0)));
+    }
+
+    @Test
+    void readFixed64IsLittleEndian() throws IOException {
+        assertEquals(0x0807060504030201L, WireFormat.readFixed64(bytes(1, 2, 3, 4, 5, 6, 7, 8)));
+        assertThrows(IOException.class, () -> WireFormat.readFixed64(bytes(1, 2, 3)));
+    }
+
+    @Test
+    void skipFieldSkipsEveryWireTypeButGroups() throws IOException {
+        InputStream varint = protobufVarint(-1L);
+        WireFormat.skipField(varint, WireFormat.tag(5, 0));
+        assertEquals(-1, varint.read());
+
+        InputStream fixed64 = bytes(1, 2, 3, 4, 5, 6, 7, 8, 42);
+        WireFormat.skipField(fixed64, WireFormat.tag(5, WireFormat.FIXED64));
+        assertEquals(42, fixed64.read());
+
+        InputStream delimited = bytes(3, 1, 2, 3, 42);
+        WireFormat.skipField(delimited, WireFormat.tag(5, WireFormat.LENGTH_DELIMITED));
+        assertEquals(42, delimited.read());
+
+        InputStream fixed32 = bytes(1, 2, 3, 4, 42);
+        WireFormat.skipField(fixed32, WireFormat.tag(5, 5));
+        assertEquals(42, fixed32.read());
+
+        IOException e = assertThrows(IOException.class, () -> WireFormat.skipField(bytes(), WireFormat.tag(5, 3)));
+        assertEquals("Unsupported wire type 3", e.getMessage());
+    }
+
+    @Test
+    void skipDetectsTruncation() {
+        assertThrows(IOException.class, () -> WireFormat.skipVarint(bytes(0xFF, 0xFF)));
+        assertThrows(IOException.class, () -> WireFormat.skipBytes(bytes(1, 2), 3));
+        assertThrows(IOException.class,
+                () -> WireFormat.skipField(bytes(5, 1, 2), WireFormat.tag(1, WireFormat.LENGTH_DELIMITED)));
+        IOException e = assertThrows(IOException.class,
+                () -> WireFormat.skipField(bytes(), WireFormat.tag(1, WireFormat.LENGTH_DELIMITED)));
+        assertEquals("Truncated field", e.getMessage());
+    }
+
+    @Test
+    void tagCombinesFieldAndWireType() {
+        assertEquals(0x0A, WireFormat.tag(1, WireFormat.LENGTH_DELIMITED));
+        assertEquals(0x09, WireFormat.tag(1, WireFormat.FIXED64));
+        assertEquals(0x12, WireFormat.tag(2, WireFormat.LENGTH_DELIMITED));
+    }
+}
@@ -0,0 +1,145 @@
+package com.calculator.server;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.ServerChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Standalone Java CalculatorService server, a drop-in alternative to the
+ * C++ {@code calculator_server} on the same port.
+ *
+ * <pre>
+ * mvn exec:java -Dexec.args="--port 50051 --worker-threads 4 --direct-executor"
+ * </pre>
+ */
+public class CalculatorServer {
+    private final Options options;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+    private final ExecutorService executor;  // null when running on the direct executor
+    private Server server;
+
+    public CalculatorServer(Options options) {
+        this.options = options;
+        boolean epoll = Epoll.isAvailable();
+        bossGroup = epoll ? new EpollEventLoopGroup(options.bossThreads) : new NioEventLoopGroup(options.bossThreads);
+        // Zero lets Netty pick its default of twice the number of cores
+        workerGroup = epoll ? new EpollEventLoopGroup(options.workerThreads) : new NioEventLoopGroup(options.workerThreads);
+        executor = options.directExecutor ? null : Executors.newFixedThreadPool(options.executorThreads);
+    }
+
+    public void start() throws IOException {
+        Class<? extends ServerChannel> channelType = Epoll.isAvailable()
+                ? EpollServerSocketChannel.class
+                : NioServerSocketChannel.class;
+        NettyServerBuilder builder = NettyServerBuilder.forAddress(new InetSocketAddress(options.port))
+                .bossEventLoopGroup(bossGroup)
+                .workerEventLoopGroup(workerGroup)
+                .channelType(channelType)
+                .addService(new CalculatorServiceImpl());
+        if (executor == null) {
+            builder.directExecutor();
+        } else {
+            builder.executor(executor);
+        }
+        server = builder.build().start();
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    public void stop() throws InterruptedException {
+        if (server != null) {
+            server.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+        bossGroup.shutdownGracefully();
+        workerGroup.shutdownGracefully();
+    }
+
+    public void blockUntilShutdown() throws InterruptedException {
+        if (server != null) {
+            server.awaitTermination();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(Options.USAGE);
+            System.exit(2);
+            return;
+        }
+        CalculatorServer server = new CalculatorServer(options);
+        server.start();
+        System.out.println("[Server] Listening on 0.0.0.0:" + server.getPort()
+                + " (" + (Epoll.isAvailable() ? "epoll" : "nio")
+                + ", boss=" + options.bossThreads
+                + ", workers=" + (options.workerThreads == 0 ? "default" : options.workerThreads)
+                + ", executor=" + (options.directExecutor ? "direct" : options.executorThreads + " threads") + ")");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        server.blockUntilShutdown();
+    }
+
+    /** Command line settings. */
+    public static final class Options {
+        static final String USAGE = "Usage: CalculatorServer [--port P] [--boss-threads N]"
+                + " [--worker-threads N] [--direct-executor | --executor-threads N]";
+
+        int port = 50051;
+        int bossThreads = 1;
+        int workerThreads;
+        boolean directExecutor;
+        int executorThreads = Runtime.getRuntime().availableProcessors();
+
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String flag = args[i];
+                if (flag.equals("--direct-executor")) {
+                    options.directExecutor = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + flag);
+                }
+                int value = Integer.parseInt(args[++i]);
+                switch (flag) {
+                    case "--port": options.port = value; break;
+                    case "--boss-threads": options.bossThreads = value; break;
+                    case "--worker-threads": options.workerThreads = value; break;
+                    case "--executor-threads": options.executorThreads = value; break;
+                    default: throw new IllegalArgumentException("Unknown option " + flag);
+                }
+            }
+            if (options.bossThreads <= 0 || options.workerThreads < 0 || options.executorThreads <= 0) {
+                throw new IllegalArgumentException("Thread counts must be positive");
+            }
+            return options;
+        }
+    }
+}
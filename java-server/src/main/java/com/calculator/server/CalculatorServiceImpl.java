@@ -0,0 +1,323 @@
+package com.calculator.server;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+import calculator.Calculator.DoubleChunk;
+import calculator.Calculator.EvaluateRequest;
+import calculator.Calculator.ExecutePreparedRequest;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+import calculator.Calculator.PipelineRequest;
+import calculator.Calculator.PipelineResponse;
+import calculator.Calculator.PrepareRequest;
+import calculator.Calculator.PrepareResponse;
+import calculator.Calculator.StatsResponse;
+
+/**
+ * Java implementation of CalculatorService, equivalent to the C++ server.
+ *
+ * <p>Every method is non-blocking and does no per-call logging, so the
+ * service can run on a direct executor.
+ */
+public class CalculatorServiceImpl extends CalculatorServiceGrpc.CalculatorServiceImplBase {
+    private final PreparedPrograms programs = new PreparedPrograms();
+
+    @Override
+    public void add(OperationRequest request, StreamObserver<OperationResponse> responseObserver) {
+        responseObserver.onNext(OperationResponse.newBuilder()
+                .setResult(request.getNumber1() + request.getNumber2())
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void subtract(OperationRequest request, StreamObserver<OperationResponse> responseObserver) {
+        responseObserver.onNext(OperationResponse.newBuilder()
+                .setResult(request.getNumber1() - request.getNumber2())
+                .build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<OperationRequest> addStream(StreamObserver<BatchOperationResponse> responseObserver) {
+        return new StreamAccumulator(responseObserver, false);
+    }
+
+    @Override
+    public StreamObserver<OperationRequest> subtractStream(StreamObserver<BatchOperationResponse> responseObserver) {
+        return new StreamAccumulator(responseObserver, true);
+    }
+
+    @Override
+    public void addBatch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+        computeBatch(request, responseObserver, false);
+    }
+
+    @Override
+    public void subtractBatch(BatchOperationRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+        computeBatch(request, responseObserver, true);
+    }
+
+    // Responses carry the request id, so clients must not rely on ordering;
+    // this implementation happens to answer each request as it is read.
+    @Override
+    public StreamObserver<PipelineRequest> computePipeline(StreamObserver<PipelineResponse> responseObserver) {
+        return new StreamObserver<PipelineRequest>() {
+            private boolean failed;
+
+            @Override
+            public void onNext(PipelineRequest request) {
+                if (failed) {
+                    return;
+                }
+                double result;
+                switch (request.getOperation()) {
+                    case ADD:
+                        result = request.getNumber1() + request.getNumber2();
+                        break;
+                    case SUBTRACT:
+                        result = request.getNumber1() - request.getNumber2();
+                        break;
+                    default:
+                        failed = true;
+                        responseObserver.onError(Status.INVALID_ARGUMENT
+                                .withDescription("Unknown operation")
+                                .asRuntimeException());
+                        return;
+                }
+                responseObserver.onNext(PipelineResponse.newBuilder()
+                        .setId(request.getId())
+                        .setResult(result)
+                        .build());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // Client went away; nothing to clean up
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!failed) {
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void evaluate(EvaluateRequest request, StreamObserver<OperationResponse> responseObserver) {
+        Program program;
+        try {
+            program = Program.decode(request.getCode(), request.getConstantsCount(), request.getVariablesCount());
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+            return;
+        }
+        double[] constants = new double[request.getConstantsCount()];
+        for (int i = 0; i < constants.length; i++) {
+            constants[i] = request.getConstants(i);
+        }
+        double[] variables = new double[request.getVariablesCount()];
+        for (int i = 0; i < variables.length; i++) {
+            variables[i] = request.getVariables(i);
+        }
+        double result = program.run(constants, variables, 0);
+        responseObserver.onNext(OperationResponse.newBuilder().setResult(result).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void prepare(PrepareRequest request, StreamObserver<PrepareResponse> responseObserver) {
+        // Unsigned on the wire; a negative int means more than MAX_VALUE
+        int variableCount = request.getVariableCount();
+        if (variableCount < 0 || variableCount > PreparedPrograms.MAX_VARIABLES) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Too many variables")
+                    .asRuntimeException());
+            return;
+        }
+        Program program;
+        try {
+            program = Program.decode(request.getCode(), request.getConstantsCount(), variableCount);
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+            return;
+        }
+        long handle = PreparedPrograms.handle(request);
+        if (!programs.put(handle, new PreparedPrograms.Prepared(request, program))) {
+            responseObserver.onError(Status.ALREADY_EXISTS
+                    .withDescription("Handle is taken by a different program")
+                    .asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(PrepareResponse.newBuilder().setHandle(handle).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void executePrepared(ExecutePreparedRequest request, StreamObserver<BatchOperationResponse> responseObserver) {
+        PreparedPrograms.Prepared prepared = programs.get(request.getHandle());
+        if (prepared == null) {
+            responseObserver.onError(Status.NOT_FOUND
+                    .withDescription("Unknown program handle")
+                    .asRuntimeException());
+            return;
+        }
+        int n = prepared.variableCount();
+        int size = request.getVariablesCount();
+        if (n == 0 ? size != 0 : size % n != 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("variables must hold whole rows of variable_count values")
+                    .asRuntimeException());
+            return;
+        }
+        double[] variables = new double[size];
+        for (int i = 0; i < size; i++) {
+            variables[i] = request.getVariables(i);
+        }
+        int rows = n == 0 ? 1 : size / n;
+        BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+        for (int row = 0; row < rows; row++) {
+            response.addResult(prepared.program.run(prepared.constants, variables, row * n));
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<DoubleChunk> sum(StreamObserver<OperationResponse> responseObserver) {
+        CompensatedSum sum = new CompensatedSum();
+        return new ColumnObserver() {
+            @Override
+            public void onNext(DoubleChunk chunk) {
+                for (int i = 0; i < chunk.getValuesCount(); i++) {
+                    sum.add(chunk.getValues(i));
+                }
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onNext(OperationResponse.newBuilder().setResult(sum.value()).build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<DoubleChunk> prefixSum(StreamObserver<DoubleChunk> responseObserver) {
+        CompensatedSum sum = new CompensatedSum();
+        return new ColumnObserver() {
+            @Override
+            public void onNext(DoubleChunk chunk) {
+                DoubleChunk.Builder sums = DoubleChunk.newBuilder();
+                for (int i = 0; i < chunk.getValuesCount(); i++) {
+                    sum.add(chunk.getValues(i));
+                    sums.addValues(sum.value());
+                }
+                responseObserver.onNext(sums.build());
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<DoubleChunk> stats(StreamObserver<StatsResponse> responseObserver) {
+        return new ColumnObserver() {
+            private final CompensatedSum sum = new CompensatedSum();
+            private long count;
+            private double min = Double.POSITIVE_INFINITY;
+            private double max = Double.NEGATIVE_INFINITY;
+
+            @Override
+            public void onNext(DoubleChunk chunk) {
+                for (int i = 0; i < chunk.getValuesCount(); i++) {
+                    double value = chunk.getValues(i);
+                    sum.add(value);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                count += chunk.getValuesCount();
+            }
+
+            @Override
+            public void onCompleted() {
+                double total = sum.value();
+                responseObserver.onNext(StatsResponse.newBuilder()
+                        .setCount(count)
+                        .setSum(total)
+                        .setMin(min)
+                        .setMax(max)
+                        .setMean(count > 0 ? total / count : 0.0)
+                        .build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private static void computeBatch(BatchOperationRequest request,
+                                     StreamObserver<BatchOperationResponse> responseObserver,
+                                     boolean subtract) {
+        int n = request.getNumber1Count();
+        if (request.getNumber2Count() != n) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("number1 and number2 must have the same length")
+                    .asRuntimeException());
+            return;
+        }
+        BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+        for (int i = 0; i < n; i++) {
+            double a = request.getNumber1(i);
+            double b = request.getNumber2(i);
+            response.addResult(subtract ? a - b : a + b);
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /** Reduction over a streamed column; a cancelled call just drops its partial state. */
+    private abstract static class ColumnObserver implements StreamObserver<DoubleChunk> {
+        @Override
+        public void onError(Throwable t) {
+            // Client went away; nothing to clean up
+        }
+    }
+
+    /** Collects one result per streamed request and replies when the client half-closes. */
+    private static final class StreamAccumulator implements StreamObserver<OperationRequest> {
+        private final StreamObserver<BatchOperationResponse> responseObserver;
+        private final boolean subtract;
+        private final BatchOperationResponse.Builder response = BatchOperationResponse.newBuilder();
+
+        StreamAccumulator(StreamObserver<BatchOperationResponse> responseObserver, boolean subtract) {
+            this.responseObserver = responseObserver;
+            this.subtract = subtract;
+        }
+
+        @Override
+        public void onNext(OperationRequest request) {
+            double a = request.getNumber1();
+            double b = request.getNumber2();
+            response.addResult(subtract ? a - b : a + b);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // Client went away; drop the partial results
+        }
+
+        @Override
+        public void onCompleted() {
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.calculator.server;
+
+/**
+ * Running sum with Neumaier's compensation: the low-order bits lost by each
+ * addition are collected separately and added back at the end, so the
+ * error stays bounded by a few ulps however many values are summed.
+ *
+ * <p>Infinite inputs follow {@link java.util.DoubleSummaryStatistics}: if
+ * the compensated result is NaN only because of an infinity, the plain sum
+ * is returned instead.
+ */
+final class CompensatedSum {
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+
+    void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+        simpleSum += value;
+    }
+
+    double value() {
+        double result = sum + compensation;
+        if (Double.isNaN(result) && Double.isInfinite(simpleSum)) {
+            return simpleSum;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.calculator.server;
+
+import calculator.Calculator.PrepareRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Least-recently-used cache of validated programs, keyed by handle. */
+final class PreparedPrograms {
+    static final int MAX_PROGRAMS = 1024;
+    static final int MAX_VARIABLES = 65536;
+
+    private final Map<Long, Prepared> programs = new LinkedHashMap<Long, Prepared>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Prepared> eldest) {
+            return size() > MAX_PROGRAMS;
+        }
+    };
+
+    synchronized Prepared get(long handle) {
+        return programs.get(handle);
+    }
+
+    /** Returns false if a different program already holds this handle. */
+    synchronized boolean put(long handle, Prepared program) {
+        Prepared existing = programs.get(handle);
+        if (existing != null) {
+            return existing.request.equals(program.request);
+        }
+        programs.put(handle, program);
+        return true;
+    }
+
+    /** FNV-1a over the program content, as specified for PrepareResponse.handle. */
+    static long handle(PrepareRequest request) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < request.getCode().size(); i++) {
+            hash = mix(hash, request.getCode().byteAt(i) & 0xFF, 1);
+        }
+        for (int i = 0; i < request.getConstantsCount(); i++) {
+            hash = mix(hash, Double.doubleToRawLongBits(request.getConstants(i)), 8);
+        }
+        return mix(hash, request.getVariableCount(), 4);
+    }
+
+    private static long mix(long hash, long value, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            hash ^= (value >>> (8 * i)) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** A validated program together with the request it came from. */
+    static final class Prepared {
+        final PrepareRequest request;
+        final Program program;
+        final double[] constants;
+
+        Prepared(PrepareRequest request, Program program) {
+            this.request = request;
+            this.program = program;
+            this.constants = new double[request.getConstantsCount()];
+            for (int i = 0; i < constants.length; i++) {
+                constants[i] = request.getConstants(i);
+            }
+        }
+
+        int variableCount() {
+            return request.getVariableCount();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.calculator.server;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import com.google.protobuf.ByteString;
+
+import java.util.Arrays;
+
+/**
+ * Decoded and validated stack-machine program from an EvaluateRequest; see
+ * calculator.proto for the encoding. Validation happens once in
+ * {@link #decode}, so {@link #run} needs no checks.
+ */
+final class Program {
+    static final int PUSH_CONSTANT = 1;
+    static final int PUSH_VARIABLE = 2;
+    static final int ADD = 3;
+    static final int SUBTRACT = 4;
+    static final int NEGATE = 5;
+
+    static final int MAX_STACK_DEPTH = 1024;
+
+    private final byte[] opcodes;
+    private final int[] indexes;  // Constant or variable slot of the push opcodes
+    private final int maxDepth;
+
+    private Program(byte[] opcodes, int[] indexes, int maxDepth) {
+        this.opcodes = opcodes;
+        this.indexes = indexes;
+        this.maxDepth = maxDepth;
+    }
+
+    static Program decode(ByteString code, int constantCount, int variableCount) {
+        byte[] opcodes = new byte[code.size()];
+        int[] indexes = new int[code.size()];
+        int count = 0;
+        int depth = 0;
+        int maxDepth = 0;
+        int pc = 0;
+        while (pc < code.size()) {
+            int opcode = code.byteAt(pc++);
+            int index = 0;
+            switch (opcode) {
+                case PUSH_CONSTANT:
+                case PUSH_VARIABLE:
+                    for (int shift = 0; ; shift += 7) {
+                        if (pc >= code.size() || shift > 28) {
+                            throw invalid("Malformed operand index");
+                        }
+                        int b = code.byteAt(pc++);
+                        index |= (b & 0x7F) << shift;
+                        if ((b & 0x80) == 0) {
+                            break;
+                        }
+                    }
+                    int limit = opcode == PUSH_CONSTANT ? constantCount : variableCount;
+                    if (index < 0 || index >= limit) {
+                        throw invalid("Operand index out of range");
+                    }
+                    if (++depth > MAX_STACK_DEPTH) {
+                        throw invalid("Program exceeds the stack limit");
+                    }
+                    maxDepth = Math.max(maxDepth, depth);
+                    break;
+                case ADD:
+                case SUBTRACT:
+                    if (depth < 2) {
+                        throw invalid("Stack underflow");
+                    }
+                    depth--;
+                    break;
+                case NEGATE:
+                    if (depth < 1) {
+                        throw invalid("Stack underflow");
+                    }
+                    break;
+                default:
+                    throw invalid("Unknown opcode");
+            }
+            opcodes[count] = (byte) opcode;
+            indexes[count] = index;
+            count++;
+        }
+        if (depth != 1) {
+            throw invalid("Program must leave exactly one value");
+        }
+        return new Program(Arrays.copyOf(opcodes, count), Arrays.copyOf(indexes, count), maxDepth);
+    }
+
+    int size() {
+        return opcodes.length;
+    }
+
+    double run(double[] constants, double[] variables, int variableOffset) {
+        double[] stack = new double[maxDepth];
+        int top = 0;
+        for (int i = 0; i < opcodes.length; i++) {
+            switch (opcodes[i]) {
+                case PUSH_CONSTANT:
+                    stack[top++] = constants[indexes[i]];
+                    break;
+                case PUSH_VARIABLE:
+                    stack[top++] = variables[variableOffset + indexes[i]];
+                    break;
+                case ADD:
+                    top--;
+                    stack[top - 1] = stack[top - 1] + stack[top];
+                    break;
+                case SUBTRACT:
+                    top--;
+                    stack[top - 1] = stack[top - 1] - stack[top];
+                    break;
+                default:
+                    stack[top - 1] = -stack[top - 1];
+                    break;
+            }
+        }
+        return stack[0];
+    }
+
+    private static StatusRuntimeException invalid(String message) {
+        return Status.INVALID_ARGUMENT.withDescription(message).asRuntimeException();
+    }
+}
@@ -0,0 +1,268 @@
+package com.calculator.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import calculator.CalculatorServiceGrpc;
+import calculator.Calculator.BatchOperationRequest;
+import calculator.Calculator.BatchOperationResponse;
+import calculator.Calculator.DoubleChunk;
+import calculator.Calculator.EvaluateRequest;
+import calculator.Calculator.ExecutePreparedRequest;
+import calculator.Calculator.Operation;
+import calculator.Calculator.OperationRequest;
+import calculator.Calculator.OperationResponse;
+import calculator.Calculator.PipelineRequest;
+import calculator.Calculator.PipelineResponse;
+import calculator.Calculator.PrepareRequest;
+import calculator.Calculator.StatsResponse;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CalculatorServiceImplTest {
+    // -(c0 - v1) + v0
+    private static final ByteString CODE = ByteString.copyFrom(new byte[] {
+        Program.PUSH_CONSTANT, 0, Program.PUSH_VARIABLE, 1, Program.SUBTRACT,
+        Program.NEGATE, Program.PUSH_VARIABLE, 0, Program.ADD
+    });
+
+    private Server server;
+    private ManagedChannel channel;
+    private CalculatorServiceGrpc.CalculatorServiceBlockingStub blocking;
+    private CalculatorServiceGrpc.CalculatorServiceStub async;
+
+    @BeforeEach
+    void start() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new CalculatorServiceImpl())
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        blocking = CalculatorServiceGrpc.newBlockingStub(channel);
+        async = CalculatorServiceGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static OperationRequest pair(double a, double b) {
+        return OperationRequest.newBuilder().setNumber1(a).setNumber2(b).build();
+    }
+
+    private static DoubleChunk chunk(double... values) {
+        DoubleChunk.Builder chunk = DoubleChunk.newBuilder();
+        for (double value : values) {
+            chunk.addValues(value);
+        }
+        return chunk.build();
+    }
+
+    /** Run a client-streaming or bidi call to completion and collect its responses. */
+    private static <Req, Resp> List<Resp> stream(
+            Function<StreamObserver<Resp>, StreamObserver<Req>> rpc, List<Req> requests) throws Exception {
+        List<Resp> responses = new ArrayList<>();
+        CompletableFuture<List<Resp>> done = new CompletableFuture<>();
+        StreamObserver<Req> call = rpc.apply(new StreamObserver<Resp>() {
+            @Override
+            public void onNext(Resp response) {
+                responses.add(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                done.complete(responses);
+            }
+        });
+        for (Req request : requests) {
+            call.onNext(request);
+        }
+        call.onCompleted();
+        return done.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void addAndSubtract() {
+        assertEquals(3.5, blocking.add(pair(1.5, 2)).getResult());
+        assertEquals(5.75, blocking.subtract(pair(10, 4.25)).getResult());
+    }
+
+    @Test
+    void batchComputesEveryPair() {
+        BatchOperationRequest request = BatchOperationRequest.newBuilder()
+                .addNumber1(1).addNumber1(-0.0).addNumber1(Double.POSITIVE_INFINITY)
+                .addNumber2(2).addNumber2(0.0).addNumber2(1)
+                .build();
+        assertEquals(List.of(3.0, 0.0, Double.POSITIVE_INFINITY), blocking.addBatch(request).getResultList());
+        assertEquals(List.of(-1.0, -0.0, Double.POSITIVE_INFINITY), blocking.subtractBatch(request).getResultList());
+        assertEquals(0, blocking.addBatch(BatchOperationRequest.getDefaultInstance()).getResultCount());
+    }
+
+    @Test
+    void batchRejectsColumnsOfDifferentLengths() {
+        BatchOperationRequest request = BatchOperationRequest.newBuilder().addNumber1(1).build();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blocking.addBatch(request));
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    @Test
+    void streamsAnswerOncePerPair() throws Exception {
+        List<OperationRequest> pairs = List.of(pair(1, 2), pair(5, 3), pair(0.5, 0.25));
+        BatchOperationResponse sums = stream(async::addStream, pairs).get(0);
+        assertEquals(List.of(3.0, 8.0, 0.75), sums.getResultList());
+        BatchOperationResponse differences = stream(async::subtractStream, pairs).get(0);
+        assertEquals(List.of(-1.0, 2.0, 0.25), differences.getResultList());
+    }
+
+    @Test
+    void pipelineEchoesRequestIds() throws Exception {
+        List<PipelineRequest> requests = List.of(
+                PipelineRequest.newBuilder().setId(7).setOperation(Operation.ADD)
+                        .setNumber1(1).setNumber2(2).build(),
+                PipelineRequest.newBuilder().setId(9).setOperation(Operation.SUBTRACT)
+                        .setNumber1(1).setNumber2(2).build());
+        List<PipelineResponse> responses = stream(async::computePipeline, requests);
+        assertEquals(2, responses.size());
+        assertEquals(7, responses.get(0).getId());
+        assertEquals(3.0, responses.get(0).getResult());
+        assertEquals(9, responses.get(1).getId());
+        assertEquals(-1.0, responses.get(1).getResult());
+    }
+
+    @Test
+    void evaluateRunsTheProgram() {
+        EvaluateRequest request = EvaluateRequest.newBuilder()
+                .setCode(CODE).addConstants(10).addVariables(3).addVariables(4)
+                .build();
+        assertEquals(-(10.0 - 4.0) + 3.0, blocking.evaluate(request).getResult());
+    }
+
+    @Test
+    void evaluateRejectsInvalidPrograms() {
+        EvaluateRequest request = EvaluateRequest.newBuilder().setCode(CODE).addConstants(10).addVariables(3).build();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blocking.evaluate(request));
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    @Test
+    void preparedProgramsRunOncePerRow() {
+        PrepareRequest prepare = PrepareRequest.newBuilder()
+                .setCode(CODE).addConstants(10).setVariableCount(2)
+                .build();
+        long handle = blocking.prepare(prepare).getHandle();
+        assertEquals(PreparedPrograms.handle(prepare), handle);
+        assertEquals(handle, blocking.prepare(prepare).getHandle());
+
+        BatchOperationResponse results = blocking.executePrepared(ExecutePreparedRequest.newBuilder()
+                .setHandle(handle)
+                .addVariables(3).addVariables(4)
+                .addVariables(1).addVariables(10)
+                .build());
+        assertEquals(List.of(-(10.0 - 4.0) + 3.0, -(10.0 - 10.0) + 1.0), results.getResultList());
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> blocking.executePrepared(ExecutePreparedRequest.newBuilder()
+                        .setHandle(handle).addVariables(1).addVariables(2).addVariables(3).build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    @Test
+    void programWithoutVariablesRunsOnce() {
+        PrepareRequest prepare = PrepareRequest.newBuilder()
+                .setCode(ByteString.copyFrom(new byte[] {Program.PUSH_CONSTANT, 0, Program.NEGATE}))
+                .addConstants(2.5)
+                .build();
+        long handle = blocking.prepare(prepare).getHandle();
+        BatchOperationResponse results = blocking.executePrepared(
+                ExecutePreparedRequest.newBuilder().setHandle(handle).build());
+        assertEquals(List.of(-2.5), results.getResultList());
+    }
+
+    @Test
+    void differentConstantsGetDifferentHandles() {
+        PrepareRequest positive = PrepareRequest.newBuilder()
+                .setCode(ByteString.copyFrom(new byte[] {Program.PUSH_CONSTANT, 0}))
+                .addConstants(0.0)
+                .build();
+        PrepareRequest negative = positive.toBuilder().setConstants(0, -0.0).build();
+        assertNotEquals(blocking.prepare(positive).getHandle(), blocking.prepare(negative).getHandle());
+    }
+
+    @Test
+    void unknownHandleIsNotFound() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> blocking.executePrepared(ExecutePreparedRequest.newBuilder().setHandle(42).build()));
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+    }
+
+    @Test
+    void prepareRejectsTooManyVariables() {
+        PrepareRequest prepare = PrepareRequest.newBuilder()
+                .setCode(ByteString.copyFrom(new byte[] {Program.PUSH_VARIABLE, 0}))
+                .setVariableCount(PreparedPrograms.MAX_VARIABLES + 1)
+                .build();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> blocking.prepare(prepare));
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    @Test
+    void sumIsCompensatedAcrossChunks() throws Exception {
+        List<OperationResponse> responses = stream(async::sum, List.of(chunk(1e16), chunk(1.0, -1e16), chunk()));
+        assertEquals(1.0, responses.get(0).getResult());
+    }
+
+    @Test
+    void prefixSumAnswersEachChunk() throws Exception {
+        List<DoubleChunk> responses = stream(async::prefixSum, List.of(chunk(1, 2), chunk(3), chunk(1e16, -1e16)));
+        List<Double> sums = new ArrayList<>();
+        for (DoubleChunk response : responses) {
+            sums.addAll(response.getValuesList());
+        }
+        assertEquals(List.of(1.0, 3.0, 6.0, 1e16 + 6.0, 6.0), sums);
+    }
+
+    @Test
+    void statsOfAColumn() throws Exception {
+        StatsResponse stats = stream(async::stats, List.of(chunk(4, -2), chunk(7))).get(0);
+        assertEquals(3, stats.getCount());
+        assertEquals(9.0, stats.getSum());
+        assertEquals(-2.0, stats.getMin());
+        assertEquals(7.0, stats.getMax());
+        assertEquals(3.0, stats.getMean());
+    }
+
+    @Test
+    void statsOfAnEmptyColumn() throws Exception {
+        StatsResponse stats = stream(async::stats, List.<DoubleChunk>of()).get(0);
+        assertEquals(0, stats.getCount());
+        assertEquals(0.0, stats.getSum());
+        assertEquals(Double.POSITIVE_INFINITY, stats.getMin());
+        assertEquals(Double.NEGATIVE_INFINITY, stats.getMax());
+        assertEquals(0.0, stats.getMean());
+    }
+}
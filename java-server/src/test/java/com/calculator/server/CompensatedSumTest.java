@@ -0,0 +1,49 @@
+package com.calculator.server;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompensatedSumTest {
+
+    private static double sum(double... values) {
+        CompensatedSum sum = new CompensatedSum();
+        for (double value : values) {
+            sum.add(value);
+        }
+        return sum.value();
+    }
+
+    @Test
+    void emptySumIsZero() {
+        assertEquals(0.0, sum());
+    }
+
+    @Test
+    void recoversLowOrderBitsLostByPlainAddition() {
+        assertEquals(1.0, sum(1e16, 1.0, -1e16));
+        assertEquals(2.0, sum(1.0, 1e100, 1.0, -1e100));
+    }
+
+    @Test
+    void manySmallValuesStayWithinAnUlp() {
+        CompensatedSum sum = new CompensatedSum();
+        for (int i = 0; i < 1_000_000; i++) {
+            sum.add(0.1);
+        }
+        assertEquals(100000.0, sum.value(), Math.ulp(100000.0));
+    }
+
+    @Test
+    void infinitiesFollowDoubleSummaryStatistics() {
+        assertEquals(Double.POSITIVE_INFINITY, sum(Double.POSITIVE_INFINITY, 1.0));
+        assertEquals(Double.NEGATIVE_INFINITY, sum(1.0, Double.NEGATIVE_INFINITY, 2.0));
+        assertEquals(Double.NaN, sum(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void nanPropagates() {
+        assertEquals(Double.NaN, sum(1.0, Double.NaN, 2.0));
+        assertEquals(Double.NaN, sum(Double.POSITIVE_INFINITY, Double.NaN));
+    }
+}
@@ -0,0 +1,91 @@
+package com.calculator.server;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProgramTest {
+
+    private static ByteString code(int... bytes) {
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        for (int b : bytes) {
+            code.write(b);
+        }
+        return ByteString.copyFrom(code.toByteArray());
+    }
+
+    private static void assertInvalid(String message, ByteString code, int constants, int variables) {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> Program.decode(code, constants, variables));
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+        assertEquals(message, e.getStatus().getDescription());
+    }
+
+    @Test
+    void runsEveryOpcode() {
+        // -(c0 - v1) + v0
+        Program program = Program.decode(code(
+                Program.PUSH_CONSTANT, 0, Program.PUSH_VARIABLE, 1, Program.SUBTRACT,
+                Program.NEGATE, Program.PUSH_VARIABLE, 0, Program.ADD), 1, 2);
+        assertEquals(6, program.size());
+        assertEquals(-(10.0 - 4.0) + 3.0, program.run(new double[] {10.0}, new double[] {3.0, 4.0}, 0));
+    }
+
+    @Test
+    void readsVariablesFromTheRowOffset() {
+        Program program = Program.decode(code(Program.PUSH_VARIABLE, 0, Program.PUSH_VARIABLE, 1, Program.ADD), 0, 2);
+        double[] rows = {1.0, 2.0, 30.0, 40.0};
+        assertEquals(3.0, program.run(new double[0], rows, 0));
+        assertEquals(70.0, program.run(new double[0], rows, 2));
+    }
+
+    @Test
+    void decodesMultiByteIndexes() {
+        // 44 + 2 * 128 = 300
+        ByteString code = code(Program.PUSH_CONSTANT, 0x80 | 44, 2);
+        double[] constants = new double[301];
+        constants[300] = 7.5;
+        assertEquals(7.5, Program.decode(code, 301, 0).run(constants, new double[0], 0));
+        assertInvalid("Operand index out of range", code, 300, 0);
+    }
+
+    @Test
+    void rejectsMalformedPrograms() {
+        assertInvalid("Unknown opcode", code(Program.PUSH_CONSTANT, 0, 9), 1, 0);
+        assertInvalid("Stack underflow", code(Program.PUSH_CONSTANT, 0, Program.ADD), 1, 0);
+        assertInvalid("Stack underflow", code(Program.NEGATE), 0, 0);
+        assertInvalid("Program must leave exactly one value", code(), 0, 0);
+        assertInvalid("Program must leave exactly one value",
+                code(Program.PUSH_CONSTANT, 0, Program.PUSH_CONSTANT, 0), 1, 0);
+        assertInvalid("Operand index out of range", code(Program.PUSH_VARIABLE, 1), 0, 1);
+        assertInvalid("Malformed operand index", code(Program.PUSH_CONSTANT), 1, 0);
+        assertInvalid("Malformed operand index", code(Program.PUSH_CONSTANT, 0x80, 0x80, 0x80, 0x80, 0x80, 0), 1, 0);
+    }
+
+    @Test
+    void enforcesTheStackLimit() {
+        ByteArrayOutputStream code = new ByteArrayOutputStream();
+        for (int i = 0; i < Program.MAX_STACK_DEPTH; i++) {
+            code.write(Program.PUSH_CONSTANT);
+            code.write(0);
+        }
+        for (int i = 1; i < Program.MAX_STACK_DEPTH; i++) {
+            code.write(Program.ADD);
+        }
+        Program program = Program.decode(ByteString.copyFrom(code.toByteArray()), 1, 0);
+        assertEquals(Program.MAX_STACK_DEPTH, program.run(new double[] {1.0}, new double[0], 0));
+
+        code.reset();
+        for (int i = 0; i <= Program.MAX_STACK_DEPTH; i++) {
+            code.write(Program.PUSH_CONSTANT);
+            code.write(0);
+        }
+        assertInvalid("Program exceeds the stack limit", ByteString.copyFrom(code.toByteArray()), 1, 0);
+    }
+}